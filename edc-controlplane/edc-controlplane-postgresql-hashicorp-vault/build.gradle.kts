@@ -37,6 +37,7 @@ dependencies {
     implementation(project(":edc-extensions:agreements-bpns:bpns-evaluation-store-sql"))
     implementation(project(":edc-extensions:bpn-validation:business-partner-store-sql"))
     implementation(project(":edc-extensions:edr:edr-index-lock-sql"))
+    implementation(project(":edc-extensions:edr:edr-transfer-outbox-sql"))
     implementation(project(":edc-extensions:migrations:connector-migration"))
 
     runtimeOnly(libs.edc.vault.hashicorp)
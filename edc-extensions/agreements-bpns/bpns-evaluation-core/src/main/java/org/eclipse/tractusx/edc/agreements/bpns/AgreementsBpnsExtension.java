@@ -22,12 +22,22 @@ package org.eclipse.tractusx.edc.agreements.bpns;
 import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.PendingAgreementsBpns;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.eclipse.tractusx.edc.agreements.bpns.AgreementsBpnsExtension.NAME;
 
 @Extension(value = NAME)
@@ -35,6 +45,18 @@ public class AgreementsBpnsExtension implements ServiceExtension {
 
     public static final String NAME = "Tractus-X Event Subscriber Extension";
 
+    @Setting(key = "tx.edc.agreements.bpns.batch.size", defaultValue = "100", min = 1,
+            description = "Maximum number of agreement BPN entries written to the store in a single batch.")
+    private int batchSize;
+
+    @Setting(key = "tx.edc.agreements.bpns.flush.interval.millis", defaultValue = "200", min = 1,
+            description = "Interval in milliseconds in which queued agreement BPN entries are written to the store.")
+    private long flushInterval;
+
+    @Setting(key = "tx.edc.agreements.bpns.await.timeout.millis", defaultValue = "5000", min = 0,
+            description = "Maximum time in milliseconds a data flow waits for the BPNs of its agreement to be written to the store.")
+    private long awaitTimeout;
+
     @Inject
     private EventRouter eventRouter;
 
@@ -45,6 +67,15 @@ public class AgreementsBpnsExtension implements ServiceExtension {
     @Inject
     AgreementsBpnsStore store;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private AgreementsBpnsWriter writer;
+    private ScheduledExecutorService flushExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -52,7 +83,32 @@ public class AgreementsBpnsExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        eventRouter.register(ContractNegotiationFinalized.class, new EventContractNegotiationSubscriber(store,
-                context.getMonitor(), bdrsClient));
+        writer = new AgreementsBpnsWriter(store, bdrsClient, context.getMonitor(), clock, batchSize, Duration.ofMillis(awaitTimeout));
+        // registered synchronously, so that the entry is known as pending before the transfer process can start
+        eventRouter.registerSync(ContractNegotiationFinalized.class, new EventContractNegotiationSubscriber(writer));
+    }
+
+    @Override
+    public void start() {
+        flushExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Agreements BPNs writer");
+        flushExecutor.scheduleWithFixedDelay(writer::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            try {
+                flushExecutor.awaitTermination(flushInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writer.flush();
+    }
+
+    @Provider
+    public PendingAgreementsBpns pendingAgreementsBpns() {
+        return writer;
     }
 }
@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.bpns;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.PendingAgreementsBpns;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
+import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.edc.spi.identity.mapper.BdrsConstants.DID_PREFIX;
+
+/**
+ * Writes {@link AgreementsBpnsEntry} to the {@link AgreementsBpnsStore} in batches, off the thread that finalized the
+ * contract negotiation.
+ * <p>
+ * Agreements are queued by {@link #enqueue(ContractAgreement)} and written by {@link #flush()}, which is expected to be
+ * called periodically. DIDs are first resolved against the local BDRS snapshot, only unknown DIDs cause a blocking
+ * directory refresh. Readers can wait for a queued entry to be written with {@link #awaitFlush(String)}.
+ */
+public class AgreementsBpnsWriter implements PendingAgreementsBpns {
+
+    private final AgreementsBpnsStore store;
+    private final BdrsClient bdrsClient;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration awaitTimeout;
+
+    private final BlockingQueue<PendingEntry> queue = new LinkedBlockingQueue<>();
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AgreementsBpnsWriter(AgreementsBpnsStore store, BdrsClient bdrsClient, Monitor monitor, Clock clock,
+                                int batchSize, Duration awaitTimeout) {
+        this.store = store;
+        this.bdrsClient = bdrsClient;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    /**
+     * Queues the BPNs of the given agreement for writing. Does not block.
+     */
+    public void enqueue(ContractAgreement agreement) {
+        pending.putIfAbsent(agreement.getId(), new CompletableFuture<>());
+        queue.add(new PendingEntry(agreement.getId(), agreement.getProviderId(), agreement.getConsumerId(), clock.millis()));
+    }
+
+    /**
+     * Writes all queued entries, in batches of at most the configured batch size.
+     *
+     * @return the number of processed entries
+     */
+    public int flush() {
+        var processed = 0;
+        while (true) {
+            var batch = new ArrayList<PendingEntry>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return processed;
+            }
+            write(batch);
+            processed += batch.size();
+        }
+    }
+
+    @Override
+    public boolean awaitFlush(String agreementId) {
+        var future = pending.get(agreementId);
+        if (future == null) {
+            return true;
+        }
+        try {
+            future.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            monitor.warning("Timed out waiting for the BPNs of agreement '%s' to be written".formatted(agreementId));
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Number of entries waiting to be written.
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Time in milliseconds the oldest queued entry has been waiting, 0 if the queue is empty.
+     */
+    public long lagMillis() {
+        var oldest = queue.peek();
+        return oldest == null ? 0 : Math.max(0, clock.millis() - oldest.enqueuedAt());
+    }
+
+    /**
+     * Total number of entries written to the store.
+     */
+    public long writtenCount() {
+        return written.get();
+    }
+
+    /**
+     * Total number of entries that could not be written to the store.
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    private void write(List<PendingEntry> batch) {
+        var lag = clock.millis() - batch.get(0).enqueuedAt();
+        try {
+            var entries = batch.stream().map(this::toEntry).filter(Objects::nonNull).toList();
+            if (entries.isEmpty()) {
+                return;
+            }
+            var result = saveAll(entries);
+            if (result.succeeded()) {
+                written.addAndGet(entries.size());
+            } else {
+                monitor.warning("Batch write of %d agreement BPN entries failed, writing them one by one: %s"
+                        .formatted(entries.size(), result.getFailureDetail()));
+                entries.forEach(this::writeSingle);
+            }
+        } catch (Exception e) {
+            monitor.severe("Failed to write %d agreement BPN entries".formatted(batch.size()), e);
+            failed.addAndGet(batch.size());
+        } finally {
+            batch.forEach(entry -> {
+                var future = pending.remove(entry.agreementId());
+                if (future != null) {
+                    future.complete(null);
+                }
+            });
+            monitor.debug(() -> "Processed %d agreement BPN entries, lag %d ms, queue depth %d, %d written and %d failed in total"
+                    .formatted(batch.size(), lag, queue.size(), writtenCount(), failedCount()));
+        }
+    }
+
+    private StoreResult<Void> saveAll(List<AgreementsBpnsEntry> entries) {
+        try {
+            return store.saveAll(entries);
+        } catch (EdcPersistenceException e) {
+            return StoreResult.generalError(e.getMessage());
+        }
+    }
+
+    private void writeSingle(AgreementsBpnsEntry entry) {
+        try {
+            store.save(entry)
+                    .onSuccess(v -> written.incrementAndGet())
+                    .onFailure(failure -> {
+                        failed.incrementAndGet();
+                        monitor.severe(failure.getFailureDetail());
+                    });
+        } catch (EdcPersistenceException e) {
+            failed.incrementAndGet();
+            monitor.severe("Failed to write the BPNs of agreement '%s'".formatted(entry.getAgreementId()), e);
+        }
+    }
+
+    private AgreementsBpnsEntry toEntry(PendingEntry pendingEntry) {
+        var providerBpn = extractBpn(pendingEntry.agreementId(), pendingEntry.providerId());
+        var consumerBpn = extractBpn(pendingEntry.agreementId(), pendingEntry.consumerId());
+
+        if (providerBpn == null || consumerBpn == null) {
+            failed.incrementAndGet();
+            return null;
+        }
+
+        return AgreementsBpnsEntry.Builder.newInstance()
+                .withAgreementId(pendingEntry.agreementId())
+                .withProviderBpn(providerBpn)
+                .withConsumerBpn(consumerBpn)
+                .build();
+    }
+
+    private String extractBpn(String agreementId, String id) {
+        if (!id.startsWith(DID_PREFIX)) {
+            return id;
+        }
+        var bpn = bdrsClient.resolveBpnFromSnapshot(id);
+        if (bpn == null) {
+            bpn = bdrsClient.resolveBpn(id);
+        }
+        if (bpn == null) {
+            monitor.severe("Could not resolve BPN for DID '%s' on agreement '%s'. The agreement will not be stored."
+                    .formatted(id, agreementId));
+        }
+        return bpn;
+    }
+
+    private record PendingEntry(String agreementId, String providerId, String consumerId, long enqueuedAt) {
+    }
+}
@@ -23,55 +23,21 @@ import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotia
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
-import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
-import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
-import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 
+/**
+ * Hands the agreement of every finalized contract negotiation to the {@link AgreementsBpnsWriter}. BPN resolution
+ * and persistence happen asynchronously, so that the event dispatching thread is never blocked by them.
+ */
 public class EventContractNegotiationSubscriber implements EventSubscriber {
-    private final AgreementsBpnsStore store;
-    private final Monitor monitor;
-    private final BdrsClient bdrsClient;
-    private static final String DID_PREFIX = "did";
+    private final AgreementsBpnsWriter writer;
 
-    public EventContractNegotiationSubscriber(AgreementsBpnsStore store, Monitor monitor, BdrsClient bdrsClient) {
-        this.store = store;
-        this.monitor = monitor.withPrefix(getClass().getSimpleName());
-        this.bdrsClient = bdrsClient;
+    public EventContractNegotiationSubscriber(AgreementsBpnsWriter writer) {
+        this.writer = writer;
     }
 
-
     @Override
     public <E extends Event> void on(EventEnvelope<E> envelope) {
         var payload = (ContractNegotiationFinalized) envelope.getPayload();
-        var agreement = payload.getContractAgreement();
-        var agreementId = agreement.getId();
-
-        var providerBpn = extractBpn(agreementId, agreement.getProviderId());
-        var consumerBpn = extractBpn(agreementId, agreement.getConsumerId());
-
-        if (providerBpn == null || consumerBpn == null) {
-            return;
-        }
-
-        var entry = AgreementsBpnsEntry.Builder.newInstance()
-                .withAgreementId(agreementId)
-                .withProviderBpn(providerBpn)
-                .withConsumerBpn(consumerBpn)
-                .build();
-
-        store.save(entry).onFailure(failure -> monitor.severe(failure.getFailureDetail()));
-    }
-
-    private String extractBpn(String agreementId, String id) {
-        if (!id.startsWith(DID_PREFIX)) {
-            return id;
-        }
-        var bpn = bdrsClient.resolveBpn(id);
-        if (bpn == null) {
-            monitor.severe("Could not resolve BPN for DID '%s' on agreement '%s'. The agreement will not be stored."
-                    .formatted(id, agreementId));
-        }
-        return bpn;
+        writer.enqueue(payload.getContractAgreement());
     }
 }
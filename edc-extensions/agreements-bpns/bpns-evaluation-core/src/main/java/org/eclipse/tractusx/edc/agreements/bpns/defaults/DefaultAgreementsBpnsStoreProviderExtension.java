@@ -20,7 +20,9 @@
 package org.eclipse.tractusx.edc.agreements.bpns.defaults;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
 
@@ -32,8 +34,11 @@ public class DefaultAgreementsBpnsStoreProviderExtension implements ServiceExten
 
     private static final String NAME = "Default Agreements BPNs Store Provider Extension";
 
+    @Inject
+    CriterionOperatorRegistry criterionOperatorRegistry;
+
     @Provider(isDefault = true)
     public AgreementsBpnsStore createInMemStore() {
-        return new InMemoryAgreementsBpnsStore();
+        return new InMemoryAgreementsBpnsStore(criterionOperatorRegistry);
     }
 }
@@ -20,27 +20,51 @@
 
 package org.eclipse.tractusx.edc.agreements.bpns.defaults;
 
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * In Memory implementation of a {@link AgreementsBpnsStore}.
+ * <p>
+ * Entries are indexed by agreement id, provider BPN and consumer BPN. Queries filtering on one of these fields are
+ * resolved against the matching subset of entries only, all other queries scan every entry.
  */
 public class InMemoryAgreementsBpnsStore implements AgreementsBpnsStore {
 
+    private static final String AGREEMENT_ID = "agreementId";
+    private static final String PROVIDER_BPN = "providerBpn";
+    private static final String CONSUMER_BPN = "consumerBpn";
+
+    private final QueryResolver<AgreementsBpnsEntry> queryResolver;
     private final Map<String, AgreementsBpnsEntry> cache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> providerBpnIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> consumerBpnIndex = new ConcurrentHashMap<>();
 
+    public InMemoryAgreementsBpnsStore(CriterionOperatorRegistry criterionOperatorRegistry) {
+        queryResolver = new ReflectionBasedQueryResolver<>(AgreementsBpnsEntry.class, criterionOperatorRegistry);
+    }
 
     @Override
     public StoreResult<Void> save(AgreementsBpnsEntry agreementsBpnsEntry) {
-        if (cache.containsKey(agreementsBpnsEntry.getAgreementId())) {
-            return StoreResult.alreadyExists(ALREADY_EXISTS_TEMPLATE.formatted(agreementsBpnsEntry.getAgreementId()));
+        var agreementId = agreementsBpnsEntry.getAgreementId();
+        if (cache.putIfAbsent(agreementId, agreementsBpnsEntry) != null) {
+            return StoreResult.alreadyExists(ALREADY_EXISTS_TEMPLATE.formatted(agreementId));
         }
-        cache.put(agreementsBpnsEntry.getAgreementId(), agreementsBpnsEntry);
+        providerBpnIndex.computeIfAbsent(agreementsBpnsEntry.getProviderBpn(), k -> ConcurrentHashMap.newKeySet()).add(agreementId);
+        consumerBpnIndex.computeIfAbsent(agreementsBpnsEntry.getConsumerBpn(), k -> ConcurrentHashMap.newKeySet()).add(agreementId);
         return StoreResult.success();
     }
 
@@ -48,4 +72,48 @@ public class InMemoryAgreementsBpnsStore implements AgreementsBpnsStore {
     public AgreementsBpnsEntry findByAgreementId(String agreementId) {
         return cache.get(agreementId);
     }
+
+    @Override
+    public Stream<AgreementsBpnsEntry> findAll(QuerySpec querySpec) {
+        return queryResolver.query(candidates(querySpec), querySpec);
+    }
+
+    /**
+     * Narrows down the entries to the ones matched by the first indexed criterion. The query resolver still evaluates
+     * every criterion on the returned candidates, so this never changes the query result.
+     */
+    private Stream<AgreementsBpnsEntry> candidates(QuerySpec querySpec) {
+        for (var criterion : querySpec.getFilterExpression()) {
+            var ids = indexLookup(criterion);
+            if (ids != null) {
+                return ids.map(cache::get).filter(Objects::nonNull);
+            }
+        }
+        return cache.values().stream();
+    }
+
+    private Stream<String> indexLookup(Criterion criterion) {
+        var values = values(criterion);
+        if (values == null) {
+            return null;
+        }
+        return switch (String.valueOf(criterion.getOperandLeft())) {
+            case AGREEMENT_ID -> values;
+            case PROVIDER_BPN -> values.flatMap(bpn -> providerBpnIndex.getOrDefault(bpn, Set.of()).stream());
+            case CONSUMER_BPN -> values.flatMap(bpn -> consumerBpnIndex.getOrDefault(bpn, Set.of()).stream());
+            default -> null;
+        };
+    }
+
+    private Stream<String> values(Criterion criterion) {
+        var operator = criterion.getOperator().toLowerCase();
+        var right = criterion.getOperandRight();
+        if ("=".equals(operator) && right instanceof String value) {
+            return Stream.of(value);
+        }
+        if ("in".equals(operator) && right instanceof Collection<?> values) {
+            return values.stream().filter(String.class::isInstance).map(String.class::cast).distinct();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,150 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.bpns;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.tests.MockBdrsClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgreementsBpnsWriterTest {
+
+    private final AgreementsBpnsStore store = mock();
+    private final Monitor monitor = mock(Monitor.class, RETURNS_SELF);
+    private final AgreementsBpnsWriter writer = new AgreementsBpnsWriter(store, new MockBdrsClient(s -> s, s -> "resolvedBpn"),
+            monitor, Clock.systemUTC(), 2, Duration.ofMillis(100));
+
+    @Test
+    void flush_shouldWriteInBatches() {
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.success());
+        IntStream.range(0, 5).forEach(i -> writer.enqueue(agreement("agreement-" + i)));
+
+        var processed = writer.flush();
+
+        assertThat(processed).isEqualTo(5);
+        verify(store, times(2)).saveAll(argThat((Collection<?> entries) -> entries.size() == 2));
+        verify(store).saveAll(argThat((Collection<?> entries) -> entries.size() == 1));
+        assertThat(writer.writtenCount()).isEqualTo(5);
+        assertThat(writer.queueDepth()).isZero();
+        verify(monitor, times(3)).debug(argThat((Supplier<String> message) -> message.get().endsWith("5 written and 0 failed in total")));
+    }
+
+    @Test
+    void flush_shouldFallBackToSingleWrites_whenBatchFails() {
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.generalError("batch failed"));
+        when(store.save(any())).thenReturn(StoreResult.success());
+        writer.enqueue(agreement("agreement-1"));
+        writer.enqueue(agreement("agreement-2"));
+
+        writer.flush();
+
+        verify(store, times(2)).save(any());
+        assertThat(writer.writtenCount()).isEqualTo(2);
+        assertThat(writer.failedCount()).isZero();
+    }
+
+    @Test
+    void flush_shouldFallBackToSingleWrites_whenBatchThrows() {
+        when(store.saveAll(anyCollection())).thenThrow(new EdcPersistenceException("duplicate key"));
+        when(store.save(any()))
+                .thenThrow(new EdcPersistenceException("duplicate key"))
+                .thenReturn(StoreResult.success());
+        writer.enqueue(agreement("agreement-1"));
+        writer.enqueue(agreement("agreement-2"));
+
+        writer.flush();
+
+        verify(store, times(2)).save(any());
+        assertThat(writer.writtenCount()).isEqualTo(1);
+        assertThat(writer.failedCount()).isEqualTo(1);
+        assertThat(writer.awaitFlush("agreement-1")).isTrue();
+    }
+
+    @Test
+    void flush_shouldReleaseWaiters_whenStoreThrows() {
+        when(store.saveAll(anyCollection())).thenThrow(new RuntimeException("db down"));
+        writer.enqueue(agreement("agreement-1"));
+
+        writer.flush();
+
+        assertThat(writer.awaitFlush("agreement-1")).isTrue();
+        assertThat(writer.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void awaitFlush_shouldReturnImmediately_whenNothingPending() {
+        assertThat(writer.awaitFlush("unknown")).isTrue();
+        verify(store, never()).saveAll(any());
+    }
+
+    @Test
+    void awaitFlush_shouldTimeOut_whenNotFlushed() {
+        writer.enqueue(agreement("agreement-1"));
+
+        assertThat(writer.awaitFlush("agreement-1")).isFalse();
+        assertThat(writer.queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void awaitFlush_shouldWaitForFlush() throws Exception {
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.success());
+        var slowWriter = new AgreementsBpnsWriter(store, new MockBdrsClient(s -> s, s -> "resolvedBpn"),
+                mock(Monitor.class, RETURNS_SELF), Clock.systemUTC(), 2, Duration.ofSeconds(10));
+        slowWriter.enqueue(agreement("agreement-1"));
+
+        var awaited = CompletableFuture.supplyAsync(() -> slowWriter.awaitFlush("agreement-1"));
+        slowWriter.flush();
+
+        assertThat(awaited.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private ContractAgreement agreement(String id) {
+        return ContractAgreement.Builder.newInstance()
+                .id(id)
+                .providerId("did:provider")
+                .consumerId("did:consumer")
+                .assetId("asset")
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+}
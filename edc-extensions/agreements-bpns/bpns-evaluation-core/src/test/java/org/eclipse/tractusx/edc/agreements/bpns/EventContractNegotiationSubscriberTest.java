@@ -17,6 +17,7 @@
  * SPDX-License-Identifier: Apache-2.0
  ********************************************************************************/
 
+
 package org.eclipse.tractusx.edc.agreements.bpns;
 
 
@@ -36,14 +37,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
@@ -52,139 +59,94 @@ class EventContractNegotiationSubscriberTest {
     private final AgreementsBpnsStore store = mock();
     private final Monitor monitor = mock();
     private final BdrsClient bdrsClient = new MockBdrsClient((s) -> s, (s) -> "resolvedBpn");
+    private AgreementsBpnsWriter writer;
     private EventContractNegotiationSubscriber subscriber;
 
     @BeforeEach
     void setup() {
         when(monitor.withPrefix(anyString())).thenReturn(monitor);
-        subscriber = new EventContractNegotiationSubscriber(store, monitor, bdrsClient);
+        writer = createWriter(bdrsClient);
+        subscriber = new EventContractNegotiationSubscriber(writer);
+    }
+
+    @Test
+    void on_shouldOnlyEnqueue() {
+        subscriber.on(envelope(UUID.randomUUID().toString(), "did:provider", "did:consumer"));
+
+        verifyNoInteractions(store);
+        assertThat(writer.queueDepth()).isEqualTo(1);
     }
 
     @Test
     void on_shouldSaveEntryWithResolvedBpn_whenIdIsDid() {
         var agreementId = UUID.randomUUID().toString();
-        var providerId = "did:provider";
-        var consumerId = "did:consumer";
         var resolvedBpn = "resolvedBpn";
 
-        when(store.save(any())).thenReturn(StoreResult.success());
-
-        var agreement = ContractAgreement.Builder.newInstance()
-                .id(agreementId)
-                .providerId(providerId)
-                .consumerId(consumerId)
-                .assetId("asset")
-                .policy(Policy.Builder.newInstance().assignee(consumerId).build())
-                .build();
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.success());
 
-        var event = ContractNegotiationFinalized.Builder.newInstance()
-                .contractNegotiationId(UUID.randomUUID().toString())
-                .contractAgreement(agreement)
-                .counterPartyAddress("counterPartyAddress")
-                .counterPartyId("counterPartyId")
-                .protocol("protocol")
-                .build();
+        subscriber.on(envelope(agreementId, "did:provider", "did:consumer"));
+        writer.flush();
 
-        var envelope = EventEnvelope.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .at(System.currentTimeMillis())
-                .payload(event)
-                .build();
-
-        subscriber.on(envelope);
-
-        ArgumentCaptor<AgreementsBpnsEntry> captor = ArgumentCaptor.forClass(AgreementsBpnsEntry.class);
-        verify(store).save(captor.capture());
-        AgreementsBpnsEntry entry = captor.getValue();
-        assert entry.getAgreementId().equals(agreementId);
-        assert entry.getProviderBpn().equals(resolvedBpn);
-        assert entry.getConsumerBpn().equals(resolvedBpn);
+        var entry = captureSingleSavedEntry();
+        assertThat(entry.getAgreementId()).isEqualTo(agreementId);
+        assertThat(entry.getProviderBpn()).isEqualTo(resolvedBpn);
+        assertThat(entry.getConsumerBpn()).isEqualTo(resolvedBpn);
     }
 
     @Test
     void on_shouldSaveEntryWithOriginalBpn_whenIdNotDid() {
-        var agreementId = UUID.randomUUID().toString();
         var providerId = "providerBpn";
         var consumerId = "consumerBpn";
 
-        when(store.save(any())).thenReturn(StoreResult.success());
-
-        var agreement = ContractAgreement.Builder.newInstance()
-                .id(agreementId)
-                .providerId(providerId)
-                .consumerId(consumerId)
-                .assetId("asset")
-                .policy(Policy.Builder.newInstance().assignee(consumerId).build())
-                .build();
-
-        var event = ContractNegotiationFinalized.Builder.newInstance()
-                .contractNegotiationId(UUID.randomUUID().toString())
-                .contractAgreement(agreement)
-                .counterPartyAddress("counterPartyAddress")
-                .counterPartyId("counterPartyId")
-                .protocol("protocol")
-                .build();
-
-        var envelope = EventEnvelope.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .at(System.currentTimeMillis())
-                .payload(event)
-                .build();
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.success());
 
-        subscriber.on(envelope);
+        subscriber.on(envelope(UUID.randomUUID().toString(), providerId, consumerId));
+        writer.flush();
 
-        ArgumentCaptor<AgreementsBpnsEntry> captor = ArgumentCaptor.forClass(AgreementsBpnsEntry.class);
-        verify(store).save(captor.capture());
-        AgreementsBpnsEntry entry = captor.getValue();
-        assert entry.getProviderBpn().equals(providerId);
-        assert entry.getConsumerBpn().equals(consumerId);
+        var entry = captureSingleSavedEntry();
+        assertThat(entry.getProviderBpn()).isEqualTo(providerId);
+        assertThat(entry.getConsumerBpn()).isEqualTo(consumerId);
     }
 
     @Test
     void on_shouldLogSevere_whenStoreSaveFails() {
-        var agreementId = UUID.randomUUID().toString();
-        var providerId = "providerBpn";
-        var consumerId = "consumerBpn";
-
         var failureDetail = "Contract Agreement is already exists.";
+        when(store.saveAll(anyCollection())).thenReturn(StoreResult.generalError("batch failed"));
         when(store.save(any())).thenReturn(StoreResult.alreadyExists(failureDetail));
 
-        var agreement = ContractAgreement.Builder.newInstance()
-                .id(agreementId)
-                .providerId(providerId)
-                .consumerId(consumerId)
-                .assetId("asset")
-                .policy(Policy.Builder.newInstance().assignee(consumerId).build())
-                .build();
-
-        var event = ContractNegotiationFinalized.Builder.newInstance()
-                .contractNegotiationId(UUID.randomUUID().toString())
-                .contractAgreement(agreement)
-                .counterPartyAddress("counterPartyAddress")
-                .counterPartyId("counterPartyId")
-                .protocol("protocol")
-                .build();
-
-        var envelope = EventEnvelope.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .at(System.currentTimeMillis())
-                .payload(event)
-                .build();
-
-        subscriber.on(envelope);
+        subscriber.on(envelope(UUID.randomUUID().toString(), "providerBpn", "consumerBpn"));
+        writer.flush();
 
         verify(monitor).severe(failureDetail);
+        assertThat(writer.failedCount()).isEqualTo(1);
     }
 
     @Test
     void on_shouldLogSevereAndSkipSave_whenBpnResolutionReturnsNull() {
-        var agreementId = UUID.randomUUID().toString();
-        var providerId = "did:provider";
-        var consumerId = "did:consumer";
+        var writerWithNullResolver = createWriter(new MockBdrsClient((s) -> s, (s) -> null));
+        var subscriberWithNullResolver = new EventContractNegotiationSubscriber(writerWithNullResolver);
 
-        var subscriberWithNullResolver = new EventContractNegotiationSubscriber(
-                store, monitor, new MockBdrsClient((s) -> s, (s) -> null));
+        subscriberWithNullResolver.on(envelope(UUID.randomUUID().toString(), "did:provider", "did:consumer"));
+        writerWithNullResolver.flush();
 
+        verify(monitor, times(2)).severe(anyString());
+        verify(store, never()).save(any());
+        verify(store, never()).saveAll(any());
+    }
+
+    private AgreementsBpnsWriter createWriter(BdrsClient bdrsClient) {
+        return new AgreementsBpnsWriter(store, bdrsClient, monitor, Clock.systemUTC(), 100, Duration.ofSeconds(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private AgreementsBpnsEntry captureSingleSavedEntry() {
+        ArgumentCaptor<Collection<AgreementsBpnsEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(store).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().iterator().next();
+    }
+
+    private EventEnvelope<ContractNegotiationFinalized> envelope(String agreementId, String providerId, String consumerId) {
         var agreement = ContractAgreement.Builder.newInstance()
                 .id(agreementId)
                 .providerId(providerId)
@@ -201,15 +163,10 @@ class EventContractNegotiationSubscriberTest {
                 .protocol("protocol")
                 .build();
 
-        var envelope = EventEnvelope.Builder.newInstance()
+        return EventEnvelope.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
                 .at(System.currentTimeMillis())
                 .payload(event)
                 .build();
-
-        subscriberWithNullResolver.on(envelope);
-
-        verify(monitor, times(2)).severe(anyString());
-        verify(store, never()).save(any());
     }
 }
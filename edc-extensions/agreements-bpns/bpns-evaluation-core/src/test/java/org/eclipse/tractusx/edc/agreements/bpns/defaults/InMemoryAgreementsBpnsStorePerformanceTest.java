@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.bpns.defaults;
+
+import org.eclipse.edc.junit.annotations.PerformanceTest;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.edc.tests.helpers.QueryHelperFunctions.countingOperatorRegistry;
+
+/**
+ * Counts the criterion evaluations of the store queries, which are proportional to the number of entries a query
+ * inspects, instead of comparing wall-clock times.
+ */
+@PerformanceTest
+class InMemoryAgreementsBpnsStorePerformanceTest {
+
+    private static final int ENTRIES = 200_000;
+    private static final int PARTNERS = 1_000;
+    private static final int LOOKUPS = 100;
+
+    private final AtomicLong evaluations = new AtomicLong();
+    private final CriterionOperatorRegistryImpl operatorRegistry = countingOperatorRegistry(evaluations);
+    private final InMemoryAgreementsBpnsStore store = new InMemoryAgreementsBpnsStore(operatorRegistry);
+
+    @Test
+    void queryByConsumerBpn_shouldNotScanAllEntries() {
+        IntStream.range(0, ENTRIES)
+                .mapToObj(i -> AgreementsBpnsEntry.Builder.newInstance()
+                        .withAgreementId("agreement-" + i)
+                        .withProviderBpn("BPNL0000000PROVIDER")
+                        .withConsumerBpn("BPNL" + (i % PARTNERS))
+                        .build())
+                .forEach(store::save);
+
+        var found = IntStream.range(0, LOOKUPS)
+                .mapToObj(i -> QuerySpec.Builder.newInstance()
+                        .filter(Criterion.criterion("consumerBpn", "=", "BPNL" + i))
+                        .limit(Integer.MAX_VALUE)
+                        .build())
+                .mapToLong(query -> store.findAll(query).count())
+                .sum();
+
+        var expected = (long) LOOKUPS * (ENTRIES / PARTNERS);
+        assertThat(found).isEqualTo(expected);
+        assertThat(evaluations.get()).isEqualTo(expected);
+    }
+}
@@ -19,12 +19,12 @@
 
 package org.eclipse.tractusx.edc.agreements.bpns.defaults;
 
-
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.tractusx.edc.agreements.bpns.store.AgreementsBpnsStoreTestBase;
 
 public class InMemoryAgreementsBpnsStoreTest extends AgreementsBpnsStoreTestBase {
 
-    private final InMemoryAgreementsBpnsStore store = new InMemoryAgreementsBpnsStore();
+    private final InMemoryAgreementsBpnsStore store = new InMemoryAgreementsBpnsStore(CriterionOperatorRegistryImpl.ofDefaults());
 
     @Override
     protected InMemoryAgreementsBpnsStore getStore() {
@@ -19,10 +19,14 @@
 
 package org.eclipse.tractusx.edc.agreements.bpns.store;
 
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore.ALREADY_EXISTS_TEMPLATE;
@@ -61,6 +65,98 @@ public abstract class AgreementsBpnsStoreTestBase {
         assertThat(found).isNull();
     }
 
+    @Test
+    void saveAll_shouldSkipExistingEntries() {
+        getStore().save(createAgreementsBpnsEntry("test-agreement-id", "providerBpn", "consumerBpn"));
+
+        var result = getStore().saveAll(List.of(
+                createAgreementsBpnsEntry("test-agreement-id", "otherProviderBpn", "otherConsumerBpn"),
+                createAgreementsBpnsEntry("test-agreement-id-2", "providerBpn", "consumerBpn2")));
+
+        assertThat(result).isSucceeded();
+        assertThat(getStore().findByAgreementId("test-agreement-id").getProviderBpn()).isEqualTo("providerBpn");
+        assertThat(getStore().findByAgreementId("test-agreement-id-2")).isNotNull();
+    }
+
+    @Test
+    void findAll_noFilter() {
+        saveEntries();
+
+        var found = getStore().findAll(QuerySpec.max());
+
+        assertThat(found).extracting(AgreementsBpnsEntry::getAgreementId)
+                .containsExactlyInAnyOrder("test-agreement-id", "test-agreement-id-2", "test-agreement-id-3");
+    }
+
+    @Test
+    void findAll_byAgreementId() {
+        saveEntries();
+
+        var found = getStore().findAll(query("agreementId", "=", "test-agreement-id-2"));
+
+        assertThat(found).extracting(AgreementsBpnsEntry::getAgreementId).containsExactly("test-agreement-id-2");
+    }
+
+    @Test
+    void findAll_byProviderBpn() {
+        saveEntries();
+
+        var found = getStore().findAll(query("providerBpn", "=", "providerBpn"));
+
+        assertThat(found).extracting(AgreementsBpnsEntry::getAgreementId)
+                .containsExactlyInAnyOrder("test-agreement-id", "test-agreement-id-2");
+    }
+
+    @Test
+    void findAll_byConsumerBpnIn() {
+        saveEntries();
+
+        var found = getStore().findAll(query("consumerBpn", "in", List.of("consumerBpn2", "unknown")));
+
+        assertThat(found).extracting(AgreementsBpnsEntry::getAgreementId)
+                .containsExactlyInAnyOrder("test-agreement-id-2", "test-agreement-id-3");
+    }
+
+    @Test
+    void findAll_byProviderAndConsumerBpn() {
+        saveEntries();
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(criterion("providerBpn", "=", "providerBpn"))
+                .filter(criterion("consumerBpn", "=", "consumerBpn2"))
+                .build();
+        var found = getStore().findAll(query);
+
+        assertThat(found).extracting(AgreementsBpnsEntry::getAgreementId).containsExactly("test-agreement-id-2");
+    }
+
+    @Test
+    void findAll_noMatch() {
+        saveEntries();
+
+        var found = getStore().findAll(query("providerBpn", "=", "unknown"));
+
+        assertThat(found).isEmpty();
+    }
+
+    private void saveEntries() {
+        getStore().save(createAgreementsBpnsEntry("test-agreement-id", "providerBpn", "consumerBpn"));
+        getStore().save(createAgreementsBpnsEntry("test-agreement-id-2", "providerBpn", "consumerBpn2"));
+        getStore().save(createAgreementsBpnsEntry("test-agreement-id-3", "providerBpn2", "consumerBpn2"));
+    }
+
+    private QuerySpec query(String left, String operator, Object right) {
+        return QuerySpec.Builder.newInstance().filter(criterion(left, operator, right)).build();
+    }
+
+    private Criterion criterion(String left, String operator, Object right) {
+        return Criterion.Builder.newInstance()
+                .operandLeft(left)
+                .operator(operator)
+                .operandRight(right)
+                .build();
+    }
+
     private AgreementsBpnsEntry createAgreementsBpnsEntry(String agreementId, String providerBpn, String consumerBpn) {
         return AgreementsBpnsEntry.Builder.newInstance()
                 .withAgreementId(agreementId)
@@ -20,16 +20,40 @@
 package org.eclipse.tractusx.edc.agreements.bpns.spi.store;
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.stream.Stream;
+
 @ExtensionPoint
 public interface AgreementsBpnsStore {
     String ALREADY_EXISTS_TEMPLATE = "Contract Agreement %s already exists.";
 
     StoreResult<Void> save(AgreementsBpnsEntry agreementsBpnsEntry);
 
+    /**
+     * Saves several AgreementsBpnsEntry at once. Entries whose agreement id already exists are skipped.
+     *
+     * @param entries the entries to save
+     * @return StoreResult success, or a failure if the entries could not be written
+     */
+    default StoreResult<Void> saveAll(Collection<AgreementsBpnsEntry> entries) {
+        entries.forEach(this::save);
+        return StoreResult.success();
+    }
+
     @Nullable
     AgreementsBpnsEntry findByAgreementId(String agreementId);
+
+    /**
+     * Returns all AgreementsBpnsEntry matching a query spec. Supported filter fields are {@code agreementId},
+     * {@code providerBpn} and {@code consumerBpn}.
+     *
+     * @param querySpec a valid {@link QuerySpec}
+     * @return a stream of AgreementsBpnsEntry entries.
+     */
+    Stream<AgreementsBpnsEntry> findAll(QuerySpec querySpec);
 }
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.bpns.spi.store;
+
+/**
+ * Keeps track of {@link org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry} that have been
+ * accepted for writing, but are not yet written to the {@link AgreementsBpnsStore}.
+ */
+@FunctionalInterface
+public interface PendingAgreementsBpns {
+
+    /**
+     * Waits until the entry of the given contract agreement has been written to the {@link AgreementsBpnsStore}.
+     * Returns immediately if no write is pending for that agreement.
+     *
+     * @param agreementId the contract agreement id
+     * @return true if no write is pending anymore, false if waiting timed out.
+     */
+    boolean awaitFlush(String agreementId);
+}
@@ -0,0 +1,35 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.edc.agreements.bpns.store.sql;
+
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+public class AgreementsBpnsMapping extends TranslationMapping {
+    private static final String FIELD_AGREEMENT_ID = "agreementId";
+    private static final String FIELD_PROVIDER_BPN = "providerBpn";
+    private static final String FIELD_CONSUMER_BPN = "consumerBpn";
+
+    AgreementsBpnsMapping(SqlAgreementsBpnsStatements statements) {
+        add(FIELD_AGREEMENT_ID, statements.getAgreementIdColumn());
+        add(FIELD_PROVIDER_BPN, statements.getProviderBpnColumn());
+        add(FIELD_CONSUMER_BPN, statements.getConsumerBpnColumn());
+    }
+}
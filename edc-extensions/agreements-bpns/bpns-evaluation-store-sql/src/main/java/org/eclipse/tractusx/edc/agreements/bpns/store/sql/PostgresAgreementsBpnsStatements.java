@@ -19,10 +19,23 @@
 
 package org.eclipse.tractusx.edc.agreements.bpns.store.sql;
 
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 public class PostgresAgreementsBpnsStatements implements SqlAgreementsBpnsStatements {
 
+    private final SqlOperatorTranslator operatorTranslator;
+
+    public PostgresAgreementsBpnsStatements() {
+        this.operatorTranslator = new PostgresqlOperatorTranslator();
+    }
+
     @Override
     public String insertWithOnConflict() {
         return format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?) ON CONFLICT (%s) DO NOTHING",
@@ -32,4 +45,21 @@ public class PostgresAgreementsBpnsStatements implements SqlAgreementsBpnsStatem
                 getConsumerBpnColumn(),
                 getAgreementIdColumn());
     }
+
+    @Override
+    public String insertBatchWithOnConflict(int size) {
+        return format("INSERT INTO %s (%s, %s, %s) VALUES %s ON CONFLICT (%s) DO NOTHING",
+                getTable(),
+                getAgreementIdColumn(),
+                getProviderBpnColumn(),
+                getConsumerBpnColumn(),
+                String.join(", ", Collections.nCopies(size, "(?, ?, ?)")),
+                getAgreementIdColumn());
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        var select = format("SELECT * FROM %s", getTable());
+        return new SqlQueryStatement(select, querySpec, new AgreementsBpnsMapping(this), operatorTranslator);
+    }
 }
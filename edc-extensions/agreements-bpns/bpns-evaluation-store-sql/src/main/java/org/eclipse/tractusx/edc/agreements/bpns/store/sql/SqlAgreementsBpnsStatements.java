@@ -19,7 +19,9 @@
 
 package org.eclipse.tractusx.edc.agreements.bpns.store.sql;
 
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.statement.SqlStatements;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 /**
  * Statement templates and SQL table+column names required for the {@link SqlAgreementsBpnsStore}
@@ -44,7 +46,11 @@ public interface SqlAgreementsBpnsStatements extends SqlStatements {
 
     String insertWithOnConflict();
 
+    String insertBatchWithOnConflict(int size);
+
     default String findByAgreementIdTemplate() {
         return "SELECT * FROM %s WHERE %s = ?".formatted(getTable(), getAgreementIdColumn());
     }
+
+    SqlQueryStatement createQuery(QuerySpec querySpec);
 }
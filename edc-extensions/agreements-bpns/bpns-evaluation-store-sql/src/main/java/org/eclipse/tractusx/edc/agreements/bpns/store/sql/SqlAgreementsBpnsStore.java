@@ -21,6 +21,7 @@ package org.eclipse.tractusx.edc.agreements.bpns.store.sql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
@@ -31,7 +32,9 @@ import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 public class SqlAgreementsBpnsStore extends AbstractSqlStore implements AgreementsBpnsStore {
 
@@ -68,6 +71,29 @@ public class SqlAgreementsBpnsStore extends AbstractSqlStore implements Agreemen
         });
     }
 
+    @Override
+    public StoreResult<Void> saveAll(Collection<AgreementsBpnsEntry> entries) {
+        if (entries.isEmpty()) {
+            return StoreResult.success();
+        }
+
+        var parameters = entries.stream()
+                .flatMap(entry -> Stream.of(
+                        Objects.requireNonNull(entry.getAgreementId()),
+                        Objects.requireNonNull(entry.getProviderBpn()),
+                        Objects.requireNonNull(entry.getConsumerBpn())))
+                .toArray();
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.insertBatchWithOnConflict(entries.size()), parameters);
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public AgreementsBpnsEntry findByAgreementId(String agreementId) {
         return transactionContext.execute(() -> {
@@ -80,6 +106,19 @@ public class SqlAgreementsBpnsStore extends AbstractSqlStore implements Agreemen
         });
     }
 
+    @Override
+    public Stream<AgreementsBpnsEntry> findAll(QuerySpec querySpec) {
+        Objects.requireNonNull(querySpec);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var statement = statements.createQuery(querySpec);
+                return queryExecutor.query(connection, true, this::mapRow, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private AgreementsBpnsEntry mapRow(ResultSet rs) throws SQLException {
         return AgreementsBpnsEntry.Builder.newInstance()
                 .withAgreementId(rs.getString(statements.getAgreementIdColumn()))
@@ -37,4 +37,5 @@ dependencies {
 
     testImplementation(libs.edc.junit)
     testFixturesImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":edc-tests:e2e-fixtures")))
 }
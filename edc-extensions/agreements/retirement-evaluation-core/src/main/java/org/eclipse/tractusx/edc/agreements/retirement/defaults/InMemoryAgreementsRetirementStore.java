@@ -19,6 +19,7 @@
 
 package org.eclipse.tractusx.edc.agreements.retirement.defaults;
 
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -27,17 +28,29 @@ import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetirementStore;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.types.AgreementsRetirementEntry;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Stream;
 
 /**
  * In Memory implementation of a {@link AgreementsRetirementStore}.
+ * <p>
+ * Entries are indexed by agreement id and by retirement date. Queries filtering on one of these fields are resolved
+ * against the matching subset of entries only, all other queries scan every entry.
  */
 public class InMemoryAgreementsRetirementStore implements AgreementsRetirementStore {
 
+    private static final String AGREEMENT_ID = "agreementId";
+    private static final String AGREEMENT_RETIREMENT_DATE = "agreementRetirementDate";
+
     private final QueryResolver<AgreementsRetirementEntry> queryResolver;
     private final Map<String, AgreementsRetirementEntry> cache = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> retirementDateIndex = new ConcurrentSkipListMap<>();
 
     public InMemoryAgreementsRetirementStore(CriterionOperatorRegistry criterionOperatorRegistry) {
         queryResolver = new ReflectionBasedQueryResolver<>(AgreementsRetirementEntry.class, criterionOperatorRegistry);
@@ -45,22 +58,75 @@ public class InMemoryAgreementsRetirementStore implements AgreementsRetirementSt
 
     @Override
     public StoreResult<Void> save(AgreementsRetirementEntry entry) {
-        if (cache.containsKey(entry.getAgreementId())) {
+        if (cache.putIfAbsent(entry.getAgreementId(), entry) != null) {
             return StoreResult.alreadyExists(ALREADY_EXISTS_TEMPLATE.formatted(entry.getAgreementId()));
         }
-        cache.put(entry.getAgreementId(), entry);
+        retirementDateIndex.computeIfAbsent(entry.getAgreementRetirementDate(), k -> ConcurrentHashMap.newKeySet())
+                .add(entry.getAgreementId());
         return StoreResult.success();
     }
 
     @Override
     public StoreResult<Void> delete(String contractAgreementId) {
-        return cache.remove(contractAgreementId) == null ?
-                StoreResult.notFound(NOT_FOUND_IN_RETIREMENT_TEMPLATE.formatted(contractAgreementId)) :
-                StoreResult.success();
+        var removed = cache.remove(contractAgreementId);
+        if (removed == null) {
+            return StoreResult.notFound(NOT_FOUND_IN_RETIREMENT_TEMPLATE.formatted(contractAgreementId));
+        }
+        retirementDateIndex.computeIfPresent(removed.getAgreementRetirementDate(), (date, ids) -> {
+            ids.remove(contractAgreementId);
+            return ids.isEmpty() ? null : ids;
+        });
+        return StoreResult.success();
     }
 
     @Override
     public Stream<AgreementsRetirementEntry> findRetiredAgreements(QuerySpec querySpec) {
-        return queryResolver.query(cache.values().stream(), querySpec);
+        return queryResolver.query(candidates(querySpec), querySpec);
+    }
+
+    /**
+     * Narrows down the entries to the ones matched by the first indexed criterion. The query resolver still evaluates
+     * every criterion on the returned candidates, so this never changes the query result.
+     */
+    private Stream<AgreementsRetirementEntry> candidates(QuerySpec querySpec) {
+        for (var criterion : querySpec.getFilterExpression()) {
+            var ids = indexLookup(criterion);
+            if (ids != null) {
+                return ids.map(cache::get).filter(Objects::nonNull);
+            }
+        }
+        return cache.values().stream();
+    }
+
+    private Stream<String> indexLookup(Criterion criterion) {
+        var left = criterion.getOperandLeft();
+        var operator = criterion.getOperator().toLowerCase();
+        var right = criterion.getOperandRight();
+
+        if (AGREEMENT_ID.equals(left)) {
+            if ("=".equals(operator) && right instanceof String id) {
+                return Stream.of(id);
+            }
+            if ("in".equals(operator) && right instanceof Collection<?> ids) {
+                return ids.stream().filter(String.class::isInstance).map(String.class::cast).distinct();
+            }
+        }
+
+        if (AGREEMENT_RETIREMENT_DATE.equals(left) && (right instanceof Long || right instanceof Integer)) {
+            var date = ((Number) right).longValue();
+            var range = switch (operator) {
+                case "=" -> retirementDateIndex.subMap(date, true, date, true);
+                case "<" -> retirementDateIndex.headMap(date, false);
+                case "<=" -> retirementDateIndex.headMap(date, true);
+                case ">" -> retirementDateIndex.tailMap(date, false);
+                case ">=" -> retirementDateIndex.tailMap(date, true);
+                default -> null;
+            };
+            if (range != null) {
+                return range.values().stream().flatMap(Set::stream);
+            }
+        }
+
+        return null;
     }
 }
@@ -23,14 +23,21 @@ import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.Con
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementReactivated;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementRetired;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.service.AgreementsRetirementService;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetirementStore;
 
 import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.tractusx.edc.agreements.retirement.AgreementsRetirementPreValidatorRegisterExtension.NAME;
 
@@ -38,6 +45,15 @@ import static org.eclipse.tractusx.edc.agreements.retirement.AgreementsRetiremen
 public class AgreementRetirementServiceExtension implements ServiceExtension {
 
     private static final String NAME = "Agreement Retirement Service Extension";
+    private static final String DEFAULT_CACHE_RECONCILE_INTERVAL_SECONDS = "30";
+
+    @Setting(key = "tx.edc.agreements.retirement.cache.enabled", defaultValue = "true",
+            description = "Defines whether the ids of retired agreements are kept in memory, so that retirement checks do not hit the store.")
+    private boolean cacheEnabled;
+
+    @Setting(key = "tx.edc.agreements.retirement.cache.reconcile.interval.seconds", defaultValue = DEFAULT_CACHE_RECONCILE_INTERVAL_SECONDS, min = 1,
+            description = "Interval in seconds in which the retired agreements cache is reloaded from the store, to pick up changes made by other replicas.")
+    private long cacheReconcileInterval;
 
     @Inject
     AgreementsRetirementStore store;
@@ -51,16 +67,40 @@ public class AgreementRetirementServiceExtension implements ServiceExtension {
     Clock clock;
     @Inject
     private Monitor monitor;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
 
+    private RetiredAgreementsCache cache;
+    private ScheduledExecutorService reconcileExecutor;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void start() {
+        if (cache != null) {
+            reconcileExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Retired agreements cache reconciliation");
+            reconcileExecutor.scheduleWithFixedDelay(cache::reload, 0, cacheReconcileInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (reconcileExecutor != null) {
+            reconcileExecutor.shutdownNow();
+        }
+    }
+
     @Provider()
     public AgreementsRetirementService createInMemAgreementRetirementService() {
+        if (cacheEnabled && cache == null) {
+            cache = new RetiredAgreementsCache(store, transactionContext, monitor.withPrefix(RetiredAgreementsCache.class.getSimpleName()));
+            eventRouter.registerSync(ContractAgreementRetired.class, cache);
+            eventRouter.registerSync(ContractAgreementReactivated.class, cache);
+        }
         return new AgreementsRetirementServiceImpl(store, transactionContext, contractAgreementService, eventRouter,
-                clock, monitor);
+                clock, monitor, cache);
     }
 }
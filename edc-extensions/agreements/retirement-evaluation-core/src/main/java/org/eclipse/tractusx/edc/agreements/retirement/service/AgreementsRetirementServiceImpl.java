@@ -33,6 +33,7 @@ import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreemen
 import org.eclipse.tractusx.edc.agreements.retirement.spi.service.AgreementsRetirementService;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetirementStore;
 import org.eclipse.tractusx.edc.agreements.retirement.spi.types.AgreementsRetirementEntry;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.util.List;
@@ -51,20 +52,31 @@ public class AgreementsRetirementServiceImpl implements AgreementsRetirementServ
     private final EventRouter eventRouter;
     private final Clock clock;
     private final Monitor monitor;
+    private final RetiredAgreementsCache cache;
 
     public AgreementsRetirementServiceImpl(AgreementsRetirementStore store, TransactionContext transactionContext,
                                            ContractAgreementService contractAgreementService, EventRouter eventRouter,
                                            Clock clock, Monitor monitor) {
+        this(store, transactionContext, contractAgreementService, eventRouter, clock, monitor, null);
+    }
+
+    public AgreementsRetirementServiceImpl(AgreementsRetirementStore store, TransactionContext transactionContext,
+                                           ContractAgreementService contractAgreementService, EventRouter eventRouter,
+                                           Clock clock, Monitor monitor, @Nullable RetiredAgreementsCache cache) {
         this.store = store;
         this.transactionContext = transactionContext;
         this.contractAgreementService = contractAgreementService;
         this.eventRouter = eventRouter;
         this.clock = clock;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.cache = cache;
     }
 
     @Override
     public boolean isRetired(String agreementId) {
+        if (cache != null && cache.isLoaded()) {
+            return cache.contains(agreementId);
+        }
         return transactionContext.execute(() -> store.findRetiredAgreements(createFilterQueryByAgreementId(agreementId))
                 .findAny()
                 .isPresent());
@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.retirement.service;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementReactivated;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementRetired;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetirementStore;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.types.AgreementsRetirementEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory set of the ids of all retired contract agreements.
+ * <p>
+ * The set is loaded from the {@link AgreementsRetirementStore} by {@link #reload()}, kept up to date with the
+ * {@link ContractAgreementRetired} and {@link ContractAgreementReactivated} events raised by this runtime, and is
+ * expected to be reloaded periodically to pick up changes made by other replicas sharing the same store.
+ * Until the first successful load, {@link #isLoaded()} returns {@code false} and callers must query the store.
+ */
+public class RetiredAgreementsCache implements EventSubscriber {
+
+    private final AgreementsRetirementStore store;
+    private final TransactionContext transactionContext;
+    private final Monitor monitor;
+
+    private final Object lock = new Object();
+    private volatile Set<String> retiredAgreementIds;
+    private List<Event> eventsDuringReload;
+
+    public RetiredAgreementsCache(AgreementsRetirementStore store, TransactionContext transactionContext, Monitor monitor) {
+        this.store = store;
+        this.transactionContext = transactionContext;
+        this.monitor = monitor;
+    }
+
+    public boolean isLoaded() {
+        return retiredAgreementIds != null;
+    }
+
+    /**
+     * Checks whether the given contract agreement id is known as retired. Only meaningful once {@link #isLoaded()}.
+     *
+     * @param agreementId the contract agreement id
+     * @return true if the agreement is retired, false otherwise.
+     */
+    public boolean contains(String agreementId) {
+        var ids = retiredAgreementIds;
+        return ids != null && ids.contains(agreementId);
+    }
+
+    /**
+     * Replaces the cached content with the current content of the store. Events received while the store is read
+     * are re-applied on top of the loaded snapshot, so that local retirements and reactivations are never lost.
+     */
+    public void reload() {
+        synchronized (lock) {
+            eventsDuringReload = new ArrayList<>();
+        }
+        try {
+            var loaded = transactionContext.execute(() -> store.findRetiredAgreements(QuerySpec.max())
+                    .map(AgreementsRetirementEntry::getAgreementId)
+                    .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet)));
+
+            synchronized (lock) {
+                eventsDuringReload.forEach(event -> apply(loaded, event));
+                retiredAgreementIds = loaded;
+            }
+        } catch (Exception e) {
+            monitor.warning("Failed to reload retired agreements, keeping the previous state", e);
+        } finally {
+            synchronized (lock) {
+                eventsDuringReload = null;
+            }
+        }
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        synchronized (lock) {
+            if (retiredAgreementIds != null) {
+                apply(retiredAgreementIds, payload);
+            }
+            if (eventsDuringReload != null) {
+                eventsDuringReload.add(payload);
+            }
+        }
+    }
+
+    private void apply(Set<String> ids, Event event) {
+        if (event instanceof ContractAgreementRetired retired) {
+            ids.add(retired.getContractAgreementId());
+        } else if (event instanceof ContractAgreementReactivated reactivated) {
+            ids.remove(reactivated.getContractAgreementId());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.agreements.retirement.service;
+
+import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementReactivated;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementRetired;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetirementStore;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.types.AgreementsRetirementEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetiredAgreementsCacheTest {
+
+    private final AgreementsRetirementStore store = mock();
+    private final RetiredAgreementsCache cache = new RetiredAgreementsCache(store, new NoopTransactionContext(), mock());
+
+    @Test
+    void reload_shouldLoadRetiredAgreementsFromStore() {
+        when(store.findRetiredAgreements(any(QuerySpec.class))).thenReturn(Stream.of(entry("retired-1"), entry("retired-2")));
+
+        assertThat(cache.isLoaded()).isFalse();
+
+        cache.reload();
+
+        assertThat(cache.isLoaded()).isTrue();
+        assertThat(cache.contains("retired-1")).isTrue();
+        assertThat(cache.contains("retired-2")).isTrue();
+        assertThat(cache.contains("active")).isFalse();
+    }
+
+    @Test
+    void reload_shouldKeepPreviousState_whenStoreFails() {
+        when(store.findRetiredAgreements(any(QuerySpec.class)))
+                .thenReturn(Stream.of(entry("retired-1")))
+                .thenThrow(new RuntimeException("db down"));
+
+        cache.reload();
+        cache.reload();
+
+        assertThat(cache.isLoaded()).isTrue();
+        assertThat(cache.contains("retired-1")).isTrue();
+    }
+
+    @Test
+    void reload_shouldReplaceRemovedEntries() {
+        when(store.findRetiredAgreements(any(QuerySpec.class)))
+                .thenReturn(Stream.of(entry("retired-1")))
+                .thenReturn(Stream.of(entry("retired-2")));
+
+        cache.reload();
+        cache.reload();
+
+        assertThat(cache.contains("retired-1")).isFalse();
+        assertThat(cache.contains("retired-2")).isTrue();
+    }
+
+    @Test
+    void reload_shouldReapplyEventsReceivedWhileLoading() {
+        when(store.findRetiredAgreements(any(QuerySpec.class))).thenAnswer(i -> {
+            cache.on(envelope(ContractAgreementRetired.Builder.newInstance().contractAgreementId("retired-meanwhile").build()));
+            return Stream.of(entry("retired-1"));
+        });
+
+        cache.reload();
+
+        assertThat(cache.contains("retired-1")).isTrue();
+        assertThat(cache.contains("retired-meanwhile")).isTrue();
+    }
+
+    @Test
+    void on_shouldTrackRetiredAndReactivatedAgreements() {
+        when(store.findRetiredAgreements(any(QuerySpec.class))).thenReturn(Stream.empty());
+        cache.reload();
+
+        cache.on(envelope(ContractAgreementRetired.Builder.newInstance().contractAgreementId("agreement").build()));
+        assertThat(cache.contains("agreement")).isTrue();
+
+        cache.on(envelope(ContractAgreementReactivated.Builder.newInstance().contractAgreementId("agreement").build()));
+        assertThat(cache.contains("agreement")).isFalse();
+    }
+
+    @Test
+    void service_shouldUseCache_onceLoaded() {
+        when(store.findRetiredAgreements(any(QuerySpec.class))).thenReturn(Stream.of(entry("retired-1")));
+        cache.reload();
+        var service = new AgreementsRetirementServiceImpl(store, new NoopTransactionContext(), mock(ContractAgreementService.class),
+                mock(), Clock.systemUTC(), mock(), cache);
+
+        assertThat(service.isRetired("retired-1")).isTrue();
+        assertThat(service.isRetired("active")).isFalse();
+        verify(store, times(1)).findRetiredAgreements(any());
+    }
+
+    private AgreementsRetirementEntry entry(String agreementId) {
+        return AgreementsRetirementEntry.Builder.newInstance()
+                .withAgreementId(agreementId)
+                .withReason("reason")
+                .build();
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance().at(0).payload(event).build();
+    }
+}
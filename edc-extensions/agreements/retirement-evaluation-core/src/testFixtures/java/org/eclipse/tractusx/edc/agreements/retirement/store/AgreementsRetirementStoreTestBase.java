@@ -25,6 +25,7 @@ import org.eclipse.tractusx.edc.agreements.retirement.spi.store.AgreementsRetire
 import org.eclipse.tractusx.edc.agreements.retirement.spi.types.AgreementsRetirementEntry;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +59,63 @@ public abstract class AgreementsRetirementStoreTestBase {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void findRetiredAgreement_byAgreementIdIn() {
+        getStore().save(createRetiredAgreementEntry("agreement-1", "mock-reason"));
+        getStore().save(createRetiredAgreementEntry("agreement-2", "mock-reason"));
+        getStore().save(createRetiredAgreementEntry("agreement-3", "mock-reason"));
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(Criterion.Builder.newInstance()
+                        .operandLeft("agreementId")
+                        .operator("in")
+                        .operandRight(List.of("agreement-1", "agreement-3", "unknown"))
+                        .build())
+                .build();
+        var result = getStore().findRetiredAgreements(query);
+
+        assertThat(result).extracting(AgreementsRetirementEntry::getAgreementId)
+                .containsExactlyInAnyOrder("agreement-1", "agreement-3");
+    }
+
+    @Test
+    void findRetiredAgreement_byRetirementDate() {
+        getStore().save(createRetiredAgreementEntry("agreement-1", "mock-reason", 100L));
+        getStore().save(createRetiredAgreementEntry("agreement-2", "mock-reason", 200L));
+        getStore().save(createRetiredAgreementEntry("agreement-3", "mock-reason", 300L));
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(Criterion.Builder.newInstance()
+                        .operandLeft("agreementRetirementDate")
+                        .operator(">=")
+                        .operandRight(200L)
+                        .build())
+                .build();
+        var result = getStore().findRetiredAgreements(query);
+
+        assertThat(result).extracting(AgreementsRetirementEntry::getAgreementId)
+                .containsExactlyInAnyOrder("agreement-2", "agreement-3");
+    }
+
+    @Test
+    void findRetiredAgreement_afterDelete() {
+        var agreementId = "test-agreement-id";
+        getStore().save(createRetiredAgreementEntry(agreementId, "mock-reason", 100L));
+        getStore().delete(agreementId);
+
+        var byId = getStore().findRetiredAgreements(createFilterQueryByAgreementId(agreementId));
+        var byDate = getStore().findRetiredAgreements(QuerySpec.Builder.newInstance()
+                .filter(Criterion.Builder.newInstance()
+                        .operandLeft("agreementRetirementDate")
+                        .operator("=")
+                        .operandRight(100L)
+                        .build())
+                .build());
+
+        assertThat(byId).isEmpty();
+        assertThat(byDate).isEmpty();
+    }
+
     @Test
     void save_whenExists() {
         var agreementId = "test-agreement-id";
@@ -95,6 +153,14 @@ public abstract class AgreementsRetirementStoreTestBase {
                 .build();
     }
 
+    private AgreementsRetirementEntry createRetiredAgreementEntry(String agreementId, String reason, long retirementDate) {
+        return AgreementsRetirementEntry.Builder.newInstance()
+                .withAgreementId(agreementId)
+                .withReason(reason)
+                .withAgreementRetirementDate(retirementDate)
+                .build();
+    }
+
     private QuerySpec createFilterQueryByAgreementId(String agreementId) {
         return QuerySpec.Builder.newInstance()
                 .filter(
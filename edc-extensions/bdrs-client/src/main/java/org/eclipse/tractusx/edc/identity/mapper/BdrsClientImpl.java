@@ -54,6 +54,7 @@ import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
  * Holds a local cache of BPN-to-DID mapping entries.
  * <p>
  * The local cache expires after a configurable time, at which point {@link BdrsClientImpl#resolveDid(String)}} requests will hit the server again.
+ * The snapshot lookups never hit the server and are answered from whatever mappings were fetched last.
  */
 class BdrsClientImpl implements BdrsClient {
     private static final TypeReference<Map<String, String>> MAP_REF = new TypeReference<>() {
@@ -69,8 +70,8 @@ class BdrsClientImpl implements BdrsClient {
     private final Supplier<String> ownCredentialServiceUrl;
     private final CredentialServiceClient credentialServiceClient;
     private final ParticipantContextSupplier participantContextSupplier;
-    private Map<String, String> cacheBpnDid = new HashMap<>();
-    private Map<String, String> cacheDidBpn = new HashMap<>();
+    private volatile Map<String, String> cacheBpnDid = new HashMap<>();
+    private volatile Map<String, String> cacheDidBpn = new HashMap<>();
     private Instant lastCacheUpdate;
 
     BdrsClientImpl(String baseUrl,
@@ -138,6 +139,16 @@ class BdrsClientImpl implements BdrsClient {
         }
     }
 
+    @Override
+    public String resolveDidFromSnapshot(String bpn) {
+        return cacheBpnDid.get(bpn);
+    }
+
+    @Override
+    public String resolveBpnFromSnapshot(String did) {
+        return cacheDidBpn.get(did);
+    }
+
     private boolean isCacheExpired() {
         return lastCacheUpdate == null || lastCacheUpdate.plus(cacheValidity, ChronoUnit.SECONDS).isBefore(Instant.now());
     }
@@ -145,6 +145,28 @@ class BdrsClientImplTest {
 
     }
 
+    @Test
+    void resolveFromSnapshot_whenCacheCold_shouldNotHitServer() {
+        assertThat(client.resolveDidFromSnapshot("bpn1")).isNull();
+        assertThat(client.resolveBpnFromSnapshot("did:web:did1")).isNull();
+
+        verifyBdrsRequest(0);
+    }
+
+    @Test
+    void resolveFromSnapshot_whenCacheExpired_shouldReturnLastMappings() {
+        client.resolveDid("bpn1");
+
+        await().pollDelay(ofSeconds(2))
+                .atMost(ofSeconds(3)) //cache expires
+                .untilAsserted(() -> {
+                    assertThat(client.resolveDidFromSnapshot("bpn2")).isEqualTo("did:web:did2");
+                    assertThat(client.resolveBpnFromSnapshot("did:web:did3")).isEqualTo("bpn3");
+
+                    verifyBdrsRequest(1);
+                });
+    }
+
     @Test
     void getData_whenNotFound() {
         var did = client.resolveDid("bpn-notexist");
@@ -28,6 +28,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -41,15 +42,23 @@ import org.eclipse.tractusx.edc.discovery.api.v3.ConnectorDiscoveryV3Controller;
 import org.eclipse.tractusx.edc.discovery.api.v4alpha.ConnectorDiscoveryV4AlphaController;
 import org.eclipse.tractusx.edc.discovery.service.DefaultConnectorDiscoveryServiceImpl;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
+import org.eclipse.tractusx.edc.discovery.transformers.JsonObjectToConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.transformers.JsonObjectToConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.transformers.JsonObjectToConnectorParamsDiscoveryRequest;
+import org.eclipse.tractusx.edc.discovery.validators.ConnectorBatchDiscoveryRequestValidator;
 import org.eclipse.tractusx.edc.discovery.validators.ConnectorDiscoveryRequestValidator;
 import org.eclipse.tractusx.edc.discovery.validators.ConnectorParamsDiscoveryRequestValidator;
 
 import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.NAME;
@@ -63,6 +72,42 @@ public class ConnectorDiscoveryExtension implements ServiceExtension {
 
     public static final String DEFAULT_CACHE_EXPIRY_MS = 1000 * 60 * 120 + "";
 
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_CACHE_SIZE = "tx.edc.connector.discovery.cache.size";
+
+    public static final String DEFAULT_CACHE_SIZE = CacheConfig.DEFAULT_CACHE_SIZE + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_EXPIRY = "tx.edc.connector.discovery.cache.failure.expiry";
+
+    public static final String DEFAULT_FAILURE_CACHE_EXPIRY_MS = CacheConfig.DEFAULT_FAILURE_VALIDITY + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_MAX_EXPIRY = "tx.edc.connector.discovery.cache.failure.expiry.max";
+
+    public static final String DEFAULT_FAILURE_CACHE_MAX_EXPIRY_MS = CacheConfig.DEFAULT_MAX_FAILURE_VALIDITY + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_THREADS = "tx.edc.connector.discovery.threads";
+
+    public static final String DEFAULT_THREADS = "8";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_QUEUE_SIZE = "tx.edc.connector.discovery.queue.size";
+
+    public static final String DEFAULT_QUEUE_SIZE = "500";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_ENDPOINT_TIMEOUT = "tx.edc.connector.discovery.endpoint.timeout";
+
+    public static final String DEFAULT_ENDPOINT_TIMEOUT_MS = ExecutionConfig.DEFAULT_ENDPOINT_TIMEOUT + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_REQUEST_DEADLINE = "tx.edc.connector.discovery.request.deadline";
+
+    public static final String DEFAULT_REQUEST_DEADLINE_MS = ExecutionConfig.DEFAULT_REQUEST_DEADLINE + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_BATCH_CONCURRENCY = "tx.edc.connector.discovery.batch.concurrency";
+
+    public static final String DEFAULT_BATCH_CONCURRENCY = ExecutionConfig.DEFAULT_BATCH_CONCURRENCY + "";
+
+    public static final String TX_EDC_CONNECTOR_DISCOVERY_BATCH_SIZE_MAX = "tx.edc.connector.discovery.batch.size.max";
+
+    public static final String DEFAULT_BATCH_SIZE_MAX = "1000";
+
     @Override
     public String name() {
         return NAME;
@@ -88,11 +133,51 @@ public class ConnectorDiscoveryExtension implements ServiceExtension {
     private Clock clock;
     @Inject
     private Monitor monitor;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
 
     @Setting(description = "Expiry time for caching protocol version information in milliseconds",
              key = TX_EDC_CONNECTOR_DISCOVERY_CACHE_EXPIRY, defaultValue = DEFAULT_CACHE_EXPIRY_MS)
     private long connectorDiscoveryCacheExpiry;
 
+    @Setting(description = "Maximum number of connector endpoints for which protocol version information is cached",
+             key = TX_EDC_CONNECTOR_DISCOVERY_CACHE_SIZE, defaultValue = DEFAULT_CACHE_SIZE)
+    private int connectorDiscoveryCacheSize;
+
+    @Setting(description = "Expiry time for caching a failed protocol version lookup in milliseconds, doubled with every consecutive failure. 0 disables caching of failures",
+             key = TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_EXPIRY, defaultValue = DEFAULT_FAILURE_CACHE_EXPIRY_MS)
+    private long connectorDiscoveryFailureCacheExpiry;
+
+    @Setting(description = "Maximum expiry time for caching a failed protocol version lookup in milliseconds",
+             key = TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_MAX_EXPIRY, defaultValue = DEFAULT_FAILURE_CACHE_MAX_EXPIRY_MS)
+    private long connectorDiscoveryFailureCacheMaxExpiry;
+
+    @Setting(description = "Number of threads resolving DID documents for connector discovery",
+             key = TX_EDC_CONNECTOR_DISCOVERY_THREADS, defaultValue = DEFAULT_THREADS)
+    private int connectorDiscoveryThreads;
+
+    @Setting(description = "Maximum number of connector discoveries waiting for a DID resolution thread, further requests are rejected",
+             key = TX_EDC_CONNECTOR_DISCOVERY_QUEUE_SIZE, defaultValue = DEFAULT_QUEUE_SIZE)
+    private int connectorDiscoveryQueueSize;
+
+    @Setting(description = "Timeout for the protocol version lookup of a single connector endpoint in milliseconds",
+             key = TX_EDC_CONNECTOR_DISCOVERY_ENDPOINT_TIMEOUT, defaultValue = DEFAULT_ENDPOINT_TIMEOUT_MS)
+    private long connectorDiscoveryEndpointTimeout;
+
+    @Setting(description = "Deadline of a connector discovery in milliseconds, after which the endpoints found so far are returned",
+             key = TX_EDC_CONNECTOR_DISCOVERY_REQUEST_DEADLINE, defaultValue = DEFAULT_REQUEST_DEADLINE_MS)
+    private long connectorDiscoveryRequestDeadline;
+
+    @Setting(description = "Maximum number of counterparties of a batch connector discovery that are discovered concurrently",
+             key = TX_EDC_CONNECTOR_DISCOVERY_BATCH_CONCURRENCY, defaultValue = DEFAULT_BATCH_CONCURRENCY)
+    private int connectorDiscoveryBatchConcurrency;
+
+    @Setting(description = "Maximum number of counterparty ids accepted in a single batch connector discovery request",
+             key = TX_EDC_CONNECTOR_DISCOVERY_BATCH_SIZE_MAX, defaultValue = DEFAULT_BATCH_SIZE_MAX)
+    private int connectorDiscoveryBatchSizeMax;
+
+    private ExecutorService discoveryExecutor;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var managementTypeTransformerRegistry = transformerRegistry.forContext("management-api");
@@ -103,8 +188,11 @@ public class ConnectorDiscoveryExtension implements ServiceExtension {
         managementTypeTransformerRegistry.register(new JsonObjectToConnectorDiscoveryRequest());
         validatorRegistry.register(ConnectorDiscoveryRequest.TYPE, ConnectorDiscoveryRequestValidator.instance());
 
+        managementTypeTransformerRegistry.register(new JsonObjectToConnectorBatchDiscoveryRequest());
+        validatorRegistry.register(ConnectorBatchDiscoveryRequest.TYPE, ConnectorBatchDiscoveryRequestValidator.instance(connectorDiscoveryBatchSizeMax));
+
         var connectorDiscoveryController = new ConnectorDiscoveryController(
-                connectorDiscoveryService, managementTypeTransformerRegistry, validatorRegistry, monitor);
+                connectorDiscoveryService, managementTypeTransformerRegistry, validatorRegistry, jsonLd, monitor);
 
         webService.registerResource(ApiContext.MANAGEMENT,
                 new ConnectorDiscoveryV4AlphaController(connectorDiscoveryController, monitor));
@@ -120,9 +208,22 @@ public class ConnectorDiscoveryExtension implements ServiceExtension {
 
     }
 
+    @Override
+    public void shutdown() {
+        if (discoveryExecutor != null) {
+            discoveryExecutor.shutdownNow();
+        }
+    }
+
     @Provider(isDefault = true)
     public ConnectorDiscoveryService defaultConnectorDiscoveryService() {
+        discoveryExecutor = executorInstrumentation.instrument(new ThreadPoolExecutor(connectorDiscoveryThreads, connectorDiscoveryThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(connectorDiscoveryQueueSize)), "Connector discovery");
         return new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, typeManager.getMapper(),
-                new CacheConfig(connectorDiscoveryCacheExpiry, clock), monitor);
+                new CacheConfig(connectorDiscoveryCacheExpiry, clock, connectorDiscoveryCacheSize,
+                        connectorDiscoveryFailureCacheExpiry, connectorDiscoveryFailureCacheMaxExpiry),
+                new ExecutionConfig(discoveryExecutor, connectorDiscoveryEndpointTimeout, connectorDiscoveryRequestDeadline,
+                        connectorDiscoveryBatchConcurrency),
+                monitor);
     }
 }
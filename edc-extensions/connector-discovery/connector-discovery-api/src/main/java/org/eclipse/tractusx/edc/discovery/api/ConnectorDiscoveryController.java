@@ -20,18 +20,30 @@
 
 package org.eclipse.tractusx.edc.discovery.api;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import org.eclipse.tractusx.edc.discovery.exceptions.UnexpectedResultApiException;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_RESULT_CONNECTORS_ATTRIBUTE;
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_RESULT_ERROR_ATTRIBUTE;
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest.CONNECTOR_DISCOVERY_REQUEST_COUNTERPARTYID_ATTRIBUTE;
 
 /**
  * Holds the versioned-independent connector discovery logic. Version specific controllers (e.g. v3, v4alpha)
@@ -39,18 +51,23 @@ import java.util.concurrent.CompletionException;
  */
 public class ConnectorDiscoveryController {
 
+    public static final String NDJSON = "application/x-ndjson";
+
     private final ConnectorDiscoveryService connectorDiscoveryService;
     private final TypeTransformerRegistry transformerRegistry;
     private final JsonObjectValidatorRegistry validator;
+    private final JsonLd jsonLd;
     private final Monitor monitor;
 
     public ConnectorDiscoveryController(ConnectorDiscoveryService connectorDiscoveryService,
                                         TypeTransformerRegistry transformerRegistry,
                                         JsonObjectValidatorRegistry validator,
+                                        JsonLd jsonLd,
                                         Monitor monitor) {
         this.connectorDiscoveryService = connectorDiscoveryService;
         this.transformerRegistry = transformerRegistry;
         this.validator = validator;
+        this.jsonLd = jsonLd;
         this.monitor = monitor;
     }
 
@@ -84,6 +101,51 @@ public class ConnectorDiscoveryController {
                 });
     }
 
+    /**
+     * Starts the discovery of all requested counterparties and immediately resumes the response with an NDJSON stream,
+     * which emits one compacted line per counterparty as soon as its discovery completes.
+     */
+    public void discoverConnectorServicesBatch(JsonObject inputJson, AsyncResponse response) {
+        validator.validate(ConnectorBatchDiscoveryRequest.TYPE, inputJson)
+                .orElseThrow(ValidationFailureException::new);
+
+        var request = transformerRegistry.transform(inputJson, ConnectorBatchDiscoveryRequest.class)
+                .asOptional().orElseThrow(() ->
+                        new UnexpectedResultApiException("Input data could not parsed to proper request object"));
+
+        var results = connectorDiscoveryService.discoverConnectors(request);
+        var completed = new LinkedBlockingQueue<JsonObject>();
+        results.forEach((counterPartyId, result) -> result.whenComplete((connectors, throwable) ->
+                completed.add(toBatchResult(counterPartyId, connectors, throwable))));
+
+        StreamingOutput output = outputStream -> {
+            for (var i = 0; i < results.size(); i++) {
+                try {
+                    outputStream.write((completed.take().toString() + "\n").getBytes(StandardCharsets.UTF_8));
+                    outputStream.flush();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        };
+        response.resume(Response.ok(output, NDJSON).build());
+    }
+
+    private JsonObject toBatchResult(String counterPartyId, JsonArray connectors, Throwable throwable) {
+        var builder = Json.createObjectBuilder()
+                .add(CONNECTOR_DISCOVERY_REQUEST_COUNTERPARTYID_ATTRIBUTE, counterPartyId);
+        if (throwable == null) {
+            builder.add(CONNECTOR_BATCH_DISCOVERY_RESULT_CONNECTORS_ATTRIBUTE, connectors);
+        } else {
+            var realCause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            monitor.warning("Exception thrown during batch connector discovery for %s".formatted(counterPartyId), realCause);
+            builder.add(CONNECTOR_BATCH_DISCOVERY_RESULT_ERROR_ATTRIBUTE, String.valueOf(realCause.getMessage()));
+        }
+        var result = builder.build();
+        return jsonLd.compact(result, "MANAGEMENT_API").orElse(failure -> result);
+    }
+
     private <T> void handleResult(AsyncResponse response, T result, Throwable throwable) {
         if (throwable == null) {
             response.resume(result);
@@ -34,6 +34,8 @@ import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
+import org.eclipse.tractusx.edc.discovery.api.ConnectorDiscoveryController;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
 
@@ -89,6 +91,25 @@ public interface ConnectorDiscoveryV3Api {
             })
     void discoverConnectorServicesV3(JsonObject querySpecJson, @Suspended AsyncResponse response);
 
+    @Operation(description = "Discovers the connectors of many participants at once. Each distinct counterparty id is " +
+            "discovered like in the connector discovery request without known connectors. The result is streamed as " +
+            "newline delimited JSON with one line per counterparty, in the order the discoveries complete.",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(name = "Connector Batch Discovery Request",
+                    implementation = ConnectorBatchDiscoveryRequestSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            description = "One line per counterparty, containing either the found connectors or the reason the discovery failed",
+                            content = @Content(
+                                    mediaType = ConnectorDiscoveryController.NDJSON,
+                                    schema = @Schema(
+                                            name = "Connector Batch Discovery Result",
+                                            implementation = ConnectorBatchDiscoveryResult.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            })
+    void discoverConnectorServicesBatchV3(JsonObject querySpecJson, @Suspended AsyncResponse response);
+
     @Schema(name = "ConnectorParamsDiscoveryRequest",
             description = "Note: In former versions, the property 'counterPartyId' was named 'bpnl', " +
                     "for convenience this value is still allowed",
@@ -162,4 +183,40 @@ public interface ConnectorDiscoveryV3Api {
                 }
                 """;
     }
+
+    @Schema(name = "ConnectorBatchDiscoveryRequestSchema", example = ConnectorBatchDiscoveryRequestSchema.EXAMPLE)
+    record ConnectorBatchDiscoveryRequestSchema(
+            @Schema(name = CONTEXT, requiredMode = REQUIRED)
+            Object context,
+            @Schema(name = JsonLdKeywords.TYPE, example = ConnectorBatchDiscoveryRequest.TYPE)
+            String type,
+            @Schema(requiredMode = REQUIRED)
+            String[] counterPartyIds
+    ) {
+        public static final String EXAMPLE = """
+                {
+                    "@context": {
+                        "tx": "https://w3id.org/tractusx/v0.0.1/ns/"
+                    },
+                    "@type": "tx:ConnectorBatchDiscoveryRequest",
+                    "tx:counterPartyIds": [
+                        "did:web:one-example.com",
+                        "did:web:another-example.com"
+                    ]
+                }
+                """;
+    }
+
+    @Schema(name = "ConnectorBatchDiscoveryResult", example = ConnectorBatchDiscoveryResult.EXAMPLE)
+    record ConnectorBatchDiscoveryResult(
+            Object context,
+            String counterPartyId,
+            ConnectorParamsDiscoveryResponse[] connectors,
+            String error
+    ) {
+        public static final String EXAMPLE = """
+                {"@context":{"edc":"https://w3id.org/edc/v0.0.1/ns/","tx":"https://w3id.org/tractusx/v0.0.1/ns/"},"edc:counterPartyId":"did:web:one-example.com","tx:connectors":[{"edc:counterPartyId":"did:web:one-example.com","edc:counterPartyAddress":"https://provider.domain.com/api/dsp/2025-1","edc:protocol":"dataspace-protocol-http:2025-1"}]}
+                {"@context":{"edc":"https://w3id.org/edc/v0.0.1/ns/","tx":"https://w3id.org/tractusx/v0.0.1/ns/"},"edc:counterPartyId":"did:web:another-example.com","tx:error":"No connector endpoints found for counterPartyId did:web:another-example.com"}
+                """;
+    }
 }
@@ -55,5 +55,13 @@ public class ConnectorDiscoveryV3Controller implements ConnectorDiscoveryV3Api {
     public void discoverConnectorServicesV3(JsonObject inputJson, @Suspended AsyncResponse response) {
         delegate.discoverConnectorServices(inputJson, response);
     }
+
+    @Path("/connectors/batch")
+    @POST
+    @Produces(ConnectorDiscoveryController.NDJSON)
+    @Override
+    public void discoverConnectorServicesBatchV3(JsonObject inputJson, @Suspended AsyncResponse response) {
+        delegate.discoverConnectorServicesBatch(inputJson, response);
+    }
 }
 
@@ -43,19 +43,33 @@ import org.eclipse.edc.web.spi.exception.BadGatewayException;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.tractusx.edc.discovery.exceptions.UnexpectedResultApiException;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Clock;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
@@ -67,7 +81,6 @@ import static java.util.stream.Collectors.joining;
  * metadata for a connector and to transform them into the parameters needed for the management api.
  */
 public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDiscoveryService {
-    private static final int CACHE_SIZE = 200;
     private static final String DSP_DISCOVERY_PATH = ".well-known/dspace-version";
     private static final String DATA_SERVICE = "DataService";
     protected static final String DID_PREFIX = "did:";
@@ -76,8 +89,14 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
     private final DidResolverRegistry didResolver;
     private final ObjectMapper mapper;
     private final long cacheValidity;
+    private final long failureValidity;
+    private final long maxFailureValidity;
     private final Clock clock;
     private final Monitor monitor;
+    private final Executor executor;
+    private final long endpointTimeout;
+    private final long requestDeadline;
+    private final int batchConcurrency;
 
     /*
      * An ordered list of prioritized versions supported by this connector. This is a field set by a derived service
@@ -87,6 +106,13 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
     private final List<String> supportedVersions;
 
     private final ConcurrentLruCache<String, TimestampedValue<ProtocolVersion>> versionsCache;
+    private final ConcurrentLruCache<String, FailedLookup> failuresCache;
+    private final Map<String, CompletableFuture<ProtocolVersion>> inFlightLookups = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong failureCacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong coalescedLookups = new AtomicLong();
 
     /**
      * All instantiable services will derive from this base class, so the constructor is protected.
@@ -107,22 +133,52 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
             List<String> supportedVersions,
             CacheConfig cacheConfig,
             Monitor monitor) {
+        this(httpClient, didResolver, mapper, supportedVersions, cacheConfig, new ExecutionConfig(ForkJoinPool.commonPool()), monitor);
+    }
+
+    /**
+     * Same as above, but with a dedicated executor for the blocking DID resolution and custom timeouts.
+     *
+     * @param httpClient        The HTTP client service to execute requests
+     * @param didResolver       The DID Document download service
+     * @param mapper            The mapper to create read JSON response data into an object
+     * @param supportedVersions A list of versions, this connector supports, ordered from latest to oldest
+     * @param cacheConfig       Some cache configuration parameters
+     * @param executionConfig   The executor and timeouts of a discovery
+     * @param monitor           Required to log information for informing operations about events
+     */
+    protected BaseConnectorDiscoveryServiceImpl(
+            EdcHttpClient httpClient,
+            DidResolverRegistry didResolver,
+            ObjectMapper mapper,
+            List<String> supportedVersions,
+            CacheConfig cacheConfig,
+            ExecutionConfig executionConfig,
+            Monitor monitor) {
         this.httpClient = httpClient;
         this.didResolver = didResolver;
         this.mapper = mapper;
         this.supportedVersions = supportedVersions;
         this.cacheValidity = cacheConfig.cacheValidity();
+        this.failureValidity = cacheConfig.failureValidity();
+        this.maxFailureValidity = cacheConfig.maxFailureValidity();
         this.clock = cacheConfig.clock();
         this.monitor = monitor;
+        this.executor = executionConfig.executor();
+        this.endpointTimeout = executionConfig.endpointTimeout();
+        this.requestDeadline = executionConfig.requestDeadline();
+        this.batchConcurrency = executionConfig.batchConcurrency();
 
-        versionsCache = new ConcurrentLruCache<>(CACHE_SIZE);
+        versionsCache = new ConcurrentLruCache<>(cacheConfig.cacheSize());
+        failuresCache = new ConcurrentLruCache<>(cacheConfig.cacheSize());
     }
 
     /*
      * Implementation of the public service api for requesting version parameters from the counterparty connector
      *
      * It uses a cache to not call the counterparty all the time, if called, it parses the returned data into the
-     * expected result body.
+     * expected result body. Concurrent lookups of the same endpoint share a single call, and failed lookups are
+     * reused for a short, growing time, so that an unreachable endpoint is not called by every discovery.
      */
     @Override
     public CompletableFuture<JsonObject> discoverVersionParams(ConnectorParamsDiscoveryRequest request) {
@@ -136,10 +192,91 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
             if (cacheEntry.isExpired(clock)) { // lazy evict expired values
                 versionsCache.remove(versionEndpoint);
             } else {
+                cacheHits.incrementAndGet();
                 return CompletableFuture.completedFuture(createResultObjectFromProtocolVersionData(request, cacheEntry.value()));
             }
         }
 
+        return lookupProtocolVersion(versionEndpoint)
+                .thenApply(protocolVersion -> createResultObjectFromProtocolVersionData(request, protocolVersion));
+    }
+
+    /**
+     * Statistics of the version lookup cache since the service was created.
+     *
+     * @return The current counters of the version lookup cache
+     */
+    public CacheStatistics cacheStatistics() {
+        return new CacheStatistics(cacheHits.get(), failureCacheHits.get(), cacheMisses.get(), coalescedLookups.get());
+    }
+
+    /**
+     * Counters of the version lookup cache.
+     *
+     * @param hits          Lookups answered by a cached protocol version
+     * @param failureHits   Lookups answered by a cached failure, without calling the endpoint
+     * @param misses        Lookups that called the version metadata endpoint
+     * @param coalesced     Lookups that joined a call to the same endpoint already in flight
+     */
+    public record CacheStatistics(long hits, long failureHits, long misses, long coalesced) {
+    }
+
+    /*
+     * Returns the protocol version of the endpoint, either from the failure cache, from a call to the same endpoint
+     * that is already in flight or from a new call.
+     */
+    private CompletableFuture<ProtocolVersion> lookupProtocolVersion(String versionEndpoint) {
+        var failure = failuresCache.get(versionEndpoint);
+        if (failure != null && clock.millis() < failure.retryAt()) {
+            failureCacheHits.incrementAndGet();
+            return CompletableFuture.failedFuture(failure.cause());
+        }
+
+        var lookup = new CompletableFuture<ProtocolVersion>();
+        var running = inFlightLookups.putIfAbsent(versionEndpoint, lookup);
+        if (running != null) {
+            coalescedLookups.incrementAndGet();
+            return running;
+        }
+
+        cacheMisses.incrementAndGet();
+        fetchProtocolVersion(versionEndpoint).whenComplete((protocolVersion, throwable) -> {
+            if (throwable == null) {
+                versionsCache.put(versionEndpoint, new TimestampedValue<>(protocolVersion, cacheValidity));
+                failuresCache.remove(versionEndpoint);
+            } else {
+                cacheFailure(versionEndpoint, failure, throwable);
+            }
+            inFlightLookups.remove(versionEndpoint, lookup);
+            monitor.debug(() -> "Looked up protocol versions of %s, version cache: %s".formatted(versionEndpoint, cacheStatistics()));
+            if (throwable == null) {
+                lookup.complete(protocolVersion);
+            } else {
+                lookup.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ?
+                        throwable.getCause() : throwable);
+            }
+        });
+        return lookup;
+    }
+
+    /*
+     * Remembers a failed lookup. Every consecutive failure of the same endpoint doubles the time until it is called
+     * again, up to the configured maximum.
+     */
+    private void cacheFailure(String versionEndpoint, FailedLookup previous, Throwable throwable) {
+        if (failureValidity <= 0) {
+            return;
+        }
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        var failures = previous == null ? 1 : previous.failures() + 1;
+        var backoff = Math.min(maxFailureValidity, failureValidity << Math.min(failures - 1, 20));
+        failuresCache.put(versionEndpoint, new FailedLookup(cause, failures, clock.millis() + backoff));
+    }
+
+    /*
+     * Calls the version metadata endpoint and extracts the latest protocol version supported by both connectors.
+     */
+    private CompletableFuture<ProtocolVersion> fetchProtocolVersion(String versionEndpoint) {
         var wellKnownRequest = new Request.Builder()
                 .url(versionEndpoint)
                 .get()
@@ -154,22 +291,17 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
                         throw new BadGatewayException(msg);
                     }
                     try (response) {
-                        ProtocolVersion protocolVersion;
                         if (response.isSuccessful()) {
-                            protocolVersion = extractLatestSupportedVersion(parseResponseBody(response));
-                        } else {
-                            protocolVersion = handleSpecialStatusCode(response);
-                            if (protocolVersion == null) {
-                                var msg = "Counterparty well-known endpoint has failed with status %s and message: %s"
-                                        .formatted(response.code(), response.message());
-                                monitor.warning(msg);
-                                throw new BadGatewayException(msg);
-                            }
+                            return extractLatestSupportedVersion(parseResponseBody(response));
                         }
-
-                        var resultObject = createResultObjectFromProtocolVersionData(request, protocolVersion);
-                        versionsCache.put(versionEndpoint, new TimestampedValue<>(protocolVersion, cacheValidity));
-                        return resultObject;
+                        var protocolVersion = handleSpecialStatusCode(response);
+                        if (protocolVersion == null) {
+                            var msg = "Counterparty well-known endpoint has failed with status %s and message: %s"
+                                    .formatted(response.code(), response.message());
+                            monitor.warning(msg);
+                            throw new BadGatewayException(msg);
+                        }
+                        return protocolVersion;
                     }
                 });
     }
@@ -342,7 +474,9 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
      *
      * Reads the DID documents service entries uses the endpoint information, add the known endpoints and retrieve
      * the version metadata for each. All is done asynchronously, so that the requests for version metadata on
-     * different connectors is done in parallel.
+     * different connectors is done in parallel and no thread waits for them. Only the DID resolution, which is
+     * blocking, runs on the configured executor. Once the request deadline has passed, the endpoints resolved so far
+     * are returned instead of waiting for the slowest one.
      */
     @Override
     public CompletableFuture<JsonArray> discoverConnectors(ConnectorDiscoveryRequest request) {
@@ -353,29 +487,113 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
         if (request.knownConnectors() == null) {
             throw new UnexpectedResultApiException("Null not allowed for knownConnector collection");
         }
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(requestDeadline);
         return discoverConnectorsFromDidDocument(request.counterPartyId())
-                .thenApply(serviceEndpoints -> {
+                .thenCompose(serviceEndpoints -> {
                     var allEndpoints = Stream.concat(
                                     serviceEndpoints.stream(),
                                     request.knownConnectors().stream())
                             .distinct()
                             .toList();
-                    return resolveVersionEndpoints(request.counterPartyId(), allEndpoints);
+                    return resolveVersionEndpoints(request.counterPartyId(), allEndpoints, deadline);
                 });
     }
 
+    /*
+     * Implementation of the public service api method.
+     *
+     * Each distinct counterparty is discovered like a single request, but at most 'batchConcurrency' of them at the
+     * same time, so that a large batch neither floods the DID resolution executor nor the counterparties. As all
+     * discoveries share the version cache and coalesce concurrent lookups of the same endpoint, every endpoint is
+     * queried at most once per batch.
+     */
+    @Override
+    public Map<String, CompletableFuture<JsonArray>> discoverConnectors(ConnectorBatchDiscoveryRequest request) {
+        var results = new LinkedHashMap<String, CompletableFuture<JsonArray>>();
+        request.counterPartyIds().forEach(counterPartyId -> results.putIfAbsent(counterPartyId, new CompletableFuture<>()));
+
+        var pending = new ConcurrentLinkedQueue<>(results.entrySet());
+        for (int i = 0; i < Math.min(batchConcurrency, results.size()); i++) {
+            discoverNextOfBatch(pending);
+        }
+        return results;
+    }
+
+    /*
+     * Start the discovery of the next pending counterparty of a batch, which starts the following one once completed.
+     * Discoveries failing immediately, e.g. for an invalid counterparty id, do not occupy a slot.
+     */
+    private void discoverNextOfBatch(Queue<Map.Entry<String, CompletableFuture<JsonArray>>> pending) {
+        Map.Entry<String, CompletableFuture<JsonArray>> next;
+        while ((next = pending.poll()) != null) {
+            var result = next.getValue();
+            var discovery = discoverConnectorsSafely(next.getKey());
+            if (discovery.isDone()) {
+                forward(discovery, result);
+            } else {
+                discovery.whenComplete((r, t) -> {
+                    forward(discovery, result);
+                    discoverNextOfBatch(pending);
+                });
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<JsonArray> discoverConnectorsSafely(String counterPartyId) {
+        try {
+            return discoverConnectors(new ConnectorDiscoveryRequest(counterPartyId, emptyList()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void forward(CompletableFuture<JsonArray> discovery, CompletableFuture<JsonArray> result) {
+        discovery.whenComplete((r, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(r);
+            }
+        });
+    }
+
     /*
      * Read the DID document and extract the 'DataService entries in the service section, extract the endpoint
      * information, as everything else is of no concern.
      */
     private CompletableFuture<Collection<String>> discoverConnectorsFromDidDocument(String did) {
-        return CompletableFuture.supplyAsync(() -> {
-            var didDocument = readDidDocument(did);
-            return didDocument.getService().stream()
+        return readServiceEndpointsAsync(did)
+                .orTimeout(requestDeadline, TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    if (cause instanceof TimeoutException) {
+                        var msg = "The did document of %s could not be resolved within %d ms".formatted(did, requestDeadline);
+                        monitor.warning(msg);
+                        throw new BadGatewayException(msg);
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        var msg = "The did document of %s could not be resolved, too many discoveries are in progress".formatted(did);
+                        monitor.warning(msg);
+                        throw new BadGatewayException(msg);
+                    }
+                    throw throwable instanceof CompletionException completionException ? completionException : new CompletionException(cause);
+                });
+    }
+
+    /*
+     * Runs the blocking DID resolution on the executor. A saturated executor rejects the task synchronously, which is
+     * turned into a failed future, so that it is reported like a timeout.
+     */
+    private CompletableFuture<Collection<String>> readServiceEndpointsAsync(String did) {
+        try {
+            return CompletableFuture.supplyAsync(() -> readDidDocument(did).getService().stream()
                     .filter(entry -> DATA_SERVICE.equals(entry.getType()))
                     .map(Service::getServiceEndpoint)
-                    .toList();
-        });
+                    .toList(), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /*
@@ -393,36 +611,70 @@ public abstract class BaseConnectorDiscoveryServiceImpl implements ConnectorDisc
 
     /*
      * Resolve version metadata for each detected connector asynchronously and add the result to the return array.
-     * Failing endpoints will simply be ignored. There is only an error, if no data is found.
+     * Failing endpoints, endpoints not answering within the endpoint timeout and endpoints still pending at the
+     * request deadline will simply be ignored. There is only an error, if no data is found.
      */
-    private JsonArray resolveVersionEndpoints(String counterPartyId, List<String> endpoints) {
-        var resultObjects = new ConcurrentLinkedQueue<JsonObject>();
+    private CompletableFuture<JsonArray> resolveVersionEndpoints(String counterPartyId, List<String> endpoints, long deadline) {
+        var resultObjects = new AtomicReferenceArray<JsonObject>(endpoints.size());
         var discoveryCalls = new CompletableFuture[endpoints.size()];
 
         for (int i = 0; i < endpoints.size(); i++) {
-            var endpoint = endpoints.get(i);
-            discoveryCalls[i] = discoverVersionParams(new ConnectorParamsDiscoveryRequest(counterPartyId, endpoint))
+            var index = i;
+            discoveryCalls[i] = discoverVersionParamsSafely(new ConnectorParamsDiscoveryRequest(counterPartyId, endpoints.get(i)))
+                    .orTimeout(endpointTimeout, TimeUnit.MILLISECONDS)
                     .handle((result, throwable) -> {
                         if (throwable != null) {
                             monitor.severe("Exception during connector discovery, omit endpoint result", throwable);
                         } else {
-                            resultObjects.add(result);
+                            resultObjects.set(index, result);
                         }
                         return null;
                     });
         }
 
-        CompletableFuture.allOf(discoveryCalls).join();
+        var remaining = Math.max(0, deadline - System.nanoTime());
+        return CompletableFuture.allOf(discoveryCalls)
+                .completeOnTimeout(null, remaining, TimeUnit.NANOSECONDS)
+                .thenApply(v -> {
+                    var returnArrayBuilder = Json.createArrayBuilder();
+                    var pending = 0;
+                    for (int i = 0; i < endpoints.size(); i++) {
+                        var result = resultObjects.get(i);
+                        if (result != null) {
+                            returnArrayBuilder.add(result);
+                        } else if (!discoveryCalls[i].isDone()) {
+                            pending++;
+                        }
+                    }
+                    if (pending > 0) {
+                        monitor.warning("Connector discovery for %s reached its deadline, omitting %d pending endpoints"
+                                .formatted(counterPartyId, pending));
+                    }
+                    var returnArray = returnArrayBuilder.build();
+                    if (returnArray.isEmpty()) {
+                        throw new InvalidRequestException("No connector endpoints found for counterPartyId %s".formatted(counterPartyId));
+                    }
+                    return returnArray;
+                });
+    }
 
-        var returnArrayBuilder = Json.createArrayBuilder();
-        for (var result : resultObjects) {
-            returnArrayBuilder.add(result);
-        }
-        var returnArray = returnArrayBuilder.build();
-        if (returnArray.isEmpty()) {
-            throw new InvalidRequestException("No connector endpoints found for counterPartyId %s".formatted(counterPartyId));
+    /*
+     * Turns an exception thrown while starting a version lookup, e.g. for a malformed endpoint url, into a failed
+     * lookup, so that it is omitted like any other failing endpoint.
+     */
+    private CompletableFuture<JsonObject> discoverVersionParamsSafely(ConnectorParamsDiscoveryRequest request) {
+        try {
+            return discoverVersionParams(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return returnArray;
+    }
+
+    /*
+     * A failed lookup of a version metadata endpoint, the number of consecutive failures and the time in milliseconds
+     * from which the endpoint is called again.
+     */
+    private record FailedLookup(Throwable cause, int failures, long retryAt) {
     }
 
     private void stringNotEmpty(String input) {
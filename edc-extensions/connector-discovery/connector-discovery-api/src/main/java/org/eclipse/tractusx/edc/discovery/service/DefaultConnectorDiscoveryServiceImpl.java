@@ -29,6 +29,7 @@ import org.eclipse.edc.protocol.spi.ProtocolVersion;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
 
 import java.util.List;
 
@@ -43,6 +44,16 @@ public class DefaultConnectorDiscoveryServiceImpl extends BaseConnectorDiscovery
         super(httpClient, didResolver, mapper, List.of(Dsp2025Constants.V_2025_1_VERSION), cacheConfig, monitor);
     }
 
+    public DefaultConnectorDiscoveryServiceImpl(
+            EdcHttpClient httpClient,
+            DidResolverRegistry didResolver,
+            ObjectMapper mapper,
+            CacheConfig cacheConfig,
+            ExecutionConfig executionConfig,
+            Monitor monitor) {
+        super(httpClient, didResolver, mapper, List.of(Dsp2025Constants.V_2025_1_VERSION), cacheConfig, executionConfig, monitor);
+    }
+
     @Override
     protected ProtocolVersion handleSpecialStatusCode(Response response) {
         return null;
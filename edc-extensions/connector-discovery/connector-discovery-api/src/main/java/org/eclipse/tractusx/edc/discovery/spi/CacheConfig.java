@@ -21,5 +21,23 @@ package org.eclipse.tractusx.edc.discovery.spi;
 
 import java.time.Clock;
 
-public record CacheConfig(long cacheValidity, Clock clock) {
+/**
+ * Cache parameters of the connector discovery version lookups.
+ *
+ * @param cacheValidity          Time in milliseconds a successfully discovered protocol version is reused
+ * @param clock                  Clock used to expire cached entries
+ * @param cacheSize              Maximum number of cached endpoints, for successful and failed lookups each
+ * @param failureValidity        Time in milliseconds a failed lookup is reused before the endpoint is called again,
+ *                               doubled with every consecutive failure. 0 disables caching of failures
+ * @param maxFailureValidity     Upper bound in milliseconds for the time a failed lookup is reused
+ */
+public record CacheConfig(long cacheValidity, Clock clock, int cacheSize, long failureValidity, long maxFailureValidity) {
+
+    public static final int DEFAULT_CACHE_SIZE = 200;
+    public static final long DEFAULT_FAILURE_VALIDITY = 30_000;
+    public static final long DEFAULT_MAX_FAILURE_VALIDITY = 300_000;
+
+    public CacheConfig(long cacheValidity, Clock clock) {
+        this(cacheValidity, clock, DEFAULT_CACHE_SIZE, DEFAULT_FAILURE_VALIDITY, DEFAULT_MAX_FAILURE_VALIDITY);
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.discovery.spi;
+
+import java.util.Collection;
+
+import static org.eclipse.tractusx.edc.edr.spi.CoreConstants.TX_NAMESPACE;
+
+/**
+ * Request object for the batch connector discovery, requesting the connector endpoints of many participants at once.
+ *
+ * @param counterPartyIds The identifiers of the participants whose connector endpoints are requested, typically DIDs.
+ */
+public record ConnectorBatchDiscoveryRequest(Collection<String> counterPartyIds) {
+    public static final String TYPE = TX_NAMESPACE + "ConnectorBatchDiscoveryRequest";
+    public static final String CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE = TX_NAMESPACE + "counterPartyIds";
+    public static final String CONNECTOR_BATCH_DISCOVERY_RESULT_CONNECTORS_ATTRIBUTE = TX_NAMESPACE + "connectors";
+    public static final String CONNECTOR_BATCH_DISCOVERY_RESULT_ERROR_ATTRIBUTE = TX_NAMESPACE + "error";
+}
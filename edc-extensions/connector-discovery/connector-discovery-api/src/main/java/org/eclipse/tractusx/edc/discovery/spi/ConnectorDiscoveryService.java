@@ -23,6 +23,9 @@ package org.eclipse.tractusx.edc.discovery.spi;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -74,4 +77,21 @@ public interface ConnectorDiscoveryService {
      *                          selection of a status code for the request.
      */
     CompletableFuture<JsonArray> discoverConnectors(ConnectorDiscoveryRequest request);
+
+    /**
+     * Discovers the connectors of many counterparties at once. Each distinct counterparty id is discovered only once,
+     * as if requested by {@link #discoverConnectors(ConnectorDiscoveryRequest)} without known connectors.
+     * <p>
+     * The returned futures complete independently, so that callers can forward the result of each counterparty as
+     * soon as it is available. A failed future carries the same exceptions as the single discovery.
+     *
+     * @param request The batch discovery request containing the counterparty ids (e.g., the DIDs).
+     * @return A future for each distinct counterparty id, in the order of the request.
+     */
+    default Map<String, CompletableFuture<JsonArray>> discoverConnectors(ConnectorBatchDiscoveryRequest request) {
+        var results = new LinkedHashMap<String, CompletableFuture<JsonArray>>();
+        request.counterPartyIds().forEach(counterPartyId -> results.computeIfAbsent(counterPartyId,
+                id -> discoverConnectors(new ConnectorDiscoveryRequest(id, List.of()))));
+        return results;
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.discovery.spi;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Execution parameters of the connector discovery.
+ *
+ * @param executor           Executor running the blocking parts of a discovery, i.e. the DID resolution
+ * @param endpointTimeout    Time in milliseconds after which the version lookup of a single endpoint is abandoned
+ * @param requestDeadline    Time in milliseconds after which a connector discovery returns the endpoints found so far
+ * @param batchConcurrency   Maximum number of counterparties of a batch discovery that are discovered concurrently
+ */
+public record ExecutionConfig(Executor executor, long endpointTimeout, long requestDeadline, int batchConcurrency) {
+
+    public static final long DEFAULT_ENDPOINT_TIMEOUT = 10_000;
+    public static final long DEFAULT_REQUEST_DEADLINE = 30_000;
+    public static final int DEFAULT_BATCH_CONCURRENCY = 16;
+
+    public ExecutionConfig(Executor executor) {
+        this(executor, DEFAULT_ENDPOINT_TIMEOUT, DEFAULT_REQUEST_DEADLINE);
+    }
+
+    public ExecutionConfig(Executor executor, long endpointTimeout, long requestDeadline) {
+        this(executor, endpointTimeout, requestDeadline, DEFAULT_BATCH_CONCURRENCY);
+    }
+}
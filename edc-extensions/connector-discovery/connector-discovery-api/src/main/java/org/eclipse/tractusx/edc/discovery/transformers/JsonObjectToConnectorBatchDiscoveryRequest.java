@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.edc.discovery.transformers;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE;
+
+public class JsonObjectToConnectorBatchDiscoveryRequest extends
+        AbstractJsonLdTransformer<JsonObject, ConnectorBatchDiscoveryRequest> {
+
+    public JsonObjectToConnectorBatchDiscoveryRequest() {
+        super(JsonObject.class, ConnectorBatchDiscoveryRequest.class);
+    }
+
+    @Override
+    public @Nullable ConnectorBatchDiscoveryRequest transform(@NotNull JsonObject jsonObject,
+                                                              @NotNull TransformerContext transformerContext) {
+        var counterPartyIds = jsonObject.get(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE);
+
+        if (counterPartyIds == null || counterPartyIds.getValueType() != JsonValue.ValueType.ARRAY) {
+            transformerContext.reportProblem("Missing required attribute in ConnectorBatchDiscoveryRequest: %s"
+                    .formatted(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE));
+            return null;
+        }
+
+        var ids = counterPartyIds.asJsonArray().stream()
+                .map(value -> transformString(value, transformerContext))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new ConnectorBatchDiscoveryRequest(ids);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.discovery.validators;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.validator.jsonobject.JsonLdPath;
+import org.eclipse.edc.validator.jsonobject.JsonObjectValidator;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
+
+import java.util.ArrayList;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE;
+
+/**
+ * Validator for the 'ConnectorBatchDiscoveryRequest' as defined in the connector discovery api.
+ * <p>
+ * The validator checks that the mandatory 'counterPartyIds' field contains a non-empty array of strings, not exceeding
+ * the maximum batch size.
+ */
+public class ConnectorBatchDiscoveryRequestValidator {
+    public static Validator<JsonObject> instance(int maxBatchSize) {
+        return JsonObjectValidator.newValidator()
+                .verify(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, path -> new CounterPartyIdsValidator(path, maxBatchSize))
+                .build();
+    }
+
+    private ConnectorBatchDiscoveryRequestValidator() {}
+
+    private static class CounterPartyIdsValidator implements Validator<JsonObject> {
+        private final JsonLdPath path;
+        private final int maxBatchSize;
+
+        CounterPartyIdsValidator(JsonLdPath path, int maxBatchSize) {
+            this.path = path;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var provided = input.get(path.last());
+            if (provided == null || provided.getValueType() != JsonValue.ValueType.ARRAY || provided.asJsonArray().isEmpty()) {
+                return ValidationResult.failure(violation("mandatory array '%s' is missing or empty"
+                        .formatted(path.last()), path.toString()));
+            }
+
+            var providedObject = provided.asJsonArray();
+            var issues = new ArrayList<Violation>();
+            if (providedObject.size() > maxBatchSize) {
+                issues.add(violation("at most %d counterparty ids are allowed per batch, got %d"
+                        .formatted(maxBatchSize, providedObject.size()), path.toString()));
+            }
+            for (JsonValue value : providedObject) {
+                if (!isString(value)) {
+                    issues.add(violation("value '%s' is not of type STRING, it is of type %s"
+                            .formatted(value.toString(), value.getValueType()), path.toString()));
+                }
+            }
+
+            if (!issues.isEmpty()) {
+                return ValidationResult.failure(issues);
+            }
+
+            return ValidationResult.success();
+        }
+
+        private boolean isString(JsonValue value) {
+            if (value instanceof JsonObject object) {
+                return object.get(VALUE) instanceof JsonString;
+            }
+            return value instanceof JsonString;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.discovery;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.tractusx.edc.discovery.validators.ConnectorBatchDiscoveryRequestValidator;
+import org.junit.jupiter.api.Test;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE;
+
+class ConnectorBatchDiscoveryRequestValidatorTest {
+
+    private final Validator<JsonObject> validator = ConnectorBatchDiscoveryRequestValidator.instance(2);
+
+    @Test
+    void shouldSucceed_whenRequestContainsIds() {
+        var validRequest = createObjectBuilder()
+                .add(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, createArrayBuilder()
+                        .add("did:web:one.example.com")
+                        .add(value("did:web:two.example.com")))
+                .build();
+
+        var result = validator.validate(validRequest);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenIdsAreMissing() {
+        var invalidRequest = createObjectBuilder().build();
+
+        var result = validator.validate(invalidRequest);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldFail_whenIdsAreEmpty() {
+        var invalidRequest = createObjectBuilder()
+                .add(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, createArrayBuilder())
+                .build();
+
+        var result = validator.validate(invalidRequest);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldFail_whenBatchIsTooLarge() {
+        var invalidRequest = createObjectBuilder()
+                .add(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, createArrayBuilder()
+                        .add("did:web:one.example.com")
+                        .add("did:web:two.example.com")
+                        .add("did:web:three.example.com"))
+                .build();
+
+        var result = validator.validate(invalidRequest);
+
+        assertThat(result).isFailed();
+        assertThat(result.getFailureDetail()).contains("at most 2 counterparty ids");
+    }
+
+    @Test
+    void shouldFail_whenIdsContainNonStrings() {
+        var invalidRequest = createObjectBuilder()
+                .add(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, createArrayBuilder()
+                        .add(3)
+                        .add(createObjectBuilder().add("key", "value")))
+                .build();
+
+        var result = validator.validate(invalidRequest);
+
+        assertThat(result).isFailed();
+        assertThat(result.getFailureDetail()).contains("3").contains("key");
+    }
+
+    private JsonObject value(String value) {
+        return createObjectBuilder().add(VALUE, value).build();
+    }
+}
@@ -21,24 +21,37 @@
 package org.eclipse.tractusx.edc.discovery;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Violation;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import org.eclipse.tractusx.edc.discovery.api.ConnectorDiscoveryController;
 import org.eclipse.tractusx.edc.discovery.exceptions.UnexpectedResultApiException;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,9 +66,10 @@ class ConnectorDiscoveryControllerTest {
     private final JsonObjectValidatorRegistry validator = mock();
     private final Monitor monitor = mock();
     private final AsyncResponse response = mock();
+    private final JsonLd jsonLd = mock();
 
     private final ConnectorDiscoveryController controller =
-            new ConnectorDiscoveryController(connectorService, transformerRegistry, validator, monitor);
+            new ConnectorDiscoveryController(connectorService, transformerRegistry, validator, jsonLd, monitor);
 
     @Test
     void discoverDspVersionParams_shouldResumeWithResult_whenServiceSucceeds() {
@@ -169,7 +183,34 @@ class ConnectorDiscoveryControllerTest {
         assertThatThrownBy(() -> controller.discoverConnectorServices(input, response))
                 .isInstanceOf(UnexpectedResultApiException.class);
     }
-}
-
-
 
+    @Test
+    void discoverConnectorServicesBatch_shouldStreamOneLinePerCounterParty() throws IOException {
+        var input = Json.createObjectBuilder().build();
+        var connectors = Json.createArrayBuilder().add(Json.createObjectBuilder()
+                        .add("counterPartyAddress", "https://example.com/api/v1/dsp/2025-1"))
+                .build();
+        var discoveryRequest = new ConnectorBatchDiscoveryRequest(List.of("did:web:one", "did:web:two"));
+        var results = new LinkedHashMap<String, CompletableFuture<JsonArray>>();
+        results.put("did:web:one", CompletableFuture.completedFuture(connectors));
+        results.put("did:web:two", CompletableFuture.failedFuture(new InvalidRequestException("no connectors")));
+
+        when(validator.validate(ConnectorBatchDiscoveryRequest.TYPE, input)).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(input, ConnectorBatchDiscoveryRequest.class)).thenReturn(Result.success(discoveryRequest));
+        when(connectorService.discoverConnectors(discoveryRequest)).thenReturn(results);
+        when(jsonLd.compact(any(JsonObject.class), any())).thenAnswer(i -> Result.success(i.getArgument(0)));
+
+        controller.discoverConnectorServicesBatch(input, response);
+
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(response).resume(captor.capture());
+        assertThat(captor.getValue().getMediaType().toString()).isEqualTo(ConnectorDiscoveryController.NDJSON);
+        var outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) captor.getValue().getEntity()).write(outputStream);
+        var lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("did:web:one").contains("connectors"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("did:web:two").contains("no connectors"));
+        verify(monitor).warning(eq("Exception thrown during batch connector discovery for did:web:two"), any(Throwable.class));
+    }
+}
@@ -37,11 +37,14 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.spi.exception.BadGatewayException;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.tractusx.edc.discovery.exceptions.UnexpectedResultApiException;
+import org.eclipse.tractusx.edc.discovery.service.BaseConnectorDiscoveryServiceImpl;
 import org.eclipse.tractusx.edc.discovery.service.DefaultConnectorDiscoveryServiceImpl;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
+import org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorParamsDiscoveryRequest;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -51,9 +54,13 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.io.IOException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
@@ -64,11 +71,13 @@ import static org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequest.
 import static org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequest.CATALOG_REQUEST_PROTOCOL;
 import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class DefaultConnectorDiscoveryServiceImplTest {
@@ -162,6 +171,54 @@ public class DefaultConnectorDiscoveryServiceImplTest {
         verify(httpClient, times(2)).executeAsync(any(), any());
     }
 
+    @Test
+    void discoverVersionParams_shouldShareCall_whenSameEndpointIsRequestedConcurrently() {
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper, new CacheConfig(1000, clock), monitor);
+        var pending = new CompletableFuture<okhttp3.Response>();
+        when(httpClient.executeAsync(any(), any())).thenReturn(pending);
+
+        var first = service.discoverVersionParams(new ConnectorParamsDiscoveryRequest(TEST_DID, TEST_ADDRESS));
+        var second = service.discoverVersionParams(new ConnectorParamsDiscoveryRequest(TEST_DID, TEST_ADDRESS));
+        pending.complete(dummyResponseBuilder(STANDARD_VERSION_METADATA.toString()).build());
+
+        assertThat(first.join()).isEqualTo(second.join());
+        verify(httpClient, times(1)).executeAsync(any(), any());
+        assertThat(service.cacheStatistics()).isEqualTo(new BaseConnectorDiscoveryServiceImpl.CacheStatistics(0, 0, 1, 1));
+        verify(monitor).debug(argThat((Supplier<String> message) -> message.get().contains(service.cacheStatistics().toString())));
+    }
+
+    @Test
+    void discoverVersionParams_shouldCacheFailure_withGrowingBackoff() {
+        Clock testClock = mock();
+        when(testClock.millis()).thenReturn(0L);
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper,
+                new CacheConfig(1000, testClock, 10, 100, 150), monitor);
+        var paramsDiscoveryRequest = new ConnectorParamsDiscoveryRequest(TEST_DID, TEST_ADDRESS);
+        when(httpClient.executeAsync(any(), any()))
+                .thenAnswer(i -> CompletableFuture.completedFuture(dummyResponseBuilder(500, "", "Server Error").build()));
+
+        assertThatThrownBy(() -> service.discoverVersionParams(paramsDiscoveryRequest).join())
+                .hasCauseInstanceOf(BadGatewayException.class);
+        assertThatThrownBy(() -> service.discoverVersionParams(paramsDiscoveryRequest).join())
+                .hasCauseInstanceOf(BadGatewayException.class)
+                .hasMessageContaining("500");
+        verify(httpClient, times(1)).executeAsync(any(), any());
+
+        when(testClock.millis()).thenReturn(100L);
+        assertThatThrownBy(() -> service.discoverVersionParams(paramsDiscoveryRequest).join());
+        verify(httpClient, times(2)).executeAsync(any(), any());
+
+        // the second failure is kept for twice as long, capped at the maximum
+        when(testClock.millis()).thenReturn(249L);
+        assertThatThrownBy(() -> service.discoverVersionParams(paramsDiscoveryRequest).join());
+        verify(httpClient, times(2)).executeAsync(any(), any());
+
+        when(testClock.millis()).thenReturn(250L);
+        assertThatThrownBy(() -> service.discoverVersionParams(paramsDiscoveryRequest).join());
+        verify(httpClient, times(3)).executeAsync(any(), any());
+        assertThat(service.cacheStatistics().failureHits()).isEqualTo(2);
+    }
+
     @Test
     void discoverVersionParams_shouldReturnException_whenOnlyDsp08Available() {
         var paramsDiscoveryRequest = new ConnectorParamsDiscoveryRequest(TEST_DID, TEST_ADDRESS);
@@ -395,6 +452,87 @@ public class DefaultConnectorDiscoveryServiceImplTest {
         verify(monitor, times(1)).severe(eq("Exception during connector discovery, omit endpoint result"), any());
     }
 
+    @Test
+    void discoverConnectors_shouldReturnPartialResult_whenDeadlineIsReached() {
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper, new CacheConfig(1000, clock),
+                new ExecutionConfig(Runnable::run, 10_000, 200), monitor);
+        var connectorDiscoveryRequest = new ConnectorDiscoveryRequest(TEST_DID, emptyList());
+
+        when(didResolver.resolve(any())).thenReturn(Result.success(RETURNED_DOCUMENT));
+        when(httpClient.executeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        dummyResponseBuilder(STANDARD_VERSION_METADATA.toString()).build()))
+                .thenReturn(new CompletableFuture<>());
+
+        var response = service.discoverConnectors(connectorDiscoveryRequest).join();
+
+        assertThat(response.getValuesAs(JsonObject.class)).hasSize(1);
+        verify(monitor).warning("Connector discovery for %s reached its deadline, omitting 1 pending endpoints".formatted(TEST_DID));
+    }
+
+    @Test
+    void discoverConnectors_shouldFail_whenExecutorRejectsDidResolution() {
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper, new CacheConfig(1000, clock),
+                new ExecutionConfig(runnable -> {
+                    throw new RejectedExecutionException("saturated");
+                }, 10_000, 10_000), monitor);
+        var connectorDiscoveryRequest = new ConnectorDiscoveryRequest(TEST_DID, emptyList());
+
+        var response = service.discoverConnectors(connectorDiscoveryRequest);
+
+        assertThatThrownBy(response::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BadGatewayException.class)
+                .hasMessageContaining("too many discoveries are in progress");
+        verifyNoInteractions(didResolver);
+    }
+
+    @Test
+    void discoverConnectors_shouldOmitEndpoint_whenEndpointTimeoutIsReached() {
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper, new CacheConfig(1000, clock),
+                new ExecutionConfig(Runnable::run, 100, 10_000), monitor);
+        var connectorDiscoveryRequest = new ConnectorDiscoveryRequest(TEST_DID, emptyList());
+
+        when(didResolver.resolve(any())).thenReturn(Result.success(RETURNED_DOCUMENT));
+        when(httpClient.executeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        dummyResponseBuilder(STANDARD_VERSION_METADATA.toString()).build()))
+                .thenReturn(new CompletableFuture<>());
+
+        var response = service.discoverConnectors(connectorDiscoveryRequest).join();
+
+        assertThat(response.getValuesAs(JsonObject.class)).hasSize(1);
+        verify(monitor).severe(eq("Exception during connector discovery, omit endpoint result"), any(TimeoutException.class));
+    }
+
+    @Test
+    void discoverConnectors_batch_shouldDeduplicateAndLimitConcurrency() {
+        var service = new DefaultConnectorDiscoveryServiceImpl(httpClient, didResolver, mapper, new CacheConfig(1000, clock),
+                new ExecutionConfig(Runnable::run, 10_000, 10_000, 1), monitor);
+        var otherDid = "did:web:otherdid";
+        var pending = new ArrayList<CompletableFuture<okhttp3.Response>>();
+
+        when(didResolver.resolve(any())).thenReturn(Result.success(RETURNED_DOCUMENT));
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> {
+            var future = new CompletableFuture<okhttp3.Response>();
+            pending.add(future);
+            return future;
+        });
+
+        var results = service.discoverConnectors(new ConnectorBatchDiscoveryRequest(List.of(TEST_DID, otherDid, TEST_DID, "invalid")));
+
+        assertThat(results).containsOnlyKeys(TEST_DID, otherDid, "invalid");
+        verify(didResolver, times(1)).resolve(TEST_DID);
+        verify(didResolver, never()).resolve(otherDid);
+
+        List.copyOf(pending).forEach(future -> future.complete(dummyResponseBuilder(STANDARD_VERSION_METADATA.toString()).build()));
+
+        assertThat(results.get(TEST_DID).join().getValuesAs(JsonObject.class)).hasSize(2);
+        assertThat(results.get(otherDid).join().getValuesAs(JsonObject.class)).hasSize(2);
+        assertThatThrownBy(() -> results.get("invalid").join()).hasCauseInstanceOf(InvalidRequestException.class);
+        verify(didResolver, times(1)).resolve(otherDid);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(ConnectorRequestDataProvider.class)
     void discoverConnectors_shouldFail_whenCounterPartyIdIsNotAsExpected(String counterPartyId, String expectedMessage) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Cofinity-X GmbH
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.discovery;
+
+import jakarta.json.Json;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.tractusx.edc.discovery.transformers.JsonObjectToConnectorBatchDiscoveryRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.tractusx.edc.discovery.spi.ConnectorBatchDiscoveryRequest.CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class JsonObjectToConnectorBatchDiscoveryRequestTest {
+
+    private final TransformerContext transformerContext = mock();
+    private final JsonObjectToConnectorBatchDiscoveryRequest transformer = new JsonObjectToConnectorBatchDiscoveryRequest();
+
+    @Test
+    void testTransform() {
+        var jsonObject = Json.createObjectBuilder()
+                .add(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE, Json.createArrayBuilder()
+                        .add("did:web:one.example.com")
+                        .add(Json.createObjectBuilder().add(VALUE, "did:web:two.example.com")))
+                .build();
+
+        var request = transformer.transform(jsonObject, transformerContext);
+
+        assertThat(request).isNotNull();
+        assertThat(request.counterPartyIds()).containsExactly("did:web:one.example.com", "did:web:two.example.com");
+    }
+
+    @Test
+    void testTransformMissingAttribute() {
+        var jsonObject = Json.createObjectBuilder().build();
+
+        var request = transformer.transform(jsonObject, transformerContext);
+
+        assertThat(request).isNull();
+        verify(transformerContext).reportProblem("Missing required attribute in ConnectorBatchDiscoveryRequest: %s"
+                .formatted(CONNECTOR_BATCH_DISCOVERY_REQUEST_COUNTERPARTYIDS_ATTRIBUTE));
+    }
+}
@@ -27,17 +27,39 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.tractusx.edc.discovery.cx.service.BpnlAndDsp08ConnectorDiscoveryServiceImpl;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryService;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 
 import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_BATCH_CONCURRENCY;
 import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_CACHE_EXPIRY_MS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_CACHE_SIZE;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_ENDPOINT_TIMEOUT_MS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_FAILURE_CACHE_EXPIRY_MS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_FAILURE_CACHE_MAX_EXPIRY_MS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_QUEUE_SIZE;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_REQUEST_DEADLINE_MS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.DEFAULT_THREADS;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_BATCH_CONCURRENCY;
 import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_CACHE_EXPIRY;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_CACHE_SIZE;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_ENDPOINT_TIMEOUT;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_EXPIRY;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_MAX_EXPIRY;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_QUEUE_SIZE;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_REQUEST_DEADLINE;
+import static org.eclipse.tractusx.edc.discovery.ConnectorDiscoveryExtension.TX_EDC_CONNECTOR_DISCOVERY_THREADS;
 
 @Extension(value = ConnectorDiscoveryBpnlAndDsp08ServiceExtension.NAME)
 public class ConnectorDiscoveryBpnlAndDsp08ServiceExtension implements ServiceExtension {
@@ -61,15 +83,64 @@ public class ConnectorDiscoveryBpnlAndDsp08ServiceExtension implements ServiceEx
     private Clock clock;
     @Inject
     private Monitor monitor;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
 
     @Setting(description = "Expiry time for caching protocol version information in milliseconds",
             key = TX_EDC_CONNECTOR_DISCOVERY_CACHE_EXPIRY, defaultValue = DEFAULT_CACHE_EXPIRY_MS)
     private long connectorDiscoveryCacheExpiry;
 
+    @Setting(description = "Maximum number of connector endpoints for which protocol version information is cached",
+            key = TX_EDC_CONNECTOR_DISCOVERY_CACHE_SIZE, defaultValue = DEFAULT_CACHE_SIZE)
+    private int connectorDiscoveryCacheSize;
+
+    @Setting(description = "Expiry time for caching a failed protocol version lookup in milliseconds, doubled with every consecutive failure. 0 disables caching of failures",
+            key = TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_EXPIRY, defaultValue = DEFAULT_FAILURE_CACHE_EXPIRY_MS)
+    private long connectorDiscoveryFailureCacheExpiry;
+
+    @Setting(description = "Maximum expiry time for caching a failed protocol version lookup in milliseconds",
+            key = TX_EDC_CONNECTOR_DISCOVERY_FAILURE_CACHE_MAX_EXPIRY, defaultValue = DEFAULT_FAILURE_CACHE_MAX_EXPIRY_MS)
+    private long connectorDiscoveryFailureCacheMaxExpiry;
+
+    @Setting(description = "Number of threads resolving DID documents for connector discovery",
+            key = TX_EDC_CONNECTOR_DISCOVERY_THREADS, defaultValue = DEFAULT_THREADS)
+    private int connectorDiscoveryThreads;
+
+    @Setting(description = "Maximum number of connector discoveries waiting for a DID resolution thread, further requests are rejected",
+            key = TX_EDC_CONNECTOR_DISCOVERY_QUEUE_SIZE, defaultValue = DEFAULT_QUEUE_SIZE)
+    private int connectorDiscoveryQueueSize;
+
+    @Setting(description = "Timeout for the protocol version lookup of a single connector endpoint in milliseconds",
+            key = TX_EDC_CONNECTOR_DISCOVERY_ENDPOINT_TIMEOUT, defaultValue = DEFAULT_ENDPOINT_TIMEOUT_MS)
+    private long connectorDiscoveryEndpointTimeout;
+
+    @Setting(description = "Deadline of a connector discovery in milliseconds, after which the endpoints found so far are returned",
+            key = TX_EDC_CONNECTOR_DISCOVERY_REQUEST_DEADLINE, defaultValue = DEFAULT_REQUEST_DEADLINE_MS)
+    private long connectorDiscoveryRequestDeadline;
+
+    @Setting(description = "Maximum number of counterparties of a batch connector discovery that are discovered concurrently",
+            key = TX_EDC_CONNECTOR_DISCOVERY_BATCH_CONCURRENCY, defaultValue = DEFAULT_BATCH_CONCURRENCY)
+    private int connectorDiscoveryBatchConcurrency;
+
+    private ExecutorService discoveryExecutor;
+
+    @Override
+    public void shutdown() {
+        if (discoveryExecutor != null) {
+            discoveryExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public ConnectorDiscoveryService connectorDiscoveryService() {
+        discoveryExecutor = executorInstrumentation.instrument(new ThreadPoolExecutor(connectorDiscoveryThreads, connectorDiscoveryThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(connectorDiscoveryQueueSize)), "Connector discovery");
         return new BpnlAndDsp08ConnectorDiscoveryServiceImpl(
                 bdrsClient, httpClient, didResolver, typeManager.getMapper(),
-                new CacheConfig(connectorDiscoveryCacheExpiry, clock), monitor);
+                new CacheConfig(connectorDiscoveryCacheExpiry, clock, connectorDiscoveryCacheSize,
+                        connectorDiscoveryFailureCacheExpiry, connectorDiscoveryFailureCacheMaxExpiry),
+                new ExecutionConfig(discoveryExecutor, connectorDiscoveryEndpointTimeout, connectorDiscoveryRequestDeadline,
+                        connectorDiscoveryBatchConcurrency),
+                monitor);
     }
 }
@@ -33,6 +33,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.tractusx.edc.discovery.service.BaseConnectorDiscoveryServiceImpl;
 import org.eclipse.tractusx.edc.discovery.spi.CacheConfig;
 import org.eclipse.tractusx.edc.discovery.spi.ConnectorDiscoveryRequest;
+import org.eclipse.tractusx.edc.discovery.spi.ExecutionConfig;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 
 import java.util.List;
@@ -61,6 +62,19 @@ public class BpnlAndDsp08ConnectorDiscoveryServiceImpl extends BaseConnectorDisc
         this.bdrsClient = bdrsClient;
     }
 
+    public BpnlAndDsp08ConnectorDiscoveryServiceImpl(
+            BdrsClient bdrsClient,
+            EdcHttpClient httpClient,
+            DidResolverRegistry didResolver,
+            ObjectMapper mapper,
+            CacheConfig cacheConfig,
+            ExecutionConfig executionConfig,
+            Monitor monitor) {
+        super(httpClient, didResolver, mapper,
+                List.of(Dsp2025Constants.V_2025_1_VERSION, Dsp08Constants.V_08_VERSION), cacheConfig, executionConfig, monitor);
+        this.bdrsClient = bdrsClient;
+    }
+
     @Override
     public CompletableFuture<JsonArray> discoverConnectors(ConnectorDiscoveryRequest request) {
         return super.discoverConnectors(new ConnectorDiscoveryRequest(
@@ -23,6 +23,9 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 
+import java.util.Collection;
+import java.util.List;
+
 import static org.eclipse.edc.validator.spi.ValidationResult.failure;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 
@@ -49,4 +52,14 @@ public class CxJsonSchemaPolicyDefinitionValidator implements Validator<JsonObje
 
         return policyValidator.validate((JsonObject) policy);
     }
+
+    /**
+     * Validates a batch of policy definitions, e.g. for bulk provisioning.
+     *
+     * @param inputs the policy definitions to validate
+     * @return one {@link ValidationResult} per policy definition, in iteration order of the input
+     */
+    public List<ValidationResult> validateAll(Collection<JsonObject> inputs) {
+        return inputs.stream().map(this::validate).toList();
+    }
 }
@@ -19,21 +19,27 @@
 
 package org.eclipse.tractusx.edc.policy.cx.validator.jsonschema;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.dialect.Dialects;
 import com.networknt.schema.resource.IriResourceLoader;
 import jakarta.json.JsonObject;
-import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.eclipse.edc.validator.spi.Violation;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Validates policies against the Catena-X policy JSON schema.
+ * <p>
+ * The schema is compiled once and shared by all instances, as compiled schemas are immutable and thread-safe. The
+ * Jakarta JSON input is adapted to the Jackson tree expected by the schema library in a single walk, without going
+ * through a serialize/deserialize round trip.
+ */
 public class CxJsonSchemaPolicyValidator implements Validator<JsonObject> {
     private static final String CX_POLICY_SCHEMA_PREFIX = "https://w3id.org/catenax/2025/9/policy";
     private static final String CX_POLICY_SCHEMA_LOCATION = "classpath:jsonschema/cx-policy";
@@ -43,26 +49,20 @@ public class CxJsonSchemaPolicyValidator implements Validator<JsonObject> {
 
     private static final String CX_POLICY_SCHEMA = CX_POLICY_SCHEMA_PREFIX + "/schema/policy-schema.json";
 
-    private final ObjectMapper objectMapper;
-    private final Schema schemaValidator;
-
     private static final Map<String, String> PREFIX_MAPPINGS = Map.of(
             CX_POLICY_SCHEMA_PREFIX, CX_POLICY_SCHEMA_LOCATION,
             DSPACE_2025_SCHEMA_PREFIX, DSPACE_2025_SCHEMA_LOCATION
     );
 
+    private final Schema schemaValidator;
+
     public CxJsonSchemaPolicyValidator() {
-        this.objectMapper = JacksonJsonLd.createObjectMapper();
-        var schemaRegistry = SchemaRegistry.withDialect(Dialects.getDraft201909(), builder -> builder
-                .schemaIdResolvers(schemaIdResolvers -> PREFIX_MAPPINGS.forEach(schemaIdResolvers::mapPrefix))
-                .resourceLoaders(resourceLoaders -> resourceLoaders.add(IriResourceLoader.getInstance())));
-        this.schemaValidator = schemaRegistry.getSchema(SchemaLocation.of(CX_POLICY_SCHEMA));
+        this.schemaValidator = SharedSchema.INSTANCE;
     }
 
     @Override
     public ValidationResult validate(JsonObject input) {
-        var node = objectMapper.convertValue(input, JsonNode.class);
-        var response = schemaValidator.validate(node);
+        var response = schemaValidator.validate(JsonValueNodes.toJsonNode(input));
         if (response.isEmpty()) {
             return ValidationResult.success();
         }
@@ -73,4 +73,21 @@ public class CxJsonSchemaPolicyValidator implements Validator<JsonObject> {
 
         return ValidationResult.failure(violations);
     }
+
+    /**
+     * Validates a batch of policies with the shared schema.
+     *
+     * @param inputs the policies to validate
+     * @return one {@link ValidationResult} per policy, in iteration order of the input
+     */
+    public List<ValidationResult> validateAll(Collection<JsonObject> inputs) {
+        return inputs.stream().map(this::validate).toList();
+    }
+
+    private static final class SharedSchema {
+        private static final Schema INSTANCE = SchemaRegistry.withDialect(Dialects.getDraft201909(), builder -> builder
+                        .schemaIdResolvers(schemaIdResolvers -> PREFIX_MAPPINGS.forEach(schemaIdResolvers::mapPrefix))
+                        .resourceLoaders(resourceLoaders -> resourceLoaders.add(IriResourceLoader.getInstance())))
+                .getSchema(SchemaLocation.of(CX_POLICY_SCHEMA));
+    }
 }
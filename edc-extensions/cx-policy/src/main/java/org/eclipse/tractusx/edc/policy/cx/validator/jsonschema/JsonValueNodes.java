@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.policy.cx.validator.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Adapts a Jakarta JSON tree to a Jackson {@link JsonNode} tree in a single walk.
+ * <p>
+ * {@code ObjectMapper.convertValue} serializes the whole input into a token buffer and deserializes it again, which
+ * dominates the cost of schema validation for large policies. This adapter creates the Jackson nodes directly and
+ * reuses the string values of the input.
+ */
+final class JsonValueNodes {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private JsonValueNodes() {
+    }
+
+    static JsonNode toJsonNode(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> toObjectNode(value.asJsonObject());
+            case ARRAY -> toArrayNode(value.asJsonArray());
+            case STRING -> FACTORY.textNode(((JsonString) value).getString());
+            case NUMBER -> toNumberNode((JsonNumber) value);
+            case TRUE -> FACTORY.booleanNode(true);
+            case FALSE -> FACTORY.booleanNode(false);
+            case NULL -> FACTORY.nullNode();
+        };
+    }
+
+    private static ObjectNode toObjectNode(JsonObject object) {
+        var node = FACTORY.objectNode();
+        object.forEach((key, child) -> node.set(key, toJsonNode(child)));
+        return node;
+    }
+
+    private static ArrayNode toArrayNode(JsonArray array) {
+        var node = FACTORY.arrayNode(array.size());
+        array.forEach(child -> node.add(toJsonNode(child)));
+        return node;
+    }
+
+    private static JsonNode toNumberNode(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return FACTORY.numberNode(number.doubleValue());
+        }
+        var bigInteger = number.bigIntegerValue();
+        if (bigInteger.bitLength() < Integer.SIZE) {
+            return FACTORY.numberNode(bigInteger.intValue());
+        }
+        return bigInteger.bitLength() < Long.SIZE ? FACTORY.numberNode(bigInteger.longValue()) : FACTORY.numberNode(bigInteger);
+    }
+}
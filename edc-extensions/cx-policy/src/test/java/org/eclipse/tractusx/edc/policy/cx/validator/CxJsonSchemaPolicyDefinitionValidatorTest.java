@@ -25,6 +25,8 @@ import jakarta.json.JsonValue;
 import org.eclipse.tractusx.edc.policy.cx.validator.jsonschema.CxJsonSchemaPolicyDefinitionValidator;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
@@ -86,6 +88,19 @@ class CxJsonSchemaPolicyDefinitionValidatorTest {
         assertThat(result.getFailureMessages()).anyMatch(message -> message.contains("Attribute 'policy' is not a valid JSON object."));
     }
 
+    @Test
+    void shouldValidateBatch_preservingOrder() {
+        var valid = policyDefinition(Json.createObjectBuilder().add(TYPE, "Set").add(ID, "id").build());
+        var missingPolicy = policyDefinition(null);
+
+        var results = validator.validateAll(List.of(valid, missingPolicy, valid));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).succeeded()).isTrue();
+        assertThat(results.get(1).failed()).isTrue();
+        assertThat(results.get(2).succeeded()).isTrue();
+    }
+
     private JsonObject policyDefinition(JsonValue policy) {
         var builder =  Json.createObjectBuilder()
                 .add(TYPE, "PolicyDefinition");
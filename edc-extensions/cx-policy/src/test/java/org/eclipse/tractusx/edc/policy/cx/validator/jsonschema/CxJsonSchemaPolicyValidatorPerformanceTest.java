@@ -0,0 +1,102 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.policy.cx.validator.jsonschema;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.junit.annotations.PerformanceTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@PerformanceTest
+class CxJsonSchemaPolicyValidatorPerformanceTest {
+
+    private static final int POLICIES = 2_000;
+
+    private final List<JsonObject> policies = IntStream.range(0, POLICIES).mapToObj(this::usagePolicy).toList();
+
+    @Test
+    void toJsonNode_shouldVisitEachValueOnce() {
+        var leftOperand = spy(Json.createValue("FrameworkAgreement"));
+        var rightOperand = spy(Json.createValue("DataExchangeGovernance:1.0"));
+        var constraint = spy(Json.createObjectBuilder()
+                .add("leftOperand", leftOperand)
+                .add("operator", "eq")
+                .add("rightOperand", rightOperand)
+                .build());
+        var constraints = spy(Json.createArrayBuilder().add(constraint).build());
+        var policy = Json.createObjectBuilder()
+                .add(TYPE, "Set")
+                .add("permission", Json.createArrayBuilder().add(Json.createObjectBuilder()
+                        .add("action", "use")
+                        .add("constraint", constraints)))
+                .build();
+
+        JsonValueNodes.toJsonNode(policy);
+
+        verify(constraints).getValueType();
+        verify(constraint).getValueType();
+        verify(leftOperand).getValueType();
+        verify(rightOperand).getValueType();
+    }
+
+    @Test
+    void validateAll_shouldUseSchemaSharedByAllValidators() {
+        var validator = new CxJsonSchemaPolicyValidator();
+        var schema = assertThat(validator).extracting("schemaValidator").actual();
+
+        assertThat(validator.validateAll(policies)).hasSize(POLICIES);
+        assertThat(new CxJsonSchemaPolicyValidator()).extracting("schemaValidator").isSameAs(schema);
+    }
+
+    private JsonObject usagePolicy(int index) {
+        var constraints = Json.createArrayBuilder()
+                .add(constraint("FrameworkAgreement", "eq", "DataExchangeGovernance:1.0"))
+                .add(constraint("Membership", "eq", "active"))
+                .add(Json.createObjectBuilder()
+                        .add("leftOperand", "UsagePurpose")
+                        .add("operator", "isAnyOf")
+                        .add("rightOperand", Json.createArrayBuilder().add("cx.core.industrycore:1").add("cx.pcf.base:1")));
+        var permission = Json.createObjectBuilder()
+                .add("action", "use")
+                .add("constraint", Json.createArrayBuilder().add(Json.createObjectBuilder().add("and", constraints)));
+        return Json.createObjectBuilder()
+                .add(TYPE, "Set")
+                .add(ID, "policy-" + index)
+                .add("permission", Json.createArrayBuilder().add(permission))
+                .build();
+    }
+
+    private JsonObject constraint(String leftOperand, String operator, String rightOperand) {
+        return Json.createObjectBuilder()
+                .add("leftOperand", leftOperand)
+                .add("operator", operator)
+                .add("rightOperand", rightOperand)
+                .build();
+    }
+}
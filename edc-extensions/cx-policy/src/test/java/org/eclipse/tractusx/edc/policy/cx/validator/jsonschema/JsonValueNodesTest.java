@@ -0,0 +1,59 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.policy.cx.validator.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.json.Json;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonValueNodesTest {
+
+    // numeric nodes are compared by value, as the concrete node type (int, long, decimal) is irrelevant for the schema
+    private static final Comparator<JsonNode> NUMERIC_VALUE_COMPARATOR = (left, right) -> {
+        if (left.isNumber() && right.isNumber()) {
+            return left.decimalValue().compareTo(right.decimalValue());
+        }
+        return left.equals(right) ? 0 : 1;
+    };
+
+    @Test
+    void toJsonNode_shouldBeEquivalentToObjectMapperConversion() {
+        var input = Json.createObjectBuilder()
+                .add("@type", "Set")
+                .add("string", "value")
+                .add("int", 42)
+                .add("long", Long.MAX_VALUE)
+                .add("double", 1.5)
+                .add("true", true)
+                .add("false", false)
+                .addNull("null")
+                .add("array", Json.createArrayBuilder().add("a").add(Json.createObjectBuilder().add("nested", 1)))
+                .build();
+
+        var expected = JacksonJsonLd.createObjectMapper().convertValue(input, JsonNode.class);
+
+        assertThat(JsonValueNodes.toJsonNode(input).equals(NUMERIC_VALUE_COMPARATOR, expected)).isTrue();
+    }
+}
@@ -24,6 +24,8 @@ plugins {
 
 dependencies {
     implementation(libs.edc.spi.transfer)
+    implementation(libs.edc.spi.contract)
+    implementation(libs.edc.lib.util)
     implementation(project(":spi:core-spi"))
     implementation(project(":spi:bdrs-client-spi"))
     implementation(project(":edc-extensions:agreements-bpns:bpns-evaluation-spi"))
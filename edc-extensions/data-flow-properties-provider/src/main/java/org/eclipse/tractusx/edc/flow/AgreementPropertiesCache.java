@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.flow;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.tractusx.edc.edr.spi.CoreConstants.BPN_PREFIX;
+import static org.eclipse.tractusx.edc.spi.identity.mapper.BdrsConstants.DID_PREFIX;
+
+/**
+ * Bounded LRU cache of the consumer BPN and audience of contract agreements. Both values never change for the
+ * lifetime of an agreement, so entries are never invalidated, only evicted.
+ * <p>
+ * Entries are added by {@link TxDataFlowPropertiesProvider} on first use and, when the counter-party identifiers can be
+ * resolved from the local BDRS snapshot, as soon as a contract negotiation is finalized.
+ */
+public class AgreementPropertiesCache implements EventSubscriber {
+
+    private final ConcurrentLruCache<String, AgreementProperties> cache;
+    private final BdrsClient bdrsClient;
+
+    public AgreementPropertiesCache(int size, BdrsClient bdrsClient) {
+        this.cache = new ConcurrentLruCache<>(size);
+        this.bdrsClient = bdrsClient;
+    }
+
+    @Nullable
+    public AgreementProperties get(String agreementId) {
+        return cache.get(agreementId);
+    }
+
+    public void put(String agreementId, AgreementProperties properties) {
+        cache.put(agreementId, properties);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> envelope) {
+        if (!(envelope.getPayload() instanceof ContractNegotiationFinalized finalized)) {
+            return;
+        }
+        var agreement = finalized.getContractAgreement();
+        var consumerId = agreement.getConsumerId();
+        AgreementProperties properties = null;
+        if (consumerId.startsWith(DID_PREFIX)) {
+            var bpn = bdrsClient.resolveBpnFromSnapshot(consumerId);
+            if (bpn != null) {
+                properties = new AgreementProperties(bpn, consumerId);
+            }
+        } else if (consumerId.startsWith(BPN_PREFIX)) {
+            var did = bdrsClient.resolveDidFromSnapshot(consumerId);
+            if (did != null) {
+                properties = new AgreementProperties(consumerId, did);
+            }
+        }
+        if (properties != null) {
+            cache.put(agreement.getId(), properties);
+        }
+    }
+
+    /**
+     * Consumer BPN and audience (consumer DID) of a contract agreement.
+     */
+    public record AgreementProperties(String consumerBpn, String audience) {
+    }
+}
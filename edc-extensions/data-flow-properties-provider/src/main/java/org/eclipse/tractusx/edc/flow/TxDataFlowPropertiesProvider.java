@@ -27,9 +27,13 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.PendingAgreementsBpns;
+import org.eclipse.tractusx.edc.flow.AgreementPropertiesCache.AgreementProperties;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 
@@ -44,42 +48,52 @@ import static org.eclipse.tractusx.edc.spi.identity.mapper.BdrsConstants.DID_PRE
  * Extension of {@link DataFlowPropertiesProvider} which provides additional properties in the {@link DataFlowStartMessage}
  * such as the consumer DID (audience) and the consumer BPN. Both values are resolved locally without a BDRS call:
  * the DID comes directly from {@code policy.getAssignee()} and the BPN is looked up from {@link AgreementsBpnsStore}.
+ * As both values never change for an agreement, they are kept in an optional {@link AgreementPropertiesCache}, so
+ * that repeated transfers of the same agreement do not cause any store or BDRS lookup.
  */
 public class TxDataFlowPropertiesProvider implements DataFlowPropertiesProvider {
 
     private final AgreementsBpnsStore agreementsBpnsStore;
     private final BdrsClient bdrsClient;
     private final Monitor monitor;
+    private final PendingAgreementsBpns pendingAgreementsBpns;
+    private final AgreementPropertiesCache cache;
 
     public TxDataFlowPropertiesProvider(AgreementsBpnsStore agreementsBpnsStore, BdrsClient bdrsClient, Monitor monitor) {
+        this(agreementsBpnsStore, bdrsClient, monitor, agreementId -> true);
+    }
+
+    public TxDataFlowPropertiesProvider(AgreementsBpnsStore agreementsBpnsStore, BdrsClient bdrsClient, Monitor monitor,
+                                        PendingAgreementsBpns pendingAgreementsBpns) {
+        this(agreementsBpnsStore, bdrsClient, monitor, pendingAgreementsBpns, null);
+    }
+
+    public TxDataFlowPropertiesProvider(AgreementsBpnsStore agreementsBpnsStore, BdrsClient bdrsClient, Monitor monitor,
+                                        PendingAgreementsBpns pendingAgreementsBpns, @Nullable AgreementPropertiesCache cache) {
         this.agreementsBpnsStore = agreementsBpnsStore;
         this.bdrsClient = bdrsClient;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.pendingAgreementsBpns = pendingAgreementsBpns;
+        this.cache = cache;
     }
 
     @Override
     public StatusResult<Map<String, String>> propertiesFor(TransferProcess transferProcess, Policy policy) {
 
-        if (isDsp2025(policy)) {
-            var entry = agreementsBpnsStore.findByAgreementId(transferProcess.getContractId());
-            if (entry == null) {
-                return StatusResult.failure(FATAL_ERROR,
-                        "No BPN entry found for agreement %s".formatted(transferProcess.getContractId()));
+        if (isDsp2025(policy) || isDsp08(policy)) {
+            var agreementId = transferProcess.getContractId();
+            var cached = cache != null ? cache.get(agreementId) : null;
+            if (cached != null) {
+                return StatusResult.success(toProperties(cached));
             }
-            return StatusResult.success(Map.of(
-                    AUDIENCE_PROPERTY, policy.getAssignee(),
-                    BPN_PROPERTY, entry.getConsumerBpn()
-            ));
-        } else if (isDsp08(policy)) {
-            var bpn = policy.getAssignee();
-            var did = bdrsClient.resolveDid(bpn);
-            if (did == null) {
-                return StatusResult.failure(FATAL_ERROR, "Could not resolve DID for BPN '%s'".formatted(bpn));
+            var result = isDsp2025(policy) ? resolveDsp2025(agreementId, policy) : resolveDsp08(policy);
+            if (result.failed()) {
+                return StatusResult.failure(FATAL_ERROR, result.getFailureDetail());
             }
-            return StatusResult.success(Map.of(
-                    AUDIENCE_PROPERTY, did,
-                    BPN_PROPERTY, bpn
-            ));
+            if (cache != null) {
+                cache.put(agreementId, result.getContent());
+            }
+            return StatusResult.success(toProperties(result.getContent()));
         } else {
             monitor.warning("Policy's Assignee is neither a did nor a BPN and was '%s'. This is only ok for test scenarios like the DSP TCK.".formatted(policy.getAssignee()));
             return StatusResult.success(Map.of(
@@ -90,6 +104,34 @@ public class TxDataFlowPropertiesProvider implements DataFlowPropertiesProvider
 
     }
 
+    private Result<AgreementProperties> resolveDsp2025(String agreementId, Policy policy) {
+        pendingAgreementsBpns.awaitFlush(agreementId);
+        var entry = agreementsBpnsStore.findByAgreementId(agreementId);
+        if (entry == null) {
+            return Result.failure("No BPN entry found for agreement %s".formatted(agreementId));
+        }
+        return Result.success(new AgreementProperties(entry.getConsumerBpn(), policy.getAssignee()));
+    }
+
+    private Result<AgreementProperties> resolveDsp08(Policy policy) {
+        var bpn = policy.getAssignee();
+        var did = bdrsClient.resolveDidFromSnapshot(bpn);
+        if (did == null) {
+            did = bdrsClient.resolveDid(bpn);
+        }
+        if (did == null) {
+            return Result.failure("Could not resolve DID for BPN '%s'".formatted(bpn));
+        }
+        return Result.success(new AgreementProperties(bpn, did));
+    }
+
+    private Map<String, String> toProperties(AgreementProperties properties) {
+        return Map.of(
+                AUDIENCE_PROPERTY, properties.audience(),
+                BPN_PROPERTY, properties.consumerBpn()
+        );
+    }
+
     private boolean isDsp08(Policy policy) {
         return policy.getAssignee().startsWith(BPN_PREFIX);
     }
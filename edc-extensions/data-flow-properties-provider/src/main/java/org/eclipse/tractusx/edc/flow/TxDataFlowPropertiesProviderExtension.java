@@ -20,13 +20,17 @@
 
 package org.eclipse.tractusx.edc.flow;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowPropertiesProvider;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.PendingAgreementsBpns;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 
 import static org.eclipse.tractusx.edc.flow.TxDataFlowPropertiesProviderExtension.NAME;
@@ -36,6 +40,10 @@ public class TxDataFlowPropertiesProviderExtension implements ServiceExtension {
 
     protected static final String NAME = "Tractus-X Data flow properties provider extension";
 
+    @Setting(key = "tx.edc.dataflow.properties.cache.size", defaultValue = "10000", min = 0,
+            description = "Maximum number of agreements whose consumer BPN and audience are kept in memory. 0 disables the cache.")
+    private int cacheSize;
+
     @Inject
     private AgreementsBpnsStore agreementsBpnsStore;
 
@@ -45,8 +53,20 @@ public class TxDataFlowPropertiesProviderExtension implements ServiceExtension {
     @Inject
     private Monitor monitor;
 
+    @Inject(required = false)
+    private PendingAgreementsBpns pendingAgreementsBpns;
+
+    @Inject
+    private EventRouter eventRouter;
+
     @Provider
     public DataFlowPropertiesProvider dataFlowPropertiesProvider() {
-        return new TxDataFlowPropertiesProvider(agreementsBpnsStore, bdrsClient, monitor);
+        AgreementPropertiesCache cache = null;
+        if (cacheSize > 0) {
+            cache = new AgreementPropertiesCache(cacheSize, bdrsClient);
+            eventRouter.register(ContractNegotiationFinalized.class, cache);
+        }
+        var pending = pendingAgreementsBpns != null ? pendingAgreementsBpns : (PendingAgreementsBpns) agreementId -> true;
+        return new TxDataFlowPropertiesProvider(agreementsBpnsStore, bdrsClient, monitor, pending, cache);
     }
 }
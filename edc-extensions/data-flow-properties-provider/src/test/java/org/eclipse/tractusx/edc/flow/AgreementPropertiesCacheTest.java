@@ -0,0 +1,103 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.flow;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.tractusx.edc.flow.AgreementPropertiesCache.AgreementProperties;
+import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgreementPropertiesCacheTest {
+
+    private final BdrsClient bdrsClient = mock();
+    private final AgreementPropertiesCache cache = new AgreementPropertiesCache(2, bdrsClient);
+
+    @Test
+    void on_shouldPopulate_whenConsumerDidInSnapshot() {
+        when(bdrsClient.resolveBpnFromSnapshot("did:web:consumer")).thenReturn("BPNL000000000001");
+
+        cache.on(finalized("agreement", "did:web:consumer"));
+
+        assertThat(cache.get("agreement")).isEqualTo(new AgreementProperties("BPNL000000000001", "did:web:consumer"));
+        verify(bdrsClient, never()).resolveBpn(any());
+    }
+
+    @Test
+    void on_shouldPopulate_whenConsumerBpnInSnapshot() {
+        when(bdrsClient.resolveDidFromSnapshot("BPNL000000000001")).thenReturn("did:web:consumer");
+
+        cache.on(finalized("agreement", "BPNL000000000001"));
+
+        assertThat(cache.get("agreement")).isEqualTo(new AgreementProperties("BPNL000000000001", "did:web:consumer"));
+        verify(bdrsClient, never()).resolveDid(any());
+    }
+
+    @Test
+    void on_shouldNotPopulate_whenNotInSnapshot() {
+        cache.on(finalized("agreement", "did:web:consumer"));
+
+        assertThat(cache.get("agreement")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed() {
+        cache.put("agreement-1", new AgreementProperties("bpn1", "did1"));
+        cache.put("agreement-2", new AgreementProperties("bpn2", "did2"));
+        cache.get("agreement-1");
+        cache.put("agreement-3", new AgreementProperties("bpn3", "did3"));
+
+        assertThat(cache.get("agreement-1")).isNotNull();
+        assertThat(cache.get("agreement-2")).isNull();
+        assertThat(cache.get("agreement-3")).isNotNull();
+    }
+
+    private EventEnvelope<ContractNegotiationFinalized> finalized(String agreementId, String consumerId) {
+        var agreement = ContractAgreement.Builder.newInstance()
+                .id(agreementId)
+                .providerId("BPNL000000000002")
+                .consumerId(consumerId)
+                .assetId("asset")
+                .policy(Policy.Builder.newInstance().assignee(consumerId).build())
+                .build();
+        var event = ContractNegotiationFinalized.Builder.newInstance()
+                .contractNegotiationId(UUID.randomUUID().toString())
+                .contractAgreement(agreement)
+                .counterPartyAddress("counterPartyAddress")
+                .counterPartyId(consumerId)
+                .protocol("protocol")
+                .build();
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+}
@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.edc.flow;
 
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
@@ -42,6 +43,7 @@ class TxDataFlowPropertiesProviderExtensionTest {
         context.registerService(Monitor.class, monitor);
         context.registerService(AgreementsBpnsStore.class, mock());
         context.registerService(BdrsClient.class, mock());
+        context.registerService(EventRouter.class, mock());
     }
 
     @Test
@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.store.AgreementsBpnsStore;
+import org.eclipse.tractusx.edc.agreements.bpns.spi.store.PendingAgreementsBpns;
 import org.eclipse.tractusx.edc.agreements.bpns.spi.types.AgreementsBpnsEntry;
 import org.eclipse.tractusx.edc.spi.identity.mapper.BdrsClient;
 import org.junit.jupiter.api.Test;
@@ -33,8 +34,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.tractusx.edc.edr.spi.CoreConstants.AUDIENCE_PROPERTY;
 import static org.eclipse.tractusx.edc.edr.spi.CoreConstants.BPN_PROPERTY;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TxDataFlowPropertiesProviderTest {
@@ -64,6 +70,26 @@ public class TxDataFlowPropertiesProviderTest {
         });
     }
 
+    @Test
+    void shouldAwaitPendingWrite_beforeLookingUpEntry() {
+        PendingAgreementsBpns pending = mock();
+        var providerWithPending = new TxDataFlowPropertiesProvider(store, bdrs, mock(Monitor.class, RETURNS_SELF), pending);
+        var entry = AgreementsBpnsEntry.Builder.newInstance()
+                .withAgreementId(CONTRACT_ID)
+                .withProviderBpn("BPNL000000000002")
+                .withConsumerBpn(CONSUMER_BPN)
+                .build();
+        when(pending.awaitFlush(CONTRACT_ID)).thenReturn(true);
+        when(store.findByAgreementId(CONTRACT_ID)).thenReturn(entry);
+
+        var result = providerWithPending.propertiesFor(createTransferProcess(CONTRACT_ID), createPolicy(CONSUMER_DID));
+
+        assertThat(result).isSucceeded();
+        var inOrder = inOrder(pending, store);
+        inOrder.verify(pending).awaitFlush(CONTRACT_ID);
+        inOrder.verify(store).findByAgreementId(CONTRACT_ID);
+    }
+
     @Test
     void shouldReturnFatalError_whenAssigneeIsDidAndEntryNotFound() {
         when(store.findByAgreementId(CONTRACT_ID)).thenReturn(null);
@@ -96,6 +122,48 @@ public class TxDataFlowPropertiesProviderTest {
                 .detail().isEqualTo("Could not resolve DID for BPN '%s'".formatted(CONSUMER_BPN));
     }
 
+    @Test
+    void shouldUseCache_forSubsequentTransfersOfSameAgreement() {
+        var cache = new AgreementPropertiesCache(10, bdrs);
+        var cachingProvider = new TxDataFlowPropertiesProvider(store, bdrs, mock(Monitor.class, RETURNS_SELF), id -> true, cache);
+        var entry = AgreementsBpnsEntry.Builder.newInstance()
+                .withAgreementId(CONTRACT_ID)
+                .withProviderBpn("BPNL000000000002")
+                .withConsumerBpn(CONSUMER_BPN)
+                .build();
+        when(store.findByAgreementId(CONTRACT_ID)).thenReturn(entry);
+
+        cachingProvider.propertiesFor(createTransferProcess(CONTRACT_ID), createPolicy(CONSUMER_DID));
+        var result = cachingProvider.propertiesFor(createTransferProcess(CONTRACT_ID), createPolicy(CONSUMER_DID));
+
+        assertThat(result).isSucceeded().satisfies(properties -> {
+            assertThat(properties).containsEntry(AUDIENCE_PROPERTY, CONSUMER_DID);
+            assertThat(properties).containsEntry(BPN_PROPERTY, CONSUMER_BPN);
+        });
+        verify(store, times(1)).findByAgreementId(CONTRACT_ID);
+    }
+
+    @Test
+    void shouldPreferBdrsSnapshot_whenAssigneeIsBpn() {
+        when(bdrs.resolveDidFromSnapshot(CONSUMER_BPN)).thenReturn(CONSUMER_DID);
+
+        var result = provider.propertiesFor(createTransferProcess(CONTRACT_ID), createPolicy(CONSUMER_BPN));
+
+        assertThat(result).isSucceeded().satisfies(properties -> assertThat(properties).containsEntry(AUDIENCE_PROPERTY, CONSUMER_DID));
+        verify(bdrs, never()).resolveDid(any());
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        var cache = new AgreementPropertiesCache(10, bdrs);
+        var cachingProvider = new TxDataFlowPropertiesProvider(store, bdrs, mock(Monitor.class, RETURNS_SELF), id -> true, cache);
+        when(store.findByAgreementId(CONTRACT_ID)).thenReturn(null);
+
+        cachingProvider.propertiesFor(createTransferProcess(CONTRACT_ID), createPolicy(CONSUMER_DID));
+
+        assertThat(cache.get(CONTRACT_ID)).isNull();
+    }
+
     @Test
     void shouldReturnProperties_whenAssigneeIsNeitherDidNorBpn() {
         var assignee = "some-unknown-identifier";
@@ -19,11 +19,24 @@
 
 package org.eclipse.tractusx.edc.dataflow.api;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.tractusx.edc.spi.dataflow.DataFlowService;
 
+import java.util.Map;
+
+import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 /**
@@ -32,6 +45,12 @@ import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMa
  */
 public class DataFlowApiController {
 
+    public static final String DATAFLOW_IDS = "dataflowIds";
+    public static final String FILTER_EXPRESSION = "filterExpression";
+    private static final String OPERAND_LEFT = "operandLeft";
+    private static final String OPERATOR = "operator";
+    private static final String OPERAND_RIGHT = "operandRight";
+
     private final Monitor monitor;
     private final DataFlowService service;
 
@@ -45,5 +64,65 @@ public class DataFlowApiController {
                 .onSuccess(v -> monitor.debug(format("Trigger requested for dataflow with ID %s", id)))
                 .orElseThrow(exceptionMapper(DataFlow.class, id));
     }
+
+    /**
+     * Triggers either the dataflows listed in {@value #DATAFLOW_IDS} or all STARTED dataflows matching the
+     * {@value #FILTER_EXPRESSION} of the request, and returns the result of every dataflow.
+     */
+    public JsonArray triggerAll(JsonObject request) {
+        if (request == null || request.containsKey(DATAFLOW_IDS) == request.containsKey(FILTER_EXPRESSION)) {
+            throw new InvalidRequestException("Exactly one of '%s' and '%s' must be provided".formatted(DATAFLOW_IDS, FILTER_EXPRESSION));
+        }
+
+        Map<String, ServiceResult<Void>> results;
+        try {
+            if (request.containsKey(DATAFLOW_IDS)) {
+                var ids = request.getJsonArray(DATAFLOW_IDS).getValuesAs(JsonString.class).stream()
+                        .map(JsonString::getString)
+                        .toList();
+                results = service.triggerAll(ids);
+            } else {
+                var criteria = request.getJsonArray(FILTER_EXPRESSION).getValuesAs(JsonObject.class).stream()
+                        .map(this::toCriterion)
+                        .toList();
+                results = service.triggerMatching(criteria).orElseThrow(exceptionMapper(DataFlow.class, null));
+            }
+        } catch (ClassCastException | NullPointerException | ArithmeticException e) {
+            throw new InvalidRequestException("Malformed bulk trigger request: %s".formatted(e.getMessage()));
+        }
+
+        var triggered = results.values().stream().filter(ServiceResult::succeeded).count();
+        monitor.debug(format("Bulk trigger requested for %d dataflows, %d triggered", results.size(), triggered));
+
+        return results.entrySet().stream()
+                .map(entry -> toJson(entry.getKey(), entry.getValue()))
+                .collect(toJsonArray());
+    }
+
+    private Criterion toCriterion(JsonObject criterion) {
+        return criterion(criterion.getString(OPERAND_LEFT), criterion.getString(OPERATOR), toOperand(criterion.get(OPERAND_RIGHT)));
+    }
+
+    private Object toOperand(JsonValue value) {
+        return switch (value.getValueType()) {
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).isIntegral() ? ((JsonNumber) value).intValueExact() : ((JsonNumber) value).doubleValue();
+            case TRUE -> true;
+            case FALSE -> false;
+            case ARRAY -> value.asJsonArray().stream().map(this::toOperand).toList();
+            default -> throw new InvalidRequestException("Unsupported operandRight: %s".formatted(value));
+        };
+    }
+
+    private JsonObject toJson(String dataflowId, ServiceResult<Void> result) {
+        var builder = Json.createObjectBuilder()
+                .add("dataflowId", dataflowId)
+                .add("triggered", result.succeeded());
+        if (result.failed()) {
+            builder.add("reason", result.reason().name())
+                    .add("detail", result.getFailureDetail());
+        }
+        return builder.build();
+    }
 }
 
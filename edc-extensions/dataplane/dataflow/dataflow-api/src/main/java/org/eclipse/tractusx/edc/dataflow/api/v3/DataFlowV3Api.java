@@ -26,10 +26,15 @@ import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 
+import java.util.List;
+
 @OpenAPIDefinition(info = @Info(version = "v3"))
 @Tag(name = "DataFlow API V3")
 public interface DataFlowV3Api {
@@ -46,4 +51,44 @@ public interface DataFlowV3Api {
     )
     void triggerDataTransferV3(String id);
 
+    @Operation(description = "Requests the trigger of the data transfers of several data flows, either given by 'dataflowIds' " +
+            "or all STARTED data flows matching the criteria in 'filterExpression'. Data flows are leased and triggered in batches. " +
+            "A 'filterExpression' may match at most 10000 data flows, otherwise the request is rejected and no data flow is triggered. " + ASYNC_WARNING,
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = BulkTriggerRequestSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every data flow",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkTriggerResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed, or the filter expression matches more than 10000 data flows",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            }
+    )
+    JsonArray triggerDataTransfersV3(JsonObject request);
+
+    @Schema(name = "BulkTriggerRequest", example = BulkTriggerRequestSchema.EXAMPLE)
+    record BulkTriggerRequestSchema(
+            List<String> dataflowIds,
+            List<ApiCoreSchema.CriterionSchema> filterExpression
+    ) {
+        public static final String EXAMPLE = """
+                {
+                    "filterExpression": [
+                        {
+                            "operandLeft": "assetId",
+                            "operator": "=",
+                            "operandRight": "asset-id"
+                        }
+                    ]
+                }
+                """;
+    }
+
+    @Schema(name = "BulkTriggerResult")
+    record BulkTriggerResultSchema(
+            String dataflowId,
+            boolean triggered,
+            String reason,
+            String detail
+    ) {
+    }
+
 }
@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.edc.dataflow.api.v3;
 
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -47,4 +49,11 @@ public class DataFlowV3ApiController implements DataFlowV3Api {
         delegate.trigger(id);
     }
 
+    @POST
+    @Path("/trigger")
+    @Override
+    public JsonArray triggerDataTransfersV3(JsonObject request) {
+        return delegate.triggerAll(request);
+    }
+
 }
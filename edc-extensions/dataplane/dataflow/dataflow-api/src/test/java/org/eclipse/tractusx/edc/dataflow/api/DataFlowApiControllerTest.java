@@ -19,6 +19,7 @@
 
 package org.eclipse.tractusx.edc.dataflow.api;
 
+import jakarta.json.Json;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
@@ -28,11 +29,21 @@ import org.eclipse.tractusx.edc.spi.dataflow.DataFlowService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.tractusx.edc.dataflow.api.DataFlowApiController.DATAFLOW_IDS;
+import static org.eclipse.tractusx.edc.dataflow.api.DataFlowApiController.FILTER_EXPRESSION;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DataFlowApiControllerTest {
@@ -80,5 +91,72 @@ class DataFlowApiControllerTest {
         assertThatThrownBy(() -> controller.trigger(DATAFLOW_ID)).isInstanceOf(ObjectConflictException.class);
     }
 
+    @Test
+    void triggerAll_shouldReturnResultPerDataFlow_whenIdsAreProvided() {
+        var results = new LinkedHashMap<String, ServiceResult<Void>>();
+        results.put("1", ServiceResult.success());
+        results.put("2", ServiceResult.notFound("not-found"));
+        when(service.triggerAll(List.of("1", "2"))).thenReturn(results);
+        var request = Json.createObjectBuilder()
+                .add(DATAFLOW_IDS, Json.createArrayBuilder().add("1").add("2"))
+                .build();
+
+        var response = controller.triggerAll(request);
+
+        assertThat(response).hasSize(2);
+        assertThat(response.getJsonObject(0).getString("dataflowId")).isEqualTo("1");
+        assertThat(response.getJsonObject(0).getBoolean("triggered")).isTrue();
+        assertThat(response.getJsonObject(1).getBoolean("triggered")).isFalse();
+        assertThat(response.getJsonObject(1).getString("reason")).isEqualTo("NOT_FOUND");
+        assertThat(response.getJsonObject(1).getString("detail")).isEqualTo("not-found");
+    }
+
+    @Test
+    void triggerAll_shouldTriggerMatching_whenFilterExpressionIsProvided() {
+        when(service.triggerMatching(any())).thenReturn(ServiceResult.success(Map.of("1", ServiceResult.success())));
+        var request = Json.createObjectBuilder()
+                .add(FILTER_EXPRESSION, Json.createArrayBuilder().add(Json.createObjectBuilder()
+                        .add("operandLeft", "assetId")
+                        .add("operator", "=")
+                        .add("operandRight", "asset")))
+                .build();
+
+        var response = controller.triggerAll(request);
+
+        assertThat(response).hasSize(1);
+        verify(service).triggerMatching(List.of(criterion("assetId", "=", "asset")));
+    }
+
+    @Test
+    void triggerAll_shouldThrowInvalidRequest_whenTooManyDataFlowsMatch() {
+        when(service.triggerMatching(any())).thenReturn(ServiceResult.badRequest("too many"));
+        var request = Json.createObjectBuilder()
+                .add(FILTER_EXPRESSION, Json.createArrayBuilder())
+                .build();
+
+        assertThatThrownBy(() -> controller.triggerAll(request)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void triggerAll_shouldThrowInvalidRequest_whenBothIdsAndFilterAreProvided() {
+        var request = Json.createObjectBuilder()
+                .add(DATAFLOW_IDS, Json.createArrayBuilder().add("1"))
+                .add(FILTER_EXPRESSION, Json.createArrayBuilder())
+                .build();
+
+        assertThatThrownBy(() -> controller.triggerAll(request)).isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void triggerAll_shouldThrowInvalidRequest_whenCriterionIsMalformed() {
+        var request = Json.createObjectBuilder()
+                .add(FILTER_EXPRESSION, Json.createArrayBuilder().add(Json.createObjectBuilder().add("operator", "=")))
+                .build();
+
+        assertThatThrownBy(() -> controller.triggerAll(request)).isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(service);
+    }
+
 }
 
@@ -28,6 +28,7 @@ dependencies {
 
     implementation(libs.edc.spi.core)
     implementation(libs.edc.spi.dataplane.dataplane)
+    implementation(libs.edc.spi.transactionspi)
 
     testImplementation(libs.edc.junit)
 }
@@ -23,8 +23,10 @@ import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.tractusx.non.finite.provider.push.spi.FinitenessEvaluator;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.tractusx.edc.spi.dataflow.DataFlowService;
 
 @Extension(DataFlowServiceExtension.NAME)
@@ -38,6 +40,13 @@ public class DataFlowServiceExtension implements ServiceExtension {
     @Inject
     private FinitenessEvaluator finitenessEvaluator;
 
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Setting(key = "tx.edc.dataplane.dataflow.trigger.batch.size", description = "Number of dataflows leased and triggered in a single transaction by bulk triggers",
+            defaultValue = DataFlowServiceImpl.DEFAULT_BATCH_SIZE + "", min = 1)
+    private int triggerBatchSize;
+
     @Override
     public String name() {
         return NAME;
@@ -45,7 +54,7 @@ public class DataFlowServiceExtension implements ServiceExtension {
 
     @Provider
     public DataFlowService dataFlowService() {
-        return new DataFlowServiceImpl(dataPlaneStore, finitenessEvaluator);
+        return new DataFlowServiceImpl(dataPlaneStore, finitenessEvaluator, transactionContext, triggerBatchSize);
     }
 
 }
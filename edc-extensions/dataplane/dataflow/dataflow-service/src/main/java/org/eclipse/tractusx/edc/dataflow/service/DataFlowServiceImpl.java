@@ -21,24 +21,50 @@ package org.eclipse.tractusx.edc.dataflow.service;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.tractusx.non.finite.provider.push.spi.FinitenessEvaluator;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.tractusx.edc.spi.dataflow.DataFlowService;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.ServiceResult.badRequest;
 import static org.eclipse.edc.spi.result.ServiceResult.conflict;
+import static org.eclipse.edc.spi.result.ServiceResult.unexpected;
 import static org.eclipse.edc.spi.types.domain.transfer.FlowType.PUSH;
 
 public class DataFlowServiceImpl implements DataFlowService {
 
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int MAX_MATCHING_DATAFLOWS = 10_000;
+
     private final DataPlaneStore dataPlaneStore;
     private final FinitenessEvaluator finitenessEvaluator;
+    private final TransactionContext transactionContext;
+    private final int batchSize;
 
     public DataFlowServiceImpl(DataPlaneStore dataPlaneStore, FinitenessEvaluator finitenessEvaluator) {
+        this(dataPlaneStore, finitenessEvaluator, new NoopTransactionContext(), DEFAULT_BATCH_SIZE);
+    }
+
+    public DataFlowServiceImpl(DataPlaneStore dataPlaneStore, FinitenessEvaluator finitenessEvaluator,
+                               TransactionContext transactionContext, int batchSize) {
         this.dataPlaneStore = dataPlaneStore;
         this.finitenessEvaluator = finitenessEvaluator;
+        this.transactionContext = transactionContext;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -47,18 +73,75 @@ public class DataFlowServiceImpl implements DataFlowService {
                 .compose(this::trigger);
     }
 
+    /**
+     * Triggers the given dataflows in chunks of the configured batch size, each chunk in a single transaction. If a
+     * chunk cannot be committed, all of its dataflows are reported as failed.
+     */
+    @Override
+    public @NotNull Map<String, ServiceResult<Void>> triggerAll(Collection<String> dataflowIds) {
+        var ids = List.copyOf(new LinkedHashSet<>(dataflowIds));
+        var results = new LinkedHashMap<String, ServiceResult<Void>>();
+        for (var from = 0; from < ids.size(); from += batchSize) {
+            var chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            try {
+                results.putAll(transactionContext.execute(() -> {
+                    var chunkResults = new LinkedHashMap<String, ServiceResult<Void>>();
+                    chunk.forEach(id -> chunkResults.put(id, trigger(id)));
+                    return chunkResults;
+                }));
+            } catch (EdcException e) {
+                chunk.forEach(id -> results.put(id, unexpected("Could not trigger dataflow %s: %s".formatted(id, e.getMessage()))));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Takes a snapshot of the ids of the matching STARTED dataflows without leasing them, and triggers them like
+     * {@link #triggerAll(Collection)}. Every dataflow of the snapshot is triggered at most once, even if it returns to
+     * STARTED while later chunks are processed. If more than {@link #MAX_MATCHING_DATAFLOWS} dataflows match, nothing is
+     * triggered and a bad request failure is returned, so that the criteria can be narrowed down.
+     */
+    @Override
+    public @NotNull ServiceResult<Map<String, ServiceResult<Void>>> triggerMatching(List<Criterion> criteria) {
+        var filter = Stream.concat(criteria.stream(), Stream.of(criterion("state", "=", STARTED.code()))).toList();
+        var ids = new LinkedHashSet<String>();
+        for (var offset = 0; offset <= MAX_MATCHING_DATAFLOWS; offset += batchSize) {
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(filter)
+                    .sortField("id")
+                    .offset(offset)
+                    .limit(Math.min(batchSize, MAX_MATCHING_DATAFLOWS + 1 - offset))
+                    .build();
+            List<String> page;
+            try (var dataflows = dataPlaneStore.query(query)) {
+                page = dataflows.map(DataFlow::getId).toList();
+            }
+            if (!ids.addAll(page) || page.size() < query.getLimit()) {
+                break;
+            }
+        }
+        if (ids.size() > MAX_MATCHING_DATAFLOWS) {
+            return badRequest("More than %d dataflows match the filter expression, none was triggered".formatted(MAX_MATCHING_DATAFLOWS));
+        }
+        return ServiceResult.success(triggerAll(ids));
+    }
+
     private ServiceResult<Void> trigger(DataFlow dataflow) {
         if (!isPushFlowType(dataflow)) {
+            dataPlaneStore.save(dataflow);
             return badRequest("Could not trigger dataflow %s because it's not PUSH flow type"
                     .formatted(dataflow.getId()));
         }
 
         if (!finitenessEvaluator.isNonFinite(dataflow)) {
+            dataPlaneStore.save(dataflow);
             return badRequest("Could not trigger dataflow %s because underlying asset is finite"
                     .formatted(dataflow.getId()));
         }
 
         if (!isInStartedState(dataflow)) {
+            dataPlaneStore.save(dataflow);
             return conflict("Could not trigger dataflow %s because it's not STARTED. Current state is %s"
                     .formatted(dataflow.getId(), dataflow.stateAsString()));
         }
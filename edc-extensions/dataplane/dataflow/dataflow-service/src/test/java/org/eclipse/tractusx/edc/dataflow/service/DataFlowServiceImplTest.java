@@ -21,22 +21,41 @@ package org.eclipse.tractusx.edc.dataflow.service;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.transfer.TransferType;
 import org.eclipse.edc.tractusx.non.finite.provider.push.spi.FinitenessEvaluator;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.TERMINATED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
 import static org.eclipse.edc.spi.types.domain.transfer.FlowType.PULL;
 import static org.eclipse.edc.spi.types.domain.transfer.FlowType.PUSH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DataFlowServiceImplTest {
@@ -133,4 +152,167 @@ class DataFlowServiceImplTest {
 
         assertThat(result).isSucceeded();
     }
+
+    @Test
+    public void trigger_shouldReleaseLease_whenDataFlowCannotBeTriggered() {
+        var dataFlow = DataFlow.Builder.newInstance()
+                .id(DATAFLOW_ID)
+                .state(TERMINATED.code())
+                .transferType(new TransferType("destination", PUSH))
+                .build();
+        when(store.findByIdAndLease(DATAFLOW_ID)).thenReturn(StoreResult.success(dataFlow));
+        when(finitenessEvaluator.isNonFinite(dataFlow)).thenReturn(true);
+
+        var result = service.trigger(DATAFLOW_ID);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(store).save(dataFlow);
+    }
+
+    @Test
+    public void triggerAll_shouldReturnResultPerDataFlow() {
+        var dataFlow = triggerableDataFlow("started");
+        when(store.findByIdAndLease("started")).thenReturn(StoreResult.success(dataFlow));
+        when(store.findByIdAndLease("unknown")).thenReturn(StoreResult.notFound("not-found"));
+        when(finitenessEvaluator.isNonFinite(dataFlow)).thenReturn(true);
+
+        var results = service.triggerAll(List.of("started", "unknown", "started"));
+
+        assertThat(results).containsOnlyKeys("started", "unknown");
+        assertThat(results.get("started")).isSucceeded();
+        assertThat(results.get("unknown")).isFailed().extracting(ServiceFailure::getReason).isEqualTo(NOT_FOUND);
+        verify(store).save(dataFlow);
+    }
+
+    @Test
+    public void triggerAll_shouldUseOneTransactionPerChunk() {
+        var transactionContext = spy(new NoopTransactionContext());
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, transactionContext, 2);
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.notFound("not-found"));
+
+        var results = batchService.triggerAll(List.of("1", "2", "3", "4", "5"));
+
+        assertThat(results).hasSize(5);
+        verify(transactionContext, times(3)).execute(ArgumentMatchers.<TransactionContext.ResultTransactionBlock<Object>>any());
+    }
+
+    @Test
+    public void triggerAll_shouldFailWholeChunk_whenTransactionFails() {
+        var transactionContext = mock(TransactionContext.class);
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, transactionContext, 2);
+        when(transactionContext.execute(ArgumentMatchers.<TransactionContext.ResultTransactionBlock<Object>>any()))
+                .thenThrow(new EdcPersistenceException("connection lost"));
+
+        var results = batchService.triggerAll(List.of("1", "2"));
+
+        assertThat(results).containsOnlyKeys("1", "2");
+        assertThat(results.get("1")).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNEXPECTED);
+        assertThat(results.get("2")).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNEXPECTED);
+    }
+
+    @Test
+    public void triggerMatching_shouldTriggerSnapshotOfStartedDataFlowsInChunks() {
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, new NoopTransactionContext(), 2);
+        var first = triggerableDataFlow("1");
+        var second = triggerableDataFlow("2");
+        var pull = DataFlow.Builder.newInstance().id("3").state(STARTED.code())
+                .transferType(new TransferType("destination", PULL))
+                .build();
+        when(store.query(any())).thenAnswer(i -> Stream.of(first, second)).thenAnswer(i -> Stream.of(pull));
+        when(store.findByIdAndLease("1")).thenReturn(StoreResult.success(first));
+        when(store.findByIdAndLease("2")).thenReturn(StoreResult.success(second));
+        when(store.findByIdAndLease("3")).thenReturn(StoreResult.success(pull));
+        when(finitenessEvaluator.isNonFinite(any(DataFlow.class))).thenReturn(true);
+        var assetCriterion = criterion("assetId", "=", "asset");
+
+        var result = batchService.triggerMatching(List.of(assetCriterion));
+
+        assertThat(result).isSucceeded();
+        var results = result.getContent();
+        assertThat(results).containsOnlyKeys("1", "2", "3");
+        assertThat(results.get("1")).isSucceeded();
+        assertThat(results.get("2")).isSucceeded();
+        assertThat(results.get("3")).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        var query = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(store, times(2)).query(query.capture());
+        assertThat(query.getAllValues()).extracting(QuerySpec::getOffset).containsExactly(0, 2);
+        assertThat(query.getValue().getFilterExpression()).containsExactly(assetCriterion, criterion("state", "=", STARTED.code()));
+        verify(store, never()).nextNotLeased(anyInt(), any(Criterion[].class));
+        verify(store).save(first);
+        verify(store).save(second);
+        verify(store).save(pull);
+    }
+
+    @Test
+    public void triggerMatching_shouldTriggerDataFlowOnce_whenItReturnsToStartedBetweenChunks() {
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, new NoopTransactionContext(), 1);
+        var started = List.of(triggerableDataFlow("1"), triggerableDataFlow("2"));
+        when(store.query(any())).thenAnswer(i -> {
+            QuerySpec query = i.getArgument(0);
+            return started.stream().skip(query.getOffset()).limit(query.getLimit());
+        });
+        // a triggered dataflow is immediately back in STARTED when the next chunk is processed
+        when(store.findByIdAndLease(any())).thenAnswer(i -> StoreResult.success(triggerableDataFlow(i.getArgument(0))));
+        when(finitenessEvaluator.isNonFinite(any(DataFlow.class))).thenReturn(true);
+
+        var results = batchService.triggerMatching(List.of()).getContent();
+
+        assertThat(results).containsOnlyKeys("1", "2");
+        assertThat(results.values()).allSatisfy(result -> assertThat(result).isSucceeded());
+        verify(store).findByIdAndLease("1");
+        verify(store).findByIdAndLease("2");
+    }
+
+    @Test
+    public void triggerMatching_shouldTriggerAll_whenMaximumNumberOfDataFlowsMatch() {
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, new NoopTransactionContext(), 1_000);
+        when(store.query(any())).thenAnswer(i -> {
+            QuerySpec query = i.getArgument(0);
+            return IntStream.range(query.getOffset(), Math.min(query.getOffset() + query.getLimit(), DataFlowServiceImpl.MAX_MATCHING_DATAFLOWS))
+                    .mapToObj(id -> triggerableDataFlow(String.valueOf(id)));
+        });
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.notFound("not-found"));
+
+        var result = batchService.triggerMatching(List.of());
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent()).hasSize(DataFlowServiceImpl.MAX_MATCHING_DATAFLOWS);
+    }
+
+    @Test
+    public void triggerMatching_shouldFailWithoutTriggering_whenMoreThanMaximumNumberOfDataFlowsMatch() {
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, new NoopTransactionContext(), 1_000);
+        when(store.query(any())).thenAnswer(i -> {
+            QuerySpec query = i.getArgument(0);
+            return IntStream.range(query.getOffset(), query.getOffset() + query.getLimit())
+                    .mapToObj(id -> triggerableDataFlow(String.valueOf(id)));
+        });
+
+        var result = batchService.triggerMatching(List.of());
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verify(store, times(DataFlowServiceImpl.MAX_MATCHING_DATAFLOWS / 1_000 + 1)).query(any());
+        verify(store, never()).findByIdAndLease(any());
+    }
+
+    @Test
+    public void triggerMatching_shouldStop_whenNoNewDataFlowIsReturned() {
+        var batchService = new DataFlowServiceImpl(store, finitenessEvaluator, new NoopTransactionContext(), 1);
+        var dataFlow = triggerableDataFlow("1");
+        when(store.query(any())).thenAnswer(i -> Stream.of(dataFlow));
+        when(store.findByIdAndLease("1")).thenReturn(StoreResult.success(dataFlow));
+
+        var results = batchService.triggerMatching(List.of()).getContent();
+
+        assertThat(results).containsOnlyKeys("1");
+        verify(store, times(2)).query(any());
+    }
+
+    private DataFlow triggerableDataFlow(String id) {
+        return DataFlow.Builder.newInstance()
+                .id(id)
+                .state(STARTED.code())
+                .transferType(new TransferType("destination", PUSH))
+                .build();
+    }
 }
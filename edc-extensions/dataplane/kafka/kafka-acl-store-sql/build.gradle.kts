@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":edc-extensions:dataplane:kafka:kafka-broker-extension"))
+    api(libs.edc.spi.core)
+    implementation(libs.edc.spi.transaction.datasource)
+    implementation(libs.edc.spi.transactionspi)
+    implementation(libs.edc.lib.sql)
+
+    testImplementation(libs.edc.transaction.local)
+    testImplementation(testFixtures(libs.edc.junit))
+    testImplementation(testFixtures(libs.edc.sql.test.fixtures))
+    testImplementation(testFixtures(project(":edc-extensions:dataplane:kafka:kafka-broker-extension")))
+    testImplementation(testFixtures(project(":edc-tests:e2e-fixtures")))
+}
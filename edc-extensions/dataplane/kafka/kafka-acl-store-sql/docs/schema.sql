@@ -0,0 +1,22 @@
+--
+--  Copyright (c) 2026 Contributors to the Eclipse Foundation
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Contributors to the Eclipse Foundation - durable Kafka ACL tracking
+--
+
+CREATE TABLE IF NOT EXISTS edc_kafka_acl
+(
+    transfer_process_id VARCHAR      NOT NULL
+        CONSTRAINT kafka_acl_pk PRIMARY KEY,
+    oauth_subject       VARCHAR(255) NOT NULL,
+    topic_name          VARCHAR(255) NOT NULL,
+    group_prefix        VARCHAR(255) NOT NULL,
+    state               VARCHAR(32)  NOT NULL
+);
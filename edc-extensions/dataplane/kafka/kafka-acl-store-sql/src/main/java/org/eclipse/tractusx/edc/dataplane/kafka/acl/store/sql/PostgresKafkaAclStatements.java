@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store.sql;
+
+import static java.lang.String.format;
+
+public class PostgresKafkaAclStatements implements SqlKafkaAclStatements {
+
+    @Override
+    public String upsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?) ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s",
+                getTable(),
+                getTransferProcessIdColumn(),
+                getOauthSubjectColumn(),
+                getTopicNameColumn(),
+                getGroupPrefixColumn(),
+                getStateColumn(),
+                getTransferProcessIdColumn(),
+                getOauthSubjectColumn(), getOauthSubjectColumn(),
+                getTopicNameColumn(), getTopicNameColumn(),
+                getGroupPrefixColumn(), getGroupPrefixColumn(),
+                getStateColumn(), getStateColumn());
+    }
+
+    @Override
+    public String findFirstPageTemplate() {
+        return format("SELECT * FROM %s ORDER BY %s LIMIT ?", getTable(), getTransferProcessIdColumn());
+    }
+
+    @Override
+    public String findPageAfterTemplate() {
+        return format("SELECT * FROM %s WHERE %s > ? ORDER BY %s LIMIT ?",
+                getTable(), getTransferProcessIdColumn(), getTransferProcessIdColumn());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store.sql;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Statement templates and SQL table+column names required for the {@link SqlKafkaAclStore}
+ */
+public interface SqlKafkaAclStatements extends SqlStatements {
+
+    default String getTransferProcessIdColumn() {
+        return "transfer_process_id";
+    }
+
+    default String getOauthSubjectColumn() {
+        return "oauth_subject";
+    }
+
+    default String getTopicNameColumn() {
+        return "topic_name";
+    }
+
+    default String getGroupPrefixColumn() {
+        return "group_prefix";
+    }
+
+    default String getStateColumn() {
+        return "state";
+    }
+
+    default String getTable() {
+        return "edc_kafka_acl";
+    }
+
+    String upsertTemplate();
+
+    default String findByIdTemplate() {
+        return "SELECT * FROM %s WHERE %s = ?".formatted(getTable(), getTransferProcessIdColumn());
+    }
+
+    default String deleteTemplate() {
+        return "DELETE FROM %s WHERE %s = ?".formatted(getTable(), getTransferProcessIdColumn());
+    }
+
+    String findFirstPageTemplate();
+
+    String findPageAfterTemplate();
+}
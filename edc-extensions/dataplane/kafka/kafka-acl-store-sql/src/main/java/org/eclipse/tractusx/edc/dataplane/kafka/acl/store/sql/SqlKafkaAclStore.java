@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+public class SqlKafkaAclStore extends AbstractSqlStore implements KafkaAclStore {
+
+    private final SqlKafkaAclStatements statements;
+
+    public SqlKafkaAclStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                            TransactionContext transactionContext, ObjectMapper objectMapper,
+                            QueryExecutor queryExecutor, SqlKafkaAclStatements statements) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+    }
+
+    @Override
+    public StoreResult<Void> save(KafkaAclEntry entry) {
+        Objects.requireNonNull(entry.transferProcessId());
+        Objects.requireNonNull(entry.state());
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.upsertTemplate(),
+                        entry.transferProcessId(),
+                        entry.oauthSubject(),
+                        entry.topicName(),
+                        entry.groupPrefix(),
+                        entry.state().name());
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable KafkaAclEntry findById(String transferProcessId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, this::mapRow, statements.findByIdTemplate(), transferProcessId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> delete(String transferProcessId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var deleted = queryExecutor.execute(connection, statements.deleteTemplate(), transferProcessId);
+                return deleted == 0 ?
+                        StoreResult.notFound(NOT_FOUND_TEMPLATE.formatted(transferProcessId)) :
+                        StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<KafkaAclEntry> findPage(@Nullable String afterTransferProcessId, int limit) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection();
+                 var stream = afterTransferProcessId == null ?
+                         queryExecutor.query(connection, false, this::mapRow, statements.findFirstPageTemplate(), limit) :
+                         queryExecutor.query(connection, false, this::mapRow, statements.findPageAfterTemplate(), afterTransferProcessId, limit)) {
+                return stream.toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private KafkaAclEntry mapRow(ResultSet rs) throws SQLException {
+        return new KafkaAclEntry(
+                rs.getString(statements.getTransferProcessIdColumn()),
+                rs.getString(statements.getOauthSubjectColumn()),
+                rs.getString(statements.getTopicNameColumn()),
+                rs.getString(statements.getGroupPrefixColumn()),
+                KafkaAclEntry.State.valueOf(rs.getString(statements.getStateColumn())));
+    }
+}
@@ -19,6 +19,7 @@
 
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -32,4 +33,5 @@ dependencies {
     testImplementation(libs.edc.junit)
     testImplementation(libs.testcontainers.junit)
     testImplementation(libs.testcontainers.kafka)
+    testFixturesImplementation(libs.edc.junit)
 }
@@ -28,19 +28,32 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
-import org.eclipse.tractusx.edc.dataplane.kafka.acl.KafkaAclService;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.DefaultAdminClientFactory;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.KafkaAclReconciler;
 import org.eclipse.tractusx.edc.dataplane.kafka.acl.KafkaAclServiceImpl;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.SharedAdminClient;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore;
 import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthService;
 import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthServiceImpl;
 import org.eclipse.tractusx.edc.dataplane.kafka.flow.KafkaEndpointDataReferenceService;
 import org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaDeprovisioner;
 import org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaProvisioner;
 import org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaResourceDefinitionGenerator;
+import org.eclipse.tractusx.edc.dataplane.kafka.provision.OauthCredentialsResolver;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.KAFKA_TYPE;
 
@@ -52,7 +65,8 @@ import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDa
  * directly at the Kafka broker. On suspend/terminate the ACLs and token are revoked.
  * <p>
  * Set {@code edc.dataplane.kafka.acl.enabled=true} to activate Kafka ACL management for immediate
- * broker-level revocation independent of token expiry.
+ * broker-level revocation independent of token expiry. The granted ACLs are tracked in the {@link KafkaAclStore} and
+ * periodically reconciled against the broker.
  */
 @Extension(value = KafkaBrokerExtension.NAME)
 public class KafkaBrokerExtension implements ServiceExtension {
@@ -74,6 +88,39 @@ public class KafkaBrokerExtension implements ServiceExtension {
     @Setting(description = "SASL JAAS config for the ACL admin client")
     static final String ACL_SASL_JAAS_CONFIG = "edc.dataplane.kafka.acl.sasl.jaas.config";
 
+    @Setting(description = "Time window in milliseconds in which concurrent ACL operations are collected into a single admin request", defaultValue = "20")
+    static final String ACL_BATCH_WINDOW_MS = "edc.dataplane.kafka.acl.batch.window.ms";
+
+    @Setting(description = "Timeout in milliseconds for ACL admin requests", defaultValue = "30000")
+    static final String ACL_TIMEOUT_MS = "edc.dataplane.kafka.acl.timeout.ms";
+
+    @Setting(description = "Interval in seconds in which the connection of the shared ACL admin client is checked", defaultValue = "60")
+    static final String ACL_HEALTH_CHECK_INTERVAL_SECONDS = "edc.dataplane.kafka.acl.health.check.interval.seconds";
+
+    @Setting(description = "Interval in seconds in which the tracked ACLs are reconciled with the broker. The first run happens one interval after start", defaultValue = "300")
+    static final String ACL_RECONCILE_INTERVAL_SECONDS = "edc.dataplane.kafka.acl.reconcile.interval.seconds";
+
+    @Setting(description = "Number of tracked transfers handled per admin request during ACL reconciliation", defaultValue = "100")
+    static final String ACL_RECONCILE_BATCH_SIZE = "edc.dataplane.kafka.acl.reconcile.batch.size";
+
+    @Setting(description = "Share client-credentials tokens of the same client between flows until shortly before they expire. Tokens of clients with a revocation URL are never shared", defaultValue = "true")
+    static final String OAUTH_TOKEN_CACHE_ENABLED = "edc.dataplane.kafka.oauth.token.cache.enabled";
+
+    @Setting(description = "Time in seconds before expiry at which a cached client-credentials token is renewed at the latest", defaultValue = "30")
+    static final String OAUTH_TOKEN_RENEWAL_MARGIN_SECONDS = "edc.dataplane.kafka.oauth.token.renewal.margin.seconds";
+
+    @Setting(description = "Time in seconds for which an OAuth client secret resolved from the vault is reused, 0 disables caching", defaultValue = "300")
+    static final String OAUTH_SECRET_CACHE_TTL_SECONDS = "edc.dataplane.kafka.oauth.secret.cache.ttl.seconds";
+
+    @Setting(description = "Number of threads running the blocking stages (vault access) of Kafka provisioning and deprovisioning", defaultValue = "4")
+    static final String PROVISIONING_THREADS = "edc.dataplane.kafka.provisioning.threads";
+
+    @Setting(description = "Maximum number of queued Kafka provisioning stages. Further requests fail with a retryable error", defaultValue = "1000")
+    static final String PROVISIONING_QUEUE_SIZE = "edc.dataplane.kafka.provisioning.queue.size";
+
+    @Setting(description = "Timeout in milliseconds for each remote stage (token endpoint, revocation endpoint, broker) of Kafka provisioning and deprovisioning", defaultValue = "30000")
+    static final String PROVISIONING_STAGE_TIMEOUT_MS = "edc.dataplane.kafka.provisioning.stage.timeout.ms";
+
     @Inject
     private Vault vault;
 
@@ -92,6 +139,23 @@ public class KafkaBrokerExtension implements ServiceExtension {
     @Inject
     private EndpointDataReferenceServiceRegistry endpointDataReferenceServiceRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private KafkaAclStore aclStore;
+
+    @Inject
+    private Clock clock;
+
+    private KafkaAclServiceImpl aclService;
+    private KafkaAclReconciler aclReconciler;
+    private ScheduledExecutorService aclExecutor;
+    private ScheduledExecutorService aclOperationsExecutor;
+    private ExecutorService provisioningExecutor;
+    private long healthCheckInterval;
+    private long reconcileInterval;
+
     @Override
     public String name() {
         return NAME;
@@ -100,20 +164,68 @@ public class KafkaBrokerExtension implements ServiceExtension {
     @Override
     public void initialize(final ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        KafkaOauthService oauthService = new KafkaOauthServiceImpl(httpClient, typeManager.getMapper());
-        KafkaAclService aclService = buildAclService(context);
+        KafkaOauthService oauthService = buildOauthService(context);
+        var credentialsResolver = new OauthCredentialsResolver(vault, clock, Duration.ofSeconds(context.getSetting(OAUTH_SECRET_CACHE_TTL_SECONDS, 300L)));
+        aclService = buildAclService(context);
+
+        var threads = context.getSetting(PROVISIONING_THREADS, 4);
+        provisioningExecutor = executorInstrumentation.instrument(new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(context.getSetting(PROVISIONING_QUEUE_SIZE, 1000))), "Kafka provisioning");
+        var stageTimeout = Duration.ofMillis(context.getSetting(PROVISIONING_STAGE_TIMEOUT_MS, 30000L));
 
         resourceDefinitionGeneratorManager.registerProviderGenerator(new KafkaResourceDefinitionGenerator());
-        provisionerManager.register(new KafkaProvisioner(vault, oauthService, monitor));
-        provisionerManager.register(new KafkaDeprovisioner(vault, oauthService, aclService, monitor));
+        provisionerManager.register(new KafkaProvisioner(vault, credentialsResolver, oauthService, monitor, provisioningExecutor, stageTimeout));
+        provisionerManager.register(new KafkaDeprovisioner(vault, credentialsResolver, oauthService, aclService, monitor,
+                provisioningExecutor, stageTimeout));
         endpointDataReferenceServiceRegistry.register(KAFKA_TYPE, new KafkaEndpointDataReferenceService(aclService, monitor, typeManager.getMapper()));
     }
 
-    private KafkaAclService buildAclService(ServiceExtensionContext context) {
+    @Override
+    public void start() {
+        if (aclService != null) {
+            aclExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Kafka ACL maintenance");
+            aclExecutor.scheduleWithFixedDelay(aclService::checkHealth, healthCheckInterval, healthCheckInterval, TimeUnit.SECONDS);
+            aclExecutor.scheduleWithFixedDelay(aclReconciler::reconcile, reconcileInterval, reconcileInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (aclExecutor != null) {
+            aclExecutor.shutdownNow();
+        }
+        if (provisioningExecutor != null) {
+            provisioningExecutor.shutdownNow();
+        }
+        if (aclOperationsExecutor != null) {
+            aclOperationsExecutor.shutdownNow();
+        }
+        if (aclService != null) {
+            aclService.close();
+        }
+    }
+
+    private KafkaOauthService buildOauthService(ServiceExtensionContext context) {
+        if (!Boolean.parseBoolean(context.getSetting(OAUTH_TOKEN_CACHE_ENABLED, "true"))) {
+            return new KafkaOauthServiceImpl(httpClient, typeManager.getMapper());
+        }
+        return new KafkaOauthServiceImpl(httpClient, typeManager.getMapper(), clock,
+                Duration.ofSeconds(context.getSetting(OAUTH_TOKEN_RENEWAL_MARGIN_SECONDS, 30L)));
+    }
+
+    private KafkaAclServiceImpl buildAclService(ServiceExtensionContext context) {
         if (!Boolean.parseBoolean(context.getSetting(ACL_ENABLED, "false"))) {
             return null;
         }
-        return new KafkaAclServiceImpl(buildAdminProperties(context), context.getMonitor());
+        healthCheckInterval = context.getSetting(ACL_HEALTH_CHECK_INTERVAL_SECONDS, 60L);
+        reconcileInterval = context.getSetting(ACL_RECONCILE_INTERVAL_SECONDS, 300L);
+        var monitor = context.getMonitor();
+        var timeout = Duration.ofMillis(context.getSetting(ACL_TIMEOUT_MS, 30_000L));
+        var adminClient = new SharedAdminClient(new DefaultAdminClientFactory(), buildAdminProperties(context), timeout, monitor);
+        aclReconciler = new KafkaAclReconciler(aclStore, adminClient, monitor, context.getSetting(ACL_RECONCILE_BATCH_SIZE, 100), timeout);
+        aclOperationsExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Kafka ACL operations");
+        return new KafkaAclServiceImpl(adminClient, aclStore, monitor, aclOperationsExecutor,
+                Duration.ofMillis(context.getSetting(ACL_BATCH_WINDOW_MS, 20L)), timeout);
     }
 
     private Properties buildAdminProperties(ServiceExtensionContext context) {
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl;
+
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds the ACL bindings granted for a transfer and the filters matching them.
+ */
+final class KafkaAclBindings {
+
+    private KafkaAclBindings() {
+    }
+
+    static Collection<AclBinding> of(KafkaAclEntry entry) {
+        return of(entry.oauthSubject(), entry.topicName(), entry.groupPrefix());
+    }
+
+    static Collection<AclBinding> of(String oauthSubject, String topicName, String groupPrefix) {
+        String principal = "User:" + oauthSubject;
+        ResourcePattern topicResource = new ResourcePattern(ResourceType.TOPIC, topicName, PatternType.LITERAL);
+        ResourcePattern groupResource = new ResourcePattern(ResourceType.GROUP, groupPrefix, PatternType.PREFIXED);
+
+        return List.of(
+                new AclBinding(topicResource, new AccessControlEntry(principal, "*", AclOperation.READ, AclPermissionType.ALLOW)),
+                new AclBinding(topicResource, new AccessControlEntry(principal, "*", AclOperation.DESCRIBE, AclPermissionType.ALLOW)),
+                new AclBinding(groupResource, new AccessControlEntry(principal, "*", AclOperation.READ, AclPermissionType.ALLOW))
+        );
+    }
+
+    static Collection<AclBindingFilter> toFilters(Collection<AclBinding> aclBindings) {
+        Collection<AclBindingFilter> filters = new ArrayList<>();
+        for (AclBinding b : aclBindings) {
+            filters.add(new AclBindingFilter(
+                    new ResourcePatternFilter(b.pattern().resourceType(), b.pattern().name(), b.pattern().patternType()),
+                    new AccessControlEntryFilter(b.entry().principal(), b.entry().host(), b.entry().operation(), b.entry().permissionType())
+            ));
+        }
+        return filters;
+    }
+
+    /**
+     * Filters matching all bindings that can be created by {@link #of}, used to describe them in bulk.
+     */
+    static List<AclBindingFilter> describeFilters() {
+        return List.of(
+                new AclBindingFilter(new ResourcePatternFilter(ResourceType.TOPIC, null, PatternType.LITERAL), AccessControlEntryFilter.ANY),
+                new AclBindingFilter(new ResourcePatternFilter(ResourceType.GROUP, null, PatternType.PREFIXED), AccessControlEntryFilter.ANY)
+        );
+    }
+}
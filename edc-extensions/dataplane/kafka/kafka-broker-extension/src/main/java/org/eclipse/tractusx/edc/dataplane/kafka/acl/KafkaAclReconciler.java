@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl;
+
+import org.apache.kafka.clients.admin.CreateAclsOptions;
+import org.apache.kafka.clients.admin.DeleteAclsOptions;
+import org.apache.kafka.clients.admin.DescribeAclsOptions;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs drift between the ACLs tracked in the {@link KafkaAclStore} and the ACLs present on the broker.
+ * <p>
+ * Each run walks the store in pages of the configured batch size. Entries being revoked are deleted from the broker
+ * with one {@code deleteAcls} request per page and removed from the store once that succeeded. For active entries,
+ * the existing topic and group ACLs are described once per run with two bulk requests, and missing bindings are
+ * re-created with one {@code createAcls} request per page. Each entry is re-read before its bindings are re-created and
+ * again afterwards, so that bindings of a transfer revoked concurrently are deleted again instead of being leaked. ACLs
+ * present on the broker but not tracked in the store are left untouched.
+ */
+public class KafkaAclReconciler {
+
+    private final KafkaAclStore store;
+    private final SharedAdminClient adminClient;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final Duration timeout;
+
+    private final AtomicLong repairedCount = new AtomicLong();
+    private final AtomicLong revokedCount = new AtomicLong();
+
+    public KafkaAclReconciler(KafkaAclStore store, SharedAdminClient adminClient, Monitor monitor, int batchSize, Duration timeout) {
+        this.store = store;
+        this.adminClient = adminClient;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Runs one reconciliation pass. Failures are logged and retried on the next pass.
+     */
+    public void reconcile() {
+        var start = System.nanoTime();
+        Set<AclBinding> existing = null;
+        String after = null;
+        try {
+            List<KafkaAclEntry> page;
+            do {
+                page = store.findPage(after, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = page.get(page.size() - 1).transferProcessId();
+
+                var revoking = page.stream().filter(entry -> entry.state() == KafkaAclEntry.State.REVOKING).toList();
+                if (!revoking.isEmpty()) {
+                    revoke(revoking);
+                }
+
+                var active = page.stream().filter(entry -> entry.state() == KafkaAclEntry.State.ACTIVE).toList();
+                if (!active.isEmpty()) {
+                    if (existing == null) {
+                        existing = describeExisting();
+                    }
+                    repair(active, existing);
+                }
+            } while (page.size() == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            monitor.warning("Kafka ACL reconciliation failed, retrying on next run: %s".formatted(e.getMessage()));
+        } finally {
+            monitor.debug(() -> "Kafka ACL reconciliation done in %d ms, %d bindings repaired and %d transfers revoked in total"
+                    .formatted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), repairedCount.get(), revokedCount.get()));
+        }
+    }
+
+    /**
+     * Total number of missing ACL bindings re-created.
+     */
+    public long repairedCount() {
+        return repairedCount.get();
+    }
+
+    /**
+     * Total number of transfers whose pending revocation was completed.
+     */
+    public long revokedCount() {
+        return revokedCount.get();
+    }
+
+    private Set<AclBinding> describeExisting() throws Exception {
+        var admin = adminClient.get();
+        var existing = new HashSet<AclBinding>();
+        try {
+            for (var filter : KafkaAclBindings.describeFilters()) {
+                existing.addAll(admin.describeAcls(filter, new DescribeAclsOptions().timeoutMs((int) timeout.toMillis()))
+                        .values().get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        } catch (Exception e) {
+            adminClient.invalidate(admin);
+            throw e;
+        }
+        return existing;
+    }
+
+    private void repair(List<KafkaAclEntry> entries, Set<AclBinding> existing) throws Exception {
+        var missingByEntry = new LinkedHashMap<String, List<AclBinding>>();
+        entries.stream()
+                .filter(entry -> isActive(entry.transferProcessId()))
+                .forEach(entry -> {
+                    var missing = KafkaAclBindings.of(entry).stream().filter(binding -> !existing.contains(binding)).toList();
+                    if (!missing.isEmpty()) {
+                        missingByEntry.put(entry.transferProcessId(), missing);
+                    }
+                });
+        if (missingByEntry.isEmpty()) {
+            return;
+        }
+
+        var missing = new LinkedHashSet<AclBinding>();
+        missingByEntry.values().forEach(missing::addAll);
+        var admin = adminClient.get();
+        try {
+            admin.createAcls(missing, new CreateAclsOptions().timeoutMs((int) timeout.toMillis()))
+                    .all().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            adminClient.invalidate(admin);
+            throw e;
+        }
+        existing.addAll(missing);
+        repairedCount.addAndGet(missing.size());
+        monitor.info("Re-created %d missing Kafka ACL bindings".formatted(missing.size()));
+
+        revokeRecreatedIfNoLongerActive(entries, missingByEntry, existing);
+    }
+
+    /**
+     * An entry may have been revoked while its bindings were being re-created. Deletes the re-created bindings of such
+     * entries again, unless they are still granted by an active entry of the same page.
+     */
+    private void revokeRecreatedIfNoLongerActive(List<KafkaAclEntry> entries, Map<String, List<AclBinding>> recreatedByEntry,
+                                                 Set<AclBinding> existing) throws Exception {
+        var inactive = recreatedByEntry.keySet().stream().filter(id -> !isActive(id)).collect(Collectors.toSet());
+        if (inactive.isEmpty()) {
+            return;
+        }
+
+        var stale = new LinkedHashSet<AclBinding>();
+        inactive.forEach(id -> stale.addAll(recreatedByEntry.get(id)));
+        entries.stream()
+                .filter(entry -> !inactive.contains(entry.transferProcessId()))
+                .forEach(entry -> stale.removeAll(KafkaAclBindings.of(entry)));
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        var admin = adminClient.get();
+        try {
+            admin.deleteAcls(KafkaAclBindings.toFilters(stale), new DeleteAclsOptions().timeoutMs((int) timeout.toMillis()))
+                    .all().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            adminClient.invalidate(admin);
+            throw e;
+        }
+        existing.removeAll(stale);
+        monitor.info("Deleted %d re-created Kafka ACL bindings of transfers revoked in the meantime".formatted(stale.size()));
+    }
+
+    private boolean isActive(String transferProcessId) {
+        var entry = store.findById(transferProcessId);
+        return entry != null && entry.state() == KafkaAclEntry.State.ACTIVE;
+    }
+
+    private void revoke(List<KafkaAclEntry> entries) throws Exception {
+        var filtersByEntry = new ArrayList<List<AclBindingFilter>>(entries.size());
+        var filters = new LinkedHashSet<AclBindingFilter>();
+        entries.forEach(entry -> {
+            var entryFilters = List.copyOf(KafkaAclBindings.toFilters(KafkaAclBindings.of(entry)));
+            filtersByEntry.add(entryFilters);
+            filters.addAll(entryFilters);
+        });
+
+        var admin = adminClient.get();
+        try {
+            var values = admin.deleteAcls(filters, new DeleteAclsOptions().timeoutMs((int) timeout.toMillis())).values();
+            for (var i = 0; i < entries.size(); i++) {
+                var entry = entries.get(i);
+                var futures = filtersByEntry.get(i).stream().map(values::get).toArray(KafkaFuture[]::new);
+                try {
+                    KafkaFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                    store.delete(entry.transferProcessId());
+                    revokedCount.incrementAndGet();
+                } catch (ExecutionException e) {
+                    monitor.warning("Failed to revoke Kafka ACLs for transferProcessId %s, retrying on next run: %s"
+                            .formatted(entry.transferProcessId(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+                }
+            }
+        } catch (Exception e) {
+            adminClient.invalidate(admin);
+            throw e;
+        }
+    }
+}
@@ -21,6 +21,8 @@ package org.eclipse.tractusx.edc.dataplane.kafka.acl;
 
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages Kafka ACLs (Access Control Lists) for transfer processes.
  * <p>
@@ -51,6 +53,14 @@ public interface KafkaAclService {
      */
     Result<Void> revokeAclsForTransferProcess(String transferProcessId);
 
+    /**
+     * Same as {@link #revokeAclsForTransferProcess(String)}, but completes once the broker has answered instead of
+     * blocking the calling thread.
+     */
+    default CompletableFuture<Result<Void>> revokeAclsForTransferProcessAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(revokeAclsForTransferProcess(transferProcessId));
+    }
+
     /**
      * Revokes ACLs for the given subject, topic and group prefix directly, without requiring a transfer
      * process ID. The arguments must match those used at {@link #createAclsForSubject} for the deletion
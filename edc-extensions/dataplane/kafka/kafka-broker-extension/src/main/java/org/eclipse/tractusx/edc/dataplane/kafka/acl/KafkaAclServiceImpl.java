@@ -20,45 +20,104 @@
 package org.eclipse.tractusx.edc.dataplane.kafka.acl;
 
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.CreateAclsResult;
-import org.apache.kafka.clients.admin.DeleteAclsResult;
-import org.apache.kafka.common.acl.AccessControlEntry;
-import org.apache.kafka.common.acl.AccessControlEntryFilter;
+import org.apache.kafka.clients.admin.CreateAclsOptions;
+import org.apache.kafka.clients.admin.DeleteAclsOptions;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
-import org.apache.kafka.common.acl.AclOperation;
-import org.apache.kafka.common.acl.AclPermissionType;
-import org.apache.kafka.common.resource.PatternType;
-import org.apache.kafka.common.resource.ResourcePattern;
-import org.apache.kafka.common.resource.ResourcePatternFilter;
-import org.apache.kafka.common.resource.ResourceType;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.InMemoryKafkaAclStore;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class KafkaAclServiceImpl implements KafkaAclService {
+/**
+ * {@link KafkaAclService} backed by a single long-lived {@link Admin} client.
+ * <p>
+ * ACL creations and deletions requested concurrently are coalesced: the first operation schedules a flush after the
+ * batch window, which sends all operations queued in the meantime as one {@code createAcls}/{@code deleteAcls} request
+ * per run of operations of the same kind, preserving their order. Flushes run on the executor of the service. Admin
+ * futures are composed rather than awaited, so no thread is blocked while a batch is in flight; every caller gets the outcome of its own bindings only, bounded by
+ * the configured timeout.
+ * <p>
+ * The ACLs granted per transfer process are tracked in a {@link KafkaAclStore}. An entry is stored before its ACLs are
+ * created and only deleted once they have been revoked, so ACLs that could not be revoked are left for the
+ * {@link KafkaAclReconciler} instead of being forgotten.
+ */
+public class KafkaAclServiceImpl implements KafkaAclService, AutoCloseable {
+
+    static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(20);
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
 
-    private final Properties kafkaProperties;
     private final Monitor monitor;
-    private final AdminClientFactory adminClientFactory;
-    private final Map<String, AclTrackingInfo> transferProcessAcls = new ConcurrentHashMap<>();
+    private final SharedAdminClient adminClient;
+    private final Duration batchWindow;
+    private final Duration timeout;
+    private final KafkaAclStore store;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Queue<PendingOperation> pendingOperations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicLong batchCount = new AtomicLong();
+    private volatile long lastBatchLatencyMillis;
 
     public KafkaAclServiceImpl(Properties kafkaProperties, Monitor monitor) {
         this(kafkaProperties, monitor, new DefaultAdminClientFactory());
     }
 
     public KafkaAclServiceImpl(Properties kafkaProperties, Monitor monitor, AdminClientFactory adminClientFactory) {
-        this.kafkaProperties = kafkaProperties;
+        this(kafkaProperties, monitor, adminClientFactory, DEFAULT_BATCH_WINDOW, DEFAULT_TIMEOUT);
+    }
+
+    public KafkaAclServiceImpl(Properties kafkaProperties, Monitor monitor, AdminClientFactory adminClientFactory,
+                               Duration batchWindow, Duration timeout) {
+        this(new SharedAdminClient(adminClientFactory, kafkaProperties, timeout, monitor), new InMemoryKafkaAclStore(),
+                monitor, batchWindow, timeout);
+    }
+
+    public KafkaAclServiceImpl(SharedAdminClient adminClient, KafkaAclStore store, Monitor monitor,
+                               Duration batchWindow, Duration timeout) {
+        this(adminClient, store, monitor, Executors.newSingleThreadScheduledExecutor(KafkaAclServiceImpl::daemonThread), true,
+                batchWindow, timeout);
+    }
+
+    /**
+     * Creates the service on the given executor, which runs the batch flushes and the store operations of the
+     * asynchronous revocation. The executor is not shut down by {@link #close()}.
+     */
+    public KafkaAclServiceImpl(SharedAdminClient adminClient, KafkaAclStore store, Monitor monitor,
+                               ScheduledExecutorService executor, Duration batchWindow, Duration timeout) {
+        this(adminClient, store, monitor, executor, false, batchWindow, timeout);
+    }
+
+    private KafkaAclServiceImpl(SharedAdminClient adminClient, KafkaAclStore store, Monitor monitor,
+                                ScheduledExecutorService executor, boolean ownsExecutor, Duration batchWindow, Duration timeout) {
         this.monitor = monitor;
-        this.adminClientFactory = adminClientFactory;
+        this.adminClient = adminClient;
+        this.store = store;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.batchWindow = batchWindow;
+        this.timeout = timeout;
     }
 
     @Override
@@ -66,110 +125,261 @@ public class KafkaAclServiceImpl implements KafkaAclService {
         monitor.debug("Creating ACLs for OAuth subject: %s, topic: %s, groupPrefix: %s, transferProcessId: %s"
                 .formatted(oauthSubject, topicName, groupPrefix, transferProcessId));
 
-        try (Admin adminClient = adminClientFactory.createAdmin(kafkaProperties)) {
-            Collection<AclBinding> aclBindings = buildAclBindings(oauthSubject, topicName, groupPrefix);
-            CreateAclsResult result = adminClient.createAcls(aclBindings);
-            result.all().get();
+        var entry = new KafkaAclEntry(transferProcessId, oauthSubject, topicName, groupPrefix, KafkaAclEntry.State.ACTIVE);
+        var stored = store.save(entry);
+        if (stored.failed()) {
+            return Result.failure("Failed to track ACLs for transferProcessId %s: %s".formatted(transferProcessId, stored.getFailureDetail()));
+        }
 
-            transferProcessAcls.put(transferProcessId, new AclTrackingInfo(oauthSubject, topicName, aclBindings));
+        Collection<AclBinding> aclBindings = KafkaAclBindings.of(oauthSubject, topicName, groupPrefix);
+        var result = submit(new PendingOperation(aclBindings, null),
+                "Interrupted while creating ACLs for subject: %s".formatted(oauthSubject),
+                "Failed to create ACLs for OAuth subject: %s".formatted(oauthSubject));
 
+        if (result.failed()) {
+            // some bindings may have been created, leave them to the reconciler for removal
+            store.save(entry.withState(KafkaAclEntry.State.REVOKING));
+        } else {
             monitor.debug("Successfully created ACLs for OAuth subject: %s, topic: %s, transferProcessId: %s"
                     .formatted(oauthSubject, topicName, transferProcessId));
-            return Result.success();
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String message = "Interrupted while creating ACLs for subject: %s".formatted(oauthSubject);
-            monitor.severe(message, e);
-            return failure(message, e);
-        } catch (ExecutionException e) {
-            String message = "Failed to create ACLs for OAuth subject: %s".formatted(oauthSubject);
-            monitor.severe(message, e);
-            return failure(message, e);
         }
+        return result;
     }
 
     @Override
     public Result<Void> revokeAclsForTransferProcess(String transferProcessId) {
+        return await(revokeAclsForTransferProcessAsync(transferProcessId),
+                "Interrupted while revoking ACLs for transferProcessId: %s".formatted(transferProcessId));
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> revokeAclsForTransferProcessAsync(String transferProcessId) {
         monitor.debug("Revoking ACLs for transferProcessId: %s".formatted(transferProcessId));
 
-        AclTrackingInfo aclInfo = transferProcessAcls.remove(transferProcessId);
-        if (aclInfo == null) {
-            monitor.debug("No ACLs found for transferProcessId: %s".formatted(transferProcessId));
-            return Result.success();
-        }
+        var failureMessage = "Failed to revoke ACLs for transferProcessId: %s".formatted(transferProcessId);
+        return CompletableFuture.supplyAsync(() -> markRevoking(transferProcessId), executor)
+                .thenCompose(entry -> {
+                    if (entry == null) {
+                        monitor.debug("No ACLs found for transferProcessId: %s".formatted(transferProcessId));
+                        return CompletableFuture.completedFuture(Result.<Void>success());
+                    }
+                    return submitAsync(new PendingOperation(null, KafkaAclBindings.toFilters(KafkaAclBindings.of(entry))), failureMessage)
+                            .thenApplyAsync(result -> {
+                                if (result.succeeded()) {
+                                    store.delete(transferProcessId);
+                                    monitor.debug("Successfully revoked ACLs for transferProcessId: %s".formatted(transferProcessId));
+                                }
+                                return result;
+                            }, executor);
+                })
+                .exceptionally(throwable -> {
+                    var cause = unwrap(throwable);
+                    monitor.severe(failureMessage, cause);
+                    return failure(failureMessage, cause);
+                });
+    }
 
-        try (Admin adminClient = adminClientFactory.createAdmin(kafkaProperties)) {
-            Collection<AclBindingFilter> aclFilters = toAclBindingFilters(aclInfo.aclBindings());
-            DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
-            result.all().get();
+    @Override
+    public Result<Void> revokeAclsForSubject(String oauthSubject, String topicName, String groupPrefix) {
+        monitor.debug("Revoking ACLs for OAuth subject: %s, topic: %s, groupPrefix: %s".formatted(oauthSubject, topicName, groupPrefix));
 
-            monitor.debug("Successfully revoked ACLs for transferProcessId: %s".formatted(transferProcessId));
-            return Result.success();
+        var result = submit(new PendingOperation(null, KafkaAclBindings.toFilters(KafkaAclBindings.of(oauthSubject, topicName, groupPrefix))),
+                "Interrupted while revoking ACLs for subject: %s".formatted(oauthSubject),
+                "Failed to revoke ACLs for OAuth subject: %s".formatted(oauthSubject));
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String message = "Interrupted while revoking ACLs for transferProcessId: %s".formatted(transferProcessId);
-            monitor.severe(message, e);
-            return failure(message, e);
-        } catch (ExecutionException e) {
-            String message = "Failed to revoke ACLs for transferProcessId: %s".formatted(transferProcessId);
-            monitor.severe(message, e);
-            return failure(message, e);
+        if (result.succeeded()) {
+            monitor.debug("Successfully revoked ACLs for OAuth subject: %s, topic: %s".formatted(oauthSubject, topicName));
         }
+        return result;
+    }
+
+    /**
+     * Checks that the shared admin client can still reach the cluster, forcing a reconnect on the next operation
+     * otherwise.
+     */
+    public boolean checkHealth() {
+        return adminClient.checkHealth();
+    }
+
+    /**
+     * Number of batched admin requests sent so far.
+     */
+    public long batchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Latency in milliseconds of the last batched admin request.
+     */
+    public long lastBatchLatencyMillis() {
+        return lastBatchLatencyMillis;
     }
 
     @Override
-    public Result<Void> revokeAclsForSubject(String oauthSubject, String topicName, String groupPrefix) {
-        monitor.debug("Revoking ACLs for OAuth subject: %s, topic: %s, groupPrefix: %s".formatted(oauthSubject, topicName, groupPrefix));
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+        adminClient.close();
+    }
 
-        try (Admin adminClient = adminClientFactory.createAdmin(kafkaProperties)) {
-            Collection<AclBindingFilter> aclFilters = toAclBindingFilters(buildAclBindings(oauthSubject, topicName, groupPrefix));
-            DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
-            result.all().get();
+    private KafkaAclEntry markRevoking(String transferProcessId) {
+        var entry = store.findById(transferProcessId);
+        if (entry != null && entry.state() != KafkaAclEntry.State.REVOKING) {
+            store.save(entry.withState(KafkaAclEntry.State.REVOKING));
+        }
+        return entry;
+    }
 
-            monitor.debug("Successfully revoked ACLs for OAuth subject: %s, topic: %s".formatted(oauthSubject, topicName));
-            return Result.success();
+    private Result<Void> submit(PendingOperation operation, String interruptedMessage, String failureMessage) {
+        return await(submitAsync(operation, failureMessage), interruptedMessage);
+    }
 
+    private Result<Void> await(CompletableFuture<Result<Void>> result, String interruptedMessage) {
+        try {
+            return result.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            String message = "Interrupted while revoking ACLs for subject: %s".formatted(oauthSubject);
-            monitor.severe(message, e);
-            return failure(message, e);
+            monitor.severe(interruptedMessage, e);
+            return failure(interruptedMessage, e);
         } catch (ExecutionException e) {
-            String message = "Failed to revoke ACLs for OAuth subject: %s".formatted(oauthSubject);
-            monitor.severe(message, e);
-            return failure(message, e);
+            var cause = e.getCause() != null ? e.getCause() : e;
+            monitor.severe(interruptedMessage, cause);
+            return failure(interruptedMessage, cause);
         }
     }
 
-    private @NotNull Result<Void> failure(String message, Exception e) {
-        return Result.failure("%s: %s".formatted(message, e.getMessage()));
+    /**
+     * Queues the operation and completes with its outcome once the batch it was sent in has been answered, or fails
+     * after the configured timeout. Never blocks the calling thread.
+     */
+    private CompletableFuture<Result<Void>> submitAsync(PendingOperation operation, String failureMessage) {
+        pendingOperations.add(operation);
+        scheduleFlush();
+        return operation.future()
+                .orTimeout(batchWindow.plus(timeout).toMillis(), TimeUnit.MILLISECONDS)
+                .handle((v, throwable) -> {
+                    if (throwable == null) {
+                        return Result.success();
+                    }
+                    var cause = unwrap(throwable);
+                    monitor.severe(failureMessage, cause);
+                    if (cause instanceof TimeoutException) {
+                        return failure(failureMessage, new TimeoutException("no response within %d ms".formatted(timeout.toMillis())));
+                    }
+                    return failure(failureMessage, cause);
+                });
     }
 
-    private Collection<AclBinding> buildAclBindings(String oauthSubject, String topicName, String groupPrefix) {
-        String principal = "User:" + oauthSubject;
-        ResourcePattern topicResource = new ResourcePattern(ResourceType.TOPIC, topicName, PatternType.LITERAL);
-        ResourcePattern groupResource = new ResourcePattern(ResourceType.GROUP, groupPrefix, PatternType.PREFIXED);
+    /**
+     * Sends all queued operations after the batch window unless a flush is already pending. The flag is released
+     * before re-checking the queue, so an operation queued while a batch is being sent is never left behind.
+     */
+    private void scheduleFlush() {
+        if (pendingOperations.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        if (batchWindow.isZero()) {
+            runFlush();
+        } else {
+            executor.schedule(this::runFlush, batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
 
-        return List.of(
-                new AclBinding(topicResource, new AccessControlEntry(principal, "*", AclOperation.READ, AclPermissionType.ALLOW)),
-                new AclBinding(topicResource, new AccessControlEntry(principal, "*", AclOperation.DESCRIBE, AclPermissionType.ALLOW)),
-                new AclBinding(groupResource, new AccessControlEntry(principal, "*", AclOperation.READ, AclPermissionType.ALLOW))
-        );
+    private void runFlush() {
+        try {
+            flush();
+        } finally {
+            flushing.set(false);
+            scheduleFlush();
+        }
     }
 
-    private Collection<AclBindingFilter> toAclBindingFilters(Collection<AclBinding> aclBindings) {
-        Collection<AclBindingFilter> filters = new ArrayList<>();
-        for (AclBinding b : aclBindings) {
-            filters.add(new AclBindingFilter(
-                    new ResourcePatternFilter(b.pattern().resourceType(), b.pattern().name(), b.pattern().patternType()),
-                    new AccessControlEntryFilter(b.entry().principal(), b.entry().host(), b.entry().operation(), b.entry().permissionType())
-            ));
+    private void flush() {
+        var batch = new ArrayList<PendingOperation>();
+        PendingOperation next;
+        while ((next = pendingOperations.poll()) != null) {
+            if (!batch.isEmpty() && batch.get(0).isCreate() != next.isCreate()) {
+                send(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(next);
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
         }
-        return filters;
     }
 
-    private record AclTrackingInfo(String oauthSubject, String topicName, Collection<AclBinding> aclBindings) {
+    private void send(List<PendingOperation> batch) {
+        var start = System.nanoTime();
+        var admin = adminClient.get();
+        try {
+            if (batch.get(0).isCreate()) {
+                var bindings = new LinkedHashSet<AclBinding>();
+                batch.forEach(operation -> bindings.addAll(operation.bindings()));
+                var values = admin.createAcls(bindings, new CreateAclsOptions().timeoutMs((int) timeout.toMillis())).values();
+                batch.forEach(operation -> complete(operation, operation.bindings().stream().map(values::get).toList(), admin));
+            } else {
+                var filters = new LinkedHashSet<AclBindingFilter>();
+                batch.forEach(operation -> filters.addAll(operation.filters()));
+                var values = admin.deleteAcls(filters, new DeleteAclsOptions().timeoutMs((int) timeout.toMillis())).values();
+                batch.forEach(operation -> complete(operation, operation.filters().stream().map(values::get).toList(), admin));
+            }
+        } catch (Exception e) {
+            adminClient.invalidate(admin);
+            batch.forEach(operation -> operation.future().completeExceptionally(e));
+        }
+        batchCount.incrementAndGet();
+        CompletableFuture.allOf(batch.stream().map(PendingOperation::future).toArray(CompletableFuture[]::new))
+                .whenComplete((v, throwable) -> {
+                    lastBatchLatencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    monitor.debug("Sent batch of %d ACL %s operations in %d ms"
+                            .formatted(batch.size(), batch.get(0).isCreate() ? "create" : "delete", lastBatchLatencyMillis));
+                });
+    }
+
+    private void complete(PendingOperation operation, List<? extends KafkaFuture<?>> futures, Admin admin) {
+        KafkaFuture.allOf(futures.toArray(KafkaFuture[]::new)).whenComplete((v, throwable) -> {
+            if (throwable == null) {
+                operation.future().complete(null);
+            } else {
+                operation.future().completeExceptionally(unwrap(throwable));
+            }
+        });
+        operation.future().whenComplete((v, throwable) -> {
+            if (throwable instanceof TimeoutException) {
+                adminClient.invalidate(admin);
+            }
+        });
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        var thread = new Thread(runnable, "kafka-acl-batching");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return (throwable instanceof CompletionException || throwable instanceof ExecutionException) && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
+    }
+
+    private @NotNull Result<Void> failure(String message, Throwable e) {
+        return Result.failure("%s: %s".formatted(message, e.getMessage()));
+    }
+
+    /**
+     * A queued ACL operation, either a creation of {@code bindings} or a deletion of {@code filters}.
+     */
+    private record PendingOperation(Collection<AclBinding> bindings, Collection<AclBindingFilter> filters,
+                                    CompletableFuture<Void> future) {
+
+        PendingOperation(Collection<AclBinding> bindings, Collection<AclBindingFilter> filters) {
+            this(bindings, filters, new CompletableFuture<>());
+        }
+
+        boolean isCreate() {
+            return bindings != null;
+        }
     }
 }
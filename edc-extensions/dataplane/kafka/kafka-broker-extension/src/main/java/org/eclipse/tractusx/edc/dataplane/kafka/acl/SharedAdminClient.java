@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived Kafka {@link Admin} client shared by all ACL operations.
+ * <p>
+ * The client is created on first use and kept open, so that broker metadata, SASL/OAuth handshakes and TLS sessions
+ * are paid once instead of once per operation. When an operation fails or {@link #checkHealth()} cannot reach the
+ * cluster, the client is discarded and a new one is created on the next use.
+ */
+public class SharedAdminClient implements AutoCloseable {
+
+    private final AdminClientFactory adminClientFactory;
+    private final Properties kafkaProperties;
+    private final Duration timeout;
+    private final Monitor monitor;
+
+    private Admin admin;
+
+    public SharedAdminClient(AdminClientFactory adminClientFactory, Properties kafkaProperties, Duration timeout, Monitor monitor) {
+        this.adminClientFactory = adminClientFactory;
+        this.kafkaProperties = kafkaProperties;
+        this.timeout = timeout;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the shared client, creating it if there is none.
+     */
+    public synchronized Admin get() {
+        if (admin == null) {
+            admin = adminClientFactory.createAdmin(kafkaProperties);
+        }
+        return admin;
+    }
+
+    /**
+     * Discards the given client if it is still the shared one, so that the next {@link #get()} reconnects.
+     */
+    public void invalidate(Admin failed) {
+        synchronized (this) {
+            if (admin != failed) {
+                return;
+            }
+            admin = null;
+        }
+        closeQuietly(failed);
+    }
+
+    /**
+     * Describes the cluster with the shared client and discards it if the cluster cannot be reached within the
+     * configured timeout. Does nothing if no client has been created yet.
+     *
+     * @return true if the cluster could be reached or no client is open, false otherwise.
+     */
+    public boolean checkHealth() {
+        Admin current;
+        synchronized (this) {
+            current = admin;
+        }
+        if (current == null) {
+            return true;
+        }
+        try {
+            current.describeCluster(new DescribeClusterOptions().timeoutMs((int) timeout.toMillis()))
+                    .clusterId().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            monitor.warning("Kafka admin client health check failed, reconnecting on next use: %s".formatted(e.getMessage()));
+            invalidate(current);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        Admin current;
+        synchronized (this) {
+            current = admin;
+            admin = null;
+        }
+        if (current != null) {
+            closeQuietly(current);
+        }
+    }
+
+    private void closeQuietly(Admin client) {
+        try {
+            client.close(timeout);
+        } catch (Exception e) {
+            monitor.debug("Failed to close Kafka admin client: %s".formatted(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store;
+
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory {@link KafkaAclStore}. Entries are lost on restart, use the SQL store for durable tracking.
+ */
+public class InMemoryKafkaAclStore implements KafkaAclStore {
+
+    private final NavigableMap<String, KafkaAclEntry> entries = new ConcurrentSkipListMap<>();
+
+    @Override
+    public StoreResult<Void> save(KafkaAclEntry entry) {
+        entries.put(entry.transferProcessId(), entry);
+        return StoreResult.success();
+    }
+
+    @Override
+    public @Nullable KafkaAclEntry findById(String transferProcessId) {
+        return entries.get(transferProcessId);
+    }
+
+    @Override
+    public StoreResult<Void> delete(String transferProcessId) {
+        return entries.remove(transferProcessId) == null ?
+                StoreResult.notFound(NOT_FOUND_TEMPLATE.formatted(transferProcessId)) :
+                StoreResult.success();
+    }
+
+    @Override
+    public List<KafkaAclEntry> findPage(@Nullable String afterTransferProcessId, int limit) {
+        var tail = afterTransferProcessId == null ? entries : entries.tailMap(afterTransferProcessId, false);
+        return tail.values().stream().limit(limit).toList();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store;
+
+/**
+ * The Kafka ACLs granted for a transfer process. The ACL bindings themselves are derived from the subject, topic
+ * and group prefix, so they are not stored.
+ *
+ * @param transferProcessId the transfer process the ACLs were granted for
+ * @param oauthSubject      the OAuth subject used as Kafka principal
+ * @param topicName         the topic the ACLs grant access to
+ * @param groupPrefix       the consumer-group prefix the ACLs grant access to
+ * @param state             whether the ACLs are expected on the broker or are being revoked
+ */
+public record KafkaAclEntry(String transferProcessId, String oauthSubject, String topicName, String groupPrefix,
+                            State state) {
+
+    public KafkaAclEntry withState(State newState) {
+        return new KafkaAclEntry(transferProcessId, oauthSubject, topicName, groupPrefix, newState);
+    }
+
+    public enum State {
+        /**
+         * The ACLs are expected to exist on the broker.
+         */
+        ACTIVE,
+        /**
+         * The ACLs are expected to be removed from the broker. The entry is deleted once that succeeded.
+         */
+        REVOKING
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store;
+
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Persists the Kafka ACLs granted per transfer process, so that they can still be revoked after a restart or
+ * failover of the data plane.
+ */
+public interface KafkaAclStore {
+
+    String NOT_FOUND_TEMPLATE = "Kafka ACLs for transfer process %s not found";
+
+    /**
+     * Stores the entry, replacing any existing entry of the same transfer process.
+     */
+    StoreResult<Void> save(KafkaAclEntry entry);
+
+    /**
+     * Returns the entry of the given transfer process, or null if there is none.
+     */
+    @Nullable
+    KafkaAclEntry findById(String transferProcessId);
+
+    /**
+     * Deletes the entry of the given transfer process.
+     */
+    StoreResult<Void> delete(String transferProcessId);
+
+    /**
+     * Returns up to {@code limit} entries ordered by transfer process id, starting after the given id. Used to walk
+     * all entries in pages of bounded size.
+     *
+     * @param afterTransferProcessId the last transfer process id of the previous page, null for the first page
+     * @param limit                  the maximum number of entries to return
+     */
+    List<KafkaAclEntry> findPage(@Nullable String afterTransferProcessId, int limit);
+}
@@ -19,6 +19,8 @@
 
 package org.eclipse.tractusx.edc.dataplane.kafka.auth;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for services that handle Oauth2 access token operations for Kafka authentication.
  * Defines methods to fetch and revoke Oauth2 access tokens using the Client Credentials flow.
@@ -26,13 +28,22 @@ package org.eclipse.tractusx.edc.dataplane.kafka.auth;
 public interface KafkaOauthService {
 
     /**
-     * Always performs a client_credentials flow and returns a fresh token.
+     * Performs a client_credentials flow and returns the token. Implementations may return a cached token, but
+     * never one obtained with credentials that have a revocation URL, since such a token is revoked per flow.
      *
      * @param creds The Oauth credentials to use for token acquisition
      * @return The acquired access token as a string
      */
     String getAccessToken(OauthCredentials creds);
 
+    /**
+     * Same as {@link #getAccessToken(OauthCredentials)}, but completes once the token endpoint has answered instead of
+     * blocking the calling thread.
+     */
+    default CompletableFuture<String> getAccessTokenAsync(OauthCredentials creds) {
+        return CompletableFuture.supplyAsync(() -> getAccessToken(creds), Runnable::run);
+    }
+
     /**
      * Revokes the given token.
      *
@@ -40,4 +51,12 @@ public interface KafkaOauthService {
      * @param token The token to revoke
      */
     void revokeToken(OauthCredentials creds, String token);
+
+    /**
+     * Same as {@link #revokeToken(OauthCredentials, String)}, but completes once the revocation endpoint has answered
+     * instead of blocking the calling thread.
+     */
+    default CompletableFuture<Void> revokeTokenAsync(OauthCredentials creds, String token) {
+        return CompletableFuture.runAsync(() -> revokeToken(creds, token), Runnable::run);
+    }
 }
@@ -27,13 +27,24 @@ import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
 
 /**
- * Stateless service to fetch and revoke Oauth2 access tokens using the Client Credentials flow.
- * No token is cached—each getAccessToken() call always retrieves a new token.
+ * Service to fetch and revoke Oauth2 access tokens using the Client Credentials flow.
+ * <p>
+ * Without a token cache every getAccessToken() call retrieves a new token. With a cache, tokens are shared per
+ * token URL and client id until shortly before they expire, but only for credentials without a revocation URL:
+ * a revocable token is revoked when its flow ends and must therefore never be handed to another flow.
+ * <p>
+ * The asynchronous variants use the non-blocking HTTP client, so no thread is held while the endpoint answers.
  */
 public class KafkaOauthServiceImpl implements KafkaOauthService {
     static final String ACCESS_TOKEN_KEY = "access_token";
+    static final String EXPIRES_IN_KEY = "expires_in";
     static final String GRANT_TYPE_KEY = "grant_type";
     static final String CLIENT_CREDENTIALS_GRANT_TYPE = "client_credentials";
     static final String CLIENT_ID_KEY = "client_id";
@@ -44,52 +55,95 @@ public class KafkaOauthServiceImpl implements KafkaOauthService {
 
     private final EdcHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final OauthTokenCache tokenCache;
 
     public KafkaOauthServiceImpl(final EdcHttpClient httpClient, final ObjectMapper objectMapper) {
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
+        this.tokenCache = null;
     }
 
     /**
-     * Always performs a client_credentials flow and returns a fresh token.
+     * Creates a service that caches non-revocable tokens and renews them {@code renewalMargin} before they expire.
+     */
+    public KafkaOauthServiceImpl(final EdcHttpClient httpClient, final ObjectMapper objectMapper, final Clock clock, final Duration renewalMargin) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.tokenCache = new OauthTokenCache(clock, renewalMargin);
+    }
+
+    /**
+     * Performs a client_credentials flow and returns a fresh token, or a cached one if caching is enabled and the
+     * credentials have no revocation URL.
      */
     @Override
     public String getAccessToken(final OauthCredentials creds) {
-        return fetchNewToken(creds);
+        if (tokenCache == null || creds.revocationUrl().isPresent()) {
+            return fetchNewToken(creds).token();
+        }
+        return tokenCache.get(creds, this::fetchNewToken);
     }
 
-    private String fetchNewToken(final OauthCredentials creds) {
-        try {
-            FormBody formBody = new FormBody.Builder()
-                    .add(GRANT_TYPE_KEY, CLIENT_CREDENTIALS_GRANT_TYPE)
-                    .add(CLIENT_ID_KEY, creds.clientId())
-                    .add(CLIENT_SECRET_KEY, creds.clientSecret())
-                    .build();
-
-            Request request = new Request.Builder()
-                    .url(creds.tokenUrl())
-                    .header(CONTENT_TYPE_HEADER, APPLICATION_X_WWW_FORM_URLENCODED)
-                    .post(formBody)
-                    .build();
-
-            try (Response response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    throw new RuntimeException("Oauth2 token endpoint returned HTTP " + response.code());
-                }
-
-                String responseBody = response.body() != null ? response.body().string() : "";
-                JsonNode json = objectMapper.readTree(responseBody);
-                JsonNode accessToken = json.get(ACCESS_TOKEN_KEY);
-                if (accessToken == null || accessToken.isNull()) {
-                    throw new RuntimeException("Oauth2 token endpoint response did not contain an '" + ACCESS_TOKEN_KEY + "' field");
-                }
-                return accessToken.asText();
-            }
+    @Override
+    public CompletableFuture<String> getAccessTokenAsync(final OauthCredentials creds) {
+        if (tokenCache == null || creds.revocationUrl().isPresent()) {
+            return fetchNewTokenAsync(creds).thenApply(OauthToken::token);
+        }
+        return tokenCache.getAsync(creds, this::fetchNewTokenAsync);
+    }
+
+    private OauthToken fetchNewToken(final OauthCredentials creds) {
+        try (Response response = httpClient.execute(tokenRequest(creds))) {
+            return readToken(response);
         } catch (IOException e) {
             throw new RuntimeException("Failed to fetch Oauth2 token", e);
         }
     }
 
+    private CompletableFuture<OauthToken> fetchNewTokenAsync(final OauthCredentials creds) {
+        return httpClient.executeAsync(tokenRequest(creds), emptyList())
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        throw new RuntimeException("Failed to fetch Oauth2 token", throwable);
+                    }
+                    try (response) {
+                        return readToken(response);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to fetch Oauth2 token", e);
+                    }
+                });
+    }
+
+    private Request tokenRequest(final OauthCredentials creds) {
+        FormBody formBody = new FormBody.Builder()
+                .add(GRANT_TYPE_KEY, CLIENT_CREDENTIALS_GRANT_TYPE)
+                .add(CLIENT_ID_KEY, creds.clientId())
+                .add(CLIENT_SECRET_KEY, creds.clientSecret())
+                .build();
+
+        return new Request.Builder()
+                .url(creds.tokenUrl())
+                .header(CONTENT_TYPE_HEADER, APPLICATION_X_WWW_FORM_URLENCODED)
+                .post(formBody)
+                .build();
+    }
+
+    private OauthToken readToken(final Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new RuntimeException("Oauth2 token endpoint returned HTTP " + response.code());
+        }
+
+        String responseBody = response.body() != null ? response.body().string() : "";
+        JsonNode json = objectMapper.readTree(responseBody);
+        JsonNode accessToken = json.get(ACCESS_TOKEN_KEY);
+        if (accessToken == null || accessToken.isNull()) {
+            throw new RuntimeException("Oauth2 token endpoint response did not contain an '" + ACCESS_TOKEN_KEY + "' field");
+        }
+        JsonNode expiresIn = json.get(EXPIRES_IN_KEY);
+        return new OauthToken(accessToken.asText(),
+                expiresIn != null && expiresIn.asLong() > 0 ? Duration.ofSeconds(expiresIn.asLong()) : null);
+    }
+
     /**
      * Revokes the given token.
      */
@@ -98,26 +152,47 @@ public class KafkaOauthServiceImpl implements KafkaOauthService {
         if (creds.revocationUrl().isEmpty()) {
             return;
         }
-        try {
-            FormBody formBody = new FormBody.Builder()
-                    .add(TOKEN_KEY, token)
-                    .add(CLIENT_ID_KEY, creds.clientId())
-                    .add(CLIENT_SECRET_KEY, creds.clientSecret())
-                    .build();
-
-            Request request = new Request.Builder()
-                    .url(creds.revocationUrl().get())
-                    .header(CONTENT_TYPE_HEADER, APPLICATION_X_WWW_FORM_URLENCODED)
-                    .post(formBody)
-                    .build();
-
-            try (Response response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    throw new RuntimeException("Revoke endpoint returned HTTP " + response.code());
-                }
-            }
+        try (Response response = httpClient.execute(revokeRequest(creds, token))) {
+            checkRevoked(response);
         } catch (IOException e) {
             throw new RuntimeException("Failed to revoke Oauth2 token", e);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> revokeTokenAsync(final OauthCredentials creds, final String token) {
+        if (creds.revocationUrl().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return httpClient.executeAsync(revokeRequest(creds, token), emptyList())
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        throw new RuntimeException("Failed to revoke Oauth2 token", throwable);
+                    }
+                    try (response) {
+                        checkRevoked(response);
+                        return null;
+                    }
+                });
+    }
+
+    private Request revokeRequest(final OauthCredentials creds, final String token) {
+        FormBody formBody = new FormBody.Builder()
+                .add(TOKEN_KEY, token)
+                .add(CLIENT_ID_KEY, creds.clientId())
+                .add(CLIENT_SECRET_KEY, creds.clientSecret())
+                .build();
+
+        return new Request.Builder()
+                .url(creds.revocationUrl().get())
+                .header(CONTENT_TYPE_HEADER, APPLICATION_X_WWW_FORM_URLENCODED)
+                .post(formBody)
+                .build();
+    }
+
+    private void checkRevoked(final Response response) {
+        if (!response.isSuccessful()) {
+            throw new RuntimeException("Revoke endpoint returned HTTP " + response.code());
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches client-credentials access tokens per token URL and client id.
+ * <p>
+ * A token is renewed once half of its lifetime has passed or it is within the renewal margin of its expiry, whichever
+ * comes first, so that a consumer never receives a token close to expiry. Only one request per client is in flight at
+ * a time: concurrent callers keep using the current token while it is outside the renewal margin of its expiry, or
+ * wait for the running request otherwise. Tokens are bound to the client secret they were issued for, so a rotated secret causes a new request.
+ */
+class OauthTokenCache {
+
+    private final Clock clock;
+    private final Duration renewalMargin;
+    private final Map<Key, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+
+    OauthTokenCache(Clock clock, Duration renewalMargin) {
+        this.clock = clock;
+        this.renewalMargin = renewalMargin;
+    }
+
+    String get(OauthCredentials creds, Function<OauthCredentials, OauthToken> fetcher) {
+        return join(getAsync(creds, c -> CompletableFuture.completedFuture(fetcher.apply(c))));
+    }
+
+    CompletableFuture<String> getAsync(OauthCredentials creds, Function<OauthCredentials, CompletableFuture<OauthToken>> fetcher) {
+        var key = new Key(creds.tokenUrl(), creds.clientId());
+        var cached = tokens.get(key);
+        var now = clock.millis();
+        if (isUsable(cached, creds, now) && now < cached.renewAt()) {
+            return CompletableFuture.completedFuture(cached.token());
+        }
+
+        var flight = new CompletableFuture<CachedToken>();
+        var running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            if (isUsable(cached, creds, now) && now < cached.expiresAt() - renewalMargin.toMillis()) {
+                return CompletableFuture.completedFuture(cached.token());
+            }
+            return running.thenCompose(renewed -> isShareable(renewed, creds) ?
+                    CompletableFuture.completedFuture(renewed.token()) :
+                    fetch(creds, fetcher).thenApply(OauthToken::token));
+        }
+
+        return fetch(creds, fetcher)
+                .whenComplete((fetched, throwable) -> {
+                    if (throwable != null) {
+                        flight.completeExceptionally(unwrap(throwable));
+                    } else {
+                        var entry = toCachedToken(fetched, creds, clock.millis());
+                        if (isShareable(entry, creds)) {
+                            tokens.put(key, entry);
+                        } else {
+                            tokens.remove(key);
+                        }
+                        flight.complete(entry);
+                    }
+                    inFlight.remove(key, flight);
+                })
+                .thenApply(OauthToken::token);
+    }
+
+    private CompletableFuture<OauthToken> fetch(OauthCredentials creds, Function<OauthCredentials, CompletableFuture<OauthToken>> fetcher) {
+        try {
+            return fetcher.apply(creds);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean isUsable(CachedToken cached, OauthCredentials creds, long now) {
+        return cached != null && now < cached.expiresAt() && cached.clientSecret().equals(creds.clientSecret());
+    }
+
+    private boolean isShareable(CachedToken renewed, OauthCredentials creds) {
+        return renewed.expiresAt() > renewed.renewAt() && renewed.clientSecret().equals(creds.clientSecret());
+    }
+
+    private CachedToken toCachedToken(OauthToken token, OauthCredentials creds, long now) {
+        if (token.expiresIn() == null) {
+            // without a known lifetime the token is never reused
+            return new CachedToken(token.token(), creds.clientSecret(), now, now);
+        }
+        var lifetime = token.expiresIn().toMillis();
+        var expiresAt = now + lifetime;
+        // consumers cannot refresh the token, so each one gets at least half of its lifetime
+        var renewAt = Math.min(expiresAt - renewalMargin.toMillis(), now + lifetime / 2);
+        return new CachedToken(token.token(), creds.clientSecret(), renewAt, expiresAt);
+    }
+
+    private String join(CompletableFuture<String> token) {
+        try {
+            return token.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private record Key(String tokenUrl, String clientId) {
+    }
+
+    private record CachedToken(String token, String clientSecret, long renewAt, long expiresAt) {
+    }
+}
@@ -22,44 +22,63 @@ package org.eclipse.tractusx.edc.dataplane.kafka.provision;
 import org.eclipse.edc.connector.dataplane.spi.provision.DeprovisionedResource;
 import org.eclipse.edc.connector.dataplane.spi.provision.Deprovisioner;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionResource;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
-import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.tractusx.edc.dataplane.kafka.acl.KafkaAclService;
 import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthService;
-import org.eclipse.tractusx.edc.dataplane.kafka.auth.OauthCredentials;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_ID;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_SECRET_KEY;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_REVOKE_URL;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_TOKEN_URL;
 import static org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaProvisionConstants.KAFKA_RESOURCE_TYPE;
 
 /**
  * Data-plane {@link Deprovisioner} for {@code KafkaBroker} flows: revokes the broker ACLs and the OAuth2
  * token when the flow is deprovisioned on terminate, closing the access window independently of token
  * expiry. Cleanup is idempotent — a missing token or untracked ACLs is treated as success.
+ * <p>
+ * Like {@link KafkaProvisioner}, deprovisioning never blocks the calling thread: broker and revocation endpoint
+ * responses are composed as futures, each bounded by the stage timeout, and the vault is accessed on the given bounded
+ * executor.
  */
 public class KafkaDeprovisioner implements Deprovisioner {
 
     private final Vault vault;
+    private final OauthCredentialsResolver credentialsResolver;
     private final KafkaOauthService oauthService;
     @Nullable
     private final KafkaAclService aclService;
     private final Monitor monitor;
+    private final Executor executor;
+    private final Duration stageTimeout;
 
     public KafkaDeprovisioner(Vault vault, KafkaOauthService oauthService, @Nullable KafkaAclService aclService, Monitor monitor) {
+        this(vault, new OauthCredentialsResolver(vault), oauthService, aclService, monitor);
+    }
+
+    public KafkaDeprovisioner(Vault vault, OauthCredentialsResolver credentialsResolver, KafkaOauthService oauthService,
+                              @Nullable KafkaAclService aclService, Monitor monitor) {
+        this(vault, credentialsResolver, oauthService, aclService, monitor, Runnable::run, KafkaProvisionConstants.DEFAULT_STAGE_TIMEOUT);
+    }
+
+    public KafkaDeprovisioner(Vault vault, OauthCredentialsResolver credentialsResolver, KafkaOauthService oauthService,
+                              @Nullable KafkaAclService aclService, Monitor monitor, Executor executor, Duration stageTimeout) {
         this.vault = vault;
+        this.credentialsResolver = credentialsResolver;
         this.oauthService = oauthService;
         this.aclService = aclService;
         this.monitor = monitor;
+        this.executor = executor;
+        this.stageTimeout = stageTimeout;
     }
 
     @Override
@@ -72,37 +91,52 @@ public class KafkaDeprovisioner implements Deprovisioner {
         try {
             var flowId = resource.getFlowId();
 
-            if (aclService != null) {
-                var aclResult = aclService.revokeAclsForTransferProcess(flowId);
-                if (aclResult.failed()) {
-                    return completed(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to revoke Kafka ACLs: " + aclResult.getFailureDetail()));
-                }
-            }
-
-            var token = vault.resolveSecret(flowId);
-            if (token != null) {
-                oauthService.revokeToken(extractOauthCredentials(resource.getDataAddress()), token);
-                vault.deleteSecret(flowId);
-            }
-
-            monitor.debug("Deprovisioned Kafka flow %s".formatted(flowId));
-            return completed(StatusResult.success(DeprovisionedResource.Builder.newInstance()
-                    .id(resource.getId())
-                    .flowId(flowId)
-                    .build()));
+            return revokeAcls(flowId)
+                    .thenCompose(aclResult -> aclResult.failed() ?
+                            completed(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to revoke Kafka ACLs: " + aclResult.getFailureDetail())) :
+                            revokeToken(resource).thenApply(v -> {
+                                monitor.debug("Deprovisioned Kafka flow %s".formatted(flowId));
+                                return StatusResult.success(DeprovisionedResource.Builder.newInstance()
+                                        .id(resource.getId())
+                                        .flowId(flowId)
+                                        .build());
+                            }))
+                    .exceptionally(this::failure);
         } catch (Exception e) {
-            return completed(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to deprovision Kafka data flow: " + e.getMessage()));
+            return completed(failure(e));
         }
     }
 
-    private OauthCredentials extractOauthCredentials(DataAddress source) {
-        var clientSecret = Optional.ofNullable(vault.resolveSecret(source.getStringProperty(OAUTH_CLIENT_SECRET_KEY)))
-                .orElseThrow(() -> new EdcException("Kafka client secret was not found in the vault"));
-        return new OauthCredentials(
-                source.getStringProperty(OAUTH_TOKEN_URL),
-                Optional.ofNullable(source.getStringProperty(OAUTH_REVOKE_URL)),
-                source.getStringProperty(OAUTH_CLIENT_ID),
-                clientSecret);
+    private CompletableFuture<Result<Void>> revokeAcls(String flowId) {
+        if (aclService == null) {
+            return CompletableFuture.completedFuture(Result.success());
+        }
+        return aclService.revokeAclsForTransferProcessAsync(flowId).orTimeout(stageTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private CompletableFuture<Void> revokeToken(ProvisionResource resource) {
+        var flowId = resource.getFlowId();
+        return CompletableFuture.supplyAsync(() -> vault.resolveSecret(flowId), executor)
+                .thenCompose(token -> {
+                    if (token == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return oauthService.revokeTokenAsync(credentialsResolver.resolve(resource.getDataAddress()), token)
+                            .orTimeout(stageTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                            .thenRunAsync(() -> vault.deleteSecret(flowId), executor);
+                });
+    }
+
+    private StatusResult<DeprovisionedResource> failure(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (cause instanceof RejectedExecutionException) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, "Failed to deprovision Kafka data flow: provisioning executor is saturated");
+        }
+        if (cause instanceof TimeoutException) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY,
+                    "Failed to deprovision Kafka data flow: no response within %d ms".formatted(stageTimeout.toMillis()));
+        }
+        return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to deprovision Kafka data flow: " + cause.getMessage());
     }
 
     private static CompletableFuture<StatusResult<DeprovisionedResource>> completed(StatusResult<DeprovisionedResource> result) {
@@ -19,6 +19,8 @@
 
 package org.eclipse.tractusx.edc.dataplane.kafka.provision;
 
+import java.time.Duration;
+
 /**
  * Constants shared by the Kafka data-plane provisioning components.
  */
@@ -41,4 +43,10 @@ public interface KafkaProvisionConstants {
      * Default consumer poll duration (ISO-8601) when {@code kafka.poll.duration} is not set.
      */
     String DEFAULT_POLL_DURATION = "PT1S";
+
+    /**
+     * Default upper bound for each remote stage (token endpoint, revocation endpoint, broker) of a provisioning or
+     * deprovisioning run.
+     */
+    Duration DEFAULT_STAGE_TIMEOUT = Duration.ofSeconds(30);
 }
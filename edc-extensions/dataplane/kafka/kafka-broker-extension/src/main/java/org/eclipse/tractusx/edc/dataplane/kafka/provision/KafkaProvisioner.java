@@ -22,26 +22,26 @@ package org.eclipse.tractusx.edc.dataplane.kafka.provision;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionResource;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionedResource;
 import org.eclipse.edc.connector.dataplane.spi.provision.Provisioner;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthService;
-import org.eclipse.tractusx.edc.dataplane.kafka.auth.OauthCredentials;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.BOOTSTRAP_SERVERS;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.GROUP_PREFIX;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.MECHANISM;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_ID;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_SECRET_KEY;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_REVOKE_URL;
-import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_TOKEN_URL;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.POLL_DURATION;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.PROTOCOL;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.TOKEN;
@@ -57,17 +57,36 @@ import static org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaProvisionC
  * minted token. The token is also stored in the vault keyed by the data-flow id so
  * {@link KafkaDeprovisioner} can revoke it on terminate. Broker ACLs are managed per activation by
  * {@code KafkaEndpointDataReferenceService} (so suspend/resume toggle access), not here.
+ * <p>
+ * Provisioning never blocks the calling thread: the token is requested with the non-blocking HTTP client and the
+ * vault is accessed on the given bounded executor. Each remote stage is bounded by the stage timeout; a saturated
+ * executor or a timed out stage is reported as a retryable failure.
  */
 public class KafkaProvisioner implements Provisioner {
 
     private final Vault vault;
+    private final OauthCredentialsResolver credentialsResolver;
     private final KafkaOauthService oauthService;
     private final Monitor monitor;
+    private final Executor executor;
+    private final Duration stageTimeout;
 
     public KafkaProvisioner(Vault vault, KafkaOauthService oauthService, Monitor monitor) {
+        this(vault, new OauthCredentialsResolver(vault), oauthService, monitor);
+    }
+
+    public KafkaProvisioner(Vault vault, OauthCredentialsResolver credentialsResolver, KafkaOauthService oauthService, Monitor monitor) {
+        this(vault, credentialsResolver, oauthService, monitor, Runnable::run, KafkaProvisionConstants.DEFAULT_STAGE_TIMEOUT);
+    }
+
+    public KafkaProvisioner(Vault vault, OauthCredentialsResolver credentialsResolver, KafkaOauthService oauthService, Monitor monitor,
+                            Executor executor, Duration stageTimeout) {
         this.vault = vault;
+        this.credentialsResolver = credentialsResolver;
         this.oauthService = oauthService;
         this.monitor = monitor;
+        this.executor = executor;
+        this.stageTimeout = stageTimeout;
     }
 
     @Override
@@ -89,43 +108,53 @@ public class KafkaProvisioner implements Provisioner {
                                 .formatted(GROUP_PREFIX)));
             }
 
-            var token = oauthService.getAccessToken(extractOauthCredentials(source));
-            vault.storeSecret(flowId, token);
-
-            var pollDuration = Optional.ofNullable(source.getStringProperty(POLL_DURATION)).orElse(DEFAULT_POLL_DURATION);
-
-            var edr = DataAddress.Builder.newInstance()
-                    .type(KAFKA_TYPE)
-                    .property(BOOTSTRAP_SERVERS, source.getStringProperty(BOOTSTRAP_SERVERS))
-                    .property(TOPIC, source.getStringProperty(TOPIC))
-                    .property(PROTOCOL, source.getStringProperty(PROTOCOL))
-                    .property(MECHANISM, source.getStringProperty(MECHANISM))
-                    .property(TOKEN, token)
-                    .property(POLL_DURATION, pollDuration)
-                    .property(GROUP_PREFIX, groupPrefix)
-                    .build();
-
-            var provisioned = ProvisionedResource.Builder.newInstance()
-                    .id(resource.getId())
-                    .flowId(flowId)
-                    .dataAddress(edr)
-                    .build();
-
-            monitor.debug("Provisioned Kafka EDR for flow %s, topic %s".formatted(flowId, source.getStringProperty(TOPIC)));
-            return completed(StatusResult.success(provisioned));
+            return CompletableFuture.supplyAsync(() -> credentialsResolver.resolve(source), executor)
+                    .thenCompose(credentials -> oauthService.getAccessTokenAsync(credentials)
+                            .orTimeout(stageTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                    .thenApplyAsync(token -> {
+                        vault.storeSecret(flowId, token);
+                        return StatusResult.success(provisioned(resource, groupPrefix, token));
+                    }, executor)
+                    .exceptionally(this::failure);
         } catch (Exception e) {
-            return completed(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to provision Kafka data flow: " + e.getMessage()));
+            return completed(failure(e));
         }
     }
 
-    private OauthCredentials extractOauthCredentials(DataAddress source) {
-        var clientSecret = Optional.ofNullable(vault.resolveSecret(source.getStringProperty(OAUTH_CLIENT_SECRET_KEY)))
-                .orElseThrow(() -> new EdcException("Kafka client secret was not found in the vault"));
-        return new OauthCredentials(
-                source.getStringProperty(OAUTH_TOKEN_URL),
-                Optional.ofNullable(source.getStringProperty(OAUTH_REVOKE_URL)),
-                source.getStringProperty(OAUTH_CLIENT_ID),
-                clientSecret);
+    private ProvisionedResource provisioned(ProvisionResource resource, String groupPrefix, String token) {
+        var flowId = resource.getFlowId();
+        var source = resource.getDataAddress();
+        var pollDuration = Optional.ofNullable(source.getStringProperty(POLL_DURATION)).orElse(DEFAULT_POLL_DURATION);
+
+        var edr = DataAddress.Builder.newInstance()
+                .type(KAFKA_TYPE)
+                .property(BOOTSTRAP_SERVERS, source.getStringProperty(BOOTSTRAP_SERVERS))
+                .property(TOPIC, source.getStringProperty(TOPIC))
+                .property(PROTOCOL, source.getStringProperty(PROTOCOL))
+                .property(MECHANISM, source.getStringProperty(MECHANISM))
+                .property(TOKEN, token)
+                .property(POLL_DURATION, pollDuration)
+                .property(GROUP_PREFIX, groupPrefix)
+                .build();
+
+        monitor.debug("Provisioned Kafka EDR for flow %s, topic %s".formatted(flowId, source.getStringProperty(TOPIC)));
+        return ProvisionedResource.Builder.newInstance()
+                .id(resource.getId())
+                .flowId(flowId)
+                .dataAddress(edr)
+                .build();
+    }
+
+    private StatusResult<ProvisionedResource> failure(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (cause instanceof RejectedExecutionException) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, "Failed to provision Kafka data flow: provisioning executor is saturated");
+        }
+        if (cause instanceof TimeoutException) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY,
+                    "Failed to provision Kafka data flow: no response within %d ms".formatted(stageTimeout.toMillis()));
+        }
+        return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to provision Kafka data flow: " + cause.getMessage());
     }
 
     private static CompletableFuture<StatusResult<ProvisionedResource>> completed(StatusResult<ProvisionedResource> result) {
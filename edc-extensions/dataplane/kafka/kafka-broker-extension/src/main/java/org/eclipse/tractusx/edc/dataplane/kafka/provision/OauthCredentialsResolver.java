@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.provision;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.tractusx.edc.dataplane.kafka.auth.OauthCredentials;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_ID;
+import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_SECRET_KEY;
+import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_REVOKE_URL;
+import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_TOKEN_URL;
+
+/**
+ * Builds the {@link OauthCredentials} of a {@code KafkaBroker} data address, resolving the client secret from the
+ * {@link Vault}. Resolved secrets are kept for the configured time to live, so that flows of the same client do not
+ * read the Vault on every start and termination. A time to live of zero disables caching.
+ */
+public class OauthCredentialsResolver {
+
+    private final Vault vault;
+    private final Clock clock;
+    private final Duration secretTtl;
+    private final Map<String, CachedSecret> secrets = new ConcurrentHashMap<>();
+
+    public OauthCredentialsResolver(Vault vault) {
+        this(vault, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    public OauthCredentialsResolver(Vault vault, Clock clock, Duration secretTtl) {
+        this.vault = vault;
+        this.clock = clock;
+        this.secretTtl = secretTtl;
+    }
+
+    public OauthCredentials resolve(DataAddress source) {
+        var clientSecret = Optional.ofNullable(resolveSecret(source.getStringProperty(OAUTH_CLIENT_SECRET_KEY)))
+                .orElseThrow(() -> new EdcException("Kafka client secret was not found in the vault"));
+        return new OauthCredentials(
+                source.getStringProperty(OAUTH_TOKEN_URL),
+                Optional.ofNullable(source.getStringProperty(OAUTH_REVOKE_URL)),
+                source.getStringProperty(OAUTH_CLIENT_ID),
+                clientSecret);
+    }
+
+    private String resolveSecret(String alias) {
+        if (secretTtl.isZero() || alias == null) {
+            return vault.resolveSecret(alias);
+        }
+        var now = clock.millis();
+        var cached = secrets.get(alias);
+        if (cached != null && now < cached.expiresAt()) {
+            return cached.secret();
+        }
+        var secret = vault.resolveSecret(alias);
+        if (secret == null) {
+            secrets.remove(alias);
+        } else {
+            secrets.put(alias, new CachedSecret(secret, now + secretTtl.toMillis()));
+        }
+        return secret;
+    }
+
+    private record CachedSecret(String secret, long expiresAt) {
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore;
 import org.eclipse.tractusx.edc.dataplane.kafka.flow.KafkaEndpointDataReferenceService;
 import org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaDeprovisioner;
 import org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaProvisioner;
@@ -34,6 +35,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.time.Clock;
+
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.KAFKA_TYPE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,6 +51,7 @@ class KafkaBrokerExtensionTest {
     private final EndpointDataReferenceServiceRegistry edrRegistry = mock();
     private final Vault vault = mock();
     private final EdcHttpClient httpClient = mock();
+    private final KafkaAclStore aclStore = mock();
 
     @BeforeEach
     void setUp(final ServiceExtensionContext context) {
@@ -56,6 +60,8 @@ class KafkaBrokerExtensionTest {
         context.registerService(EndpointDataReferenceServiceRegistry.class, edrRegistry);
         context.registerService(Vault.class, vault);
         context.registerService(EdcHttpClient.class, httpClient);
+        context.registerService(KafkaAclStore.class, aclStore);
+        context.registerService(Clock.class, Clock.systemUTC());
     }
 
     @Test
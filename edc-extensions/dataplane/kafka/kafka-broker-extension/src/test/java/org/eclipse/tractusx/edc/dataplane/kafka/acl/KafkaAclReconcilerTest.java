@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsOptions;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsOptions;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsOptions;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.ResourceType;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.InMemoryKafkaAclStore;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaAclReconcilerTest {
+
+    private final Monitor monitor = mock(RETURNS_SELF);
+    private final Admin admin = mock();
+    private final AdminClientFactory adminClientFactory = mock();
+    private final InMemoryKafkaAclStore store = new InMemoryKafkaAclStore();
+    private final List<AclBinding> brokerAcls = new ArrayList<>();
+    private KafkaAclReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        when(adminClientFactory.createAdmin(any(Properties.class))).thenReturn(admin);
+        var adminClient = new SharedAdminClient(adminClientFactory, new Properties(), Duration.ofSeconds(5), monitor);
+        reconciler = new KafkaAclReconciler(store, adminClient, monitor, 2, Duration.ofSeconds(5));
+
+        when(admin.describeAcls(any(AclBindingFilter.class), any(DescribeAclsOptions.class))).thenAnswer(invocation -> {
+            AclBindingFilter filter = invocation.getArgument(0);
+            DescribeAclsResult result = mock();
+            when(result.values()).thenReturn(KafkaFuture.completedFuture(brokerAcls.stream().filter(filter::matches).toList()));
+            return result;
+        });
+        when(admin.createAcls(anyCollection(), any(CreateAclsOptions.class))).thenAnswer(invocation -> {
+            CreateAclsResult result = mock();
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+    }
+
+    @Test
+    void reconcile_shouldDoNothing_whenNoEntriesTracked() {
+        reconciler.reconcile();
+
+        verify(adminClientFactory, never()).createAdmin(any());
+    }
+
+    @Test
+    void reconcile_shouldRecreateMissingBindings() {
+        var intact = entry("tp-1", KafkaAclEntry.State.ACTIVE);
+        var drifted = entry("tp-2", KafkaAclEntry.State.ACTIVE);
+        store.save(intact);
+        store.save(drifted);
+        brokerAcls.addAll(KafkaAclBindings.of(intact));
+        brokerAcls.addAll(KafkaAclBindings.of(drifted).stream().filter(b -> b.pattern().resourceType() == ResourceType.TOPIC).toList());
+
+        reconciler.reconcile();
+
+        verify(admin).createAcls(argThat(bindings -> bindings.size() == 1 &&
+                bindings.iterator().next().pattern().resourceType() == ResourceType.GROUP), any(CreateAclsOptions.class));
+        assertThat(reconciler.repairedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcile_shouldDescribeOncePerRun_acrossPages() {
+        for (var i = 0; i < 5; i++) {
+            var entry = entry("tp-" + i, KafkaAclEntry.State.ACTIVE);
+            store.save(entry);
+            brokerAcls.addAll(KafkaAclBindings.of(entry));
+        }
+
+        reconciler.reconcile();
+
+        verify(admin, times(2)).describeAcls(any(AclBindingFilter.class), any(DescribeAclsOptions.class));
+        verify(admin, never()).createAcls(anyCollection(), any(CreateAclsOptions.class));
+    }
+
+    @Test
+    void reconcile_shouldCompleteRevocations_andKeepFailedOnes() {
+        store.save(entry("tp-1", KafkaAclEntry.State.REVOKING));
+        store.save(entry("tp-2", KafkaAclEntry.State.REVOKING));
+        var failingFilters = KafkaAclBindings.toFilters(KafkaAclBindings.of(entry("tp-2", KafkaAclEntry.State.REVOKING)));
+        when(admin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            var values = new HashMap<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>>();
+            filters.forEach(filter -> values.put(filter, failingFilters.contains(filter) ?
+                    failed(new RuntimeException("error")) : KafkaFuture.completedFuture(mock(DeleteAclsResult.FilterResults.class))));
+            DeleteAclsResult result = mock();
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        reconciler.reconcile();
+
+        verify(admin, times(1)).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
+        assertThat(store.findById("tp-1")).isNull();
+        assertThat(store.findById("tp-2")).isNotNull();
+        assertThat(reconciler.revokedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcile_shouldNotRecreateBindings_whenEntryRevokedBeforeRepair() {
+        var entry = entry("tp-1", KafkaAclEntry.State.ACTIVE);
+        store.save(entry);
+        when(admin.describeAcls(any(AclBindingFilter.class), any(DescribeAclsOptions.class))).thenAnswer(invocation -> {
+            store.save(entry.withState(KafkaAclEntry.State.REVOKING));
+            DescribeAclsResult result = mock();
+            when(result.values()).thenReturn(KafkaFuture.completedFuture(List.of()));
+            return result;
+        });
+
+        reconciler.reconcile();
+
+        verify(admin, never()).createAcls(anyCollection(), any(CreateAclsOptions.class));
+        assertThat(reconciler.repairedCount()).isZero();
+    }
+
+    @Test
+    void reconcile_shouldDeleteRecreatedBindings_whenEntryRevokedDuringRepair() {
+        var revoked = entry("tp-1", KafkaAclEntry.State.ACTIVE);
+        var active = entry("tp-2", KafkaAclEntry.State.ACTIVE);
+        store.save(revoked);
+        store.save(active);
+        when(admin.createAcls(anyCollection(), any(CreateAclsOptions.class))).thenAnswer(invocation -> {
+            store.delete("tp-1");
+            CreateAclsResult result = mock();
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+        when(admin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            DeleteAclsResult result = mock();
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(List.of()));
+            return result;
+        });
+
+        reconciler.reconcile();
+
+        verify(admin).createAcls(argThat(bindings -> bindings.containsAll(KafkaAclBindings.of(revoked)) &&
+                bindings.containsAll(KafkaAclBindings.of(active))), any(CreateAclsOptions.class));
+        verify(admin).deleteAcls(argThat(filters -> filters.size() == KafkaAclBindings.of(revoked).size() &&
+                filters.containsAll(KafkaAclBindings.toFilters(KafkaAclBindings.of(revoked)))), any(DeleteAclsOptions.class));
+        assertThat(store.findById("tp-2")).isNotNull();
+    }
+
+    @Test
+    void reconcile_shouldReconnect_whenDescribeFails() {
+        store.save(entry("tp-1", KafkaAclEntry.State.ACTIVE));
+        when(admin.describeAcls(any(AclBindingFilter.class), any(DescribeAclsOptions.class))).thenThrow(new IllegalStateException("disconnected"));
+
+        reconciler.reconcile();
+
+        verify(admin).close(any(Duration.class));
+        assertThat(store.findById("tp-1")).isNotNull();
+    }
+
+    private KafkaAclEntry entry(String transferProcessId, KafkaAclEntry.State state) {
+        return new KafkaAclEntry(transferProcessId, "subject-" + transferProcessId, "topic-" + transferProcessId,
+                "group-" + transferProcessId, state);
+    }
+
+    private static <V> KafkaFuture<V> failed(Throwable throwable) {
+        var future = new KafkaFutureImpl<V>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -20,22 +20,33 @@
 package org.eclipse.tractusx.edc.dataplane.kafka.acl;
 
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsOptions;
 import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsOptions;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourceType;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.InMemoryKafkaAclStore;
+import org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +54,7 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -60,18 +72,20 @@ class KafkaAclServiceImplTest {
     private final Monitor monitor = mock();
     private final Admin mockAdmin = mock();
     private final AdminClientFactory adminClientFactory = mock();
+    private final Properties kafkaProperties = new Properties();
+    private final InMemoryKafkaAclStore store = new InMemoryKafkaAclStore();
     private KafkaAclServiceImpl aclService;
 
     @BeforeEach
     void setUp() {
-        var kafkaProperties = new Properties();
         kafkaProperties.put("bootstrap.servers", "localhost:9092");
         when(adminClientFactory.createAdmin(any(Properties.class))).thenReturn(mockAdmin);
-        aclService = new KafkaAclServiceImpl(kafkaProperties, monitor, adminClientFactory);
+        aclService = new KafkaAclServiceImpl(new SharedAdminClient(adminClientFactory, kafkaProperties, Duration.ofSeconds(5), monitor),
+                store, monitor, Duration.ZERO, Duration.ofSeconds(5));
     }
 
     @Test
-    void createAclsForSubject_shouldSucceed() throws ExecutionException, InterruptedException {
+    void createAclsForSubject_shouldSucceed() {
         setupSuccessfulCreate();
 
         Result<Void> result = aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
@@ -83,7 +97,8 @@ class KafkaAclServiceImplTest {
                 bindings.size() == 3 &&
                         hasBinding(bindings, ResourceType.TOPIC, TOPIC, PatternType.LITERAL, AclOperation.READ) &&
                         hasBinding(bindings, ResourceType.TOPIC, TOPIC, PatternType.LITERAL, AclOperation.DESCRIBE) &&
-                        hasBinding(bindings, ResourceType.GROUP, GROUP_PREFIX, PatternType.PREFIXED, AclOperation.READ)));
+                        hasBinding(bindings, ResourceType.GROUP, GROUP_PREFIX, PatternType.PREFIXED, AclOperation.READ)),
+                any(CreateAclsOptions.class));
     }
 
     private static boolean hasBinding(Collection<AclBinding> bindings, ResourceType resourceType, String name,
@@ -97,30 +112,85 @@ class KafkaAclServiceImplTest {
     }
 
     @Test
-    void createAclsForSubject_shouldFail_whenExecutionExceptionOccurs() throws ExecutionException, InterruptedException {
-        CreateAclsResult createResult = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(mockAdmin.createAcls(anyCollection())).thenReturn(createResult);
-        when(createResult.all()).thenReturn(future);
-        when(future.get()).thenThrow(new ExecutionException("error", new RuntimeException()));
+    void createAclsForSubject_shouldFail_whenExecutionExceptionOccurs() {
+        when(mockAdmin.createAcls(anyCollection(), any(CreateAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBinding> bindings = invocation.getArgument(0);
+            CreateAclsResult createResult = mock();
+            when(createResult.values()).thenReturn(futures(bindings, failed(new RuntimeException("error"))));
+            return createResult;
+        });
 
         Result<Void> result = aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
 
         assertThat(result.failed()).isTrue();
         assertThat(result.getFailureDetail()).contains("Failed to create ACLs for OAuth subject: " + OAUTH_SUBJECT);
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.REVOKING);
     }
 
     @Test
-    void revokeAclsForTransferProcess_shouldSucceed_afterCreate() throws Exception {
+    void createAclsForSubject_shouldTrackEntryInStore() {
         setupSuccessfulCreate();
+
         aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
 
+        assertThat(store.findById(TRANSFER_PROCESS_ID))
+                .isEqualTo(new KafkaAclEntry(TRANSFER_PROCESS_ID, OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, KafkaAclEntry.State.ACTIVE));
+    }
+
+    @Test
+    void createAclsForSubject_shouldReconnect_whenAdminRequestFails() {
+        Admin secondAdmin = mock();
+        when(adminClientFactory.createAdmin(any(Properties.class))).thenReturn(mockAdmin, secondAdmin);
+        when(mockAdmin.createAcls(anyCollection(), any(CreateAclsOptions.class))).thenThrow(new IllegalStateException("disconnected"));
+        setupSuccessfulCreate(secondAdmin);
+
+        var first = aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
+        var second = aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
+
+        assertThat(first.failed()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+        verify(mockAdmin).close(any(Duration.class));
+        verify(adminClientFactory, times(2)).createAdmin(any());
+    }
+
+    @Test
+    void createAclsForSubject_shouldCoalesceConcurrentRequests() throws Exception {
+        setupSuccessfulCreate();
+        var batchingService = new KafkaAclServiceImpl(kafkaProperties, monitor, adminClientFactory, Duration.ofMillis(200), Duration.ofSeconds(5));
+
+        var first = CompletableFuture.supplyAsync(() -> batchingService.createAclsForSubject("subject-1", TOPIC, GROUP_PREFIX, "tp-1"));
+        var second = CompletableFuture.supplyAsync(() -> batchingService.createAclsForSubject("subject-2", TOPIC, GROUP_PREFIX, "tp-2"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).succeeded()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).succeeded()).isTrue();
+        verify(mockAdmin).createAcls(argThat(bindings -> bindings.size() == 6), any(CreateAclsOptions.class));
+        assertThat(batchingService.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void revokeAclsForTransferProcess_shouldSucceed_afterCreate() {
+        setupSuccessfulCreate();
+        aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
+
+        setupSuccessfulDelete();
+
+        Result<Void> result = aclService.revokeAclsForTransferProcess(TRANSFER_PROCESS_ID);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(mockAdmin).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).isNull();
+    }
+
+    @Test
+    void revokeAclsForTransferProcess_shouldUseStoredEntry_afterRestart() {
         setupSuccessfulDelete();
+        store.save(new KafkaAclEntry(TRANSFER_PROCESS_ID, OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, KafkaAclEntry.State.ACTIVE));
 
         Result<Void> result = aclService.revokeAclsForTransferProcess(TRANSFER_PROCESS_ID);
 
         assertThat(result.succeeded()).isTrue();
-        verify(mockAdmin).deleteAcls(anyCollection());
+        verify(mockAdmin).deleteAcls(argThat(filters -> filters.size() == 3), any(DeleteAclsOptions.class));
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).isNull();
     }
 
     @Test
@@ -133,34 +203,109 @@ class KafkaAclServiceImplTest {
     }
 
     @Test
-    void revokeAclsForTransferProcess_shouldFail_whenExecutionExceptionOccurs() throws Exception {
+    void revokeAclsForTransferProcess_shouldFail_whenExecutionExceptionOccurs() {
         setupSuccessfulCreate();
         aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
 
-        DeleteAclsResult deleteResult = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(mockAdmin.deleteAcls(anyCollection())).thenReturn(deleteResult);
-        when(deleteResult.all()).thenReturn(future);
-        when(future.get()).thenThrow(new ExecutionException("error", new RuntimeException()));
+        when(mockAdmin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            DeleteAclsResult deleteResult = mock();
+            when(deleteResult.values()).thenReturn(futures(filters, failed(new RuntimeException("error"))));
+            return deleteResult;
+        });
 
         Result<Void> result = aclService.revokeAclsForTransferProcess(TRANSFER_PROCESS_ID);
 
         assertThat(result.failed()).isTrue();
         assertThat(result.getFailureDetail()).contains("Failed to revoke ACLs for transferProcessId: " + TRANSFER_PROCESS_ID);
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.REVOKING);
     }
 
     @Test
-    void revokeAclsForSubject_shouldSucceed() throws Exception {
+    void revokeAclsForTransferProcessAsync_shouldCompleteOnceBrokerAnswers() throws Exception {
+        store.save(new KafkaAclEntry(TRANSFER_PROCESS_ID, OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, KafkaAclEntry.State.ACTIVE));
+        var answer = new KafkaFutureImpl<DeleteAclsResult.FilterResults>();
+        when(mockAdmin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            DeleteAclsResult deleteResult = mock();
+            when(deleteResult.values()).thenReturn(futures(filters, answer));
+            return deleteResult;
+        });
+
+        var result = aclService.revokeAclsForTransferProcessAsync(TRANSFER_PROCESS_ID);
+
+        verify(mockAdmin, timeout(5000)).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
+        assertThat(result).isNotDone();
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.REVOKING);
+
+        answer.complete(mock(DeleteAclsResult.FilterResults.class));
+
+        assertThat(result.get(5, TimeUnit.SECONDS).succeeded()).isTrue();
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).isNull();
+    }
+
+    @Test
+    void revokeAclsForTransferProcessAsync_shouldAccessStoreOnServiceExecutor() throws Exception {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var service = new KafkaAclServiceImpl(new SharedAdminClient(adminClientFactory, kafkaProperties, Duration.ofSeconds(5), monitor),
+                    store, monitor, executor, Duration.ZERO, Duration.ofSeconds(5));
+            store.save(new KafkaAclEntry(TRANSFER_PROCESS_ID, OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, KafkaAclEntry.State.ACTIVE));
+            setupSuccessfulDelete();
+            var blocked = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            var result = service.revokeAclsForTransferProcessAsync(TRANSFER_PROCESS_ID);
+
+            assertThat(result).isNotDone();
+            assertThat(store.findById(TRANSFER_PROCESS_ID)).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.ACTIVE);
+
+            blocked.countDown();
+
+            assertThat(result.get(5, TimeUnit.SECONDS).succeeded()).isTrue();
+            assertThat(store.findById(TRANSFER_PROCESS_ID)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void revokeAclsForTransferProcessAsync_shouldFail_whenBrokerDoesNotAnswer() throws Exception {
+        var timingOut = new KafkaAclServiceImpl(new SharedAdminClient(adminClientFactory, kafkaProperties, Duration.ofSeconds(5), monitor),
+                store, monitor, Duration.ZERO, Duration.ofMillis(50));
+        store.save(new KafkaAclEntry(TRANSFER_PROCESS_ID, OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, KafkaAclEntry.State.ACTIVE));
+        when(mockAdmin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            DeleteAclsResult deleteResult = mock();
+            when(deleteResult.values()).thenReturn(futures(filters, new KafkaFutureImpl<>()));
+            return deleteResult;
+        });
+
+        var result = timingOut.revokeAclsForTransferProcessAsync(TRANSFER_PROCESS_ID).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("no response within 50 ms");
+        assertThat(store.findById(TRANSFER_PROCESS_ID)).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.REVOKING);
+    }
+
+    @Test
+    void revokeAclsForSubject_shouldSucceed() {
         setupSuccessfulDelete();
 
         Result<Void> result = aclService.revokeAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX);
 
         assertThat(result.succeeded()).isTrue();
-        verify(mockAdmin).deleteAcls(anyCollection());
+        verify(mockAdmin).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
     }
 
     @Test
-    void createAndRevoke_shouldTrackAndCleanUpAcls() throws Exception {
+    void createAndRevoke_shouldTrackAndCleanUpAcls() {
         setupSuccessfulCreate();
         setupSuccessfulDelete();
 
@@ -168,25 +313,55 @@ class KafkaAclServiceImplTest {
         aclService.revokeAclsForTransferProcess(TRANSFER_PROCESS_ID);
 
         // After revoke, re-revoking for the same ID should be a no-op (no admin call)
-        verify(adminClientFactory, times(2)).createAdmin(any());
+        verify(mockAdmin, times(1)).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
         Result<Void> secondRevoke = aclService.revokeAclsForTransferProcess(TRANSFER_PROCESS_ID);
         assertThat(secondRevoke.succeeded()).isTrue();
-        verify(adminClientFactory, times(2)).createAdmin(any()); // still 2, no extra call
+        verify(mockAdmin, times(1)).deleteAcls(anyCollection(), any(DeleteAclsOptions.class));
+        // the admin client is shared by all operations
+        verify(adminClientFactory, times(1)).createAdmin(any());
+    }
+
+    @Test
+    void close_shouldCloseSharedAdmin() {
+        setupSuccessfulCreate();
+        aclService.createAclsForSubject(OAUTH_SUBJECT, TOPIC, GROUP_PREFIX, TRANSFER_PROCESS_ID);
+
+        aclService.close();
+
+        verify(mockAdmin).close(any(Duration.class));
+    }
+
+    private void setupSuccessfulCreate() {
+        setupSuccessfulCreate(mockAdmin);
+    }
+
+    private void setupSuccessfulCreate(Admin admin) {
+        when(admin.createAcls(anyCollection(), any(CreateAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBinding> bindings = invocation.getArgument(0);
+            CreateAclsResult createResult = mock();
+            when(createResult.values()).thenReturn(futures(bindings, KafkaFuture.completedFuture(null)));
+            return createResult;
+        });
+    }
+
+    private void setupSuccessfulDelete() {
+        when(mockAdmin.deleteAcls(anyCollection(), any(DeleteAclsOptions.class))).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            DeleteAclsResult deleteResult = mock();
+            when(deleteResult.values()).thenReturn(futures(filters, KafkaFuture.completedFuture(mock(DeleteAclsResult.FilterResults.class))));
+            return deleteResult;
+        });
     }
 
-    private void setupSuccessfulCreate() throws ExecutionException, InterruptedException {
-        CreateAclsResult createResult = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(mockAdmin.createAcls(anyCollection())).thenReturn(createResult);
-        when(createResult.all()).thenReturn(future);
-        when(future.get()).thenReturn(null);
+    private static <K, V> Map<K, KafkaFuture<V>> futures(Collection<K> keys, KafkaFuture<V> future) {
+        var futures = new HashMap<K, KafkaFuture<V>>();
+        keys.forEach(key -> futures.put(key, future));
+        return futures;
     }
 
-    private void setupSuccessfulDelete() throws ExecutionException, InterruptedException {
-        DeleteAclsResult deleteResult = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(mockAdmin.deleteAcls(anyCollection())).thenReturn(deleteResult);
-        when(deleteResult.all()).thenReturn(future);
-        when(future.get()).thenReturn(Collections.emptyList());
+    private static <V> KafkaFuture<V> failed(Throwable throwable) {
+        var future = new KafkaFutureImpl<V>();
+        future.completeExceptionally(throwable);
+        return future;
     }
 }
@@ -117,6 +117,9 @@ class KafkaAclServiceImplTestcontainersTest {
 
     @AfterEach
     void tearDown() {
+        if (aclService != null) {
+            aclService.close();
+        }
         if (adminClient != null) {
             adminClient.deleteTopics(List.of(TEST_TOPIC));
             adminClient.deleteAcls(List.of(AclBindingFilter.ANY));
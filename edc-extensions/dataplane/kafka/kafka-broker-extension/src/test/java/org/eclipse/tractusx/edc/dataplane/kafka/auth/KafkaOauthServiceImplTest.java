@@ -30,9 +30,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -162,5 +171,165 @@ class KafkaOauthServiceImplTest {
             assertEquals("Failed to fetch Oauth2 token", exception.getMessage());
             verify(mockHttpClient, times(1)).execute(any(Request.class));
         }
+
+        @Test
+        void shouldRevokeAsynchronously_withoutBlockingOnResponse() throws Exception {
+            var response = new CompletableFuture<Response>();
+            when(mockResponse.isSuccessful()).thenReturn(false);
+            when(mockResponse.code()).thenReturn(500);
+            when(mockHttpClient.executeAsync(any(Request.class), any())).thenReturn(response);
+
+            var revoked = oauthService.revokeTokenAsync(createCredentialsWithRevocationUrl(), TEST_TOKEN);
+
+            assertFalse(revoked.isDone());
+            response.complete(mockResponse);
+            var exception = assertThrows(ExecutionException.class, revoked::get);
+            assertEquals("Revoke endpoint returned HTTP 500", exception.getCause().getMessage());
+            verify(mockHttpClient, never()).execute(any(Request.class));
+        }
+    }
+
+    @Nested
+    class CachedAccessTokenTests {
+        private final Clock clock = mock();
+        private final AtomicInteger issued = new AtomicInteger();
+        private KafkaOauthServiceImpl cachingService;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            when(clock.millis()).thenReturn(0L);
+            cachingService = new KafkaOauthServiceImpl(mockHttpClient, new ObjectMapper(), clock, Duration.ofSeconds(30));
+            when(mockHttpClient.execute(any(Request.class))).thenAnswer(i -> tokenResponse(300));
+        }
+
+        @Test
+        void shouldReuseToken_untilHalfOfLifetime() throws IOException {
+            var first = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(149).toMillis());
+            var second = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(150).toMillis());
+            var renewed = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+
+            assertEquals(first, second);
+            assertNotEquals(first, renewed);
+            verify(mockHttpClient, times(2)).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldRenewWithinMargin_forShortLivedTokens() throws IOException {
+            when(mockHttpClient.execute(any(Request.class))).thenAnswer(i -> tokenResponse(40));
+
+            var first = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(9).toMillis());
+            var second = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(10).toMillis());
+            var renewed = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+
+            assertEquals(first, second);
+            assertNotEquals(first, renewed);
+        }
+
+        @Test
+        void shouldNotShareToken_whenRevocationUrlIsPresent() throws IOException {
+            var first = cachingService.getAccessToken(credentials(Optional.of(REVOKE_URL), CLIENT_SECRET));
+            var second = cachingService.getAccessToken(credentials(Optional.of(REVOKE_URL), CLIENT_SECRET));
+
+            assertNotEquals(first, second);
+            verify(mockHttpClient, times(2)).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldFetchNewToken_whenClientSecretChanged() throws IOException {
+            var first = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            var second = cachingService.getAccessToken(credentials(Optional.empty(), "rotated-secret"));
+
+            assertNotEquals(first, second);
+            verify(mockHttpClient, times(2)).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldNotCacheToken_withoutExpiresIn() throws IOException {
+            when(mockHttpClient.execute(any(Request.class))).thenAnswer(i -> tokenResponse(0));
+
+            cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+            cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+
+            verify(mockHttpClient, times(2)).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldSendSingleRequest_forConcurrentCallers() throws Exception {
+            var requested = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            when(mockHttpClient.execute(any(Request.class))).thenAnswer(i -> {
+                requested.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return tokenResponse(300);
+            });
+
+            var first = CompletableFuture.supplyAsync(() -> cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET)));
+            requested.await(5, TimeUnit.SECONDS);
+            var second = CompletableFuture.supplyAsync(() -> cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET)));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            verify(mockHttpClient, times(1)).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldShareRunningAsyncRequest_withConcurrentCallers() throws Exception {
+            var response = new CompletableFuture<Response>();
+            when(mockHttpClient.executeAsync(any(Request.class), any())).thenReturn(response);
+
+            var first = cachingService.getAccessTokenAsync(credentials(Optional.empty(), CLIENT_SECRET));
+            var second = cachingService.getAccessTokenAsync(credentials(Optional.empty(), CLIENT_SECRET));
+
+            assertFalse(first.isDone());
+            response.complete(tokenResponse(300));
+
+            assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(first.get(), cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET)));
+            verify(mockHttpClient, times(1)).executeAsync(any(Request.class), any());
+            verify(mockHttpClient, never()).execute(any(Request.class));
+        }
+
+        @Test
+        void shouldWaitForRunningRenewal_whenTokenIsWithinMarginOfExpiry() throws Exception {
+            var response = new CompletableFuture<Response>();
+            when(mockHttpClient.executeAsync(any(Request.class), any())).thenReturn(response);
+            var first = cachingService.getAccessToken(credentials(Optional.empty(), CLIENT_SECRET));
+
+            when(clock.millis()).thenReturn(Duration.ofSeconds(150).toMillis());
+            var renewing = cachingService.getAccessTokenAsync(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(269).toMillis());
+            var outsideMargin = cachingService.getAccessTokenAsync(credentials(Optional.empty(), CLIENT_SECRET));
+            when(clock.millis()).thenReturn(Duration.ofSeconds(270).toMillis());
+            var withinMargin = cachingService.getAccessTokenAsync(credentials(Optional.empty(), CLIENT_SECRET));
+
+            assertEquals(first, outsideMargin.getNow(null));
+            assertFalse(withinMargin.isDone());
+            response.complete(tokenResponse(300));
+
+            assertNotEquals(first, withinMargin.get(5, TimeUnit.SECONDS));
+            assertEquals(renewing.get(5, TimeUnit.SECONDS), withinMargin.get());
+            verify(mockHttpClient, times(1)).executeAsync(any(Request.class), any());
+        }
+
+        private OauthCredentials credentials(Optional<String> revocationUrl, String clientSecret) {
+            return new OauthCredentials(TOKEN_URL, revocationUrl, CLIENT_ID, clientSecret);
+        }
+
+        private Response tokenResponse(int expiresIn) throws IOException {
+            var body = expiresIn > 0 ?
+                    "{\"access_token\": \"token-%d\", \"expires_in\": %d}".formatted(issued.incrementAndGet(), expiresIn) :
+                    "{\"access_token\": \"token-%d\"}".formatted(issued.incrementAndGet());
+            Response response = mock();
+            ResponseBody responseBody = mock();
+            when(response.isSuccessful()).thenReturn(true);
+            when(response.body()).thenReturn(responseBody);
+            when(responseBody.string()).thenReturn(body);
+            return response;
+        }
     }
 }
@@ -22,14 +22,22 @@ package org.eclipse.tractusx.edc.dataplane.kafka.provision;
 import org.eclipse.edc.connector.dataplane.spi.provision.DeprovisionedResource;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionResource;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.tractusx.edc.dataplane.kafka.acl.KafkaAclService;
 import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.OAUTH_CLIENT_ID;
@@ -54,29 +62,34 @@ class KafkaDeprovisionerTest {
     private final KafkaAclService aclService = mock();
     private final KafkaDeprovisioner deprovisioner = new KafkaDeprovisioner(vault, oauthService, aclService, mock(Monitor.class));
 
+    @BeforeEach
+    void setUp() {
+        when(oauthService.revokeTokenAsync(any(), any())).thenReturn(completedFuture(null));
+    }
+
     @Test
     void deprovision_revokesAcls_token_andDeletesVaultSecret() throws Exception {
-        when(aclService.revokeAclsForTransferProcess(FLOW_ID)).thenReturn(Result.success());
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(completedFuture(Result.success()));
         when(vault.resolveSecret(FLOW_ID)).thenReturn(TOKEN_VALUE);
         when(vault.resolveSecret(SECRET_KEY)).thenReturn("secret-value");
 
         StatusResult<DeprovisionedResource> result = deprovisioner.deprovision(resource()).get();
 
         assertThat(result.succeeded()).isTrue();
-        verify(aclService).revokeAclsForTransferProcess(FLOW_ID);
-        verify(oauthService).revokeToken(any(), eq(TOKEN_VALUE));
+        verify(aclService).revokeAclsForTransferProcessAsync(FLOW_ID);
+        verify(oauthService).revokeTokenAsync(any(), eq(TOKEN_VALUE));
         verify(vault).deleteSecret(FLOW_ID);
     }
 
     @Test
     void deprovision_isIdempotent_whenTokenAlreadyGone() throws Exception {
-        when(aclService.revokeAclsForTransferProcess(FLOW_ID)).thenReturn(Result.success());
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(completedFuture(Result.success()));
         when(vault.resolveSecret(FLOW_ID)).thenReturn(null);
 
         StatusResult<DeprovisionedResource> result = deprovisioner.deprovision(resource()).get();
 
         assertThat(result.succeeded()).isTrue();
-        verify(oauthService, never()).revokeToken(any(), any());
+        verify(oauthService, never()).revokeTokenAsync(any(), any());
         verify(vault, never()).deleteSecret(any());
     }
 
@@ -89,23 +102,58 @@ class KafkaDeprovisionerTest {
         StatusResult<DeprovisionedResource> result = noAcl.deprovision(resource()).get();
 
         assertThat(result.succeeded()).isTrue();
-        verify(oauthService).revokeToken(any(), eq(TOKEN_VALUE));
+        verify(oauthService).revokeTokenAsync(any(), eq(TOKEN_VALUE));
         verify(vault).deleteSecret(FLOW_ID);
     }
 
     @Test
     void deprovision_fails_whenAclRevocationFails() throws Exception {
-        when(aclService.revokeAclsForTransferProcess(FLOW_ID)).thenReturn(Result.failure("broker error"));
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(completedFuture(Result.failure("broker error")));
 
         StatusResult<DeprovisionedResource> result = deprovisioner.deprovision(resource()).get();
 
         assertThat(result.failed()).isTrue();
-        verify(oauthService, never()).revokeToken(any(), any());
+        assertThat(result.getFailureDetail()).isEqualTo("Failed to revoke Kafka ACLs: broker error");
+        verify(oauthService, never()).revokeTokenAsync(any(), any());
+    }
+
+    @Test
+    void deprovision_completesOnlyOnceAclsAreRevoked() throws Exception {
+        var acls = new CompletableFuture<Result<Void>>();
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(acls);
+        when(vault.resolveSecret(FLOW_ID)).thenReturn(TOKEN_VALUE);
+        when(vault.resolveSecret(SECRET_KEY)).thenReturn("secret-value");
+
+        var result = deprovisioner.deprovision(resource());
+
+        assertThat(result).isNotDone();
+        verify(oauthService, never()).revokeTokenAsync(any(), any());
+
+        acls.complete(Result.success());
+
+        assertThat(result.get().succeeded()).isTrue();
+        verify(vault).deleteSecret(FLOW_ID);
+    }
+
+    @Test
+    void deprovision_keepsVaultSecret_whenTokenRevocationTimesOut() throws Exception {
+        var timingOut = new KafkaDeprovisioner(vault, new OauthCredentialsResolver(vault), oauthService, aclService, mock(Monitor.class),
+                Runnable::run, Duration.ofMillis(10));
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(completedFuture(Result.success()));
+        when(vault.resolveSecret(FLOW_ID)).thenReturn(TOKEN_VALUE);
+        when(vault.resolveSecret(SECRET_KEY)).thenReturn("secret-value");
+        when(oauthService.revokeTokenAsync(any(), any())).thenReturn(new CompletableFuture<>());
+
+        var result = timingOut.deprovision(resource()).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        verify(vault, never()).deleteSecret(any());
     }
 
     @Test
     void deprovision_fails_whenClientSecretMissing() throws Exception {
-        when(aclService.revokeAclsForTransferProcess(FLOW_ID)).thenReturn(Result.success());
+        when(aclService.revokeAclsForTransferProcessAsync(FLOW_ID)).thenReturn(completedFuture(Result.success()));
         when(vault.resolveSecret(FLOW_ID)).thenReturn(TOKEN_VALUE);
         when(vault.resolveSecret(SECRET_KEY)).thenReturn(null);
 
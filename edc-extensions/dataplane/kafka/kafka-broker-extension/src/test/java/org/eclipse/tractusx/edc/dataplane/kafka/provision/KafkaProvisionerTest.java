@@ -22,6 +22,7 @@ package org.eclipse.tractusx.edc.dataplane.kafka.provision;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionResource;
 import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionedResource;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -29,6 +30,12 @@ import org.eclipse.tractusx.edc.dataplane.kafka.auth.KafkaOauthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.BOOTSTRAP_SERVERS;
 import static org.eclipse.tractusx.edc.dataplane.kafka.dataaddress.KafkaBrokerDataAddressSchema.GROUP_PREFIX;
@@ -45,6 +52,8 @@ import static org.eclipse.tractusx.edc.dataplane.kafka.provision.KafkaProvisionC
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,7 +73,7 @@ class KafkaProvisionerTest {
     void setUp() {
         provisioner = new KafkaProvisioner(vault, oauthService, mock(Monitor.class));
         when(vault.resolveSecret(SECRET_KEY)).thenReturn("secret-value");
-        when(oauthService.getAccessToken(any())).thenReturn(TOKEN_VALUE);
+        when(oauthService.getAccessTokenAsync(any())).thenReturn(CompletableFuture.completedFuture(TOKEN_VALUE));
     }
 
     @Test
@@ -90,6 +99,78 @@ class KafkaProvisionerTest {
         assertThat(result.getContent().getDataAddress().getStringProperty(GROUP_PREFIX)).isEqualTo(CONSUMER_BPN);
     }
 
+    @Test
+    void provision_resolvesClientSecretOnce_whenCached() throws Exception {
+        var clock = mock(Clock.class);
+        var cachingProvisioner = new KafkaProvisioner(vault, new OauthCredentialsResolver(vault, clock, Duration.ofMinutes(5)),
+                oauthService, mock(Monitor.class));
+
+        when(clock.millis()).thenReturn(0L);
+        cachingProvisioner.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get();
+        cachingProvisioner.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get();
+        verify(vault, times(1)).resolveSecret(SECRET_KEY);
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        cachingProvisioner.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get();
+        verify(vault, times(2)).resolveSecret(SECRET_KEY);
+    }
+
+    @Test
+    void provision_completesOnlyOnceTokenIsReceived() throws Exception {
+        var token = new CompletableFuture<String>();
+        when(oauthService.getAccessTokenAsync(any())).thenReturn(token);
+
+        var result = provisioner.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN));
+
+        assertThat(result).isNotDone();
+        verify(vault, never()).storeSecret(any(), any());
+
+        token.complete(TOKEN_VALUE);
+
+        assertThat(result.get().succeeded()).isTrue();
+        verify(vault).storeSecret(eq(FLOW_ID), eq(TOKEN_VALUE));
+    }
+
+    @Test
+    void provision_failsFatally_whenTokenRequestFails() throws Exception {
+        when(oauthService.getAccessTokenAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Oauth2 token endpoint returned HTTP 401")));
+
+        var result = provisioner.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ResponseStatus.FATAL_ERROR);
+        assertThat(result.getFailureDetail()).isEqualTo("Failed to provision Kafka data flow: Oauth2 token endpoint returned HTTP 401");
+    }
+
+    @Test
+    void provision_failsWithRetry_whenTokenRequestTimesOut() throws Exception {
+        var timingOut = new KafkaProvisioner(vault, new OauthCredentialsResolver(vault), oauthService, mock(Monitor.class),
+                Runnable::run, Duration.ofMillis(10));
+        when(oauthService.getAccessTokenAsync(any())).thenReturn(new CompletableFuture<>());
+
+        var result = timingOut.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        assertThat(result.getFailureDetail()).contains("no response within 10 ms");
+        verify(vault, never()).storeSecret(any(), any());
+    }
+
+    @Test
+    void provision_failsWithRetry_whenExecutorIsSaturated() throws Exception {
+        var saturated = new KafkaProvisioner(vault, new OauthCredentialsResolver(vault), oauthService, mock(Monitor.class),
+                command -> {
+                    throw new RejectedExecutionException("queue full");
+                }, Duration.ofSeconds(1));
+
+        var result = saturated.provision(resource(DATA_ADDRESS_GROUP_PREFIX, CONSUMER_BPN)).get();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        verify(oauthService, never()).getAccessTokenAsync(any());
+    }
+
     @Test
     void provision_fails_whenGroupPrefixUnresolvable() throws Exception {
         StatusResult<ProvisionedResource> result = provisioner.provision(resource(null, null)).get();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.dataplane.kafka.acl.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.tractusx.edc.dataplane.kafka.acl.store.KafkaAclStore.NOT_FOUND_TEMPLATE;
+
+public abstract class KafkaAclStoreTestBase {
+
+    @Test
+    void save_andFindById() {
+        var entry = entry("tp-1", KafkaAclEntry.State.ACTIVE);
+
+        var result = getStore().save(entry);
+
+        assertThat(result).isSucceeded();
+        assertThat(getStore().findById("tp-1")).isEqualTo(entry);
+    }
+
+    @Test
+    void save_shouldReplaceExistingEntry() {
+        var entry = entry("tp-1", KafkaAclEntry.State.ACTIVE);
+        getStore().save(entry);
+
+        getStore().save(entry.withState(KafkaAclEntry.State.REVOKING));
+
+        assertThat(getStore().findById("tp-1")).extracting(KafkaAclEntry::state).isEqualTo(KafkaAclEntry.State.REVOKING);
+    }
+
+    @Test
+    void findById_whenNotExists() {
+        assertThat(getStore().findById("unknown")).isNull();
+    }
+
+    @Test
+    void delete_whenExists() {
+        getStore().save(entry("tp-1", KafkaAclEntry.State.ACTIVE));
+
+        var result = getStore().delete("tp-1");
+
+        assertThat(result).isSucceeded();
+        assertThat(getStore().findById("tp-1")).isNull();
+    }
+
+    @Test
+    void delete_whenNotExists() {
+        var result = getStore().delete("unknown");
+
+        assertThat(result).isFailed().detail().isEqualTo(NOT_FOUND_TEMPLATE.formatted("unknown"));
+    }
+
+    @Test
+    void findPage_shouldWalkAllEntriesInOrder() {
+        getStore().save(entry("tp-3", KafkaAclEntry.State.ACTIVE));
+        getStore().save(entry("tp-1", KafkaAclEntry.State.REVOKING));
+        getStore().save(entry("tp-2", KafkaAclEntry.State.ACTIVE));
+
+        var first = getStore().findPage(null, 2);
+        var second = getStore().findPage(first.get(first.size() - 1).transferProcessId(), 2);
+
+        assertThat(first).extracting(KafkaAclEntry::transferProcessId).containsExactly("tp-1", "tp-2");
+        assertThat(second).extracting(KafkaAclEntry::transferProcessId).containsExactly("tp-3");
+        assertThat(getStore().findPage("tp-3", 2)).isEmpty();
+    }
+
+    private KafkaAclEntry entry(String transferProcessId, KafkaAclEntry.State state) {
+        return new KafkaAclEntry(transferProcessId, "subject", "topic", "group-prefix", state);
+    }
+
+    protected abstract KafkaAclStore getStore();
+}
@@ -92,10 +92,19 @@ public class BpnExtractionFunction implements ParticipantIdExtractionFunction {
 
     private Optional<String> getIdentifier(VerifiableCredential vc) {
         return vc.getCredentialSubject().stream()
-                .flatMap(credentialSubject -> credentialSubject.getClaims().entrySet().stream())
-                .filter(entry -> entry.getKey().endsWith(IDENTITY_PROPERTY))
-                .map(Map.Entry::getValue)
-                .map(String.class::cast)
+                .map(credentialSubject -> getIdentifier(credentialSubject.getClaims()))
+                .flatMap(Optional::stream)
                 .findFirst();
     }
+
+    private Optional<String> getIdentifier(Map<String, Object> claims) {
+        // exact lookups first, the suffix scan is only needed for the property under another namespace
+        return Optional.ofNullable(claims.get(CX_CREDENTIAL_NS + IDENTITY_PROPERTY))
+                .or(() -> Optional.ofNullable(claims.get(IDENTITY_PROPERTY)))
+                .or(() -> claims.entrySet().stream()
+                        .filter(entry -> entry.getKey().endsWith(IDENTITY_PROPERTY))
+                        .map(Map.Entry::getValue)
+                        .findFirst())
+                .map(String.class::cast);
+    }
 }
@@ -118,7 +118,8 @@ public class BpnExtractionFunctionTest {
             return Stream.of(
                     Arguments.of(vc("MembershipCredential", Map.of("id", DID, ID_PROPERTY, BPN))),
                     Arguments.of(vc(CX_CREDENTIAL_NS + "MembershipCredential", Map.of("id", DID, ID_PROPERTY, BPN))),
-                    Arguments.of(vc(CX_CREDENTIAL_NS + "MembershipCredential", Map.of("id", DID, CX_CREDENTIAL_NS + ID_PROPERTY, BPN))));
+                    Arguments.of(vc(CX_CREDENTIAL_NS + "MembershipCredential", Map.of("id", DID, CX_CREDENTIAL_NS + ID_PROPERTY, BPN))),
+                    Arguments.of(vc(CX_CREDENTIAL_NS + "MembershipCredential", Map.of("id", DID, "https://example.org/ns/" + ID_PROPERTY, BPN))));
         }
     }
 }
@@ -29,6 +29,7 @@ dependencies {
     implementation(libs.edc.spi.decentralized.claims)
     implementation(libs.edc.spi.participant.context.single)
     implementation(libs.edc.auth.oauth2.client)
+    implementation(libs.edc.lib.util)
 
     testImplementation(libs.edc.junit)
     testImplementation(testFixtures(libs.edc.lib.http))
@@ -25,16 +25,33 @@ import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.tractusx.edc.iam.dcp.sts.div.oauth.DivOauth2Client;
 import org.eclipse.tractusx.edc.iam.dcp.sts.div.oauth.DivOauthClientImpl;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DivOauthClientExtension implements ServiceExtension {
 
+    @Setting(key = "tx.edc.iam.sts.div.oauth.renewal.percent", description = "Percentage of the lifetime of the DIV access token " +
+            "after which it is renewed in the background", defaultValue = DivOauthClientImpl.DEFAULT_RENEWAL_PERCENT + "")
+    private int renewalPercent;
+
+    @Setting(key = "tx.edc.iam.sts.div.oauth.token.lifetime.default", description = "Lifetime in seconds assumed for DIV access tokens " +
+            "issued without expires_in", defaultValue = "60")
+    private long defaultTokenLifetime;
+
+    @Setting(key = "tx.edc.iam.sts.div.oauth.secret.cache.period", description = "Time in seconds the client secret read from the vault " +
+            "is reused", defaultValue = "300")
+    private long secretCachePeriod;
+
     @Inject
     private Monitor monitor;
 
@@ -53,8 +70,22 @@ public class DivOauthClientExtension implements ServiceExtension {
     @Inject
     private SingleParticipantContextSupplier singleParticipantContextSupplier;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService renewalExecutor;
+
+    @Override
+    public void shutdown() {
+        if (renewalExecutor != null) {
+            renewalExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public DivOauth2Client divOauth2Client() {
-        return new DivOauthClientImpl(oauth2Client, vault, clientConfiguration, clock, monitor, singleParticipantContextSupplier);
+        renewalExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "DIV token renewal");
+        return new DivOauthClientImpl(oauth2Client, vault, clientConfiguration, clock, monitor, singleParticipantContextSupplier,
+                renewalExecutor, renewalPercent, Duration.ofSeconds(defaultTokenLifetime), Duration.ofSeconds(secretCachePeriod));
     }
 }
@@ -35,8 +35,12 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.tractusx.edc.core.utils.PathUtils;
 import org.eclipse.tractusx.edc.iam.dcp.sts.div.DivSecureTokenService;
+import org.eclipse.tractusx.edc.iam.dcp.sts.div.DivTokenCache;
 import org.eclipse.tractusx.edc.iam.dcp.sts.div.oauth.DivOauth2Client;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static java.util.Optional.ofNullable;
 
 @Extension(RemoteTokenServiceClientExtension.NAME)
@@ -47,6 +51,21 @@ public class RemoteTokenServiceClientExtension implements ServiceExtension {
     @Setting(key = DIV_URL, description = "STS Div endpoint", required = false)
     private String divUrlConfig;
 
+    @Setting(key = "tx.edc.iam.sts.div.token.cache.enabled", description = "Reuse self-issued tokens granted by DIV for identical grant requests. " +
+            "Tokens bound to a jti claim are never reused", defaultValue = "false")
+    private boolean tokenCacheEnabled;
+
+    @Setting(key = "tx.edc.iam.sts.div.token.cache.expiry.margin", description = "Time in seconds before the expiry of a cached token, " +
+            "from which it is no longer reused", defaultValue = "10")
+    private long tokenCacheExpiryMargin;
+
+    @Setting(key = "tx.edc.iam.sts.div.token.cache.lifetime.max", description = "Maximum time in seconds a cached token is reused, " +
+            "regardless of its expiry", defaultValue = "30")
+    private long tokenCacheMaxLifetime;
+
+    @Setting(key = "tx.edc.iam.sts.div.token.cache.size", description = "Maximum number of cached tokens", defaultValue = "500")
+    private int tokenCacheSize;
+
     protected static final String NAME = "Secure Token Service (STS) client extension";
 
     @Inject
@@ -63,6 +82,8 @@ public class RemoteTokenServiceClientExtension implements ServiceExtension {
     private Vault vault;
     @Inject
     private DivOauth2Client divOauth2Client;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -75,7 +96,9 @@ public class RemoteTokenServiceClientExtension implements ServiceExtension {
                 .map(PathUtils::removeTrailingSlash)
                 .map(divUrl -> {
                     monitor.info("DIV URL configured, will use DIV STS client");
-                    return (SecureTokenService) new DivSecureTokenService(httpClient, divUrl, divOauth2Client, typeManager.getMapper(), monitor);
+                    var tokenCache = tokenCacheEnabled ? new DivTokenCache(clock, Duration.ofSeconds(tokenCacheExpiryMargin),
+                            Duration.ofSeconds(tokenCacheMaxLifetime), tokenCacheSize, typeManager.getMapper()) : null;
+                    return (SecureTokenService) new DivSecureTokenService(httpClient, divUrl, divOauth2Client, typeManager.getMapper(), monitor, tokenCache);
                 })
                 .orElseGet(() -> {
                     monitor.info("DIV URL not configured, will use the standard EDC Remote STS client");
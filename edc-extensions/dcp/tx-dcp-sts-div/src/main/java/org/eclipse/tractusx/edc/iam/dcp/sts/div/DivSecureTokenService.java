@@ -44,6 +44,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import static java.lang.String.format;
@@ -51,6 +53,7 @@ import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
 import static org.eclipse.edc.iam.decentralizedclaims.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
 
 /**
@@ -60,6 +63,8 @@ import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
  *     <li>grantAccess: request the SI token to DIV by providing the credential types required</li>
  *     <li>signToken: request the SI token to DIV by providing the extracted `token` from the received SI token</li>
  * </ul>
+ * If a {@link DivTokenCache} is provided, grantAccess results are reused for identical requests. Requests carrying a
+ * {@code jti} claim and signToken requests are always sent to DIV.
  */
 public class DivSecureTokenService implements SecureTokenService {
 
@@ -75,6 +80,11 @@ public class DivSecureTokenService implements SecureTokenService {
     private final DivOauth2Client divOauth2Client;
     private final ObjectMapper mapper;
     private final Monitor monitor;
+    private final @Nullable DivTokenCache tokenCache;
+
+    private final AtomicLong walletCalls = new AtomicLong();
+    private final AtomicLong walletFailures = new AtomicLong();
+    private final AtomicLong walletLatencyNanos = new AtomicLong();
 
     private final Map<String, String> grantAccessMapper = Map.of(
             ISSUER, "consumerDid",
@@ -87,20 +97,43 @@ public class DivSecureTokenService implements SecureTokenService {
             PRESENTATION_TOKEN_CLAIM, PRESENTATION_TOKEN_CLAIM);
 
     public DivSecureTokenService(EdcHttpClient httpClient, String divUrl, DivOauth2Client divOauth2Client, ObjectMapper mapper, Monitor monitor) {
+        this(httpClient, divUrl, divOauth2Client, mapper, monitor, null);
+    }
+
+    public DivSecureTokenService(EdcHttpClient httpClient, String divUrl, DivOauth2Client divOauth2Client, ObjectMapper mapper, Monitor monitor,
+                                 @Nullable DivTokenCache tokenCache) {
         this.httpClient = httpClient;
         this.divUrl = divUrl;
         this.divOauth2Client = divOauth2Client;
         this.mapper = mapper;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public Result<TokenRepresentation> createToken(String participantContextId, Map<String, Object> claims, @Nullable String bearerAccessScope) {
         return Optional.ofNullable(bearerAccessScope)
-                .map(scope -> grantAccessRequest(claims, scope))
+                .map(scope -> grantAccess(participantContextId, claims, scope))
                 .orElseGet(() -> signTokenRequest(claims));
     }
 
+    /**
+     * Number and accumulated latency of the requests sent to DIV, and the counters of the token cache if enabled.
+     */
+    public Statistics statistics() {
+        return new Statistics(walletCalls.get(), walletFailures.get(), walletLatencyNanos.get(),
+                tokenCache != null ? tokenCache.statistics() : null);
+    }
+
+    private Result<TokenRepresentation> grantAccess(String participantContextId, Map<String, Object> claims, String bearerAccessScope) {
+        if (tokenCache == null || claims.containsKey(JWT_ID) || !claims.containsKey(ISSUER) || !claims.containsKey(AUDIENCE)) {
+            return grantAccessRequest(claims, bearerAccessScope);
+        }
+        var key = new DivTokenCache.Key(participantContextId, claims.get(ISSUER).toString(), claims.get(AUDIENCE).toString(),
+                Set.copyOf(Arrays.asList(bearerAccessScope.split(" "))));
+        return tokenCache.get(key, () -> grantAccessRequest(claims, bearerAccessScope));
+    }
+
     private Result<TokenRepresentation> grantAccessRequest(Map<String, Object> claims, @Nullable String bearerAccessScope) {
         return grantAccessPayload(claims, bearerAccessScope)
                 .compose(this::postRequest)
@@ -160,7 +193,14 @@ public class DivSecureTokenService implements SecureTokenService {
     }
 
     private Result<TokenRepresentation> executeRequest(Request request, String context) {
-        return httpClient.execute(request, List.of(retryWhenStatusIsNotIn(200, 201)), this::handleResponse)
+        var start = System.nanoTime();
+        var result = httpClient.execute(request, List.of(retryWhenStatusIsNotIn(200, 201)), this::handleResponse);
+        var latency = System.nanoTime() - start;
+        walletCalls.incrementAndGet();
+        walletLatencyNanos.addAndGet(latency);
+        monitor.debug(() -> "[%s] DIV request took %d ms, %s".formatted(context, TimeUnit.NANOSECONDS.toMillis(latency), statistics().summary()));
+        return result
+                .onFailure(failure -> walletFailures.incrementAndGet())
                 .recover(failure -> {
                     monitor.warning("Request to %s failed: [%s] %s".formatted(request.url().url(), context, failure.getFailureDetail()));
                     return Result.failure("[%s] %s".formatted(context, failure.getFailureDetail()));
@@ -229,4 +269,23 @@ public class DivSecureTokenService implements SecureTokenService {
         }
     }
 
+    /**
+     * Counters of the requests sent to DIV.
+     *
+     * @param walletCalls        number of signToken and grantAccess requests
+     * @param walletFailures     number of requests that failed after all retries
+     * @param walletLatencyNanos accumulated duration of all requests, including their retries
+     * @param tokenCache         counters of the token cache, null if the cache is disabled
+     */
+    public record Statistics(long walletCalls, long walletFailures, long walletLatencyNanos,
+                             DivTokenCache.Statistics tokenCache) {
+        public long averageWalletLatencyMillis() {
+            return walletCalls == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(walletLatencyNanos / walletCalls);
+        }
+
+        String summary() {
+            var summary = "%d requests, %d failed, %d ms on average".formatted(walletCalls, walletFailures, averageWalletLatencyMillis());
+            return tokenCache == null ? summary : "%s, token cache hit rate %.2f".formatted(summary, tokenCache.hitRate());
+        }
+    }
 }
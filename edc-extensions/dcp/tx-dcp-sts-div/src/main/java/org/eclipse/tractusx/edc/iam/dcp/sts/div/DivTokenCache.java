@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.iam.dcp.sts.div;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
+
+/**
+ * Short-lived cache of the self-issued tokens granted by the DIV wallet for identical grant requests.
+ * <p>
+ * A token is reused until its {@code exp} minus the configured safety margin, but never longer than the configured
+ * maximum lifetime. Tokens carrying a {@code jti} claim are never cached, as their reuse would defeat the replay
+ * protection of the receiving connector. Failed grants are not cached either.
+ */
+public class DivTokenCache {
+
+    private final Clock clock;
+    private final long expiryMargin;
+    private final long maxLifetime;
+    private final ObjectMapper mapper;
+    private final ConcurrentLruCache<Key, CachedToken> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong uncacheable = new AtomicLong();
+
+    public DivTokenCache(Clock clock, Duration expiryMargin, Duration maxLifetime, int maxSize, ObjectMapper mapper) {
+        this.clock = clock;
+        this.expiryMargin = expiryMargin.toMillis();
+        this.maxLifetime = maxLifetime.toMillis();
+        this.mapper = mapper;
+        this.cache = new ConcurrentLruCache<>(maxSize);
+    }
+
+    /**
+     * Returns the cached token for the given key if it is still valid, otherwise obtains a new one from the issuer
+     * and caches it if allowed.
+     *
+     * @param key    the claims identifying the grant request
+     * @param issuer obtains a new token from the wallet
+     * @return the cached or the newly issued token
+     */
+    public Result<TokenRepresentation> get(Key key, Supplier<Result<TokenRepresentation>> issuer) {
+        var cached = cache.get(key);
+        if (cached != null && clock.millis() < cached.validUntil()) {
+            hits.incrementAndGet();
+            return Result.success(cached.token());
+        }
+
+        misses.incrementAndGet();
+        var result = issuer.get();
+        if (result.succeeded()) {
+            var validUntil = cacheableUntil(result.getContent());
+            if (validUntil != null) {
+                cache.put(key, new CachedToken(result.getContent(), validUntil));
+            } else {
+                cache.remove(key);
+            }
+        }
+        return result;
+    }
+
+    public Statistics statistics() {
+        return new Statistics(hits.get(), misses.get(), uncacheable.get());
+    }
+
+    @Nullable
+    private Long cacheableUntil(TokenRepresentation token) {
+        var claims = readClaims(token.getToken());
+        if (claims == null || claims.containsKey(JWT_ID) || !(claims.get(EXPIRATION_TIME) instanceof Number expiration)) {
+            uncacheable.incrementAndGet();
+            return null;
+        }
+        var now = clock.millis();
+        var validUntil = Math.min(expiration.longValue() * 1000 - expiryMargin, now + maxLifetime);
+        return validUntil > now ? validUntil : null;
+    }
+
+    @Nullable
+    private Map<String, Object> readClaims(String jwt) {
+        var parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            return mapper.readValue(Base64.getUrlDecoder().decode(parts[1]), new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * The claims of a grant request, which fully determine the token issued by the wallet.
+     */
+    public record Key(String participantContextId, String issuer, String audience, Set<String> scopes) {
+    }
+
+    /**
+     * Counters of the cache. Misses include all wallet calls made through the cache, uncacheable counts the issued
+     * tokens that could not be cached.
+     */
+    public record Statistics(long hits, long misses, long uncacheable) {
+        public double hitRate() {
+            var total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record CachedToken(TokenRepresentation token, long validUntil) {
+    }
+}
@@ -31,12 +31,31 @@ import org.eclipse.edc.spi.security.Vault;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Obtains the access token for the DIV APIs with the OAuth2 client credentials flow.
+ * <p>
+ * The token is renewed ahead of its expiry: once the configured percentage of its lifetime has passed, the next caller
+ * triggers a renewal on the renewal executor and keeps using the current token, which also stays in use if the renewal
+ * fails. A failed renewal is not retried before the renewal backoff has passed. Only when no valid token is available
+ * callers have to wait for a new one. Tokens without {@code expires_in}
+ * are considered valid for the configured default lifetime. The client secret is read from the vault at most once per
+ * configured secret cache period, and re-read after a failed token request.
+ */
 public class DivOauthClientImpl implements DivOauth2Client {
 
+    public static final int DEFAULT_RENEWAL_PERCENT = 75;
+    public static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofSeconds(60);
+    public static final Duration DEFAULT_SECRET_CACHE_PERIOD = Duration.ofMinutes(5);
+    public static final Duration RENEWAL_BACKOFF = Duration.ofSeconds(5);
+
     private static final String GRANT_TYPE = "client_credentials";
     private final StsRemoteClientConfiguration configuration;
     private final Oauth2Client oauth2Client;
@@ -45,46 +64,91 @@ public class DivOauthClientImpl implements DivOauth2Client {
     private final Clock clock;
     private final Monitor monitor;
     private final ParticipantContextSupplier participantContextSupplier;
+    private final Executor renewalExecutor;
+    private final int renewalPercent;
+    private final Duration defaultTokenLifetime;
+    private final Duration secretCachePeriod;
 
+    private final AtomicBoolean renewing = new AtomicBoolean();
     private volatile TimestampedToken authToken;
+    private volatile CachedSecret clientSecret;
+    private volatile Instant lastRenewalFailure;
 
     public DivOauthClientImpl(Oauth2Client oauth2Client, Vault vault, StsRemoteClientConfiguration configuration, Clock clock,
                               Monitor monitor, ParticipantContextSupplier participantContextSupplier) {
+        this(oauth2Client, vault, configuration, clock, monitor, participantContextSupplier, Runnable::run,
+                DEFAULT_RENEWAL_PERCENT, DEFAULT_TOKEN_LIFETIME, DEFAULT_SECRET_CACHE_PERIOD);
+    }
+
+    public DivOauthClientImpl(Oauth2Client oauth2Client, Vault vault, StsRemoteClientConfiguration configuration, Clock clock,
+                              Monitor monitor, ParticipantContextSupplier participantContextSupplier, Executor renewalExecutor,
+                              int renewalPercent, Duration defaultTokenLifetime, Duration secretCachePeriod) {
         this.configuration = configuration;
         this.oauth2Client = oauth2Client;
         this.vault = vault;
         this.clock = clock;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
         this.participantContextSupplier = participantContextSupplier;
+        this.renewalExecutor = renewalExecutor;
+        this.renewalPercent = renewalPercent;
+        this.defaultTokenLifetime = defaultTokenLifetime;
+        this.secretCachePeriod = secretCachePeriod;
     }
 
     @Override
     public Result<TokenRepresentation> obtainRequestToken() {
-        if (isExpired()) {
-            synchronized (this) {
-                if (isExpired()) {
-                    monitor.debug("DIV Token expired, need to refresh.");
-                    // expiresIn should always be present, but if not we don't cache it
-                    return requestToken().onSuccess(tokenRepresentation -> Optional.ofNullable(tokenRepresentation.getExpiresIn())
-                            .ifPresent(expiresIn -> this.authToken = new TimestampedToken(tokenRepresentation, Instant.now(clock), expiresIn)));
-                } else {
-                    return Result.success(authToken.value);
-                }
+        var current = authToken;
+        if (current != null && !current.isExpired(clock)) {
+            if (current.isDueForRenewal(clock, renewalPercent)) {
+                renewInBackground();
             }
-        } else {
-            return Result.success(authToken.value);
+            return Result.success(current.value());
+        }
+        synchronized (this) {
+            current = authToken;
+            if (current != null && !current.isExpired(clock)) {
+                return Result.success(current.value());
+            }
+            monitor.debug("DIV Token expired, need to refresh.");
+            return renewToken();
         }
     }
 
-    private Result<TokenRepresentation> requestToken() {
-        return createRequest().compose(oauth2Client::requestToken);
+    private void renewInBackground() {
+        var failedAt = lastRenewalFailure;
+        if (failedAt != null && Instant.now(clock).isBefore(failedAt.plus(RENEWAL_BACKOFF))) {
+            return;
+        }
+        if (!renewing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            renewalExecutor.execute(() -> {
+                try {
+                    renewToken()
+                            .onSuccess(token -> lastRenewalFailure = null)
+                            .onFailure(failure -> lastRenewalFailure = Instant.now(clock));
+                } finally {
+                    renewing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            renewing.set(false);
+        }
     }
 
-    private boolean isExpired() {
-        if (authToken == null) {
-            return true;
-        }
-        return authToken.isExpired(clock);
+    private Result<TokenRepresentation> renewToken() {
+        return requestToken()
+                .onSuccess(tokenRepresentation -> this.authToken = new TimestampedToken(tokenRepresentation, Instant.now(clock),
+                        Optional.ofNullable(tokenRepresentation.getExpiresIn()).orElse(defaultTokenLifetime.toSeconds())))
+                .onFailure(failure -> {
+                    clientSecret = null;
+                    monitor.warning("Failed to obtain DIV token: %s".formatted(failure.getFailureDetail()));
+                });
+    }
+
+    private Result<TokenRepresentation> requestToken() {
+        return createRequest().compose(oauth2Client::requestToken);
     }
 
     @NotNull
@@ -96,7 +160,7 @@ public class DivOauthClientImpl implements DivOauth2Client {
             return Result.failure(msg);
         }
 
-        var secret = vault.resolveSecret(participantContextServiceResult.getContent().getParticipantContextId(), configuration.clientSecretAlias());
+        var secret = resolveSecret(participantContextServiceResult.getContent().getParticipantContextId());
         if (secret != null) {
             var builder = SharedSecretOauth2CredentialsRequest.Builder.newInstance()
                     .url(configuration.tokenUrl())
@@ -112,10 +176,30 @@ public class DivOauthClientImpl implements DivOauth2Client {
         }
     }
 
+    private String resolveSecret(String participantContextId) {
+        var cached = clientSecret;
+        var now = Instant.now(clock);
+        if (cached != null && cached.participantContextId().equals(participantContextId) &&
+                now.isBefore(cached.resolvedAt().plus(secretCachePeriod))) {
+            return cached.value();
+        }
+        var secret = vault.resolveSecret(participantContextId, configuration.clientSecretAlias());
+        clientSecret = secret != null ? new CachedSecret(participantContextId, secret, now) : null;
+        return secret;
+    }
+
     record TimestampedToken(TokenRepresentation value, Instant lastUpdatedAt, long validitySeconds) {
 
         public boolean isExpired(Clock clock) {
             return lastUpdatedAt.plus(validitySeconds, ChronoUnit.SECONDS).isBefore(Instant.now(clock));
         }
+
+        public boolean isDueForRenewal(Clock clock, int renewalPercent) {
+            var renewAfterMillis = validitySeconds * 10L * renewalPercent;
+            return !lastUpdatedAt.plusMillis(renewAfterMillis).isAfter(Instant.now(clock));
+        }
+    }
+
+    private record CachedSecret(String participantContextId, String value, Instant resolvedAt) {
     }
 }
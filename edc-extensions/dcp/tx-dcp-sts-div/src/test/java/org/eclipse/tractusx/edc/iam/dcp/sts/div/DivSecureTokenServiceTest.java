@@ -38,11 +38,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
@@ -50,10 +56,14 @@ import static org.eclipse.edc.iam.decentralizedclaims.spi.SelfIssuedTokenConstan
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DivSecureTokenServiceTest {
@@ -253,6 +263,31 @@ public class DivSecureTokenServiceTest {
 
     }
 
+    @Test
+    void createToken_grantAccess_shouldUseCache_unlessJtiBound() throws IOException {
+        var payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"exp\":%d}"
+                .formatted(Instant.now().plusSeconds(300).getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        var cachingClient = new DivSecureTokenService(testHttpClient(interceptor), DIV_URL, oauth2Client, mapper, monitor,
+                new DivTokenCache(Clock.systemUTC(), Duration.ofSeconds(10), Duration.ofSeconds(30), 10, mapper));
+
+        when(oauth2Client.obtainRequestToken()).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, invocation, Map.of("jwt", "header." + payload + ".signature")));
+
+        var input = Map.<String, Object>of(ISSUER, "issuer", AUDIENCE, "audience");
+        assertThat(cachingClient.createToken("participant", input, "namespace:TestCredential:read")).isSucceeded();
+        assertThat(cachingClient.createToken("participant", input, "namespace:TestCredential:read")).isSucceeded();
+
+        var jtiBound = Map.<String, Object>of(ISSUER, "issuer", AUDIENCE, "audience", JWT_ID, "unique");
+        assertThat(cachingClient.createToken("participant", jtiBound, "namespace:TestCredential:read")).isSucceeded();
+
+        verify(interceptor, times(2)).intercept(isA(Interceptor.Chain.class));
+        var statistics = cachingClient.statistics();
+        assertThat(statistics.walletCalls()).isEqualTo(2);
+        assertThat(statistics.tokenCache().hits()).isEqualTo(1);
+        verify(monitor, times(2)).debug(argThat((Supplier<String> message) -> message.get().contains(statistics.summary())));
+    }
+
     private Response createResponse(int code, InvocationOnMock invocation) {
         return createResponse(code, invocation, (req) -> {
         }, null);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.edc.iam.dcp.sts.div;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DivTokenCacheTest {
+
+    private static final DivTokenCache.Key KEY = new DivTokenCache.Key("participant", "issuer", "audience", Set.of("scope"));
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Clock clock = mock();
+    private final DivTokenCache cache = new DivTokenCache(clock, Duration.ofSeconds(10), Duration.ofSeconds(30), 10, mapper);
+    private final AtomicInteger walletCalls = new AtomicInteger();
+
+    @Test
+    void get_shouldReuseToken_untilMaxLifetime() {
+        when(clock.millis()).thenReturn(0L);
+        var issuer = issuer(Map.of("exp", 300));
+
+        assertThat(cache.get(KEY, issuer)).isSucceeded();
+        assertThat(cache.get(KEY, issuer)).isSucceeded();
+        assertThat(walletCalls).hasValue(1);
+
+        when(clock.millis()).thenReturn(30_000L);
+        assertThat(cache.get(KEY, issuer)).isSucceeded();
+        assertThat(walletCalls).hasValue(2);
+        assertThat(cache.statistics()).isEqualTo(new DivTokenCache.Statistics(1, 2, 0));
+    }
+
+    @Test
+    void get_shouldHonourExpiryWithMargin() {
+        when(clock.millis()).thenReturn(0L);
+        var issuer = issuer(Map.of("exp", 15));
+
+        cache.get(KEY, issuer);
+        when(clock.millis()).thenReturn(4_999L);
+        cache.get(KEY, issuer);
+        assertThat(walletCalls).hasValue(1);
+
+        when(clock.millis()).thenReturn(5_000L);
+        cache.get(KEY, issuer);
+        assertThat(walletCalls).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCache_jtiBoundTokens() {
+        when(clock.millis()).thenReturn(0L);
+        var issuer = issuer(Map.of("exp", 300, "jti", "unique"));
+
+        cache.get(KEY, issuer);
+        cache.get(KEY, issuer);
+
+        assertThat(walletCalls).hasValue(2);
+        assertThat(cache.statistics().uncacheable()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldNotCache_failures() {
+        when(clock.millis()).thenReturn(0L);
+        Supplier<Result<TokenRepresentation>> issuer = () -> {
+            walletCalls.incrementAndGet();
+            return Result.failure("wallet down");
+        };
+
+        assertThat(cache.get(KEY, issuer)).isFailed();
+        assertThat(cache.get(KEY, issuer)).isFailed();
+        assertThat(walletCalls).hasValue(2);
+    }
+
+    private Supplier<Result<TokenRepresentation>> issuer(Map<String, Object> claims) {
+        return () -> {
+            walletCalls.incrementAndGet();
+            return Result.success(TokenRepresentation.Builder.newInstance().token(jwt(claims)).build());
+        };
+    }
+
+    private String jwt(Map<String, Object> claims) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        try {
+            return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8)) + "." +
+                    encoder.encodeToString(mapper.writeValueAsBytes(claims)) + ".signature";
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -34,6 +34,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,7 +82,7 @@ public class DivOauthClientImplTest {
         response = client.obtainRequestToken();
         assertThat(response).isNotNull().extracting(Result::getContent).isEqualTo(tokenRepresentation);
 
-        verify(oauth2Client, times(2)).requestToken(any());
+        verify(oauth2Client, times(1)).requestToken(any());
     }
 
     @Test
@@ -146,4 +149,79 @@ public class DivOauthClientImplTest {
         var response = client.obtainRequestToken();
         assertThat(response).isNotNull().matches(Result::failed);
     }
+
+    @Test
+    void obtainRequestToken_shouldRenewInBackground_andKeepCurrentTokenOnFailure() {
+        var config = new StsRemoteClientConfiguration("http://localhost:8081/token", "clientId", "client_secret_alias");
+        var first = TokenRepresentation.Builder.newInstance().token("first").expiresIn(100L).build();
+        var renewalExecutor = new ArrayList<Runnable>();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(vault.resolveSecret("participantContextId", "client_secret_alias")).thenReturn("client_secret");
+        when(oauth2Client.requestToken(any())).thenReturn(Result.success(first), Result.failure("unavailable"));
+        var client = new DivOauthClientImpl(oauth2Client, vault, config, clock, monitor, participantContextSupplier,
+                renewalExecutor::add, 75, Duration.ofSeconds(60), Duration.ofMinutes(5));
+
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(80));
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+        assertThat(renewalExecutor).hasSize(1);
+
+        renewalExecutor.get(0).run();
+
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+        verify(oauth2Client, times(2)).requestToken(any());
+        verify(vault, times(1)).resolveSecret("participantContextId", "client_secret_alias");
+    }
+
+    @Test
+    void obtainRequestToken_shouldNotRetryRenewal_beforeBackoffPassed() {
+        var config = new StsRemoteClientConfiguration("http://localhost:8081/token", "clientId", "client_secret_alias");
+        var first = TokenRepresentation.Builder.newInstance().token("first").expiresIn(100L).build();
+        var renewed = TokenRepresentation.Builder.newInstance().token("renewed").expiresIn(100L).build();
+        var renewalExecutor = new ArrayList<Runnable>();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(vault.resolveSecret("participantContextId", "client_secret_alias")).thenReturn("client_secret");
+        when(oauth2Client.requestToken(any())).thenReturn(Result.success(first), Result.failure("unavailable"), Result.success(renewed));
+        var client = new DivOauthClientImpl(oauth2Client, vault, config, clock, monitor, participantContextSupplier,
+                renewalExecutor::add, 75, Duration.ofSeconds(60), Duration.ofMinutes(5));
+        client.obtainRequestToken();
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(80));
+        client.obtainRequestToken();
+        renewalExecutor.remove(0).run();
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(80).plus(DivOauthClientImpl.RENEWAL_BACKOFF).minusMillis(1));
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+        assertThat(renewalExecutor).isEmpty();
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(80).plus(DivOauthClientImpl.RENEWAL_BACKOFF));
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(first);
+        assertThat(renewalExecutor).hasSize(1);
+        renewalExecutor.remove(0).run();
+
+        assertThat(client.obtainRequestToken().getContent()).isEqualTo(renewed);
+        verify(oauth2Client, times(3)).requestToken(any());
+    }
+
+    @Test
+    void obtainRequestToken_shouldCacheClientSecret() {
+        var config = new StsRemoteClientConfiguration("http://localhost:8081/token", "clientId", "client_secret_alias");
+        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token("token").expiresIn(1L).build();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(vault.resolveSecret("participantContextId", "client_secret_alias")).thenReturn("client_secret");
+        when(oauth2Client.requestToken(any())).thenReturn(Result.success(tokenRepresentation));
+        var client = new DivOauthClientImpl(oauth2Client, vault, config, clock, monitor, participantContextSupplier);
+
+        client.obtainRequestToken();
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(2));
+        client.obtainRequestToken();
+
+        verify(oauth2Client, times(2)).requestToken(any());
+        verify(vault, times(1)).resolveSecret("participantContextId", "client_secret_alias");
+    }
 }
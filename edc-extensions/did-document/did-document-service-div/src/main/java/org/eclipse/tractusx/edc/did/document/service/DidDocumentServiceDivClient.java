@@ -28,22 +28,29 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.document.Service;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.tractusx.edc.iam.dcp.sts.div.oauth.DivOauth2Client;
 import org.eclipse.tractusx.edc.spi.did.document.service.DidDocumentServiceClient;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
@@ -76,6 +83,10 @@ import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
  * </pre>
  * 2. A subsequent PATCH request is sent to the /status endpoint to finalize the update.
  *     PATCH {divUrl}/companyIdentities/{companyIdentityId}/status
+ * <p>
+ * {@link #updateAll(Collection, Collection)} combines all additions and removals into a single PATCH request, followed
+ * by a single status update. If a {@link DidResolverRegistry} is available, the currently published DID document is
+ * resolved first and entries that are already published as requested are skipped.
  */
 public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
 
@@ -88,11 +99,18 @@ public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
     private final String ownDid;
     private final Monitor monitor;
     private final String didDocApiUrl;
+    private final DidResolverRegistry didResolverRegistry;
     private final AtomicReference<String> companyIdentity = new AtomicReference<>();
 
     public DidDocumentServiceDivClient(EdcHttpClient httpClient,
                                        DivOauth2Client divOauth2Client, ObjectMapper mapper, String divHost, String ownDid, Monitor monitor) {
+        this(httpClient, divOauth2Client, mapper, divHost, ownDid, null, monitor);
+    }
+
+    public DidDocumentServiceDivClient(EdcHttpClient httpClient, DivOauth2Client divOauth2Client, ObjectMapper mapper, String divHost,
+                                       String ownDid, @Nullable DidResolverRegistry didResolverRegistry, Monitor monitor) {
         this.httpClient = httpClient;
+        this.didResolverRegistry = didResolverRegistry;
         this.divOauth2Client = divOauth2Client;
         this.mapper = mapper;
         this.ownDid = ownDid;
@@ -111,6 +129,149 @@ public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
                 .onFailure(f -> monitor.warning("Failed to update service entry %s with failure %s".formatted(asString(service), f.getFailureDetail())));
     }
 
+    /**
+     * Applies all changes with one combined PATCH request and one status update. Changes that are already reflected
+     * in the published DID document are skipped, if nothing is left no request is sent at all.
+     * <p>
+     * Calls are serialized within this runtime. Other replicas may apply the same changes concurrently, hence a failed
+     * update is considered successful if the published DID document reflects the requested state afterwards.
+     */
+    @Override
+    public synchronized ServiceResult<Void> updateAll(Collection<Service> services, Collection<String> removedIds) {
+        var validation = validateUpdates(services, removedIds);
+        if (validation.failed()) {
+            return validation;
+        }
+
+        var changes = pendingChanges(services, removedIds);
+        if (changes.isEmpty()) {
+            monitor.debug("DID Document already contains the requested service entries, skipping update");
+            return ServiceResult.success();
+        }
+
+        var result = createTenantBaseUrl()
+                .compose(url -> patchServiceEntries(url, changes)
+                        .compose(v -> updatePatchStatus(url)))
+                .flatMap(ServiceResult::from);
+
+        if (result.failed() && pendingChanges(services, removedIds).isEmpty()) {
+            monitor.info("DID Document update failed, but the published document already reflects %s: %s".formatted(changes, result.getFailureDetail()));
+            return ServiceResult.success();
+        }
+        return result
+                .onSuccess(v -> monitor.info("Updated DID Document with %s".formatted(changes)))
+                .onFailure(f -> monitor.warning("Failed to update DID Document with %s with failure %s".formatted(changes, f.getFailureDetail())));
+    }
+
+    private ServiceResult<Void> validateUpdates(Collection<Service> services, Collection<String> removedIds) {
+        for (var service : services) {
+            var result = validateService(service);
+            if (result.failed()) {
+                return result;
+            }
+            if (removedIds.contains(service.getId())) {
+                return ServiceResult.unexpected("Validation Failure: Service %s cannot be updated and removed at the same time".formatted(service.getId()));
+            }
+        }
+        for (var id : removedIds) {
+            var result = validateServiceId(id);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return ServiceResult.success();
+    }
+
+    /**
+     * Computes the changes needed to reach the requested state. If the published DID document cannot be resolved,
+     * every requested service is removed and added again, like {@link #update(Service)} does.
+     */
+    private ServiceEntryChanges pendingChanges(Collection<Service> services, Collection<String> removedIds) {
+        var published = publishedServices();
+        var remove = new LinkedHashSet<String>();
+        var add = new LinkedHashMap<String, Service>();
+
+        for (var service : services) {
+            var current = published == null ? null : published.get(service.getId());
+            if (current != null && isSame(current, service)) {
+                continue;
+            }
+            if (published == null || current != null) {
+                remove.add(service.getId());
+            }
+            add.put(service.getId(), service);
+        }
+        for (var id : removedIds) {
+            if (published == null || published.containsKey(id)) {
+                remove.add(id);
+            }
+        }
+        return new ServiceEntryChanges(new ArrayList<>(add.values()), new ArrayList<>(remove));
+    }
+
+    private @Nullable Map<String, Service> publishedServices() {
+        if (didResolverRegistry == null) {
+            return null;
+        }
+        var result = didResolverRegistry.resolve(ownDid);
+        if (result.failed()) {
+            monitor.warning("Failed to resolve the published DID Document of %s, applying all changes: %s".formatted(ownDid, result.getFailureDetail()));
+            return null;
+        }
+        return result.getContent().getService().stream()
+                .filter(service -> service.getId() != null)
+                .collect(Collectors.toMap(Service::getId, Function.identity(), (first, second) -> second));
+    }
+
+    private boolean isSame(Service published, Service requested) {
+        return Objects.equals(published.getType(), requested.getType()) &&
+                Objects.equals(published.getServiceEndpoint(), requested.getServiceEndpoint());
+    }
+
+    private Result<Void> patchServiceEntries(String tenantBaseUrl, ServiceEntryChanges changes) {
+        return patchRequest(didDocUpdateServicesPayload(changes), tenantBaseUrl)
+                .map(Request.Builder::build)
+                .compose(request -> this.executeRequest(request, this::handleDidUpdateResponse))
+                .mapEmpty();
+    }
+
+    /**
+     * Constructs the payload for adding and removing several services of the DID Document at once.
+     * <p>
+     * The resulting JSON structure is:
+     * <pre>
+     *  {@code
+     * {
+     *   "didDocUpdates": {
+     *     "removeServices": [
+     *       "did:web:example.com:123#DataService"
+     *     ],
+     *     "addServices": [
+     *       {
+     *         "id": "did:web:example.com:123#DataService",
+     *         "serviceEndpoint": "https://edc.com/edc/.well-known/dspace-version",
+     *         "type": "DataService"
+     *       }
+     *     ]
+     *   }
+     * }
+     * }
+     * </pre>
+     *
+     * @param changes the services to add and the ids of the services to remove
+     * @return a map representing the payload for the combined operation
+     */
+    private Map<String, Object> didDocUpdateServicesPayload(ServiceEntryChanges changes) {
+        var operations = new LinkedHashMap<String, Object>();
+        if (!changes.remove().isEmpty()) {
+            operations.put("removeServices", changes.remove());
+        }
+        if (!changes.add().isEmpty()) {
+            operations.put("addServices", changes.add().stream().map(this::servicePayload).toList());
+        }
+        return didDocUpdatePayload(operations);
+    }
+
     private ServiceResult<Void> validateService(Service service) {
         if (isBlank(service.getServiceEndpoint()) || isBlank(service.getType())) {
             return ServiceResult.unexpected("Validation Failure: Service id, type and serviceEndpoint must be provided and non-blank");
@@ -164,8 +325,11 @@ public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
      * @return a map representing the payload for the add service operation
      */
     private Map<String, Object> didDocCreateServicePayload(Service service) {
-        var createPayload = Map.of("id", service.getId(), "type", service.getType(), "serviceEndpoint", service.getServiceEndpoint());
-        return didDocUpdatePayload(Map.of("addServices", List.of(createPayload)));
+        return didDocUpdatePayload(Map.of("addServices", List.of(servicePayload(service))));
+    }
+
+    private Map<String, Object> servicePayload(Service service) {
+        return Map.of("id", service.getId(), "type", service.getType(), "serviceEndpoint", service.getServiceEndpoint());
     }
 
     /**
@@ -266,6 +430,13 @@ public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
                 .flatMap(res -> ServiceResult.success());
     }
 
+    private Result<Void> updatePatchStatus(String tenantBaseUrl) {
+        return patchRequest(Map.of(), "%s/status".formatted(tenantBaseUrl))
+                .map(Request.Builder::build)
+                .compose(request -> this.executeRequest(request, this::handlePatchStatusResponse))
+                .mapEmpty();
+    }
+
     /**
      * Handles the response for a patch status request.
      * Package Private visibility for testing.
@@ -407,4 +578,16 @@ public class DidDocumentServiceDivClient implements DidDocumentServiceClient {
     private boolean isBlank(String str) {
         return str == null || str.isBlank();
     }
+
+    private record ServiceEntryChanges(List<Service> add, List<String> remove) {
+
+        boolean isEmpty() {
+            return add.isEmpty() && remove.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "[add:%s, remove:%s]".formatted(add.stream().map(Service::getId).toList(), remove);
+        }
+    }
 }
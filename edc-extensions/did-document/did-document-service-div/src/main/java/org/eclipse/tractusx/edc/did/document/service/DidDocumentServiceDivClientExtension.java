@@ -20,6 +20,7 @@
 package org.eclipse.tractusx.edc.did.document.service;
 
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
@@ -41,6 +42,9 @@ public class DidDocumentServiceDivClientExtension implements ServiceExtension {
     @Inject(required = false)
     private DivOauth2Client divOauth2Client;
 
+    @Inject(required = false)
+    private DidResolverRegistry didResolverRegistry;
+
     @Inject
     private TypeManager typeManager;
 
@@ -65,6 +69,7 @@ public class DidDocumentServiceDivClientExtension implements ServiceExtension {
                     typeManager.getMapper(),
                     getHostWithScheme(divUrl),
                     ownDid,
+                    didResolverRegistry,
                     monitor);
             context.registerService(DidDocumentServiceClient.class, client);
         }
@@ -28,7 +28,9 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.Buffer;
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.document.Service;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -49,6 +51,7 @@ import org.junit.jupiter.params.support.ParameterDeclarations;
 import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +60,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -146,6 +150,112 @@ class DidDocumentServiceDivClientTest {
         assertRequest(requests.get(4), "PATCH", didUpdateStatusUrl, "{}");
     }
 
+    @Test
+    void updateAll_shouldSendCombinedPatch_withChangedEntriesOnly() {
+        var didResolverRegistry = mock(DidResolverRegistry.class);
+        var batchClient = new DidDocumentServiceDivClient(httpClient, divOauth2Client, mapper, divHost, ownDid, didResolverRegistry, monitor);
+        var unchanged = new Service(ownDid + "#Unchanged", DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT);
+        var changed = new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT);
+        var added = new Service(ownDid + "#Added", DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT);
+        when(didResolverRegistry.resolve(ownDid)).thenReturn(Result.success(didDocument(
+                unchanged,
+                new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, "https://old.edc.com"),
+                new Service(ownDid + "#Removed", DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT))));
+        when(divOauth2Client.obtainRequestToken()).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        when(httpClient.execute(any(Request.class), anyList(), any()))
+                .thenReturn(Result.success(COMPANY_ID)) // resolve company id
+                .thenReturn(Result.success("")) // combined patch
+                .thenReturn(Result.success("")); // update patch status
+
+        var result = batchClient.updateAll(List.of(unchanged, changed, added), List.of(ownDid + "#Removed", ownDid + "#Unknown"));
+
+        assertThat(result).isSucceeded();
+        var requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(3)).execute(requestCaptor.capture(), anyList(), any());
+        var requests = requestCaptor.getAllValues();
+        var expectedBody = """
+                {
+                  "didDocUpdates": {
+                    "removeServices": [
+                      "%s",
+                      "%s"
+                    ],
+                    "addServices": [
+                      {
+                        "id": "%s",
+                        "serviceEndpoint": "%s",
+                        "type": "%s"
+                      },
+                      {
+                        "id": "%s",
+                        "serviceEndpoint": "%s",
+                        "type": "%s"
+                      }
+                    ]
+                  }
+                }
+                """.formatted(DATA_SERVICE_ID, ownDid + "#Removed",
+                DATA_SERVICE_ID, DATA_SERVICE_ENDPOINT, DATA_SERVICE_TYPE,
+                added.getId(), DATA_SERVICE_ENDPOINT, DATA_SERVICE_TYPE);
+        assertRequest(requests.get(1), "PATCH", tenantBaseUrl, expectedBody);
+        assertRequest(requests.get(2), "PATCH", didUpdateStatusUrl, "{}");
+    }
+
+    @Test
+    void updateAll_shouldSkip_whenAlreadyPublished() {
+        var didResolverRegistry = mock(DidResolverRegistry.class);
+        var batchClient = new DidDocumentServiceDivClient(httpClient, divOauth2Client, mapper, divHost, ownDid, didResolverRegistry, monitor);
+        var dataService = new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT);
+        when(didResolverRegistry.resolve(ownDid)).thenReturn(Result.success(didDocument(dataService)));
+
+        var result = batchClient.updateAll(List.of(dataService), List.of(ownDid + "#Unknown"));
+
+        assertThat(result).isSucceeded();
+        verify(httpClient, never()).execute(any(Request.class), anyList(), any());
+    }
+
+    @Test
+    void updateAll_shouldSucceed_whenUpdateFailedButAppliedConcurrently() {
+        var didResolverRegistry = mock(DidResolverRegistry.class);
+        var batchClient = new DidDocumentServiceDivClient(httpClient, divOauth2Client, mapper, divHost, ownDid, didResolverRegistry, monitor);
+        var dataService = new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT);
+        when(didResolverRegistry.resolve(ownDid))
+                .thenReturn(Result.success(didDocument()))
+                .thenReturn(Result.success(didDocument(dataService)));
+        when(divOauth2Client.obtainRequestToken()).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        when(httpClient.execute(any(Request.class), anyList(), any()))
+                .thenReturn(Result.success(COMPANY_ID))
+                .thenReturn(Result.failure("conflict"));
+
+        var result = batchClient.updateAll(List.of(dataService), List.of());
+
+        assertThat(result).isSucceeded();
+        verify(httpClient, times(2)).execute(any(Request.class), anyList(), any());
+    }
+
+    @Test
+    void updateAll_shouldFail_whenUpdateFailed() {
+        var didResolverRegistry = mock(DidResolverRegistry.class);
+        var batchClient = new DidDocumentServiceDivClient(httpClient, divOauth2Client, mapper, divHost, ownDid, didResolverRegistry, monitor);
+        when(didResolverRegistry.resolve(ownDid)).thenReturn(Result.success(didDocument()));
+        when(divOauth2Client.obtainRequestToken()).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        when(httpClient.execute(any(Request.class), anyList(), any()))
+                .thenReturn(Result.success(COMPANY_ID))
+                .thenReturn(Result.failure("conflict"));
+
+        var result = batchClient.updateAll(List.of(new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT)), List.of());
+
+        assertThat(result).isFailed().detail().contains("conflict");
+    }
+
+    @Test
+    void updateAll_shouldFail_whenServiceIsUpdatedAndRemoved() {
+        var result = client.updateAll(List.of(new Service(DATA_SERVICE_ID, DATA_SERVICE_TYPE, DATA_SERVICE_ENDPOINT)), List.of(DATA_SERVICE_ID));
+
+        assertThat(result).isFailed().satisfies(failure -> assertThat(failure.getFailureDetail()).contains("Validation Failure"));
+        verify(httpClient, never()).execute(any(Request.class), anyList(), any());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(InvalidServiceProvider.class)
     void update_service_failure(Service service) {
@@ -534,6 +644,10 @@ class DidDocumentServiceDivClientTest {
         assertThat(result).isFailed();
     }
 
+    private DidDocument didDocument(Service... services) {
+        return DidDocument.Builder.newInstance().id(ownDid).service(List.of(services)).build();
+    }
+
     private void assertRequest(Request request, String expectedMethod, String expectedUrl, String expectedJsonBody) {
 
         assertThat(request.url().toString()).isEqualTo(expectedUrl);
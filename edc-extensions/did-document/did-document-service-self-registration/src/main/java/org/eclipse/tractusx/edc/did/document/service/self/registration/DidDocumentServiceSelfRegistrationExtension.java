@@ -32,6 +32,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Optional;
 
 public class DidDocumentServiceSelfRegistrationExtension implements ServiceExtension {
@@ -85,7 +86,7 @@ public class DidDocumentServiceSelfRegistrationExtension implements ServiceExten
                 .onFailure(failure -> monitor.severe(failure.getFailureDetail()))
                 .map(validatedServiceId -> new Service(validatedServiceId, DATA_SERVICE_TYPE, wellKnownUrl))
                 .onSuccess(service ->
-                        client.update(service)
+                        client.updateAll(List.of(service), List.of())
                                 .onFailure(failure -> monitor.severe("Failed to self-register DID Document service: %s, reason: %s".formatted(failure.getFailureDetail(), failure.getReason())))
                                 .onSuccess(result -> monitor.info("Self Registration of DID Document service successful"))
                 );
@@ -20,7 +20,6 @@
 package org.eclipse.tractusx.edc.did.document.service.self.registration;
 
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
-import org.eclipse.edc.iam.did.spi.document.Service;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
@@ -34,10 +33,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Collection;
 import java.util.Map;
 
 import static org.eclipse.tractusx.edc.did.document.service.self.registration.DidDocumentServiceSelfRegistrationExtension.DATA_SERVICE_TYPE;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
@@ -74,16 +74,17 @@ class DidDocumentServiceSelfRegistrationExtensionTest {
                 "tx.edc.did.service.self.deregistration.enabled", "true");
         when(context.getConfig()).thenReturn(ConfigFactory.fromMap(settings));
         context.registerService(DidDocumentServiceClient.class, didDocumentServiceClient);
-        when(didDocumentServiceClient.update(any(Service.class))).thenReturn(ServiceResult.success());
+        when(didDocumentServiceClient.updateAll(anyCollection(), anyCollection())).thenReturn(ServiceResult.success());
         when(didDocumentServiceClient.deleteById(anyString())).thenReturn(ServiceResult.success());
 
         var extension = objectFactory.constructInstance(DidDocumentServiceSelfRegistrationExtension.class);
         extension.start();
 
-        verify(didDocumentServiceClient).update(argThat(service ->
-                service.getId().equals(SERVICE_ID) &&
-                service.getType().equals(DATA_SERVICE_TYPE) &&
-                service.getServiceEndpoint().equals(DSP_URL + "/.well-known/dspace-version")));
+        verify(didDocumentServiceClient).updateAll(argThat(services -> services.size() == 1 &&
+                services.stream().allMatch(service ->
+                        service.getId().equals(SERVICE_ID) &&
+                        service.getType().equals(DATA_SERVICE_TYPE) &&
+                        service.getServiceEndpoint().equals(DSP_URL + "/.well-known/dspace-version"))), argThat(Collection::isEmpty));
         verify(monitor).info("Self Registration of DID Document service successful");
         verify(monitor, never()).info("Did Document Service Client not available or not enabled, skipping self-registration");
 
@@ -99,16 +100,17 @@ class DidDocumentServiceSelfRegistrationExtensionTest {
                 "tx.edc.did.service.self.deregistration.enabled", "true");
         when(context.getConfig()).thenReturn(ConfigFactory.fromMap(settings));
         context.registerService(DidDocumentServiceClient.class, didDocumentServiceClient);
-        when(didDocumentServiceClient.update(any(Service.class))).thenReturn(ServiceResult.unexpected());
+        when(didDocumentServiceClient.updateAll(anyCollection(), anyCollection())).thenReturn(ServiceResult.unexpected());
         when(didDocumentServiceClient.deleteById(anyString())).thenReturn(ServiceResult.unexpected());
 
         var extension = objectFactory.constructInstance(DidDocumentServiceSelfRegistrationExtension.class);
         extension.start();
 
-        verify(didDocumentServiceClient).update(argThat(service ->
-                service.getId().equals(SERVICE_ID) &&
-                service.getType().equals(DATA_SERVICE_TYPE) &&
-                service.getServiceEndpoint().equals(DSP_URL + "/.well-known/dspace-version")));
+        verify(didDocumentServiceClient).updateAll(argThat(services -> services.size() == 1 &&
+                services.stream().allMatch(service ->
+                        service.getId().equals(SERVICE_ID) &&
+                        service.getType().equals(DATA_SERVICE_TYPE) &&
+                        service.getServiceEndpoint().equals(DSP_URL + "/.well-known/dspace-version"))), argThat(Collection::isEmpty));
         verify(monitor).severe(contains("Failed to self-register DID Document service"));
         verify(monitor, never()).info("Did Document Service Client not available or not enabled, skipping self-registration");
 
@@ -123,7 +125,7 @@ class DidDocumentServiceSelfRegistrationExtensionTest {
         var extension = objectFactory.constructInstance(DidDocumentServiceSelfRegistrationExtension.class);
         extension.start();
 
-        verify(didDocumentServiceClient, never()).update(any(Service.class));
+        verify(didDocumentServiceClient, never()).updateAll(anyCollection(), anyCollection());
         verify(monitor).info("Did Document Service Client not available or not enabled, skipping self-registration");
 
         extension.shutdown();
@@ -140,7 +142,7 @@ class DidDocumentServiceSelfRegistrationExtensionTest {
         var extension = objectFactory.constructInstance(DidDocumentServiceSelfRegistrationExtension.class);
         extension.start();
 
-        verify(didDocumentServiceClient, never()).update(any(Service.class));
+        verify(didDocumentServiceClient, never()).updateAll(anyCollection(), anyCollection());
         verify(monitor).info("Did Document Service Client not available or not enabled, skipping self-registration");
 
         extension.shutdown();
@@ -19,19 +19,24 @@
 
 package org.eclipse.tractusx.edc.api.edr;
 
-import jakarta.json.JsonArray;
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.edr.spi.store.EndpointDataReferenceStore;
 import org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
-import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -39,13 +44,18 @@ import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import org.eclipse.tractusx.edc.edr.spi.service.EdrService;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest.CONTRACT_REQUEST_TYPE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 import static org.eclipse.tractusx.edc.edr.spi.types.RefreshMode.AUTO_REFRESH;
@@ -61,6 +71,16 @@ public class BaseEdrCacheApiController {
             .uri(LOCAL_ADAPTER_URI)
             .events(LOCAL_EVENTS)
             .build();
+    public static final String CONTINUATION_TOKEN_HEADER = "Edc-Continuation-Token";
+    public static final int DEFAULT_MAX_PAGE_SIZE = 1000;
+    private static final String CREATED_AT = "createdAt";
+    private static final String TRANSFER_PROCESS_ID = "transferProcessId";
+    private static final Comparator<EndpointDataReferenceEntry> KEYSET_ORDER = Comparator
+            .comparingLong(EndpointDataReferenceEntry::getCreatedAt)
+            .thenComparing(EndpointDataReferenceEntry::getTransferProcessId);
+    private static final String MANAGEMENT_API_SCOPE = "MANAGEMENT_API";
+    private static final int FLUSH_INTERVAL = 100;
+
     private final EndpointDataReferenceStore edrStore;
     private final TypeTransformerRegistry transformerRegistry;
     private final JsonObjectValidatorRegistry validator;
@@ -69,12 +89,15 @@ public class BaseEdrCacheApiController {
     private final ParticipantContextSupplier participantContextSupplier;
 
     private final ContractNegotiationService contractNegotiationService;
+    private final JsonLd jsonLd;
+    private final int maxPageSize;
 
     public BaseEdrCacheApiController(EndpointDataReferenceStore edrStore,
                                      TypeTransformerRegistry transformerRegistry,
                                      JsonObjectValidatorRegistry validator,
                                      Monitor monitor,
-                                     EdrService edrService, ParticipantContextSupplier participantContextSupplier, ContractNegotiationService contractNegotiationService) {
+                                     EdrService edrService, ParticipantContextSupplier participantContextSupplier, ContractNegotiationService contractNegotiationService,
+                                     JsonLd jsonLd, int maxPageSize) {
         this.edrStore = edrStore;
         this.transformerRegistry = transformerRegistry;
         this.validator = validator;
@@ -82,6 +105,8 @@ public class BaseEdrCacheApiController {
         this.edrService = edrService;
         this.participantContextSupplier = participantContextSupplier;
         this.contractNegotiationService = contractNegotiationService;
+        this.jsonLd = jsonLd;
+        this.maxPageSize = maxPageSize;
     }
 
     public JsonObject initiateEdrNegotiation(JsonObject requestObject) {
@@ -107,7 +132,13 @@ public class BaseEdrCacheApiController {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
-    public JsonArray requestEdrEntries(JsonObject querySpecJson) {
+    /**
+     * Streams the EDR entries matching the query as JSON array. The page size is capped at the configured maximum.
+     * Queries without offset that are not sorted, or sorted by {@code createdAt} ascending, are keyset paginated: when
+     * the page is full, a continuation token pointing after its last entry is returned in the
+     * {@value #CONTINUATION_TOKEN_HEADER} header, which can be passed with the same query to fetch the next page.
+     */
+    public Response requestEdrEntries(JsonObject querySpecJson, @Nullable String continuationToken) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -118,14 +149,35 @@ public class BaseEdrCacheApiController {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return edrStore.query(querySpec)
-                .flatMap(ServiceResult::from)
-                .orElseThrow(exceptionMapper(QuerySpec.class, null)).stream()
-                .map(it -> transformerRegistry.transform(it, JsonObject.class))
-                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+        var limit = Math.min(querySpec.getLimit(), maxPageSize);
+        var keyset = querySpec.getOffset() == 0 && (querySpec.getSortField() == null ||
+                CREATED_AT.equals(querySpec.getSortField()) && querySpec.getSortOrder() == SortOrder.ASC);
+
+        List<EndpointDataReferenceEntry> entries;
+        String nextToken = null;
+        if (keyset) {
+            var cursor = continuationToken == null ? null : EdrQueryCursor.decode(continuationToken);
+            entries = keysetPage(querySpec.getFilterExpression(), cursor, limit);
+            if (!entries.isEmpty() && entries.size() == limit) {
+                nextToken = EdrQueryCursor.after(entries.get(entries.size() - 1)).encode();
+            }
+        } else if (continuationToken != null) {
+            throw new InvalidRequestException("A continuation token can only be used with queries without offset, sorted by %s ascending".formatted(CREATED_AT));
+        } else {
+            entries = query(QuerySpec.Builder.newInstance()
+                    .filter(querySpec.getFilterExpression())
+                    .offset(querySpec.getOffset())
+                    .limit(limit)
+                    .sortField(querySpec.getSortField())
+                    .sortOrder(querySpec.getSortOrder())
+                    .build());
+        }
+
+        var response = Response.ok((StreamingOutput) output -> writeEntries(entries, output), MediaType.APPLICATION_JSON);
+        if (nextToken != null) {
+            response.header(CONTINUATION_TOKEN_HEADER, nextToken);
+        }
+        return response.build();
     }
 
     public JsonObject getEdrEntryDataAddress(String transferProcessId, boolean autoRefresh) {
@@ -151,6 +203,84 @@ public class BaseEdrCacheApiController {
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    /**
+     * Returns the page of entries following the cursor, ordered by {@code createdAt} and {@code transferProcessId}
+     * ascending. The store sorts by a single field only, so entries sharing the {@code createdAt} of the cursor, and
+     * those sharing the last {@code createdAt} of the page, which may be cut off by the limit, are fetched separately
+     * sorted by {@code transferProcessId}.
+     */
+    private List<EndpointDataReferenceEntry> keysetPage(List<Criterion> filter, @Nullable EdrQueryCursor cursor, int limit) {
+        var page = new ArrayList<EndpointDataReferenceEntry>();
+        if (cursor != null) {
+            page.addAll(entriesCreatedAt(filter, cursor.createdAt(), cursor.transferProcessId(), limit));
+        }
+        var remaining = limit - page.size();
+        if (remaining == 0) {
+            return page;
+        }
+
+        var pageQuery = QuerySpec.Builder.newInstance()
+                .filter(filter)
+                .sortField(CREATED_AT)
+                .sortOrder(SortOrder.ASC)
+                .limit(remaining);
+        if (cursor != null) {
+            pageQuery.filter(criterion(CREATED_AT, ">", cursor.createdAt()));
+        }
+        var entries = query(pageQuery.build());
+        if (entries.size() < remaining) {
+            entries.stream().sorted(KEYSET_ORDER).forEach(page::add);
+            return page;
+        }
+
+        var lastCreatedAt = entries.get(entries.size() - 1).getCreatedAt();
+        entries.stream()
+                .filter(entry -> entry.getCreatedAt() != lastCreatedAt)
+                .sorted(KEYSET_ORDER)
+                .forEach(page::add);
+        page.addAll(entriesCreatedAt(filter, lastCreatedAt, null, limit - page.size()));
+        return page;
+    }
+
+    private List<EndpointDataReferenceEntry> entriesCreatedAt(List<Criterion> filter, long createdAt, @Nullable String afterTransferProcessId, int limit) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(filter)
+                .filter(criterion(CREATED_AT, "=", createdAt))
+                .sortField(TRANSFER_PROCESS_ID)
+                .sortOrder(SortOrder.ASC)
+                .limit(limit);
+        if (afterTransferProcessId != null) {
+            query.filter(criterion(TRANSFER_PROCESS_ID, ">", afterTransferProcessId));
+        }
+        return query(query.build());
+    }
+
+    private List<EndpointDataReferenceEntry> query(QuerySpec querySpec) {
+        return edrStore.query(querySpec)
+                .flatMap(ServiceResult::from)
+                .orElseThrow(exceptionMapper(QuerySpec.class, null));
+    }
+
+    private void writeEntries(List<EndpointDataReferenceEntry> entries, OutputStream output) {
+        try (var generator = Json.createGenerator(output)) {
+            generator.writeStartArray();
+            var written = 0;
+            for (var entry : entries) {
+                var json = transformerRegistry.transform(entry, JsonObject.class)
+                        .compose(object -> jsonLd.compact(object, MANAGEMENT_API_SCOPE));
+                if (json.failed()) {
+                    monitor.warning(json.getFailureDetail());
+                    continue;
+                }
+                generator.write(json.getContent());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEnd();
+        }
+    }
+
     private ContractRequest enrichContractRequest(ContractRequest request) {
         var callbacks = Stream.concat(request.getCallbackAddresses().stream(), Stream.of(LOCAL_CALLBACK)).collect(Collectors.toList());
 
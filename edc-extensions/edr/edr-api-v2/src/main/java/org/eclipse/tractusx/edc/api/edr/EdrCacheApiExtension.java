@@ -25,6 +25,7 @@ import org.eclipse.edc.edr.spi.store.EndpointDataReferenceStore;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -45,6 +46,10 @@ import static org.eclipse.edc.web.spi.configuration.ApiContext.MANAGEMENT;
 
 public class EdrCacheApiExtension implements ServiceExtension {
 
+    @Setting(key = "tx.edc.edr.api.query.limit.max", description = "Maximum number of EDR entries returned by a single query request",
+            defaultValue = BaseEdrCacheApiController.DEFAULT_MAX_PAGE_SIZE + "", min = 1)
+    private int maxPageSize;
+
     @Inject
     private WebService webService;
     @Inject
@@ -70,7 +75,8 @@ public class EdrCacheApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var mgmtApiTransformerRegistry = transformerRegistry.forContext("management-api");
         mgmtApiTransformerRegistry.register(new JsonObjectFromEndpointDataReferenceEntryTransformer(Json.createBuilderFactory(Map.of())));
-        webService.registerResource(MANAGEMENT, new EdrCacheApiV3Controller(edrStore, mgmtApiTransformerRegistry, validatorRegistry, monitor, edrService, contractNegotiationService, singleParticipantContextSupplier));
+        webService.registerResource(MANAGEMENT, new EdrCacheApiV3Controller(edrStore, mgmtApiTransformerRegistry, validatorRegistry, monitor, edrService, contractNegotiationService,
+                singleParticipantContextSupplier, jsonLd, maxPageSize));
         webService.registerDynamicResource(ApiContext.MANAGEMENT, EdrCacheApiV3Controller.class, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, "MANAGEMENT_API"));
     }
 }
@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.api.edr;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a keyset paginated EDR query: the {@code createdAt} and transfer process id of the last returned entry,
+ * entries being ordered by {@code createdAt} and transfer process id. Serialized as an opaque, URL safe continuation
+ * token of constant size.
+ */
+record EdrQueryCursor(long createdAt, String transferProcessId) {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String TRANSFER_PROCESS_ID = "transferProcessId";
+
+    /**
+     * Cursor pointing after the given entry.
+     */
+    static EdrQueryCursor after(EndpointDataReferenceEntry entry) {
+        return new EdrQueryCursor(entry.getCreatedAt(), entry.getTransferProcessId());
+    }
+
+    static EdrQueryCursor decode(String token) {
+        try {
+            var json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            try (var reader = Json.createReader(new StringReader(json))) {
+                var object = reader.readObject();
+                return new EdrQueryCursor(object.getJsonNumber(CREATED_AT).longValueExact(), object.getString(TRANSFER_PROCESS_ID));
+            }
+        } catch (IllegalArgumentException | JsonException | ClassCastException | NullPointerException | ArithmeticException e) {
+            throw new InvalidRequestException("Invalid continuation token");
+        }
+    }
+
+    String encode() {
+        var json = Json.createObjectBuilder()
+                .add(CREATED_AT, createdAt)
+                .add(TRANSFER_PROCESS_ID, transferProcessId)
+                .build()
+                .toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
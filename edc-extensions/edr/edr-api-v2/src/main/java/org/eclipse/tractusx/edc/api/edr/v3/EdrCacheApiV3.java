@@ -22,14 +22,15 @@ package org.eclipse.tractusx.edc.api.edr.v3;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.v3.ContractNegotiationApiV3;
 import org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry;
@@ -52,17 +53,21 @@ public interface EdrCacheApiV3 {
             })
     JsonObject initiateEdrNegotiationV3(@Schema(implementation = ContractNegotiationApiV3.ContractRequestSchema.class) JsonObject dto);
 
-    @Operation(description = "Request all Edr entries according to a particular query",
+    @Operation(description = "Request all Edr entries according to a particular query. The page size is capped by the connector. " +
+            "Queries without offset and without sort field, or sorted by createdAt ascending, are paginated by continuation token: " +
+            "as long as the page is full, the response carries a token to fetch the next page with the same query.",
             requestBody = @RequestBody(
                     content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))
             ),
+            parameters = { @Parameter(name = "continuationToken", description = "The continuation token returned with the previous page") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "The edr entries matching the query",
+                            headers = @Header(name = "Edc-Continuation-Token", description = "Token to fetch the next page, absent on the last page"),
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = EndpointDataReferenceEntrySchema.class)))),
-                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                    @ApiResponse(responseCode = "400", description = "Request body or continuation token was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
             })
-    JsonArray requestEdrEntriesV3(JsonObject querySpecJson);
+    Response requestEdrEntriesV3(JsonObject querySpecJson, String continuationToken);
 
     @Operation(description = "Gets the EDR data address with the given transfer process ID",
             parameters = { @Parameter(name = "transferProcessId", description = "The ID of the transferprocess for which the EDR should be fetched", required = true),
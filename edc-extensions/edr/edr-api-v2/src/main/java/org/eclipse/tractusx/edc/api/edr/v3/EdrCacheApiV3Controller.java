@@ -19,7 +19,6 @@
 
 package org.eclipse.tractusx.edc.api.edr.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -31,8 +30,10 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.edr.spi.store.EndpointDataReferenceStore;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -50,8 +51,9 @@ public class EdrCacheApiV3Controller extends BaseEdrCacheApiController implement
                                    JsonObjectValidatorRegistry validator,
                                    Monitor monitor,
                                    EdrService edrService, ContractNegotiationService contractNegotiationService,
-                                   ParticipantContextSupplier participantContextSupplier) {
-        super(edrStore, transformerRegistry, validator, monitor, edrService, participantContextSupplier, contractNegotiationService);
+                                   ParticipantContextSupplier participantContextSupplier,
+                                   JsonLd jsonLd, int maxPageSize) {
+        super(edrStore, transformerRegistry, validator, monitor, edrService, participantContextSupplier, contractNegotiationService, jsonLd, maxPageSize);
     }
 
     @POST
@@ -63,8 +65,8 @@ public class EdrCacheApiV3Controller extends BaseEdrCacheApiController implement
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestEdrEntriesV3(JsonObject querySpecJson) {
-        return requestEdrEntries(querySpecJson);
+    public Response requestEdrEntriesV3(JsonObject querySpecJson, @QueryParam("continuationToken") String continuationToken) {
+        return requestEdrEntries(querySpecJson, continuationToken);
     }
 
     @GET
@@ -29,11 +29,14 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractO
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.edr.spi.store.EndpointDataReferenceStore;
 import org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -43,13 +46,17 @@ import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.eclipse.tractusx.edc.edr.spi.service.EdrService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
 import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry.EDR_ENTRY_AGREEMENT_ID;
 import static org.eclipse.edc.edr.spi.types.EndpointDataReferenceEntry.EDR_ENTRY_ASSET_ID;
@@ -63,18 +70,26 @@ import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.tractusx.edc.api.edr.BaseEdrCacheApiController.CONTINUATION_TOKEN_HEADER;
+import static org.eclipse.tractusx.edc.api.edr.BaseEdrCacheApiController.DEFAULT_MAX_PAGE_SIZE;
 import static org.eclipse.tractusx.edc.api.edr.TestFunctions.createContractNegotiation;
 import static org.eclipse.tractusx.edc.api.edr.TestFunctions.negotiationRequest;
 import static org.eclipse.tractusx.edc.edr.spi.types.RefreshMode.AUTO_REFRESH;
 import static org.eclipse.tractusx.edc.edr.spi.types.RefreshMode.NO_REFRESH;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -93,6 +108,12 @@ public abstract class BaseEdrCacheApiControllerTest extends RestControllerTestBa
     protected final EdrService edrService = mock();
     protected final ContractNegotiationService contractNegotiationService = mock();
     protected final ParticipantContextSupplier participantContextSupplier = mock();
+    protected final JsonLd jsonLd = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLd.compact(any(), any())).thenAnswer(invocation -> Result.success(invocation.getArgument(0)));
+    }
 
     @Test
     void initEdrNegotiation_shouldWork_whenValidRequest() {
@@ -158,6 +179,130 @@ public abstract class BaseEdrCacheApiControllerTest extends RestControllerTestBa
         verify(transformerRegistry).transform(isA(JsonObject.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestEdrEntries_shouldReturnContinuationToken_whenPageIsFull() {
+        storeContains(createEdrEntry("tp-1", 1), createEdrEntry("tp-2", 2), createEdrEntry("tp-3", 3));
+        when(transformerRegistry.transform(isA(EndpointDataReferenceEntry.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createEdrEntryJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(2).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        var token = baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .body("size()", is(2))
+                .header(CONTINUATION_TOKEN_HEADER, notNullValue())
+                .extract().header(CONTINUATION_TOKEN_HEADER);
+
+        verify(edrStore).query(argThat(s -> s.getLimit() == 2 && "createdAt".equals(s.getSortField()) && s.getSortOrder() == SortOrder.ASC));
+        verify(jsonLd, times(2)).compact(any(), eq("MANAGEMENT_API"));
+        assertThat(token).isNotBlank();
+    }
+
+    @Test
+    void requestEdrEntries_shouldContinueAfterLastEntry_whenEntriesShareCreatedAt() {
+        storeContains(createEdrEntry("tp-c", 1), createEdrEntry("tp-a", 1), createEdrEntry("tp-b", 1), createEdrEntry("tp-d", 2));
+        when(transformerRegistry.transform(isA(EndpointDataReferenceEntry.class), eq(JsonObject.class)))
+                .thenAnswer(invocation -> Result.success(createObjectBuilder()
+                        .add("transferProcessId", invocation.<EndpointDataReferenceEntry>getArgument(0).getTransferProcessId())
+                        .build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(2).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        var first = baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .statusCode(200)
+                .body("transferProcessId", contains("tp-a", "tp-b"))
+                .extract().header(CONTINUATION_TOKEN_HEADER);
+
+        var second = baseRequest()
+                .contentType(JSON)
+                .queryParam("continuationToken", first)
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .body("transferProcessId", contains("tp-c", "tp-d"))
+                .extract().header(CONTINUATION_TOKEN_HEADER);
+
+        baseRequest()
+                .contentType(JSON)
+                .queryParam("continuationToken", second)
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .statusCode(200)
+                .body("size()", is(0))
+                .header(CONTINUATION_TOKEN_HEADER, nullValue());
+
+        assertThat(second).hasSameSizeAs(first);
+        verify(edrStore).query(argThat(s -> s.getFilterExpression().containsAll(List.of(criterion("createdAt", "=", 1L),
+                criterion("transferProcessId", ">", "tp-b"))) && "transferProcessId".equals(s.getSortField())));
+    }
+
+    @Test
+    void requestEdrEntries_shouldCapLimit() {
+        when(edrStore.query(any())).thenReturn(StoreResult.success(List.of()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).limit(Integer.MAX_VALUE).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .statusCode(200)
+                .body("size()", is(0))
+                .header(CONTINUATION_TOKEN_HEADER, nullValue());
+
+        verify(edrStore).query(argThat(s -> s.getLimit() == DEFAULT_MAX_PAGE_SIZE && s.getOffset() == 10));
+    }
+
+    @Test
+    void requestEdrEntries_shouldReturnBadRequest_whenContinuationTokenIsInvalid() {
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .queryParam("continuationToken", "not-a-token")
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(edrStore);
+    }
+
+    @Test
+    void requestEdrEntries_shouldReturnBadRequest_whenContinuationTokenIsUsedWithOffset() {
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .queryParam("continuationToken", "token")
+                .body("{}")
+                .post("/edrs/request")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(edrStore);
+    }
+
     @Test
     void getEdrEntryDataAddress() {
 
@@ -301,6 +446,43 @@ public abstract class BaseEdrCacheApiControllerTest extends RestControllerTestBa
                 .add(DataAddress.EDC_DATA_ADDRESS_TYPE_PROPERTY, type);
     }
 
+    private void storeContains(EndpointDataReferenceEntry... entries) {
+        when(edrStore.query(any())).thenAnswer(invocation -> {
+            QuerySpec querySpec = invocation.getArgument(0);
+            var sortField = querySpec.getSortField();
+            Comparator<EndpointDataReferenceEntry> order = "transferProcessId".equals(sortField)
+                    ? Comparator.comparing(EndpointDataReferenceEntry::getTransferProcessId)
+                    : Comparator.comparingLong(EndpointDataReferenceEntry::getCreatedAt);
+            return StoreResult.success(Stream.of(entries)
+                    .filter(entry -> querySpec.getFilterExpression().stream().allMatch(criterion -> matches(entry, criterion)))
+                    .sorted(order)
+                    .limit(querySpec.getLimit())
+                    .toList());
+        });
+    }
+
+    private boolean matches(EndpointDataReferenceEntry entry, Criterion criterion) {
+        var comparison = "createdAt".equals(criterion.getOperandLeft())
+                ? Long.compare(entry.getCreatedAt(), (Long) criterion.getOperandRight())
+                : entry.getTransferProcessId().compareTo((String) criterion.getOperandRight());
+        return switch (criterion.getOperator()) {
+            case "=" -> comparison == 0;
+            case ">" -> comparison > 0;
+            default -> throw new IllegalArgumentException("Unsupported operator " + criterion.getOperator());
+        };
+    }
+
+    private EndpointDataReferenceEntry createEdrEntry(String transferProcessId, long createdAt) {
+        return EndpointDataReferenceEntry.Builder.newInstance()
+                .agreementId(TEST_AGREEMENT_ID)
+                .assetId(TEST_ASSET_ID)
+                .providerId(TEST_PROVIDER_ID)
+                .transferProcessId(transferProcessId)
+                .contractNegotiationId(TEST_TRANSFER_NEGOTIATION_ID)
+                .createdAt(createdAt)
+                .build();
+    }
+
     private EndpointDataReferenceEntry createEdrEntry() {
         return EndpointDataReferenceEntry.Builder.newInstance()
                 .agreementId(TEST_AGREEMENT_ID)
@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.tractusx.edc.api.edr.BaseEdrCacheApiControllerTest;
 
 import static io.restassured.RestAssured.given;
+import static org.eclipse.tractusx.edc.api.edr.BaseEdrCacheApiController.DEFAULT_MAX_PAGE_SIZE;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -36,7 +37,8 @@ public class EdrCacheApiV3ControllerTest extends BaseEdrCacheApiControllerTest {
     protected Object controller() {
         var monitor = mock(Monitor.class);
         when(monitor.withPrefix(anyString())).thenReturn(monitor);
-        return new EdrCacheApiV3Controller(edrStore, transformerRegistry, validator, monitor, edrService, contractNegotiationService, participantContextSupplier);
+        return new EdrCacheApiV3Controller(edrStore, transformerRegistry, validator, monitor, edrService, contractNegotiationService, participantContextSupplier,
+                jsonLd, DEFAULT_MAX_PAGE_SIZE);
     }
 
     protected RequestSpecification baseRequest() {
@@ -37,4 +37,5 @@ dependencies {
     implementation(libs.nimbus.jwt)
 
     testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:edr-spi")))
 }
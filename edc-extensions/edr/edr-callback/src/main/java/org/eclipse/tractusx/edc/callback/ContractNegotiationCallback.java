@@ -21,64 +21,31 @@ package org.eclipse.tractusx.edc.callback;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
-import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
-import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest;
-import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.tractusx.edc.spi.callback.InProcessCallback;
 
-import java.util.UUID;
-
-import static java.lang.String.format;
-
+/**
+ * Queues the initiation of a transfer process in the {@link EdrTransferOutbox} when a contract negotiation is
+ * finalized. The transfer process itself is initiated asynchronously by the outbox.
+ */
 public class ContractNegotiationCallback implements InProcessCallback {
 
-    public static final DataAddress DATA_DESTINATION = DataAddress.Builder.newInstance().type("HttpProxy").build();
-    private static final String TRANSFER_TYPE = "HttpData-PULL";
-
-    private final TransferProcessService transferProcessService;
+    private final EdrTransferOutbox outbox;
     private final Monitor monitor;
-    private final ParticipantContextSupplier participantContextSupplier;
 
-    public ContractNegotiationCallback(TransferProcessService transferProcessService, Monitor monitor,
-                                       ParticipantContextSupplier participantContextSupplier) {
-        this.transferProcessService = transferProcessService;
+    public ContractNegotiationCallback(EdrTransferOutbox outbox, Monitor monitor) {
+        this.outbox = outbox;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
-        this.participantContextSupplier = participantContextSupplier;
     }
 
     @Override
     public <T extends Event> Result<Void> invoke(CallbackEventRemoteMessage<T> message) {
-        if (message.getEventEnvelope().getPayload() instanceof ContractNegotiationFinalized) {
-            return initiateTransfer((ContractNegotiationFinalized) message.getEventEnvelope().getPayload());
-        }
-        return Result.success();
-    }
-
-    private Result<Void> initiateTransfer(ContractNegotiationFinalized negotiationFinalized) {
-
-        var transferRequest = TransferRequest.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .contractId(negotiationFinalized.getContractAgreement().getId())
-                .counterPartyAddress(negotiationFinalized.getCounterPartyAddress())
-                .protocol(negotiationFinalized.getProtocol())
-                .dataDestination(DATA_DESTINATION)
-                .transferType(TRANSFER_TYPE)
-                .callbackAddresses(negotiationFinalized.getCallbackAddresses())
-                .build();
-
-        var result = participantContextSupplier.get()
-                .compose(participantContext -> transferProcessService.initiateTransfer(participantContext, transferRequest));
-
-        if (result.failed()) {
-            var msg = format("Failed to initiate a transfer for contract %s and asset %s, error: %s", negotiationFinalized.getContractAgreement().getId(), negotiationFinalized.getContractAgreement().getAssetId(), result.getFailureDetail());
-            monitor.severe(msg);
-            return Result.failure(msg);
+        if (message.getEventEnvelope().getPayload() instanceof ContractNegotiationFinalized negotiationFinalized) {
+            return outbox.enqueue(negotiationFinalized)
+                    .onFailure(failure -> monitor.severe(failure.getFailureDetail()));
         }
-        monitor.debug(format("Transfer with id %s initiated", result.getContent()));
         return Result.success();
     }
 }
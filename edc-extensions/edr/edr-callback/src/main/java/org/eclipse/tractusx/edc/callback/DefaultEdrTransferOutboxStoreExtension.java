@@ -0,0 +1,38 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
+
+import static org.eclipse.tractusx.edc.callback.DefaultEdrTransferOutboxStoreExtension.NAME;
+
+@Extension(NAME)
+public class DefaultEdrTransferOutboxStoreExtension implements ServiceExtension {
+
+    static final String NAME = "Default EDR Transfer Outbox Store Extension";
+
+    @Provider(isDefault = true)
+    public EdrTransferOutboxStore inMemoryEdrTransferOutboxStore() {
+        return new InMemoryEdrTransferOutboxStore();
+    }
+}
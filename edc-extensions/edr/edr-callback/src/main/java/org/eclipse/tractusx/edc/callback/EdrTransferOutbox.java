@@ -0,0 +1,242 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.callback;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest;
+import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Initiates the transfer processes of finalized contract negotiations, off the thread of the negotiation state
+ * machine.
+ * <p>
+ * {@link #enqueue(ContractNegotiationFinalized)} only writes an entry to the {@link EdrTransferOutboxStore}, within
+ * the transaction of the caller. {@link #drain()}, which is expected to be called periodically, leases the due entries
+ * and initiates their transfer processes on the given executor, which bounds the concurrency. The entry id is used as
+ * transfer request id, so that an attempt repeated after a crash refers to the same transfer process. Failed attempts
+ * are retried with exponential backoff, until the maximum number of attempts is reached.
+ */
+public class EdrTransferOutbox {
+
+    public static final DataAddress DATA_DESTINATION = DataAddress.Builder.newInstance().type("HttpProxy").build();
+    private static final String TRANSFER_TYPE = "HttpData-PULL";
+
+    private final EdrTransferOutboxStore store;
+    private final TransferProcessService transferProcessService;
+    private final ParticipantContextSupplier participantContextSupplier;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final Executor executor;
+    private final Settings settings;
+
+    private final AtomicLong initiated = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public EdrTransferOutbox(EdrTransferOutboxStore store, TransferProcessService transferProcessService,
+                             ParticipantContextSupplier participantContextSupplier, Monitor monitor, Clock clock,
+                             Executor executor, Settings settings) {
+        this.store = store;
+        this.transferProcessService = transferProcessService;
+        this.participantContextSupplier = participantContextSupplier;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    /**
+     * Queues the initiation of a transfer process for the agreement of the given negotiation. Does not call the
+     * transfer process service.
+     */
+    public Result<Void> enqueue(ContractNegotiationFinalized negotiationFinalized) {
+        var now = clock.millis();
+        var agreement = negotiationFinalized.getContractAgreement();
+        var entry = new EdrTransferOutboxEntry(UUID.randomUUID().toString(), agreement.getId(), agreement.getAssetId(),
+                negotiationFinalized.getCounterPartyAddress(), negotiationFinalized.getProtocol(),
+                negotiationFinalized.getCallbackAddresses(), 0, now, now, null);
+
+        var result = store.save(entry);
+        if (result.failed()) {
+            return Result.failure(format("Failed to queue a transfer for contract %s and asset %s, error: %s",
+                    agreement.getId(), agreement.getAssetId(), result.getFailureDetail()));
+        }
+        return Result.success();
+    }
+
+    /**
+     * Initiates the transfer processes of up to one batch of due entries and waits for them to complete.
+     *
+     * @return the number of processed entries
+     */
+    public int drain() {
+        var now = clock.millis();
+        var entries = store.leaseDue(now, now + settings.leaseDuration().toMillis(), settings.batchSize());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        var futures = entries.stream()
+                .map(entry -> CompletableFuture.runAsync(() -> process(entry), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        monitor.debug(() -> "Processed %d EDR transfer outbox entries, queue depth %d, lag %d ms"
+                .formatted(entries.size(), queueDepth(), lagMillis()));
+        return entries.size();
+    }
+
+    /**
+     * Drains batches until no due entries are left. Never throws, so that it can be scheduled periodically.
+     */
+    public void drainAll() {
+        try {
+            int processed;
+            do {
+                processed = drain();
+            } while (processed == settings.batchSize());
+        } catch (Exception e) {
+            monitor.severe("Failed to drain the EDR transfer outbox", e);
+        }
+    }
+
+    /**
+     * Number of transfer processes waiting to be initiated.
+     */
+    public long queueDepth() {
+        return store.count();
+    }
+
+    /**
+     * Time in milliseconds the oldest entry has been waiting, 0 if the outbox is empty.
+     */
+    public long lagMillis() {
+        var oldest = store.oldestCreatedAt();
+        return oldest == null ? 0 : Math.max(0, clock.millis() - oldest);
+    }
+
+    /**
+     * Total number of transfer processes initiated.
+     */
+    public long initiatedCount() {
+        return initiated.get();
+    }
+
+    /**
+     * Total number of failed attempts that were scheduled for a retry.
+     */
+    public long retriedCount() {
+        return retried.get();
+    }
+
+    /**
+     * Total number of transfer processes given up after the maximum number of attempts.
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    private void process(EdrTransferOutboxEntry entry) {
+        try {
+            var result = participantContextSupplier.get()
+                    .compose(participantContext -> transferProcessService.initiateTransfer(participantContext, toTransferRequest(entry)));
+
+            if (result.succeeded()) {
+                initiated.incrementAndGet();
+                monitor.debug(format("Transfer with id %s initiated", entry.id()));
+                store.delete(entry.id());
+            } else {
+                handleFailedAttempt(entry, result.getFailureDetail());
+            }
+        } catch (Exception e) {
+            monitor.severe(format("Failed to process EDR transfer outbox entry %s", entry.id()), e);
+            try {
+                handleFailedAttempt(entry, e.getMessage());
+            } catch (Exception storeFailure) {
+                // the entry stays leased and is retried once the lease ran out
+                monitor.severe(format("Failed to reschedule EDR transfer outbox entry %s", entry.id()), storeFailure);
+            }
+        }
+    }
+
+    private void handleFailedAttempt(EdrTransferOutboxEntry entry, String error) {
+        if (entry.attempts() + 1 >= settings.maxAttempts()) {
+            failed.incrementAndGet();
+            monitor.severe(format("Failed to initiate a transfer for contract %s and asset %s after %d attempts, error: %s",
+                    entry.contractId(), entry.assetId(), entry.attempts() + 1, error));
+            store.delete(entry.id());
+        } else {
+            retried.incrementAndGet();
+            var delay = retryDelay(entry.attempts());
+            monitor.warning(format("Failed to initiate a transfer for contract %s and asset %s, retrying in %d ms, error: %s",
+                    entry.contractId(), entry.assetId(), delay, error));
+            store.save(entry.retryAt(clock.millis() + delay, error));
+        }
+    }
+
+    private long retryDelay(int attempts) {
+        var base = settings.retryDelay().toMillis();
+        var max = settings.maxRetryDelay().toMillis();
+        if (attempts >= Long.numberOfLeadingZeros(base) - 1) {
+            return max;
+        }
+        return Math.min(base << attempts, max);
+    }
+
+    private TransferRequest toTransferRequest(EdrTransferOutboxEntry entry) {
+        return TransferRequest.Builder.newInstance()
+                .id(entry.id())
+                .contractId(entry.contractId())
+                .counterPartyAddress(entry.counterPartyAddress())
+                .protocol(entry.protocol())
+                .dataDestination(DATA_DESTINATION)
+                .transferType(TRANSFER_TYPE)
+                .callbackAddresses(entry.callbackAddresses())
+                .build();
+    }
+
+    /**
+     * Settings of the outbox.
+     *
+     * @param batchSize     maximum number of entries leased by a single {@link #drain()}
+     * @param leaseDuration time after which a leased entry that was not processed is due again
+     * @param retryDelay    delay before the first retry, doubled on every further attempt
+     * @param maxRetryDelay upper bound of the retry delay
+     * @param maxAttempts   number of attempts after which an entry is given up
+     */
+    public record Settings(int batchSize, Duration leaseDuration, Duration retryDelay, Duration maxRetryDelay,
+                           int maxAttempts) {
+    }
+}
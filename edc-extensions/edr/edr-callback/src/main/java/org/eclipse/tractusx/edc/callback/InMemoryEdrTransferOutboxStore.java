@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.callback;
+
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link EdrTransferOutboxStore}. Entries are lost on restart, use the SQL store for a durable outbox.
+ */
+public class InMemoryEdrTransferOutboxStore implements EdrTransferOutboxStore {
+
+    private final Map<String, EdrTransferOutboxEntry> entries = new HashMap<>();
+
+    @Override
+    public synchronized StoreResult<Void> save(EdrTransferOutboxEntry entry) {
+        entries.put(entry.id(), entry);
+        return StoreResult.success();
+    }
+
+    @Override
+    public synchronized List<EdrTransferOutboxEntry> leaseDue(long now, long leaseUntil, int limit) {
+        var leased = entries.values().stream()
+                .filter(entry -> entry.nextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(EdrTransferOutboxEntry::nextAttemptAt))
+                .limit(limit)
+                .map(entry -> entry.withNextAttemptAt(leaseUntil))
+                .toList();
+        leased.forEach(entry -> entries.put(entry.id(), entry));
+        return leased;
+    }
+
+    @Override
+    public synchronized StoreResult<Void> delete(String id) {
+        return entries.remove(id) == null ?
+                StoreResult.notFound(NOT_FOUND_TEMPLATE.formatted(id)) :
+                StoreResult.success();
+    }
+
+    @Override
+    public synchronized long count() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized @Nullable Long oldestCreatedAt() {
+        return entries.values().stream()
+                .map(EdrTransferOutboxEntry::createdAt)
+                .min(Long::compare)
+                .orElse(null);
+    }
+}
@@ -24,12 +24,22 @@ import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.Trans
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
 import org.eclipse.tractusx.edc.spi.callback.InProcessCallbackRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.eclipse.tractusx.edc.callback.InProcessCallbackMessageDispatcher.CALLBACK_EVENT_LOCAL;
 
 @Extension(LocalCallbackExtension.NAME)
@@ -38,6 +48,34 @@ public class LocalCallbackExtension implements ServiceExtension {
 
     public static final String LOCAL = "local";
 
+    @Setting(key = "tx.edc.edr.transfer.outbox.batch.size", defaultValue = "100", min = 1,
+            description = "Maximum number of EDR transfer outbox entries leased at once.")
+    private int batchSize;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.concurrency", defaultValue = "8", min = 1,
+            description = "Maximum number of transfer processes initiated concurrently from the EDR transfer outbox.")
+    private int concurrency;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.poll.interval.millis", defaultValue = "500", min = 1,
+            description = "Interval in milliseconds in which the EDR transfer outbox is checked for due entries.")
+    private long pollInterval;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.lease.millis", defaultValue = "60000", min = 1,
+            description = "Time in milliseconds after which a leased EDR transfer outbox entry that was not processed is due again.")
+    private long leaseDuration;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.retry.delay.millis", defaultValue = "1000", min = 1,
+            description = "Delay in milliseconds before the first retry of a failed transfer initiation, doubled on every further attempt.")
+    private long retryDelay;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.retry.delay.max.millis", defaultValue = "60000", min = 1,
+            description = "Upper bound in milliseconds of the delay between two attempts to initiate a transfer.")
+    private long maxRetryDelay;
+
+    @Setting(key = "tx.edc.edr.transfer.outbox.retry.attempts.max", defaultValue = "10", min = 1,
+            description = "Number of attempts after which the initiation of a transfer from the EDR transfer outbox is given up.")
+    private int maxAttempts;
+
     @Inject
     private RemoteMessageDispatcherRegistry registry;
     @Inject
@@ -50,6 +88,16 @@ public class LocalCallbackExtension implements ServiceExtension {
     private Monitor monitor;
     @Inject
     private SingleParticipantContextSupplier singleParticipantContextSupplier;
+    @Inject
+    private EdrTransferOutboxStore outboxStore;
+    @Inject
+    private Clock clock;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private EdrTransferOutbox outbox;
+    private ExecutorService outboxWorkers;
+    private ScheduledExecutorService outboxScheduler;
 
     @Override
     public String name() {
@@ -59,13 +107,40 @@ public class LocalCallbackExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
 
-        callbackRegistry.registerHandler(new ContractNegotiationCallback(transferProcessService, monitor, singleParticipantContextSupplier));
+        outboxWorkers = executorInstrumentation.instrument(Executors.newFixedThreadPool(concurrency), "EDR transfer outbox");
+        var settings = new EdrTransferOutbox.Settings(batchSize, Duration.ofMillis(leaseDuration),
+                Duration.ofMillis(retryDelay), Duration.ofMillis(maxRetryDelay), maxAttempts);
+        outbox = new EdrTransferOutbox(outboxStore, transferProcessService, singleParticipantContextSupplier, monitor,
+                clock, outboxWorkers, settings);
+
+        callbackRegistry.registerHandler(new ContractNegotiationCallback(outbox, monitor));
 
         resolverRegistry.registerResolver(this::resolveProtocol);
         registry.register(CALLBACK_EVENT_LOCAL, new InProcessCallbackMessageDispatcher(callbackRegistry));
 
     }
 
+    @Override
+    public void start() {
+        outboxScheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "EDR transfer outbox scheduler");
+        outboxScheduler.scheduleWithFixedDelay(outbox::drainAll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (outboxScheduler != null) {
+            outboxScheduler.shutdown();
+            try {
+                outboxScheduler.awaitTermination(pollInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (outboxWorkers != null) {
+            outboxWorkers.shutdown();
+        }
+    }
+
     private String resolveProtocol(String scheme) {
 
         if (scheme.equalsIgnoreCase(LOCAL)) {
@@ -37,7 +37,9 @@ import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -47,12 +49,14 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.eclipse.tractusx.edc.callback.ContractNegotiationCallback.DATA_DESTINATION;
+import static org.eclipse.tractusx.edc.callback.EdrTransferOutbox.DATA_DESTINATION;
 import static org.eclipse.tractusx.edc.callback.TestFunctions.getNegotiationFinalizedEvent;
 import static org.eclipse.tractusx.edc.callback.TestFunctions.remoteMessage;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,6 +73,10 @@ public class ContractNegotiationCallbackTest {
 
     Monitor monitor = mock(Monitor.class);
 
+    EdrTransferOutboxStore store = new InMemoryEdrTransferOutboxStore();
+
+    EdrTransferOutbox outbox;
+
     ContractNegotiationCallback callback;
 
     private static <T extends ContractNegotiationEvent, B extends ContractNegotiationEvent.Builder<T, B>> B baseBuilder(B builder) {
@@ -87,11 +95,26 @@ public class ContractNegotiationCallbackTest {
         var participantContext = ParticipantContext.Builder.newInstance().identity("any").participantContextId("any").build();
         when(participantContextSupplier.get()).thenReturn(ServiceResult.success(participantContext));
         when(monitor.withPrefix(anyString())).thenReturn(monitor);
-        callback = new ContractNegotiationCallback(transferProcessService, monitor, participantContextSupplier);
+        var settings = new EdrTransferOutbox.Settings(10, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(1), 3);
+        outbox = new EdrTransferOutbox(store, transferProcessService, participantContextSupplier, monitor, Clock.systemUTC(),
+                Runnable::run, settings);
+        callback = new ContractNegotiationCallback(outbox, monitor);
     }
 
     @Test
-    void invoke_shouldStartTransferProcess() {
+    void invoke_shouldQueueTransferProcess() {
+        var event = getNegotiationFinalizedEvent();
+        var message = remoteMessage(event);
+
+        var result = callback.invoke(message);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(store.count()).isEqualTo(1);
+        verifyNoInteractions(transferProcessService);
+    }
+
+    @Test
+    void invoke_shouldStartTransferProcess_whenOutboxIsDrained() {
 
         var captor = ArgumentCaptor.forClass(TransferRequest.class);
 
@@ -101,8 +124,10 @@ public class ContractNegotiationCallbackTest {
         var message = remoteMessage(event);
 
         var result = callback.invoke(message);
+        outbox.drain();
 
         assertThat(result.succeeded()).isTrue();
+        assertThat(store.count()).isZero();
         verify(transferProcessService).initiateTransfer(any(), captor.capture());
 
 
@@ -120,16 +145,19 @@ public class ContractNegotiationCallbackTest {
     }
 
     @Test
-    void invoke_shouldThrowException_whenTransferRequestFails() {
-
-        when(transferProcessService.initiateTransfer(any(), any())).thenReturn(ServiceResult.badRequest("test"));
+    void invoke_shouldFail_whenTransferCannotBeQueued() {
+        EdrTransferOutboxStore failingStore = mock();
+        when(failingStore.save(any())).thenReturn(StoreResult.generalError("test"));
+        var failingOutbox = new EdrTransferOutbox(failingStore, transferProcessService, mock(), monitor, Clock.systemUTC(),
+                Runnable::run, new EdrTransferOutbox.Settings(10, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(1), 3));
 
         var event = getNegotiationFinalizedEvent();
         var message = remoteMessage(event);
 
-        var result = callback.invoke(message);
+        var result = new ContractNegotiationCallback(failingOutbox, monitor).invoke(message);
 
         assertThat(result.failed()).isTrue();
+        verifyNoInteractions(transferProcessService);
     }
 
     @ParameterizedTest
@@ -137,7 +165,9 @@ public class ContractNegotiationCallbackTest {
     void invoke_shouldIgnoreOtherEvents(ContractNegotiationEvent event) {
         var message = remoteMessage(event);
         callback.invoke(message);
+        outbox.drain();
 
+        assertThat(store.count()).isZero();
         verifyNoInteractions(transferProcessService);
     }
 
@@ -155,6 +185,7 @@ public class ContractNegotiationCallbackTest {
         when(transferProcessService.initiateTransfer(any(), any())).thenReturn(ServiceResult.success(null));
 
         callback.invoke(message);
+        outbox.drain();
         verify(transferProcessService).initiateTransfer(any(), any(TransferRequest.class));
     }
 
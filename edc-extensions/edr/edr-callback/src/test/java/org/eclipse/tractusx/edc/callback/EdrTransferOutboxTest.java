@@ -0,0 +1,217 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.participantcontext.spi.service.ParticipantContextSupplier;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.edc.callback.TestFunctions.getNegotiationFinalizedEvent;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EdrTransferOutboxTest {
+
+    private static final EdrTransferOutbox.Settings SETTINGS = new EdrTransferOutbox.Settings(100, Duration.ofSeconds(60),
+            Duration.ofSeconds(1), Duration.ofSeconds(5), 3);
+
+    private final TransferProcessService transferProcessService = mock();
+    private final ParticipantContextSupplier participantContextSupplier = mock();
+    private final Monitor monitor = mock();
+    private final InMemoryEdrTransferOutboxStore store = new InMemoryEdrTransferOutboxStore();
+    private final Clock clock = mock();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private EdrTransferOutbox outbox;
+
+    @BeforeEach
+    void setup() {
+        var participantContext = ParticipantContext.Builder.newInstance().identity("any").participantContextId("any").build();
+        when(participantContextSupplier.get()).thenReturn(ServiceResult.success(participantContext));
+        when(monitor.withPrefix(anyString())).thenReturn(monitor);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        outbox = new EdrTransferOutbox(store, transferProcessService, participantContextSupplier, monitor, clock,
+                Runnable::run, SETTINGS);
+    }
+
+    @Test
+    void drain_shouldInitiateTransferAndRemoveEntry() {
+        when(transferProcessService.initiateTransfer(any(), any())).thenReturn(ServiceResult.success(TransferProcess.Builder.newInstance().id("tp").build()));
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        var processed = outbox.drain();
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(outbox.queueDepth()).isZero();
+        assertThat(outbox.initiatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldRetryWithExponentialBackoff() {
+        when(transferProcessService.initiateTransfer(any(), any())).thenReturn(ServiceResult.unexpected("error"));
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        outbox.drain();
+
+        assertThat(store.leaseDue(clock.millis() + 999, clock.millis() + 999, 10)).isEmpty();
+        var retried = store.leaseDue(clock.millis() + 1000, clock.millis() + 1000, 10);
+        assertThat(retried).singleElement().satisfies(entry -> {
+            assertThat(entry.attempts()).isEqualTo(1);
+            assertThat(entry.lastError()).isEqualTo("error");
+        });
+
+        now.addAndGet(1000);
+        outbox.drain();
+
+        assertThat(store.leaseDue(clock.millis() + 1999, clock.millis() + 1999, 10)).isEmpty();
+        assertThat(store.leaseDue(clock.millis() + 2000, clock.millis() + 2000, 10)).singleElement()
+                .extracting(EdrTransferOutboxEntry::attempts).isEqualTo(2);
+        assertThat(outbox.retriedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void drain_shouldGiveUp_afterMaxAttempts() {
+        when(transferProcessService.initiateTransfer(any(), any())).thenReturn(ServiceResult.unexpected("error"));
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        for (var i = 0; i < SETTINGS.maxAttempts(); i++) {
+            outbox.drain();
+            now.addAndGet(SETTINGS.maxRetryDelay().toMillis());
+        }
+
+        verify(transferProcessService, times(SETTINGS.maxAttempts())).initiateTransfer(any(), any());
+        assertThat(outbox.queueDepth()).isZero();
+        assertThat(outbox.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldRetry_whenTransferServiceThrows() {
+        when(transferProcessService.initiateTransfer(any(), any())).thenThrow(new IllegalStateException("boom"));
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        outbox.drain();
+
+        assertThat(store.leaseDue(clock.millis() + 1000, clock.millis() + 1000, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.attempts()).isEqualTo(1);
+            assertThat(entry.lastError()).isEqualTo("boom");
+        });
+        assertThat(outbox.retriedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldGiveUp_whenTransferServiceKeepsThrowing() {
+        when(transferProcessService.initiateTransfer(any(), any())).thenThrow(new IllegalStateException("boom"));
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        for (var i = 0; i < SETTINGS.maxAttempts(); i++) {
+            outbox.drain();
+            now.addAndGet(SETTINGS.maxRetryDelay().toMillis());
+        }
+
+        verify(transferProcessService, times(SETTINGS.maxAttempts())).initiateTransfer(any(), any());
+        assertThat(outbox.queueDepth()).isZero();
+        assertThat(outbox.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void lagMillis_shouldReportAgeOfOldestEntry() {
+        assertThat(outbox.lagMillis()).isZero();
+
+        outbox.enqueue(getNegotiationFinalizedEvent());
+        now.addAndGet(250);
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        assertThat(outbox.queueDepth()).isEqualTo(2);
+        assertThat(outbox.lagMillis()).isEqualTo(250);
+    }
+
+    @Test
+    void enqueue_shouldNotWaitForTransferInitiation() throws Exception {
+        var negotiations = 5000;
+        var initiationBlocked = new CountDownLatch(1);
+        when(transferProcessService.initiateTransfer(any(), any())).thenAnswer(invocation -> {
+            initiationBlocked.await();
+            return ServiceResult.success(TransferProcess.Builder.newInstance().id("tp").build());
+        });
+
+        var workers = Executors.newFixedThreadPool(4);
+        var negotiationThreads = Executors.newFixedThreadPool(16);
+        try {
+            var blockingOutbox = new EdrTransferOutbox(store, transferProcessService, participantContextSupplier, monitor,
+                    clock, workers, SETTINGS);
+            var callback = new ContractNegotiationCallback(blockingOutbox, monitor);
+
+            // the first batch is stuck in transfer initiation while the negotiations are finalized
+            blockingOutbox.enqueue(getNegotiationFinalizedEvent());
+            var drainer = CompletableFuture.runAsync(blockingOutbox::drainAll);
+
+            var finalizations = new ArrayList<CompletableFuture<Boolean>>();
+            for (var i = 0; i < negotiations; i++) {
+                finalizations.add(CompletableFuture.supplyAsync(
+                        () -> callback.invoke(TestFunctions.remoteMessage(getNegotiationFinalizedEvent())).succeeded(),
+                        negotiationThreads));
+            }
+            CompletableFuture.allOf(finalizations.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            assertThat(finalizations).allMatch(CompletableFuture::join);
+            assertThat(drainer).isNotDone();
+            assertThat(blockingOutbox.queueDepth()).isEqualTo(negotiations + 1);
+
+            initiationBlocked.countDown();
+            drainer.get(30, TimeUnit.SECONDS);
+            blockingOutbox.drainAll();
+
+            assertThat(blockingOutbox.initiatedCount()).isEqualTo(negotiations + 1);
+            assertThat(blockingOutbox.queueDepth()).isZero();
+        } finally {
+            initiationBlocked.countDown();
+            workers.shutdownNow();
+            negotiationThreads.shutdownNow();
+        }
+    }
+
+    @Test
+    void enqueue_shouldNotInitiateTransfer() {
+        outbox.enqueue(getNegotiationFinalizedEvent());
+
+        verifyNoInteractions(transferProcessService);
+    }
+}
@@ -0,0 +1,29 @@
+--
+--  Copyright (c) 2026 Contributors to the Eclipse Foundation
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Contributors to the Eclipse Foundation - durable EDR transfer outbox
+--
+
+CREATE TABLE IF NOT EXISTS edc_edr_transfer_outbox
+(
+    id                    VARCHAR NOT NULL
+        CONSTRAINT edr_transfer_outbox_pk PRIMARY KEY,
+    contract_id           VARCHAR NOT NULL,
+    asset_id              VARCHAR,
+    counter_party_address VARCHAR NOT NULL,
+    protocol              VARCHAR NOT NULL,
+    callback_addresses    JSON,
+    attempts              INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at       BIGINT  NOT NULL,
+    created_at            BIGINT  NOT NULL,
+    last_error            VARCHAR
+);
+
+CREATE INDEX IF NOT EXISTS edr_transfer_outbox_next_attempt_at_index ON edc_edr_transfer_outbox (next_attempt_at);
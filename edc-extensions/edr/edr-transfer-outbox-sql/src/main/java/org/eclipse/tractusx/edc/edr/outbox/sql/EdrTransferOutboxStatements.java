@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.outbox.sql;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Statement templates and SQL table+column names required for the {@link SqlEdrTransferOutboxStore}
+ */
+public interface EdrTransferOutboxStatements extends SqlStatements {
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getContractIdColumn() {
+        return "contract_id";
+    }
+
+    default String getAssetIdColumn() {
+        return "asset_id";
+    }
+
+    default String getCounterPartyAddressColumn() {
+        return "counter_party_address";
+    }
+
+    default String getProtocolColumn() {
+        return "protocol";
+    }
+
+    default String getCallbackAddressesColumn() {
+        return "callback_addresses";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getLastErrorColumn() {
+        return "last_error";
+    }
+
+    default String getTable() {
+        return "edc_edr_transfer_outbox";
+    }
+
+    String upsertTemplate();
+
+    String leaseDueTemplate();
+
+    default String deleteTemplate() {
+        return "DELETE FROM %s WHERE %s = ?".formatted(getTable(), getIdColumn());
+    }
+
+    default String countTemplate() {
+        return "SELECT COUNT(*) FROM %s".formatted(getTable());
+    }
+
+    default String oldestCreatedAtTemplate() {
+        return "SELECT MIN(%s) FROM %s".formatted(getCreatedAtColumn(), getTable());
+    }
+}
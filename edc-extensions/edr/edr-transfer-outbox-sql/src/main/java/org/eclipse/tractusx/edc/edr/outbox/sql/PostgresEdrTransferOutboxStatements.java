@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.outbox.sql;
+
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+import static java.lang.String.format;
+
+/**
+ * Postgres-specific statement templates for the {@link SqlEdrTransferOutboxStore}
+ */
+public class PostgresEdrTransferOutboxStatements implements EdrTransferOutboxStatements {
+
+    @Override
+    public String upsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?%s, ?, ?, ?, ?) " +
+                        "ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s",
+                getTable(),
+                getIdColumn(),
+                getContractIdColumn(),
+                getAssetIdColumn(),
+                getCounterPartyAddressColumn(),
+                getProtocolColumn(),
+                getCallbackAddressesColumn(),
+                getAttemptsColumn(),
+                getNextAttemptAtColumn(),
+                getCreatedAtColumn(),
+                getLastErrorColumn(),
+                PostgresDialect.getJsonCastOperator(),
+                getIdColumn(),
+                getAttemptsColumn(), getAttemptsColumn(),
+                getNextAttemptAtColumn(), getNextAttemptAtColumn(),
+                getLastErrorColumn(), getLastErrorColumn());
+    }
+
+    /**
+     * Moves the next attempt of the due entries to the lease end and returns them, oldest due first. Rows locked by a
+     * concurrent lease are skipped, so that several runtimes can share the outbox. {@code UPDATE ... RETURNING} does not
+     * preserve the order of the selected rows, so the original due time is carried along and the result sorted by it.
+     * Parameters are {@code now}, {@code limit} and {@code leaseUntil}.
+     */
+    @Override
+    public String leaseDueTemplate() {
+        return format("WITH due AS (SELECT %s, %s AS due_at FROM %s WHERE %s <= ? ORDER BY %s LIMIT ? FOR UPDATE SKIP LOCKED), " +
+                        "leased AS (UPDATE %s SET %s = ? FROM due WHERE %s.%s = due.%s RETURNING %s.*, due.due_at) " +
+                        "SELECT * FROM leased ORDER BY due_at, %s",
+                getIdColumn(), getNextAttemptAtColumn(), getTable(), getNextAttemptAtColumn(), getNextAttemptAtColumn(),
+                getTable(), getNextAttemptAtColumn(), getTable(), getIdColumn(), getIdColumn(), getTable(),
+                getCreatedAtColumn());
+    }
+}
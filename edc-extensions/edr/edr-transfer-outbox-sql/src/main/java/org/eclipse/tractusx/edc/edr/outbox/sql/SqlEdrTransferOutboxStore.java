@@ -0,0 +1,139 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.outbox.sql;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+public class SqlEdrTransferOutboxStore extends AbstractSqlStore implements EdrTransferOutboxStore {
+
+    private static final TypeReference<List<CallbackAddress>> LIST_OF_CALLBACK_ADDRESS = new TypeReference<>() {
+    };
+
+    private final EdrTransferOutboxStatements statements;
+
+    public SqlEdrTransferOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                     TransactionContext transactionContext, ObjectMapper objectMapper,
+                                     QueryExecutor queryExecutor, EdrTransferOutboxStatements statements) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+    }
+
+    @Override
+    public StoreResult<Void> save(EdrTransferOutboxEntry entry) {
+        Objects.requireNonNull(entry.id());
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.upsertTemplate(),
+                        entry.id(),
+                        entry.contractId(),
+                        entry.assetId(),
+                        entry.counterPartyAddress(),
+                        entry.protocol(),
+                        toJson(entry.callbackAddresses()),
+                        entry.attempts(),
+                        entry.nextAttemptAt(),
+                        entry.createdAt(),
+                        entry.lastError());
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<EdrTransferOutboxEntry> leaseDue(long now, long leaseUntil, int limit) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection();
+                 var stream = queryExecutor.query(connection, false, this::mapRow, statements.leaseDueTemplate(), now, limit, leaseUntil)) {
+                return stream.toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> delete(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var deleted = queryExecutor.execute(connection, statements.deleteTemplate(), id);
+                return deleted == 0 ?
+                        StoreResult.notFound(NOT_FOUND_TEMPLATE.formatted(id)) :
+                        StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long count() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, rs -> rs.getLong(1), statements.countTemplate());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable Long oldestCreatedAt() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, rs -> rs.getObject(1, Long.class), statements.oldestCreatedAtTemplate());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private EdrTransferOutboxEntry mapRow(ResultSet rs) throws SQLException {
+        return new EdrTransferOutboxEntry(
+                rs.getString(statements.getIdColumn()),
+                rs.getString(statements.getContractIdColumn()),
+                rs.getString(statements.getAssetIdColumn()),
+                rs.getString(statements.getCounterPartyAddressColumn()),
+                rs.getString(statements.getProtocolColumn()),
+                fromJson(rs.getString(statements.getCallbackAddressesColumn()), LIST_OF_CALLBACK_ADDRESS),
+                rs.getInt(statements.getAttemptsColumn()),
+                rs.getLong(statements.getNextAttemptAtColumn()),
+                rs.getLong(statements.getCreatedAtColumn()),
+                rs.getString(statements.getLastErrorColumn()));
+    }
+}
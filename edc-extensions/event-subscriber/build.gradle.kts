@@ -28,4 +28,7 @@ dependencies {
     testImplementation(libs.edc.junit)
     testImplementation(project(":edc-extensions:agreements:retirement-evaluation-spi"))
     testImplementation(libs.edc.spi.http)
+    testImplementation(testFixtures(libs.edc.lib.http))
+    testImplementation(libs.wiremock)
+    testImplementation(libs.awaitility)
 }
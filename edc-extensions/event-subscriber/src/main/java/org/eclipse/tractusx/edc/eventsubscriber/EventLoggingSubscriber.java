@@ -19,82 +19,34 @@
 
 package org.eclipse.tractusx.edc.eventsubscriber;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import okhttp3.MediaType;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
-import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Attribute;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.OtelRequestWrapper;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Resource;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ResourceLog;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Scope;
-import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ScopeLog;
 import org.eclipse.tractusx.edc.eventsubscriber.otelutil.StringValue;
 import org.eclipse.tractusx.edc.eventsubscriber.otelutil.SubscribedEventLogRecord;
-import org.jetbrains.annotations.NotNull;
-
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * Optional extension that logs EDC business events by direct HTTP call to the OpenTelemetry Collector.
+ * Optional extension that logs EDC business events by HTTP call to the OpenTelemetry Collector.
  * Should only be used when observability is enabled.
+ * <p>
+ * Events are only queued here, they are sent in batches by the {@link OtelLogExporter}, so that publishing an event
+ * does not depend on the latency or availability of the collector.
  */
 public class EventLoggingSubscriber implements EventSubscriber {
-    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
     private final TypeManager typeManager;
-    private final Monitor monitor;
-    private final EdcHttpClient httpClient;
-    private final String otelLogsEndpoint;
-    private final String serviceName;
+    private final OtelLogExporter exporter;
 
-    public EventLoggingSubscriber(TypeManager typeManager, Monitor monitor, EdcHttpClient httpClient, String otelLogsEndpoint, String serviceName) {
+    public EventLoggingSubscriber(TypeManager typeManager, OtelLogExporter exporter) {
         this.typeManager = typeManager;
-        this.monitor = monitor.withPrefix(getClass().getSimpleName());
-        this.httpClient = httpClient;
-        this.otelLogsEndpoint = otelLogsEndpoint;
-        this.serviceName = serviceName;
+        this.exporter = exporter;
     }
 
-
     @Override
     public <E extends Event> void on(EventEnvelope<E> event) {
         var eventPayload = typeManager.writeValueAsString(event.getPayload());
-        var logMessage = String.format("Event happened with ID %s and Type %s and data %s", event.getId(), event.getPayload().getClass().getName(), eventPayload);
-        var resourceLog = createResourceLog(logMessage, event.getPayload().getClass().getName());
-        try (var response = httpClient.execute(createRequest(new OtelRequestWrapper(List.of(resourceLog))))) {
-            if (!response.isSuccessful()) {
-                monitor.warning(String.format("HTTP call to otel collector has failed with status: %d", response.code()));
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    @NotNull
-    private Request createRequest(OtelRequestWrapper messageWrapper) {
-        var requestBuilder = new Request.Builder();
-        var jsonWriter = typeManager.getMapper().writerWithDefaultPrettyPrinter();
-        try {
-            return requestBuilder.post(RequestBody.create(jsonWriter.writeValueAsString(messageWrapper), JSON_MEDIA_TYPE))
-                    .url(otelLogsEndpoint)
-                    .build();
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private ResourceLog createResourceLog(String message, String eventName) {
-        return new ResourceLog(
-                new Resource(List.of(new Attribute("service.name", new StringValue(serviceName)))),
-                List.of(new ScopeLog(new Scope("default scope", "1.0.0", new ArrayList<>()), List.of(SubscribedEventLogRecord.of(new StringValue(message), eventName))))
-            );
+        var eventName = event.getPayload().getClass().getName();
+        var logMessage = String.format("Event happened with ID %s and Type %s and data %s", event.getId(), eventName, eventPayload);
+        exporter.enqueue(SubscribedEventLogRecord.of(new StringValue(logMessage), eventName));
     }
 }
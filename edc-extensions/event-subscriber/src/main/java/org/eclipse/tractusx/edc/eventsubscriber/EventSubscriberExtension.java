@@ -25,10 +25,16 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.eclipse.tractusx.edc.eventsubscriber.EventSubscriberExtension.NAME;
 
 @Extension(value = NAME)
@@ -44,6 +50,26 @@ public class EventSubscriberExtension implements ServiceExtension {
     @Setting(required = false, key = "tx.edc.otel.events.subscriber.active", defaultValue = "false")
     private String isOtelEnabled;
 
+    @Setting(key = "tx.edc.otel.events.queue.size", defaultValue = "10000", min = 1,
+            description = "Maximum number of business events waiting to be sent to the collector, further events are dropped.")
+    private int queueSize;
+
+    @Setting(key = "tx.edc.otel.events.batch.size", defaultValue = "500", min = 1,
+            description = "Maximum number of business events sent to the collector in a single request.")
+    private int batchSize;
+
+    @Setting(key = "tx.edc.otel.events.flush.interval.millis", defaultValue = "1000", min = 1,
+            description = "Interval in milliseconds in which queued business events are sent to the collector.")
+    private long flushInterval;
+
+    @Setting(key = "tx.edc.otel.events.retry.max", defaultValue = "3", min = 0,
+            description = "Maximum number of retries of a failed request to the collector.")
+    private int maxRetries;
+
+    @Setting(key = "tx.edc.otel.events.retry.backoff.millis", defaultValue = "500", min = 0,
+            description = "Backoff in milliseconds before the first retry of a failed request to the collector, doubled on every further retry.")
+    private long retryBackoff;
+
     @Inject
     private EventRouter eventRouter;
 
@@ -52,6 +78,12 @@ public class EventSubscriberExtension implements ServiceExtension {
     @Inject
     private EdcHttpClient httpClient;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private OtelLogExporter exporter;
+    private ScheduledExecutorService flushExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -60,7 +92,30 @@ public class EventSubscriberExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         if (Boolean.parseBoolean(isOtelEnabled)) {
-            eventRouter.register(Event.class, new EventLoggingSubscriber(typeManager, context.getMonitor(), httpClient, otelLogsEndpoint, otelServiceName));
+            flushExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Otel events exporter");
+            exporter = new OtelLogExporter(typeManager, httpClient, context.getMonitor(), otelLogsEndpoint, otelServiceName,
+                    queueSize, batchSize, maxRetries, Duration.ofMillis(retryBackoff), flushExecutor);
+            eventRouter.register(Event.class, new EventLoggingSubscriber(typeManager, exporter));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (flushExecutor != null) {
+            flushExecutor.scheduleWithFixedDelay(exporter::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            try {
+                flushExecutor.awaitTermination(flushInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exporter.flush();
         }
     }
 }
@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.eventsubscriber;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Attribute;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.OtelRequestWrapper;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Resource;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ResourceLog;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.Scope;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ScopeLog;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.StringValue;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.SubscribedEventLogRecord;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends {@link SubscribedEventLogRecord}s to the OpenTelemetry Collector in batches, off the thread that published the
+ * event.
+ * <p>
+ * Records are queued by {@link #enqueue(SubscribedEventLogRecord)}, which never blocks: when the queue is full the
+ * record is dropped and counted. Queued records are sent by {@link #flush()}, which is expected to be called
+ * periodically and is additionally triggered on the flush executor as soon as a full batch is queued. All records of a
+ * batch are sent in a single {@link OtelRequestWrapper}, failed requests are retried with exponential backoff.
+ */
+public class OtelLogExporter {
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
+
+    private final TypeManager typeManager;
+    private final EdcHttpClient httpClient;
+    private final Monitor monitor;
+    private final String otelLogsEndpoint;
+    private final String serviceName;
+    private final int batchSize;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Executor flushExecutor;
+
+    private final BlockingQueue<SubscribedEventLogRecord> queue;
+    private final AtomicBoolean flushTriggered = new AtomicBoolean();
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedSinceLastFlush = new AtomicLong();
+
+    public OtelLogExporter(TypeManager typeManager, EdcHttpClient httpClient, Monitor monitor, String otelLogsEndpoint, String serviceName,
+                           int queueSize, int batchSize, int maxRetries, Duration retryBackoff, Executor flushExecutor) {
+        this.typeManager = typeManager;
+        this.httpClient = httpClient;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.otelLogsEndpoint = otelLogsEndpoint;
+        this.serviceName = serviceName;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.flushExecutor = flushExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    /**
+     * Queues the given record for sending. Does not block.
+     *
+     * @return false if the record was dropped because the queue is full
+     */
+    public boolean enqueue(SubscribedEventLogRecord logRecord) {
+        if (!queue.offer(logRecord)) {
+            dropped.incrementAndGet();
+            droppedSinceLastFlush.incrementAndGet();
+            return false;
+        }
+        if (queue.size() >= batchSize && flushTriggered.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        flushTriggered.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flushTriggered.set(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sends all queued records, in batches of at most the configured batch size. Does not throw: a batch that cannot
+     * be exported because of an unexpected error is counted as failed, so that scheduled flushes keep running.
+     *
+     * @return the number of processed records
+     */
+    public synchronized int flush() {
+        var droppedRecords = droppedSinceLastFlush.getAndSet(0);
+        if (droppedRecords > 0) {
+            monitor.warning("Dropped %d event log records because the queue was full".formatted(droppedRecords));
+        }
+        var processed = 0;
+        while (true) {
+            var batch = new ArrayList<SubscribedEventLogRecord>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return processed;
+            }
+            try {
+                export(batch);
+            } catch (Exception e) {
+                monitor.severe("Failed to export %d event log records".formatted(batch.size()), e);
+                failed.addAndGet(batch.size());
+            }
+            processed += batch.size();
+        }
+    }
+
+    /**
+     * Number of records waiting to be sent.
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Total number of records accepted by the collector.
+     */
+    public long exportedCount() {
+        return exported.get();
+    }
+
+    /**
+     * Total number of records that could not be sent to the collector.
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Total number of records dropped because the queue was full.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void export(List<SubscribedEventLogRecord> batch) {
+        Request request;
+        try {
+            request = createRequest(batch);
+        } catch (JsonProcessingException e) {
+            monitor.severe("Failed to serialize %d event log records".formatted(batch.size()), e);
+            failed.addAndGet(batch.size());
+            return;
+        }
+
+        for (var attempt = 0; ; attempt++) {
+            var outcome = send(request);
+            if (outcome.successful()) {
+                exported.addAndGet(batch.size());
+                return;
+            }
+            if (!outcome.retryable() || attempt >= maxRetries || !backOff(attempt)) {
+                failed.addAndGet(batch.size());
+                monitor.warning("HTTP call to otel collector has failed with %s, dropping %d event log records"
+                        .formatted(outcome.failure(), batch.size()));
+                return;
+            }
+        }
+    }
+
+    private SendOutcome send(Request request) {
+        try (var response = httpClient.execute(request)) {
+            if (response.isSuccessful()) {
+                return new SendOutcome(true, false, null);
+            }
+            var code = response.code();
+            return new SendOutcome(false, code == 429 || code >= 500, "status: %d".formatted(code));
+        } catch (IOException e) {
+            return new SendOutcome(false, true, "error: %s".formatted(e.getMessage()));
+        }
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.multipliedBy(1L << Math.min(attempt, 10)).toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Request createRequest(List<SubscribedEventLogRecord> batch) throws JsonProcessingException {
+        var body = typeManager.getMapper().writeValueAsString(new OtelRequestWrapper(List.of(createResourceLog(batch))));
+        return new Request.Builder()
+                .post(RequestBody.create(body, JSON_MEDIA_TYPE))
+                .url(otelLogsEndpoint)
+                .build();
+    }
+
+    private ResourceLog createResourceLog(List<SubscribedEventLogRecord> logRecords) {
+        return new ResourceLog(
+                new Resource(List.of(new Attribute("service.name", new StringValue(serviceName)))),
+                List.of(new ScopeLog(new Scope("default scope", "1.0.0", new ArrayList<>()), logRecords))
+        );
+    }
+
+    private record SendOutcome(boolean successful, boolean retryable, String failure) {
+    }
+}
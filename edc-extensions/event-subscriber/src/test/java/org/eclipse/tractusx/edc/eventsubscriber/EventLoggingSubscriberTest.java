@@ -48,6 +48,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -55,6 +56,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,12 +65,23 @@ class EventLoggingSubscriberTest {
     private final EdcHttpClient mockedHttpClient = mock();
     private final TypeManager typeManager = new JacksonTypeManager();
     private final Monitor mockedMonitor = mock();
+    private OtelLogExporter exporter;
     private EventLoggingSubscriber eventLoggingSubscriber;
 
     @BeforeEach
     void setup() {
         when(mockedMonitor.withPrefix(anyString())).thenReturn(mockedMonitor);
-        eventLoggingSubscriber = new EventLoggingSubscriber(typeManager, mockedMonitor, mockedHttpClient, "http://uri.com", "unknown_service");
+        exporter = new OtelLogExporter(typeManager, mockedHttpClient, mockedMonitor, "http://uri.com", "unknown_service",
+                100, 100, 0, Duration.ZERO, Runnable::run);
+        eventLoggingSubscriber = new EventLoggingSubscriber(typeManager, exporter);
+    }
+
+    @Test
+    void on_shouldOnlyQueueEvent() throws IOException {
+        eventLoggingSubscriber.on(envelope());
+
+        assertThat(exporter.queueDepth()).isEqualTo(1);
+        verify(mockedHttpClient, never()).execute(any());
     }
 
 
@@ -92,6 +105,7 @@ class EventLoggingSubscriberTest {
                 .payload(event)
                 .build();
         eventLoggingSubscriber.on(envelope);
+        exporter.flush();
 
         verify(mockedMonitor, times(1)).warning(anyString());
     }
@@ -113,6 +127,7 @@ class EventLoggingSubscriberTest {
                 .build();
 
         eventLoggingSubscriber.on(envelope);
+        exporter.flush();
         verify(mockedMonitor, times(0)).warning(anyString());
         verify(mockedResponse, times(1)).close();
     }
@@ -136,6 +151,7 @@ class EventLoggingSubscriberTest {
                 .build();
 
         eventLoggingSubscriber.on(envelope);
+        exporter.flush();
         verify(mockedHttpClient).execute(captor.capture());
         var request = captor.getValue();
         request.body().writeTo(buffer);
@@ -166,4 +182,14 @@ class EventLoggingSubscriberTest {
                         new StringValue(expectedMesage)
                 );
     }
+
+    private EventEnvelope<ContractAgreementReactivated> envelope() {
+        var event = ContractAgreementReactivated.Builder.newInstance().contractAgreementId(UUID.randomUUID().toString()).build();
+        return EventEnvelope.Builder
+                .newInstance()
+                .id(UUID.randomUUID().toString())
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
 }
@@ -0,0 +1,231 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.eventsubscriber;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.tractusx.edc.agreements.retirement.spi.event.ContractAgreementReactivated;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.OtelRequestWrapper;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ResourceLog;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.ScopeLog;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.StringValue;
+import org.eclipse.tractusx.edc.eventsubscriber.otelutil.SubscribedEventLogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OtelLogExporterTest {
+
+    private static final int COLLECTOR_DELAY_MILLIS = 1000;
+
+    @RegisterExtension
+    static WireMockExtension collector = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private final EdcHttpClient httpClient = mock();
+    private final TypeManager typeManager = new JacksonTypeManager();
+    private final Monitor monitor = mock();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @BeforeEach
+    void setup() {
+        when(monitor.withPrefix(anyString())).thenReturn(monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    void flush_shouldSendAllRecordsOfBatchInSingleRequest() throws IOException {
+        var response = mock(Response.class);
+        when(response.isSuccessful()).thenReturn(true);
+        when(httpClient.execute(any())).thenReturn(response);
+        var exporter = exporter(httpClient, 10, 10, 0);
+
+        exporter.enqueue(logRecord("first"));
+        exporter.enqueue(logRecord("second"));
+        exporter.enqueue(logRecord("third"));
+
+        assertThat(exporter.flush()).isEqualTo(3);
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).execute(captor.capture());
+        var buffer = new Buffer();
+        captor.getValue().body().writeTo(buffer);
+        var body = buffer.readUtf8();
+        assertThat(body).doesNotContain("\n");
+        var wrapper = typeManager.getMapper().readValue(body, OtelRequestWrapper.class);
+        assertThat(wrapper.resourceLogs()).hasSize(1)
+                .flatExtracting(ResourceLog::scopeLogs)
+                .flatExtracting(ScopeLog::logRecords)
+                .extracting(SubscribedEventLogRecord::body)
+                .containsExactly(new StringValue("first"), new StringValue("second"), new StringValue("third"));
+        assertThat(exporter.exportedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void flush_shouldSplitIntoBatches() throws IOException {
+        var response = mock(Response.class);
+        when(response.isSuccessful()).thenReturn(true);
+        when(httpClient.execute(any())).thenReturn(response);
+        var exporter = exporter(httpClient, 10, 2, 0);
+
+        for (var i = 0; i < 5; i++) {
+            exporter.enqueue(logRecord("record-" + i));
+        }
+        exporter.flush();
+
+        verify(httpClient, times(3)).execute(any());
+        assertThat(exporter.exportedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void flush_shouldCountFailedAndContinue_whenExportThrows() throws IOException {
+        var response = mock(Response.class);
+        when(response.isSuccessful()).thenReturn(true);
+        when(httpClient.execute(any())).thenThrow(new IllegalStateException("boom")).thenReturn(response);
+        var exporter = exporter(httpClient, 10, 2, 0);
+
+        for (var i = 0; i < 4; i++) {
+            exporter.enqueue(logRecord("record-" + i));
+        }
+
+        assertThat(exporter.flush()).isEqualTo(4);
+        assertThat(exporter.failedCount()).isEqualTo(2);
+        assertThat(exporter.exportedCount()).isEqualTo(2);
+        verify(monitor).severe(anyString(), any(IllegalStateException.class));
+    }
+
+    @Test
+    void enqueue_shouldDropAndCount_whenQueueIsFull() {
+        var exporter = exporter(httpClient, 2, 10, 0);
+
+        assertThat(exporter.enqueue(logRecord("first"))).isTrue();
+        assertThat(exporter.enqueue(logRecord("second"))).isTrue();
+        assertThat(exporter.enqueue(logRecord("third"))).isFalse();
+
+        assertThat(exporter.droppedCount()).isEqualTo(1);
+        assertThat(exporter.queueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_shouldRetry_whenCollectorIsUnavailable() throws IOException {
+        var unavailable = mock(Response.class);
+        when(unavailable.code()).thenReturn(503);
+        var successful = mock(Response.class);
+        when(successful.isSuccessful()).thenReturn(true);
+        when(httpClient.execute(any())).thenReturn(unavailable).thenReturn(successful);
+        var exporter = exporter(httpClient, 10, 10, 2);
+
+        exporter.enqueue(logRecord("record"));
+        exporter.flush();
+
+        verify(httpClient, times(2)).execute(any());
+        assertThat(exporter.exportedCount()).isEqualTo(1);
+        assertThat(exporter.failedCount()).isZero();
+    }
+
+    @Test
+    void flush_shouldNotRetry_whenRequestIsRejected() throws IOException {
+        var rejected = mock(Response.class);
+        when(rejected.code()).thenReturn(400);
+        when(httpClient.execute(any())).thenReturn(rejected);
+        var exporter = exporter(httpClient, 10, 10, 2);
+
+        exporter.enqueue(logRecord("record"));
+        exporter.flush();
+
+        verify(httpClient, times(1)).execute(any());
+        assertThat(exporter.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_shouldNotDependOnCollectorLatency() {
+        collector.stubFor(post(urlEqualTo("/v1/logs")).willReturn(aResponse().withStatus(200).withFixedDelay(COLLECTOR_DELAY_MILLIS)));
+        var exporter = new OtelLogExporter(typeManager, testHttpClient(), monitor, "http://localhost:%d/v1/logs".formatted(collector.getPort()),
+                "unknown_service", 10_000, 250, 0, Duration.ZERO, flushExecutor);
+        var subscriber = new EventLoggingSubscriber(typeManager, exporter);
+        var events = 1000;
+
+        var start = System.nanoTime();
+        for (var i = 0; i < events; i++) {
+            subscriber.on(envelope());
+        }
+        var publishDuration = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(publishDuration).isLessThan(Duration.ofMillis(COLLECTOR_DELAY_MILLIS));
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            exporter.flush();
+            assertThat(exporter.exportedCount()).isEqualTo(events);
+        });
+        assertThat(collector.getAllServeEvents()).hasSizeLessThanOrEqualTo(events / 250 + 1);
+        assertThat(exporter.droppedCount()).isZero();
+    }
+
+    private OtelLogExporter exporter(EdcHttpClient client, int queueSize, int batchSize, int maxRetries) {
+        return new OtelLogExporter(typeManager, client, monitor, "http://collector/v1/logs", "unknown_service",
+                queueSize, batchSize, maxRetries, Duration.ofMillis(1), runnable -> { });
+    }
+
+    private SubscribedEventLogRecord logRecord(String message) {
+        return SubscribedEventLogRecord.of(new StringValue(message), "event");
+    }
+
+    private EventEnvelope<ContractAgreementReactivated> envelope() {
+        var event = ContractAgreementReactivated.Builder.newInstance().contractAgreementId(UUID.randomUUID().toString()).build();
+        return EventEnvelope.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+}
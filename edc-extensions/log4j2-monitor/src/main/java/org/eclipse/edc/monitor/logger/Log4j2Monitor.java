@@ -25,10 +25,14 @@ import org.apache.logging.log4j.Logger;
 import org.eclipse.edc.spi.monitor.Monitor;
 
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
  * Monitor that wraps the Log4J2 API.
+ * <p>
+ * Every call results in at most one log record, the message is only evaluated and sanitized if the level is enabled.
+ * If several errors are passed, they are attached as suppressed exceptions of a single {@link LoggedErrors} throwable.
  */
 public class Log4j2Monitor implements Monitor {
 
@@ -71,11 +75,25 @@ public class Log4j2Monitor implements Monitor {
         if (level.value() < minLevel.value()) {
             return;
         }
+        var log4jLevel = levelConverter(level);
+        if (!LOGGER.isEnabled(log4jLevel)) {
+            return;
+        }
+        var message = sanitizeMessage(supplier);
         if (errors == null || errors.length == 0) {
-            LOGGER.log(levelConverter(level), () -> sanitizeMessage(supplier));
+            LOGGER.log(log4jLevel, message);
         } else {
-            Arrays.stream(errors).forEach(error -> LOGGER.log(levelConverter(level), sanitizeMessage(supplier), error));
+            LOGGER.log(log4jLevel, message, combine(errors));
+        }
+    }
+
+    private Throwable combine(Throwable... errors) {
+        if (errors.length == 1) {
+            return errors[0];
         }
+        var combined = new LoggedErrors(errors.length);
+        Arrays.stream(errors).filter(Objects::nonNull).forEach(combined::addSuppressed);
+        return combined;
     }
 
     private org.apache.logging.log4j.Level levelConverter(Level level) {
@@ -86,4 +104,14 @@ public class Log4j2Monitor implements Monitor {
             case DEBUG -> org.apache.logging.log4j.Level.DEBUG;
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Carrier of several errors passed to a single monitor call, without a stack trace of its own.
+     */
+    static final class LoggedErrors extends Throwable {
+
+        LoggedErrors(int count) {
+            super("%d errors".formatted(count), null, true, false);
+        }
+    }
+}
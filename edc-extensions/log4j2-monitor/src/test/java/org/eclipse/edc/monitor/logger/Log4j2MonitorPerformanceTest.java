@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.edc.monitor.logger;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.FileAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.eclipse.edc.junit.annotations.PerformanceTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that with the asynchronous configuration shipped in {@code log4j2-async.json} the calling thread does not
+ * wait for the appender: while the file appender is stalled, events up to the queue capacity are accepted without
+ * blocking the caller, and are all written once the appender is released.
+ */
+@PerformanceTest
+class Log4j2MonitorPerformanceTest {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String PATTERN = "%level %d{yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS} %msg%n";
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void restoreConfiguration() {
+        ((LoggerContext) LogManager.getContext(false)).reconfigure();
+    }
+
+    @Test
+    void asyncMode_shouldNotBlockCaller_whenAppenderIsStalled() throws Exception {
+        var file = tempDir.resolve("async.log");
+        var context = (LoggerContext) LogManager.getContext(false);
+        context.reconfigure(asyncConfiguration(file));
+        var manager = ((FileAppender) context.getConfiguration().getAppender("FILE")).getManager();
+        var monitor = new Log4j2Monitor(Monitor.Level.INFO);
+
+        // the file manager writes while holding its own monitor, holding it stalls the appender
+        synchronized (manager) {
+            var logging = CompletableFuture.runAsync(() -> {
+                for (var i = 0; i < BUFFER_SIZE; i++) {
+                    var index = i;
+                    monitor.info(() -> "Created token for data flow " + index);
+                }
+            });
+
+            logging.get(30, TimeUnit.SECONDS);
+        }
+
+        context.reconfigure();
+        assertThat(lines(file)).isEqualTo(BUFFER_SIZE);
+    }
+
+    private long lines(Path file) throws IOException {
+        try (var lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    private Configuration asyncConfiguration(Path file) {
+        var builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.add(builder.newAppender("FILE", "File")
+                .addAttribute("fileName", file.toString())
+                .addAttribute("immediateFlush", true)
+                .add(builder.newLayout("PatternLayout").addAttribute("pattern", PATTERN)));
+        builder.add(builder.newAppender("ASYNC", "Async")
+                .addAttribute("bufferSize", BUFFER_SIZE)
+                .addComponent(builder.newAppenderRef("FILE")));
+        builder.add(builder.newLogger("org.eclipse.edc.monitor.logger", Level.INFO)
+                .add(builder.newAppenderRef("ASYNC"))
+                .addAttribute("additivity", false));
+        builder.add(builder.newRootLogger(Level.OFF));
+        return builder.build(false);
+    }
+}
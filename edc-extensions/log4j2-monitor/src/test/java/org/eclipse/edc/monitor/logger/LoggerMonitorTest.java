@@ -36,8 +36,8 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -99,12 +99,36 @@ class LoggerMonitorTest {
                 .extracting("message").asString().isEqualTo("This is a message.  This is another message.");
     }
 
+    @Test
+    void severe_withSeveralErrors_shouldEvaluateMessageOnce() {
+        var evaluations = new AtomicInteger();
+
+        sut.severe(() -> MESSAGE + evaluations.incrementAndGet(), new EdcException("Test"), new RuntimeException(), new IllegalStateException());
+
+        assertThat(evaluations).hasValue(1);
+        assertThat(listAppender.getEvents()).hasSize(1);
+    }
+
+    @Test
+    void debug_whenLevelBelowMinimum_shouldNotEvaluateMessage() {
+        var evaluations = new AtomicInteger();
+
+        new Log4j2Monitor(Monitor.Level.INFO).debug(() -> MESSAGE + evaluations.incrementAndGet());
+
+        assertThat(evaluations).hasValue(0);
+        assertThat(listAppender.getEvents()).isEmpty();
+    }
+
     private void assertEventWithErrors(List<LogEvent> events, Level level, String message, Throwable... throwables) {
-        assertThat(events).hasSize(throwables.length);
-        events.forEach(event -> {
-            assertThat(event).extracting("level", "message.message").containsExactly(level, message);
-            assertThat(event).extracting("thrown").isIn(Arrays.stream(throwables).toList());
-        });
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        assertThat(event).extracting("level", "message.message").containsExactly(level, message);
+        if (throwables.length == 1) {
+            assertThat(event.getThrown()).isSameAs(throwables[0]);
+        } else {
+            assertThat(event.getThrown()).isInstanceOf(Log4j2Monitor.LoggedErrors.class);
+            assertThat(event.getThrown().getSuppressed()).containsExactly(throwables);
+        }
     }
 
     private static class ProvideLogDataWithErrors implements ArgumentsProvider {
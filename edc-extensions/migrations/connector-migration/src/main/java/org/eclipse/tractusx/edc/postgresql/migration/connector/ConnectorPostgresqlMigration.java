@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.tractusx.edc.postgresql.migration.DatabaseMigrationConfiguration;
 import org.flywaydb.core.Flyway;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 
@@ -85,6 +86,7 @@ public class ConnectorPostgresqlMigration implements ServiceExtension {
                 .target(LATEST)
                 .load();
 
+        var start = System.nanoTime();
         var migrateResult = flyway.migrate();
 
         if (!migrateResult.success) {
@@ -92,6 +94,9 @@ public class ConnectorPostgresqlMigration implements ServiceExtension {
                     "Migrating connector failed: %s".formatted(String.join(", ", migrateResult.warnings))
             );
         }
+
+        monitor.info("Migrated connector schema in %d ms, %d migrations executed"
+                .formatted(Duration.ofNanos(System.nanoTime() - start).toMillis(), migrateResult.migrationsExecuted));
     }
 
 }
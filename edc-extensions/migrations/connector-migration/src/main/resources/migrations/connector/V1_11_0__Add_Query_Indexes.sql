@@ -0,0 +1,42 @@
+--
+--  Copyright (c) 2026 Contributors to the Eclipse Foundation
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Contributors to the Eclipse Foundation - indexes for EDR, JTI and access token queries
+--
+
+--
+-- table: edc_edr_entry
+--
+
+CREATE INDEX IF NOT EXISTS edr_entry_provider_id_index ON edc_edr_entry (provider_id);
+
+CREATE INDEX IF NOT EXISTS edr_entry_agreement_id_index ON edc_edr_entry (agreement_id);
+
+CREATE INDEX IF NOT EXISTS edr_entry_contract_negotiation_id_index ON edc_edr_entry (contract_negotiation_id);
+
+CREATE INDEX IF NOT EXISTS edr_entry_created_at_index ON edc_edr_entry (created_at, transfer_process_id);
+
+--
+-- table: edc_jti_validation
+--
+
+CREATE INDEX IF NOT EXISTS jti_validation_expires_at_index ON edc_jti_validation (expires_at);
+
+--
+-- table: edc_accesstokendata
+--
+
+ALTER TABLE edc_accesstokendata ALTER COLUMN additional_properties DROP DEFAULT;
+
+ALTER TABLE edc_accesstokendata ALTER COLUMN additional_properties TYPE JSONB USING additional_properties::jsonb;
+
+ALTER TABLE edc_accesstokendata ALTER COLUMN additional_properties SET DEFAULT '{}'::jsonb;
+
+CREATE INDEX IF NOT EXISTS accesstokendata_process_id_index ON edc_accesstokendata ((additional_properties ->> 'process_id'));
@@ -36,12 +36,15 @@ import org.eclipse.tractusx.edc.postgresql.migration.DataPlanePostgresqlMigratio
 import org.eclipse.tractusx.edc.postgresql.migration.EdrIndexPostgresqlMigrationExtension;
 import org.eclipse.tractusx.edc.postgresql.migration.FederatedCatalogCacheMigrationExtension;
 import org.eclipse.tractusx.edc.postgresql.migration.JtiValidationPostgresqlMigrationExtension;
+import org.eclipse.tractusx.edc.postgresql.migration.MigrationCoordinator;
 import org.eclipse.tractusx.edc.postgresql.migration.PolicyMonitorPostgresqlMigrationExtension;
 import org.eclipse.tractusx.edc.postgresql.migration.PolicyPostgresqlMigrationExtension;
 import org.eclipse.tractusx.edc.postgresql.migration.TransferProcessPostgresqlMigrationExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -49,6 +52,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -137,6 +141,55 @@ public class ConnectorPostgresqlMigrationTest {
         }
     }
 
+    @Test
+    @Deprecated(since = "0.12.0")
+    void shouldMigrateSubsystemsThroughCoordinator(ObjectFactory objectFactory, ServiceExtensionContext context) {
+        var coordinator = new MigrationCoordinator(context.getMonitor(), Clock.systemUTC(), 4);
+        context.registerService(MigrationCoordinator.class, coordinator);
+        var subsystemMigrations = List.of(
+                objectFactory.constructInstance(AssetPostgresqlMigrationExtension.class),
+                objectFactory.constructInstance(ContractDefinitionPostgresqlMigrationExtension.class),
+                objectFactory.constructInstance(ContractNegotiationPostgresqlMigrationExtension.class),
+                objectFactory.constructInstance(PolicyPostgresqlMigrationExtension.class),
+                objectFactory.constructInstance(TransferProcessPostgresqlMigrationExtension.class),
+                objectFactory.constructInstance(DataPlanePostgresqlMigrationExtension.class)
+        );
+        subsystemMigrations.forEach(e -> e.initialize(context));
+
+        subsystemMigrations.forEach(AbstractPostgresqlMigrationExtension::prepare);
+
+        var outcomes = coordinator.migrateAll();
+        assertThat(outcomes).hasSize(subsystemMigrations.size());
+        assertThat(outcomes.values()).allMatch(MigrationCoordinator.MigrationOutcome::succeeded);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM edc_edr_entry WHERE provider_id = 'provider'                       | edr_entry_provider_id_index",
+            "SELECT * FROM edc_edr_entry WHERE agreement_id = 'agreement'                     | edr_entry_agreement_id_index",
+            "SELECT * FROM edc_edr_entry WHERE contract_negotiation_id = 'negotiation'        | edr_entry_contract_negotiation_id_index",
+            "SELECT * FROM edc_edr_entry WHERE created_at >= 10 ORDER BY created_at LIMIT 50  | edr_entry_created_at_index",
+            "DELETE FROM edc_jti_validation WHERE expires_at < 10                             | jti_validation_expires_at_index",
+            "SELECT * FROM edc_accesstokendata WHERE additional_properties ->> 'process_id' = 'process' | accesstokendata_process_id_index"
+    })
+    void shouldUseIndex(String query, String index, ObjectFactory objectFactory, ServiceExtensionContext context) {
+        var newMigrations = objectFactory.constructInstance(ConnectorPostgresqlMigration.class);
+        newMigrations.initialize(context);
+        newMigrations.prepare();
+
+        try (var connection = createDataSource().getConnection()) {
+            connection.createStatement().execute("SET enable_seqscan = off;");
+            var resultSet = connection.createStatement().executeQuery("EXPLAIN " + query);
+            var plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append(System.lineSeparator());
+            }
+            assertThat(plan.toString()).contains("Index").contains(index);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private DataSource createDataSource() {
         var dataSource = new PGSimpleDataSource();
         dataSource.setUrl(postgresql.getJdbcUrl());
@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.edc.postgresql.migration;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.SettingContext;
 import org.eclipse.edc.runtime.metamodel.annotation.Settings;
@@ -30,13 +31,12 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.sql.DriverManagerConnectionFactory;
 import org.eclipse.edc.sql.datasource.ConnectionFactoryDataSource;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
-import org.flywaydb.core.api.output.MigrateResult;
 
+import java.time.Clock;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.function.Supplier;
 
 import static org.flywaydb.core.api.MigrationVersion.LATEST;
 
@@ -64,7 +64,9 @@ public abstract class AbstractPostgresqlMigrationExtension implements ServiceExt
     @Setting(key = MIGRATION_SCHEMA, description = "Schema used for the migration", defaultValue = DEFAULT_MIGRATION_SCHEMA)
     private String defaultSchema;
 
-    private Supplier<MigrateResult> migrationExecutor;
+    @Inject(required = false)
+    private MigrationCoordinator coordinator;
+
     private boolean enabled;
 
     @Override
@@ -92,13 +94,20 @@ public abstract class AbstractPostgresqlMigrationExtension implements ServiceExt
         var configGroup = "edc.datasource.%s".formatted(dataSourceName);
         var datasourceConfig = config.getConfig(configGroup);
 
-        var jdbcUrl = datasourceConfig.getString("url");
-        var jdbcProperties = new Properties();
-        jdbcProperties.putAll(datasourceConfig.getRelativeEntries());
-        var driverManagerConnectionFactory = new DriverManagerConnectionFactory();
-        var dataSource = new ConnectionFactoryDataSource(driverManagerConnectionFactory, jdbcUrl, jdbcProperties);
+        if (coordinator == null) {
+            coordinator = new MigrationCoordinator(context.getMonitor(), Clock.systemUTC(), 1);
+        }
+
+        var dataSource = coordinator.dataSource(dataSourceName, () -> {
+            var jdbcUrl = datasourceConfig.getString("url");
+            var jdbcProperties = new Properties();
+            jdbcProperties.putAll(datasourceConfig.getRelativeEntries());
+            return new ConnectionFactoryDataSource(new DriverManagerConnectionFactory(), jdbcUrl, jdbcProperties);
+        });
 
-        migrationExecutor = () -> FlywayManager.migrate(dataSource, getMigrationSubsystem(), defaultSchema, LATEST);
+        var database = MigrationCoordinator.database(datasourceConfig.getString("url"), datasourceConfig.getString("user", null));
+        coordinator.register(subSystemName, database,
+                () -> FlywayManager.migrate(dataSource, getMigrationSubsystem(), defaultSchema, LATEST));
     }
 
     @Override
@@ -107,12 +116,23 @@ public abstract class AbstractPostgresqlMigrationExtension implements ServiceExt
             return;
         }
 
-        var migrateResult = migrationExecutor.get();
+        var outcome = coordinator.migrateAll().get(getSubsystemName());
+
+        if (outcome.failure() != null) {
+            throw new EdcPersistenceException("Migrating subsystem %s failed".formatted(getSubsystemName()), outcome.failure());
+        }
+
+        if (outcome.skipped()) {
+            throw new EdcPersistenceException(
+                    "Migrating subsystem %s skipped because an earlier migration on its database failed"
+                            .formatted(getSubsystemName())
+            );
+        }
 
-        if (!migrateResult.success) {
+        if (!outcome.succeeded()) {
             throw new EdcPersistenceException(
                     "Migrating subsystem %s failed: %s"
-                            .formatted(getSubsystemName(), String.join(", ", migrateResult.warnings))
+                            .formatted(getSubsystemName(), String.join(", ", outcome.result().warnings))
             );
         }
     }
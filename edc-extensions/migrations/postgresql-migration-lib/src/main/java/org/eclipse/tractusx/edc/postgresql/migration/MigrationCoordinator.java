@@ -0,0 +1,177 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.postgresql.migration;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * Runs the schema migrations of all registered subsystems once, at the first {@link #migrateAll()} call.
+ * <p>
+ * Migrations are grouped by database, identified by JDBC url and user, not by datasource name: several datasource
+ * names may point to the same database, and concurrent Flyway runs of statements like
+ * {@code CREATE TABLE IF NOT EXISTS} on one Postgres database can fail. Subsystems on the same database are migrated
+ * one after the other, in registration order. The first failure stops the migrations of that database, the remaining
+ * subsystems are reported as skipped. Subsystems on different databases are migrated concurrently, on at most the
+ * configured number of threads. A single {@link DataSource} instance is shared per datasource name. The outcome and
+ * duration of every subsystem is reported.
+ * <p>
+ * Only the deprecated per-subsystem migration extensions use the coordinator. The connector-migration module shipped
+ * in the runtimes runs a single Flyway migration and is not affected by it.
+ */
+public class MigrationCoordinator {
+
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int parallelism;
+
+    private final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+    private final Map<String, List<RegisteredMigration>> migrations = new LinkedHashMap<>();
+    private Map<String, MigrationOutcome> outcomes;
+
+    public MigrationCoordinator(Monitor monitor, Clock clock, int parallelism) {
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the datasource registered under the given name, creating it with the given factory on first access.
+     */
+    public DataSource dataSource(String dataSourceName, Supplier<DataSource> factory) {
+        return dataSources.computeIfAbsent(dataSourceName, name -> factory.get());
+    }
+
+    /**
+     * Registers the migration of a subsystem, to be run by {@link #migrateAll()}.
+     *
+     * @param subsystemName the subsystem
+     * @param database      the database migrated, as returned by {@link #database(String, String)}
+     * @param migration     the migration
+     */
+    public synchronized void register(String subsystemName, String database, Supplier<MigrateResult> migration) {
+        if (outcomes != null) {
+            throw new IllegalStateException("Migrations have already been run, cannot register subsystem %s".formatted(subsystemName));
+        }
+        migrations.computeIfAbsent(database, key -> new ArrayList<>())
+                .add(new RegisteredMigration(subsystemName, migration));
+    }
+
+    /**
+     * Identifies the database a datasource connects to, so that migrations of datasources with different names but
+     * the same database are not run concurrently.
+     */
+    public static String database(String jdbcUrl, @Nullable String user) {
+        return user == null ? jdbcUrl : user + "@" + jdbcUrl;
+    }
+
+    /**
+     * Runs all registered migrations, if not already done, and returns their outcomes by subsystem name.
+     */
+    public synchronized Map<String, MigrationOutcome> migrateAll() {
+        if (outcomes != null) {
+            return outcomes;
+        }
+
+        var start = clock.millis();
+        var results = new ConcurrentHashMap<String, MigrationOutcome>();
+        var threads = Math.min(parallelism, migrations.size());
+        if (threads <= 1) {
+            migrations.values().forEach(group -> migrate(group, results));
+        } else {
+            var executor = Executors.newFixedThreadPool(threads);
+            try {
+                var futures = migrations.values().stream()
+                        .map(group -> CompletableFuture.runAsync(() -> migrate(group, results), executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(futures).join();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        outcomes = new LinkedHashMap<>();
+        migrations.values().stream().flatMap(List::stream)
+                .forEach(migration -> outcomes.put(migration.subsystemName(), results.get(migration.subsystemName())));
+        monitor.info("Migrated %d subsystems on %d databases in %d ms"
+                .formatted(outcomes.size(), migrations.size(), clock.millis() - start));
+        return outcomes;
+    }
+
+    private void migrate(List<RegisteredMigration> group, Map<String, MigrationOutcome> results) {
+        String failedSubsystem = null;
+        for (var migration : group) {
+            if (failedSubsystem != null) {
+                results.put(migration.subsystemName(), new MigrationOutcome(migration.subsystemName(), null, null, Duration.ZERO));
+                monitor.warning("Skipped migration of subsystem %s because migration of subsystem %s on the same database failed"
+                        .formatted(migration.subsystemName(), failedSubsystem));
+                continue;
+            }
+            var start = clock.millis();
+            MigrateResult result = null;
+            Exception failure = null;
+            try {
+                result = migration.migration().get();
+            } catch (Exception e) {
+                failure = e;
+            }
+            var outcome = new MigrationOutcome(migration.subsystemName(), result, failure, Duration.ofMillis(clock.millis() - start));
+            results.put(migration.subsystemName(), outcome);
+            monitor.debug(() -> "Migration of subsystem %s %s in %d ms, %d migrations executed".formatted(outcome.subsystemName(),
+                    outcome.succeeded() ? "succeeded" : "failed", outcome.duration().toMillis(),
+                    outcome.result() == null ? 0 : outcome.result().migrationsExecuted));
+            if (!outcome.succeeded()) {
+                failedSubsystem = migration.subsystemName();
+            }
+        }
+    }
+
+    /**
+     * Outcome of the migration of a subsystem. Either {@code result} or {@code failure} is set, neither if the migration
+     * was skipped.
+     */
+    public record MigrationOutcome(String subsystemName, @Nullable MigrateResult result, @Nullable Exception failure,
+                                   Duration duration) {
+
+        public boolean succeeded() {
+            return failure == null && result != null && result.success;
+        }
+
+        public boolean skipped() {
+            return failure == null && result == null;
+        }
+    }
+
+    private record RegisteredMigration(String subsystemName, Supplier<MigrateResult> migration) {
+    }
+}
@@ -0,0 +1,59 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.postgresql.migration;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import java.time.Clock;
+
+import static org.eclipse.tractusx.edc.postgresql.migration.MigrationCoordinatorExtension.NAME;
+
+@Extension(NAME)
+public class MigrationCoordinatorExtension implements ServiceExtension {
+
+    public static final String NAME = "Postgresql Schema Migration Coordinator";
+    private static final String DEFAULT_PARALLELISM = "4";
+
+    @Setting(key = "tx.edc.postgresql.migration.parallelism", description = "Maximum number of databases migrated concurrently " +
+            "by the deprecated per-subsystem migration extensions. Has no effect on the connector-migration module used by the " +
+            "shipped runtimes", defaultValue = DEFAULT_PARALLELISM, min = 1)
+    private int parallelism;
+
+    @Inject
+    private Monitor monitor;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public MigrationCoordinator migrationCoordinator() {
+        return new MigrationCoordinator(monitor, clock, parallelism);
+    }
+}
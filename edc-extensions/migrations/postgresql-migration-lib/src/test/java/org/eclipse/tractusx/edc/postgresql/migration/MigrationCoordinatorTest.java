@@ -0,0 +1,187 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.postgresql.migration;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MigrationCoordinatorTest {
+
+    private final Monitor monitor = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(monitor.withPrefix(anyString())).thenReturn(monitor);
+    }
+
+    @Test
+    void dataSource_shouldBeSharedPerName() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 1);
+        var created = new AtomicInteger();
+        Supplier<DataSource> factory = () -> {
+            created.incrementAndGet();
+            return mock(DataSource.class);
+        };
+
+        var first = coordinator.dataSource("default", factory);
+        var second = coordinator.dataSource("default", factory);
+        var other = coordinator.dataSource("other", factory);
+
+        assertThat(first).isSameAs(second).isNotSameAs(other);
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    void migrateAll_shouldRunMigrationsOfSameDataSourceInRegistrationOrder() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 4);
+        var executed = new CopyOnWriteArrayList<String>();
+        coordinator.register("asset", "default", () -> record(executed, "asset"));
+        coordinator.register("policy", "default", () -> record(executed, "policy"));
+        coordinator.register("contractdefinition", "default", () -> record(executed, "contractdefinition"));
+
+        var outcomes = coordinator.migrateAll();
+
+        assertThat(executed).containsExactly("asset", "policy", "contractdefinition");
+        assertThat(outcomes).containsOnlyKeys("asset", "policy", "contractdefinition");
+        assertThat(outcomes.values()).allMatch(MigrationCoordinator.MigrationOutcome::succeeded);
+    }
+
+    @Test
+    void migrateAll_shouldRunDifferentDataSourcesConcurrently() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 2);
+        var bothStarted = new CountDownLatch(2);
+        Supplier<MigrateResult> migration = () -> {
+            bothStarted.countDown();
+            try {
+                assertThat(bothStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return successfulResult();
+        };
+        coordinator.register("asset", "controlplane", migration);
+        coordinator.register("dataplane", "dataplane", migration);
+
+        var outcomes = coordinator.migrateAll();
+
+        assertThat(outcomes.values()).allMatch(MigrationCoordinator.MigrationOutcome::succeeded);
+    }
+
+    @Test
+    void migrateAll_shouldRunDataSourcesOfSameDatabaseSerially() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 4);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        Supplier<MigrateResult> migration = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return successfulResult();
+        };
+        var url = "jdbc:postgresql://localhost:5432/edc";
+        coordinator.register("asset", MigrationCoordinator.database(url, "user"), migration);
+        coordinator.register("edr", MigrationCoordinator.database(url, "user"), migration);
+
+        var outcomes = coordinator.migrateAll();
+
+        assertThat(outcomes.values()).allMatch(MigrationCoordinator.MigrationOutcome::succeeded);
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void database_shouldIdentifyDatabaseByUrlAndUser() {
+        var url = "jdbc:postgresql://localhost:5432/edc";
+
+        assertThat(MigrationCoordinator.database(url, "user")).isEqualTo(MigrationCoordinator.database(url, "user"));
+        assertThat(MigrationCoordinator.database(url, "user")).isNotEqualTo(MigrationCoordinator.database(url, "other"));
+        assertThat(MigrationCoordinator.database(url, null)).isNotEqualTo(MigrationCoordinator.database(url, "user"));
+    }
+
+    @Test
+    void migrateAll_shouldRunOnlyOnce() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 1);
+        var executions = new AtomicInteger();
+        coordinator.register("asset", "default", () -> {
+            executions.incrementAndGet();
+            return successfulResult();
+        });
+
+        var first = coordinator.migrateAll();
+        var second = coordinator.migrateAll();
+
+        assertThat(second).isSameAs(first);
+        assertThat(executions).hasValue(1);
+        assertThatThrownBy(() -> coordinator.register("policy", "default", this::successfulResult))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void migrateAll_shouldReportFailureAndSkipRemainingSubsystemsOfDataSource() {
+        var coordinator = new MigrationCoordinator(monitor, Clock.systemUTC(), 1);
+        var failure = new IllegalStateException("boom");
+        var executed = new CopyOnWriteArrayList<String>();
+        coordinator.register("asset", "default", () -> {
+            throw failure;
+        });
+        coordinator.register("policy", "default", () -> record(executed, "policy"));
+        coordinator.register("edr", "edr", () -> record(executed, "edr"));
+
+        var outcomes = coordinator.migrateAll();
+
+        assertThat(outcomes.get("asset").succeeded()).isFalse();
+        assertThat(outcomes.get("asset").failure()).isSameAs(failure);
+        assertThat(outcomes.get("policy").succeeded()).isFalse();
+        assertThat(outcomes.get("policy").skipped()).isTrue();
+        assertThat(outcomes.get("edr").succeeded()).isTrue();
+        assertThat(executed).containsExactly("edr");
+    }
+
+    private MigrateResult record(List<String> executed, String subsystem) {
+        executed.add(subsystem);
+        return successfulResult();
+    }
+
+    private MigrateResult successfulResult() {
+        var result = mock(MigrateResult.class);
+        result.success = true;
+        return result;
+    }
+}
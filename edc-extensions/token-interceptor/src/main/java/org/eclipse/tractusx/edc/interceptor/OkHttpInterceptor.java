@@ -26,6 +26,7 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okio.Buffer;
+import okio.ByteString;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths;
 import org.eclipse.edc.protocol.dsp.negotiation.http.api.NegotiationApiPaths;
 import org.eclipse.edc.protocol.dsp.transferprocess.http.api.TransferProcessApiPaths;
@@ -35,14 +36,27 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.CATALOG_REQUEST;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.DATASET_REQUEST;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp08Constants.DSPACE_SCHEMA;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.V_2025_1_PATH;
 
+/**
+ * Strips the {@code Bearer} prefix from the Authorization header of DSP 0.8 requests.
+ * <p>
+ * DSP requests are recognized by a path segment sequence of one of the DSP endpoints, independently of the base path
+ * the counter-party exposes them under. Requests with a body are only modified if the body references the DSP 0.8
+ * namespace within its first {@link #MAX_SCAN_BYTES} bytes. The body is buffered once, which also serves as the body
+ * of the forwarded request, and only that prefix is scanned. UTF-8 bodies are scanned on byte level without decoding
+ * them to a String.
+ */
 public class OkHttpInterceptor implements Interceptor {
 
+    static final int MAX_SCAN_BYTES = 64 * 1024;
+
     private static final String BEARER_PREFIX = "Bearer ";
     private static final List<String> DSP_PATHS = List.of(
             CatalogApiPaths.BASE_PATH + CATALOG_REQUEST,
@@ -50,40 +64,32 @@ public class OkHttpInterceptor implements Interceptor {
             NegotiationApiPaths.BASE_PATH,
             TransferProcessApiPaths.BASE_PATH,
             "/.well-known/dspace-version");
+    private static final Pattern DSP_PATH_PATTERN = Pattern.compile(DSP_PATHS.stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|", "(?:", ")(?:/|$)")));
+    private static final ByteString DSPACE_SCHEMA_UTF_8 = ByteString.encodeUtf8(DSPACE_SCHEMA);
 
     @Override
     public @NotNull Response intercept(Chain chain) throws IOException {
         Request originalRequest = chain.request();
-        String url = originalRequest.url().toString();
+        String path = originalRequest.url().encodedPath();
 
-        if (DSP_PATHS.stream().anyMatch(url::contains) && !url.contains(V_2025_1_PATH)) {
+        if (isDspPath(path) && !path.contains(V_2025_1_PATH)) {
             String authHeader = originalRequest.header(HttpHeaders.AUTHORIZATION);
             if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
                 String strippedAuth = authHeader.substring(BEARER_PREFIX.length()).trim();
                 var body = originalRequest.body();
                 if (body != null) {
                     MediaType contentType = body.contentType();
-                    byte[] bytes = readBodyBytes(body);
-                    Charset charset = resolveCharset(contentType);
-
-                    String bodyString = new String(bytes, charset);
-                    RequestBody rebuiltBody = RequestBody.create(bytes, contentType);
-                    Request modifiedRequest;
+                    var buffer = new Buffer();
+                    body.writeTo(buffer);
 
-                    if (bodyString.contains(DSPACE_SCHEMA)) {
-                        modifiedRequest = originalRequest.newBuilder()
-                                .header(HttpHeaders.AUTHORIZATION, strippedAuth)
-                                .method(originalRequest.method(), rebuiltBody)
-                                .build();
-
-                        return chain.proceed(modifiedRequest);
+                    var builder = originalRequest.newBuilder()
+                            .method(originalRequest.method(), RequestBody.create(buffer.snapshot(), contentType));
+                    if (containsDspaceSchema(buffer, contentType)) {
+                        builder.header(HttpHeaders.AUTHORIZATION, strippedAuth);
                     }
-
-                    modifiedRequest = originalRequest.newBuilder()
-                            .method(originalRequest.method(), rebuiltBody)
-                            .build();
-
-                    return chain.proceed(modifiedRequest);
+                    return chain.proceed(builder.build());
                 }
                 Request modifiedRequest = originalRequest.newBuilder()
                         .header(HttpHeaders.AUTHORIZATION, strippedAuth)
@@ -95,10 +101,18 @@ public class OkHttpInterceptor implements Interceptor {
         return chain.proceed(originalRequest);
     }
 
-    private static byte[] readBodyBytes(RequestBody body) throws IOException {
-        Buffer buffer = new Buffer();
-        body.writeTo(buffer);
-        return buffer.readByteArray();
+    private static boolean isDspPath(String path) {
+        return DSP_PATH_PATTERN.matcher(path).find();
+    }
+
+    private static boolean containsDspaceSchema(Buffer buffer, MediaType contentType) {
+        var prefix = buffer.snapshot((int) Math.min(buffer.size(), MAX_SCAN_BYTES));
+        var charset = resolveCharset(contentType);
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return prefix.indexOf(DSPACE_SCHEMA_UTF_8) != -1;
+        }
+        // rarely used, decoding the bounded prefix avoids dealing with byte order marks and multibyte boundaries
+        return prefix.string(charset).contains(DSPACE_SCHEMA);
     }
 
     private static Charset resolveCharset(MediaType contentType) {
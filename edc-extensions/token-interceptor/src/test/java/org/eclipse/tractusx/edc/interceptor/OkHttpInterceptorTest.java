@@ -21,8 +21,11 @@ package org.eclipse.tractusx.edc.interceptor;
 
 import jakarta.ws.rs.core.HttpHeaders;
 import okhttp3.Interceptor;
+import okhttp3.MediaType;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,6 +33,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 
+import static org.eclipse.edc.protocol.dsp.spi.type.Dsp08Constants.DSPACE_SCHEMA;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.V_2025_1_PATH;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.any;
@@ -152,4 +156,80 @@ class OkHttpInterceptorTest {
                 "token123".equals(modifiedRequest.header(HttpHeaders.AUTHORIZATION))
         ));
     }
+
+    @Test
+    void filter_whenDspPathOnlyInQuery_shouldNotModifyRequest() throws IOException {
+        var request = requestBuilder
+                .url("http://example.com/protocol/test?redirect=/catalog/request")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token123")
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        verify(chain).proceed(same(request));
+    }
+
+    @Test
+    void filter_whenBodyWithoutDspace08Schema_shouldKeepAuthHeaderAndBody() throws IOException {
+        var body = "{\"@context\": {\"dspace\": \"https://w3id.org/dspace/2025/1/\"}}";
+        var request = requestBuilder
+                .url("http://example.com/protocol/catalog/request")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token123")
+                .post(RequestBody.create(body, MediaType.parse("application/json")))
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        verify(chain).proceed(argThat(modifiedRequest ->
+                "Bearer token123".equals(modifiedRequest.header(HttpHeaders.AUTHORIZATION)) &&
+                body.equals(bodyOf(modifiedRequest))
+        ));
+    }
+
+    @Test
+    void filter_whenDspace08SchemaBeyondScanLimit_shouldKeepAuthHeader() throws IOException {
+        var body = " ".repeat(OkHttpInterceptor.MAX_SCAN_BYTES) + "{\"@context\": {\"dspace\": \"%s\"}}".formatted(DSPACE_SCHEMA);
+        var request = requestBuilder
+                .url("http://example.com/protocol/catalog/request")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token123")
+                .post(RequestBody.create(body, MediaType.parse("application/json")))
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        verify(chain).proceed(argThat(modifiedRequest ->
+                "Bearer token123".equals(modifiedRequest.header(HttpHeaders.AUTHORIZATION)) &&
+                body.equals(bodyOf(modifiedRequest))
+        ));
+    }
+
+    @Test
+    void filter_whenDspace08SchemaInNonUtf8Body_shouldModifyRequest() throws IOException {
+        var body = "{\"@context\": {\"dspace\": \"%s\"}}".formatted(DSPACE_SCHEMA);
+        var request = requestBuilder
+                .url("http://example.com/protocol/negotiations/request")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token123")
+                .post(RequestBody.create(body, MediaType.parse("application/json; charset=utf-16")))
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        verify(chain).proceed(argThat(modifiedRequest ->
+                "token123".equals(modifiedRequest.header(HttpHeaders.AUTHORIZATION))
+        ));
+    }
+
+    private String bodyOf(Request request) {
+        try {
+            var buffer = new Buffer();
+            request.body().writeTo(buffer);
+            return buffer.readUtf8();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
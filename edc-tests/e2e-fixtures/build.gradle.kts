@@ -39,6 +39,7 @@ dependencies {
     testFixturesApi(libs.edc.lib.jws2020)
     testFixturesApi(libs.edc.lib.token)
     testFixturesApi(libs.edc.lib.util)
+    testFixturesApi(libs.edc.lib.query)
     testFixturesApi(libs.edc.aws.s3.core)
     testFixturesApi(libs.edc.spi.edrstore)
     testFixturesApi(libs.edc.spi.jsonld)
@@ -21,11 +21,18 @@ package org.eclipse.tractusx.edc.tests.helpers;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 public class QueryHelperFunctions {
 
@@ -36,4 +43,21 @@ public class QueryHelperFunctions {
                 .add(EDC_QUERY_SPEC_OFFSET, offset)
                 .build();
     }
+
+    /**
+     * Default criterion operator registry that counts every evaluation of a criterion against an entry, so that tests
+     * can assert how many entries a store query inspects.
+     */
+    @SuppressWarnings("unchecked")
+    public static CriterionOperatorRegistryImpl countingOperatorRegistry(AtomicLong evaluations) {
+        var registry = spy(CriterionOperatorRegistryImpl.ofDefaults());
+        doAnswer(invocation -> {
+            var predicate = (Predicate<Object>) invocation.callRealMethod();
+            return (Predicate<Object>) entry -> {
+                evaluations.incrementAndGet();
+                return predicate.test(entry);
+            };
+        }).when(registry).toPredicate(any());
+        return registry;
+    }
 }
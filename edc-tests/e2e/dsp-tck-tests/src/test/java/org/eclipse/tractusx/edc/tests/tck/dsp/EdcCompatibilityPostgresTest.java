@@ -30,6 +30,7 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.spi.DataspaceProfileContextRegistry;
 import org.eclipse.edc.protocol.spi.ParticipantIdExtractionFunction;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
@@ -53,6 +54,7 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
@@ -91,6 +93,11 @@ public class EdcCompatibilityPostgresTest {
                     .withConsumerBpn(BPN)
                     .build();
         }
+
+        @Override
+        public Stream<AgreementsBpnsEntry> findAll(QuerySpec querySpec) {
+            return Stream.empty();
+        }
     };
 
     private static final PolicyArchive POLICY_ARCHIVE = new PolicyArchive() {
@@ -38,6 +38,7 @@ dependencies {
 
     // Kafka streaming is opt-in and not part of the base runtimes, so the e2e Kafka test needs it wired in here
     implementation(project(":edc-extensions:dataplane:kafka:kafka-broker-extension"))
+    implementation(project(":edc-extensions:dataplane:kafka:kafka-acl-store-sql"))
     implementation(project(":edc-extensions:dataplane:kafka:validator-data-address-kafka"))
 }
 
@@ -73,6 +73,7 @@ include(":edc-extensions:event-subscriber")
 include(":edc-extensions:edr:edr-api-v2")
 include(":edc-extensions:edr:edr-callback")
 include(":edc-extensions:edr:edr-index-lock-sql")
+include(":edc-extensions:edr:edr-transfer-outbox-sql")
 include(":edc-extensions:cx-policy")
 include(":edc-extensions:cx-policy-legacy")
 include(":edc-extensions:dcp:cx-dcp")
@@ -119,6 +120,7 @@ include(":edc-extensions:dataplane:dataflow:dataflow-service")
 include(":edc-extensions:dataplane:kafka:data-address-kafka")
 include(":edc-extensions:dataplane:kafka:validator-data-address-kafka")
 include(":edc-extensions:dataplane:kafka:kafka-broker-extension")
+include(":edc-extensions:dataplane:kafka:kafka-acl-store-sql")
 
 include(":edc-extensions:non-finite-provider-push:non-finite-provider-push-spi")
 include(":edc-extensions:non-finite-provider-push:non-finite-provider-push-core")
@@ -43,4 +43,26 @@ public interface BdrsClient {
      * @return The resolved BPN if found, null otherwise
      */
     String resolveBpn(String did);
+
+    /**
+     * Resolve the input BPN to a DID using only the mappings that are currently held locally. This never blocks on a
+     * refresh of the directory, so the result may be outdated.
+     *
+     * @param bpn The participantID (BPN)
+     * @return The resolved DID if found in the local snapshot, null otherwise
+     */
+    default String resolveDidFromSnapshot(String bpn) {
+        return null;
+    }
+
+    /**
+     * Resolve the input DID to a BPN using only the mappings that are currently held locally. This never blocks on a
+     * refresh of the directory, so the result may be outdated.
+     *
+     * @param did The participantID (DID)
+     * @return The resolved BPN if found in the local snapshot, null otherwise
+     */
+    default String resolveBpnFromSnapshot(String did) {
+        return null;
+    }
 }
@@ -20,9 +20,15 @@
 package org.eclipse.tractusx.edc.spi.dataflow;
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @ExtensionPoint
 public interface DataFlowService {
 
@@ -34,4 +40,27 @@ public interface DataFlowService {
      */
     @NotNull
     ServiceResult<Void> trigger(String dataflowId);
+
+    /**
+     * Trigger the data transfers of several dataflows.
+     *
+     * @param dataflowIds the dataflow ids of the dataflows to be triggered.
+     * @return the result of every dataflow, by dataflow id, in the given order
+     */
+    @NotNull
+    default Map<String, ServiceResult<Void>> triggerAll(Collection<String> dataflowIds) {
+        var results = new LinkedHashMap<String, ServiceResult<Void>>();
+        dataflowIds.forEach(id -> results.computeIfAbsent(id, this::trigger));
+        return results;
+    }
+
+    /**
+     * Trigger the data transfers of all STARTED dataflows matching the given criteria. Implementations may limit the
+     * number of dataflows triggered by a single call and reject criteria matching more.
+     *
+     * @param criteria the criteria the dataflows have to match, in addition to being STARTED.
+     * @return the result of every matching dataflow, by dataflow id, or a failure if no dataflow was triggered
+     */
+    @NotNull
+    ServiceResult<Map<String, ServiceResult<Void>>> triggerMatching(List<Criterion> criteria);
 }
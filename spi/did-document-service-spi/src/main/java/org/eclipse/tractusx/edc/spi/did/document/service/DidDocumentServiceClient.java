@@ -23,6 +23,8 @@ import org.eclipse.edc.iam.did.spi.document.Service;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.ServiceResult;
 
+import java.util.Collection;
+
 /**
  * Service Provider Interface (SPI) for managing the dynamic service entries in a DID (Decentralized Identifier Document).
  * <p>
@@ -70,4 +72,31 @@ public interface DidDocumentServiceClient {
     ServiceResult<Void> update(Service service);
 
     ServiceResult<Void> deleteById(String id);
+
+    /**
+     * Creates or updates the given service entries and removes the service entries with the given ids from the DID
+     * document in a single operation where the underlying registry allows it. Implementations should skip entries
+     * that are already published as requested, so that repeated calls (e.g. by several replicas) are cheap.
+     * <p>
+     * The default implementation applies the changes one by one and stops at the first failure.
+     *
+     * @param services   to be created or updated
+     * @param removedIds ids of the service entries to be removed
+     * @return a {@link ServiceResult} indicating success or failure of the operation
+     */
+    default ServiceResult<Void> updateAll(Collection<Service> services, Collection<String> removedIds) {
+        for (var service : services) {
+            var result = update(service);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        for (var id : removedIds) {
+            var result = deleteById(id);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return ServiceResult.success();
+    }
 }
@@ -32,6 +32,7 @@ dependencies {
     testFixturesImplementation(libs.edc.junit)
     testFixturesImplementation(libs.awaitility)
     testFixturesImplementation(libs.edc.spi.edrstore)
+    testFixturesImplementation(libs.edc.spi.core)
 
 }
 
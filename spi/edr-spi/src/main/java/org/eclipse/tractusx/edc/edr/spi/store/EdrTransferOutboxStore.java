@@ -0,0 +1,63 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.spi.store;
+
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Durable queue of the transfer processes to be initiated for finalized contract negotiations. Entries are written
+ * in the transaction that finalizes the negotiation and are removed once the transfer process was initiated.
+ */
+public interface EdrTransferOutboxStore {
+
+    String NOT_FOUND_TEMPLATE = "EDR transfer outbox entry %s not found";
+
+    /**
+     * Stores the entry, replacing any existing entry with the same id.
+     */
+    StoreResult<Void> save(EdrTransferOutboxEntry entry);
+
+    /**
+     * Returns up to {@code limit} entries that are due at {@code now}, oldest due first, and moves their next attempt
+     * to {@code leaseUntil}, so that they are not returned again while they are being processed. An entry whose
+     * processing is interrupted is therefore picked up again once the lease ran out.
+     */
+    List<EdrTransferOutboxEntry> leaseDue(long now, long leaseUntil, int limit);
+
+    /**
+     * Deletes the entry with the given id.
+     */
+    StoreResult<Void> delete(String id);
+
+    /**
+     * Returns the number of entries in the outbox.
+     */
+    long count();
+
+    /**
+     * Returns the creation time of the oldest entry in the outbox, or null if it is empty.
+     */
+    @Nullable
+    Long oldestCreatedAt();
+}
@@ -0,0 +1,61 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.spi.types;
+
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A transfer process to be initiated for the agreement of a finalized contract negotiation, waiting in the
+ * {@link org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore}.
+ *
+ * @param id                  the id of the entry, also used as id of the transfer process to initiate
+ * @param contractId          the id of the contract agreement
+ * @param assetId             the id of the asset of the contract agreement
+ * @param counterPartyAddress the DSP address of the provider
+ * @param protocol            the DSP protocol of the contract negotiation
+ * @param callbackAddresses   the callback addresses of the contract negotiation, passed on to the transfer process
+ * @param attempts            the number of failed attempts to initiate the transfer process
+ * @param nextAttemptAt       the epoch millis at which the entry is due for the next attempt
+ * @param createdAt           the epoch millis at which the entry was created
+ * @param lastError           the failure of the last attempt, if any
+ */
+public record EdrTransferOutboxEntry(String id, String contractId, String assetId, String counterPartyAddress,
+                                     String protocol, List<CallbackAddress> callbackAddresses, int attempts,
+                                     long nextAttemptAt, long createdAt, @Nullable String lastError) {
+
+    /**
+     * Returns a copy of this entry that is due at the given time.
+     */
+    public EdrTransferOutboxEntry withNextAttemptAt(long nextAttemptAt) {
+        return new EdrTransferOutboxEntry(id, contractId, assetId, counterPartyAddress, protocol, callbackAddresses,
+                attempts, nextAttemptAt, createdAt, lastError);
+    }
+
+    /**
+     * Returns a copy of this entry after a failed attempt, due again at the given time.
+     */
+    public EdrTransferOutboxEntry retryAt(long nextAttemptAt, String error) {
+        return new EdrTransferOutboxEntry(id, contractId, assetId, counterPartyAddress, protocol, callbackAddresses,
+                attempts + 1, nextAttemptAt, createdAt, error);
+    }
+}
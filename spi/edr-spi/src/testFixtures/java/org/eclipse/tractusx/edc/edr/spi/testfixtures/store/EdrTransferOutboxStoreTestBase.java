@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.edc.edr.spi.testfixtures.store;
+
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore;
+import org.eclipse.tractusx.edc.edr.spi.types.EdrTransferOutboxEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.tractusx.edc.edr.spi.store.EdrTransferOutboxStore.NOT_FOUND_TEMPLATE;
+
+public abstract class EdrTransferOutboxStoreTestBase {
+
+    protected abstract EdrTransferOutboxStore getStore();
+
+    @Test
+    void save_andLeaseDue() {
+        var entry = entry("id-1", 100, 10);
+
+        assertThat(getStore().save(entry)).isSucceeded();
+
+        assertThat(getStore().leaseDue(100, 200, 10)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new EdrTransferOutboxEntry("id-1", "contract-id", "asset-id", "http://provider",
+                        "dataspace-protocol-http", entry.callbackAddresses(), 0, 200, 10, null));
+    }
+
+    @Test
+    void save_shouldReplaceExistingEntry() {
+        var entry = entry("id-1", 100, 10);
+        getStore().save(entry);
+
+        getStore().save(entry.retryAt(300, "error"));
+
+        assertThat(getStore().leaseDue(300, 400, 10)).singleElement().satisfies(leased -> {
+            assertThat(leased.attempts()).isEqualTo(1);
+            assertThat(leased.lastError()).isEqualTo("error");
+        });
+        assertThat(getStore().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leaseDue_shouldReturnDueEntriesOldestFirst() {
+        getStore().save(entry("id-1", 300, 10));
+        getStore().save(entry("id-2", 100, 20));
+        getStore().save(entry("id-3", 200, 30));
+        getStore().save(entry("id-4", 500, 40));
+
+        var leased = getStore().leaseDue(300, 1000, 2);
+
+        assertThat(leased).extracting(EdrTransferOutboxEntry::id).containsExactly("id-2", "id-3");
+        assertThat(getStore().leaseDue(300, 1000, 10)).extracting(EdrTransferOutboxEntry::id).containsExactly("id-1");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnLeasedEntriesUntilLeaseExpired() {
+        getStore().save(entry("id-1", 100, 10));
+
+        assertThat(getStore().leaseDue(100, 500, 10)).hasSize(1);
+
+        assertThat(getStore().leaseDue(499, 1000, 10)).isEmpty();
+        assertThat(getStore().leaseDue(500, 1000, 10)).extracting(EdrTransferOutboxEntry::id).containsExactly("id-1");
+    }
+
+    @Test
+    void delete_whenExists() {
+        getStore().save(entry("id-1", 100, 10));
+
+        assertThat(getStore().delete("id-1")).isSucceeded();
+        assertThat(getStore().count()).isZero();
+    }
+
+    @Test
+    void delete_whenNotExists() {
+        assertThat(getStore().delete("unknown")).isFailed().detail().isEqualTo(NOT_FOUND_TEMPLATE.formatted("unknown"));
+    }
+
+    @Test
+    void countAndOldestCreatedAt() {
+        assertThat(getStore().count()).isZero();
+        assertThat(getStore().oldestCreatedAt()).isNull();
+
+        getStore().save(entry("id-1", 100, 30));
+        getStore().save(entry("id-2", 100, 20));
+
+        assertThat(getStore().count()).isEqualTo(2);
+        assertThat(getStore().oldestCreatedAt()).isEqualTo(20);
+    }
+
+    private EdrTransferOutboxEntry entry(String id, long nextAttemptAt, long createdAt) {
+        var callback = CallbackAddress.Builder.newInstance().uri("local://adapter").events(Set.of("contract.negotiation")).transactional(true).build();
+        return new EdrTransferOutboxEntry(id, "contract-id", "asset-id", "http://provider", "dataspace-protocol-http",
+                List.of(callback), 0, nextAttemptAt, createdAt, null);
+    }
+}